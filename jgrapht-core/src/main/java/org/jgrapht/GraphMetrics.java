@@ -42,7 +42,10 @@ public abstract class GraphMetrics
      * <p>
      * For more fine-grained control over this method, or if you need additional distance metrics
      * such as the graph radius, consider using {@link org.jgrapht.alg.shortestpath.GraphMeasurer}
-     * instead.
+     * instead. For large graphs with non-negative edge weights, a
+     * {@link org.jgrapht.alg.shortestpath.GraphMeasurer} constructed with a
+     * {@link org.jgrapht.alg.shortestpath.BoundingGraphMeasurer} usually computes the diameter with
+     * only a few single-source shortest path computations.
      *
      * @param graph input graph
      * @param <V> graph vertex type
@@ -62,7 +65,10 @@ public abstract class GraphMetrics
      * <p>
      * For more fine-grained control over this method, or if you need additional distance metrics
      * such as the graph diameter, consider using {@link org.jgrapht.alg.shortestpath.GraphMeasurer}
-     * instead.
+     * instead. For large graphs with non-negative edge weights, a
+     * {@link org.jgrapht.alg.shortestpath.GraphMeasurer} constructed with a
+     * {@link org.jgrapht.alg.shortestpath.BoundingGraphMeasurer} usually computes the radius with
+     * only a few single-source shortest path computations.
      *
      * @param graph input graph
      * @param <V> graph vertex type
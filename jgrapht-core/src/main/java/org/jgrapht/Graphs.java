@@ -577,7 +577,8 @@ public abstract class Graphs
 
     /**
      * Compute a new mapping from the vertices of a graph to the integer range $[0, n)$ where $n$ is
-     * the number of vertices in the graph.
+     * the number of vertices in the graph. If the graph is a {@link FrozenGraph} its mapping is
+     * returned instead, which must not be modified.
      *
      * @param graph the input graph
      * @param <V> the graph vertex type
@@ -590,6 +591,32 @@ public abstract class Graphs
      */
     public static <V, E> VertexToIntegerMapping<V> getVertexToIntegerMapping(Graph<V, E> graph)
     {
-        return new VertexToIntegerMapping<>(Objects.requireNonNull(graph).vertexSet());
+        if (Objects.requireNonNull(graph) instanceof FrozenGraph) {
+            return ((FrozenGraph<V, E>) graph).getVertexToIntegerMapping();
+        }
+        return new VertexToIntegerMapping<>(graph.vertexSet());
+    }
+
+    /**
+     * Create an immutable snapshot of a graph which is stored in compressed sparse rows format.
+     * The snapshot uses the original vertex and edge objects and assigns a stable integer index to
+     * each of them, which is reused by {@link #getVertexToIntegerMapping(Graph)}. If the graph is
+     * already a snapshot, it is returned as is.
+     *
+     * @param graph the input graph
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return an immutable snapshot of the graph
+     * @throws NullPointerException if {@code graph} is {@code null}
+     * @throws IllegalArgumentException if the graph is mixed
+     *
+     * @see FrozenGraph
+     */
+    public static <V, E> FrozenGraph<V, E> freeze(Graph<V, E> graph)
+    {
+        if (Objects.requireNonNull(graph) instanceof FrozenGraph) {
+            return (FrozenGraph<V, E>) graph;
+        }
+        return new FrozenGraph<>(graph);
     }
 }
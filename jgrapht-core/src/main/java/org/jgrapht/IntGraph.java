@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht;
+
+import java.util.function.*;
+
+/**
+ * A graph whose vertices and edges are consecutive integers, with primitive access to its
+ * structure.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices and $m$ edges, the vertex set is exactly $\{0, \ldots,
+ * n-1\}$ and the edge set is exactly $\{0, \ldots, m-1\}$. Besides the usual {@link Graph} methods
+ * the graph provides primitive methods which neither box vertices and edges nor allocate sets or
+ * iterators per vertex. Algorithms may detect this interface using an {@code instanceof} check and
+ * switch to an array based implementation indexed directly by the vertices and edges of the graph.
+ *
+ * <p>
+ * The primitive methods do not validate their arguments. Their behavior is unspecified for values
+ * which are not vertices or edges of the graph. Callers are expected to check once using
+ * {@link #containsVertex(Object)} and then use the primitive methods in their inner loops. The
+ * primitive methods must be consistent with the corresponding {@link Graph} methods; for example
+ * {@link #forEachOutEdge(int, IntConsumer)} visits exactly the edges of
+ * {@link #outgoingEdgesOf(Object)}, each once, and {@link #outDegree(int)} returns the same value
+ * as {@link #outDegreeOf(Object)}. For undirected graphs outgoing and incoming edges coincide.
+ *
+ * @author JGraphT Contributors
+ */
+public interface IntGraph
+    extends
+    Graph<Integer, Integer>
+{
+    /**
+     * Returns the out-degree of a vertex. See {@link #outDegreeOf(Object)}.
+     *
+     * @param vertex the vertex
+     * @return the out-degree of the vertex
+     */
+    int outDegree(int vertex);
+
+    /**
+     * Returns the in-degree of a vertex. See {@link #inDegreeOf(Object)}.
+     *
+     * @param vertex the vertex
+     * @return the in-degree of the vertex
+     */
+    int inDegree(int vertex);
+
+    /**
+     * Performs an action for each outgoing edge of a vertex.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform on each outgoing edge
+     */
+    void forEachOutEdge(int vertex, IntConsumer action);
+
+    /**
+     * Performs an action for each incoming edge of a vertex.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform on each incoming edge
+     */
+    void forEachInEdge(int vertex, IntConsumer action);
+
+    /**
+     * Performs an action for the opposite endpoint of each outgoing edge of a vertex. A neighbor
+     * is visited once per edge, thus multiple times in the presence of multiple edges.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform on each neighbor
+     */
+    default void forEachOutNeighbor(int vertex, IntConsumer action)
+    {
+        forEachOutEdge(vertex, e -> action.accept(oppositeVertex(e, vertex)));
+    }
+
+    /**
+     * Performs an action for the opposite endpoint of each incoming edge of a vertex. A neighbor
+     * is visited once per edge, thus multiple times in the presence of multiple edges.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform on each neighbor
+     */
+    default void forEachInNeighbor(int vertex, IntConsumer action)
+    {
+        forEachInEdge(vertex, e -> action.accept(oppositeVertex(e, vertex)));
+    }
+
+    /**
+     * Performs an action for each outgoing edge of a vertex, passing both the edge and its
+     * opposite endpoint.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform on each outgoing edge
+     */
+    default void forEachOutEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        forEachOutEdge(vertex, e -> action.accept(e, oppositeVertex(e, vertex)));
+    }
+
+    /**
+     * Performs an action for each incoming edge of a vertex, passing both the edge and its
+     * opposite endpoint.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform on each incoming edge
+     */
+    default void forEachInEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        forEachInEdge(vertex, e -> action.accept(e, oppositeVertex(e, vertex)));
+    }
+
+    /**
+     * Returns the source vertex of an edge. See {@link #getEdgeSource(Object)}.
+     *
+     * @param edge the edge
+     * @return the source vertex of the edge
+     */
+    int edgeSource(int edge);
+
+    /**
+     * Returns the target vertex of an edge. See {@link #getEdgeTarget(Object)}.
+     *
+     * @param edge the edge
+     * @return the target vertex of the edge
+     */
+    int edgeTarget(int edge);
+
+    /**
+     * Returns the weight of an edge. See {@link #getEdgeWeight(Object)}.
+     *
+     * @param edge the edge
+     * @return the weight of the edge
+     */
+    double edgeWeight(int edge);
+
+    /**
+     * Returns the endpoint of an edge which is opposite to a given vertex.
+     *
+     * @param edge the edge
+     * @param vertex one endpoint of the edge
+     * @return the other endpoint of the edge
+     */
+    default int oppositeVertex(int edge, int vertex)
+    {
+        int source = edgeSource(edge);
+        return source == vertex ? edgeTarget(edge) : source;
+    }
+
+    /**
+     * An operation which accepts an edge together with the endpoint of the edge which is opposite
+     * to the vertex being scanned.
+     */
+    @FunctionalInterface
+    interface EdgeNeighborConsumer
+    {
+        /**
+         * Performs this operation.
+         *
+         * @param edge the edge
+         * @param neighbor the opposite endpoint of the edge
+         */
+        void accept(int edge, int neighbor);
+    }
+
+}
@@ -18,11 +18,13 @@
 package org.jgrapht.alg.connectivity;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.event.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.traverse.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Allows obtaining various connectivity aspects of a graph. The <i>inspected graph</i> is specified
@@ -40,7 +42,14 @@ import java.util.*;
  * inspected graph, the inspector will amend internal cached results instead of recomputing them. It
  * is efficient when a few modifications are applied to a large graph. If many modifications are
  * expected it will not be efficient due to added overhead on graph update operations. If inspector
- * is added as listener to a graph other than the one it inspects, results are undefined.
+ * is added as listener to a graph other than the one it inspects, results are undefined. As a
+ * {@link GraphBatchListener} the inspector amends its results once per bulk operation of a
+ * {@link org.jgrapht.graph.DefaultListenableGraph}.
+ * </p>
+ *
+ * <p>
+ * If the inspected graph is an {@link IntGraph} or a {@link FrozenGraph}, the connected components
+ * are computed using a breadth-first search over primitive arrays indexed by the vertices.
  * </p>
  *
  * @param <V> the graph vertex type
@@ -51,11 +60,13 @@ import java.util.*;
  */
 public class ConnectivityInspector<V, E>
     implements
-    GraphListener<V, E>
+    GraphBatchListener<V, E>
 {
     private List<Set<V>> connectedSets;
     private Map<V, Set<V>> vertexToConnectedSet;
     private Graph<V, E> graph;
+    private IntGraph intGraph;
+    private List<V> intGraphVertices;
 
     /**
      * Creates a connectivity inspector for the specified graph.
@@ -66,6 +77,13 @@ public class ConnectivityInspector<V, E>
     {
         init();
         this.graph = Objects.requireNonNull(g);
+        if (g instanceof IntGraph) {
+            this.intGraph = (IntGraph) g;
+        } else if (g instanceof FrozenGraph) {
+            FrozenGraph<V, E> frozen = (FrozenGraph<V, E>) g;
+            this.intGraph = frozen.getIntGraph();
+            this.intGraphVertices = frozen.getVertexToIntegerMapping().getIndexList();
+        }
         if (g.getType().isDirected())
             this.graph = new AsUndirectedGraph<>(g);
     }
@@ -163,6 +181,79 @@ public class ConnectivityInspector<V, E>
                 // amend them. If the edge is a bridge, 2 components need to be split.
     }
 
+    /**
+     * Merges the components of all edges of the batch. Each component is copied at most once, so
+     * that sets previously returned by the inspector are not modified.
+     *
+     * @see GraphBatchListener#edgesAdded(GraphBatchChangeEvent)
+     */
+    @Override
+    public void edgesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        if (connectedSets == null) {
+            init();
+            return;
+        }
+
+        Set<Set<V>> replaced = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Set<V>> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < e.getEdges().size(); i++) {
+            Set<V> sourceSet = vertexToConnectedSet.get(e.getEdgeSource(i));
+            Set<V> targetSet = vertexToConnectedSet.get(e.getEdgeTarget(i));
+            if (sourceSet == targetSet) {
+                continue;
+            }
+
+            // merge the smaller component into the larger one
+            Set<V> large = sourceSet.size() >= targetSet.size() ? sourceSet : targetSet;
+            Set<V> small = large == sourceSet ? targetSet : sourceSet;
+            if (!created.contains(large)) {
+                replaced.add(large);
+                large = new HashSet<>(large);
+                created.add(large);
+                for (V v : large) {
+                    vertexToConnectedSet.put(v, large);
+                }
+            }
+            large.addAll(small);
+            for (V v : small) {
+                vertexToConnectedSet.put(v, large);
+            }
+            replaced.add(small);
+            created.remove(small);
+        }
+
+        connectedSets.removeIf(replaced::contains);
+        connectedSets.addAll(created);
+    }
+
+    /**
+     * @see GraphBatchListener#edgesRemoved(GraphBatchChangeEvent)
+     */
+    @Override
+    public void edgesRemoved(GraphBatchChangeEvent<V, E> e)
+    {
+        init();
+    }
+
+    /**
+     * @see GraphBatchListener#verticesAdded(GraphBatchChangeEvent)
+     */
+    @Override
+    public void verticesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        if (connectedSets == null) {
+            // components are computed lazily including the new vertices
+            return;
+        }
+        for (V v : e.getVertices()) {
+            Set<V> component = new HashSet<>();
+            component.add(v);
+            connectedSets.add(component);
+            vertexToConnectedSet.put(v, component);
+        }
+    }
+
     /**
      * Tests whether two vertices lay respectively in the same connected component (undirected
      * graph), or in the same weakly connected component (directed graph).
@@ -215,7 +306,9 @@ public class ConnectivityInspector<V, E>
 
             Set<V> vertexSet = graph.vertexSet();
 
-            if (!vertexSet.isEmpty()) {
+            if (intGraph != null) {
+                findConnectedSets(intGraph, intGraphVertices);
+            } else if (!vertexSet.isEmpty()) {
                 BreadthFirstIterator<V, E> i = new BreadthFirstIterator<>(graph);
                 i.addTraversalListener(new MyTraversalListener());
 
@@ -228,6 +321,44 @@ public class ConnectivityInspector<V, E>
         return connectedSets;
     }
 
+    /*
+     * Breadth-first search on the primitive representation. The vertices of the inspected graph are
+     * either the integers themselves or are given by an index list.
+     */
+    @SuppressWarnings("unchecked")
+    private void findConnectedSets(IntGraph g, List<V> vertices)
+    {
+        final int n = g.vertexSet().size();
+        final boolean directed = g.getType().isDirected();
+        boolean[] visited = new boolean[n];
+        FixedSizeIntegerQueue queue = new FixedSizeIntegerQueue(Math.max(n, 1));
+
+        for (int s = 0; s < n; s++) {
+            if (visited[s]) {
+                continue;
+            }
+            Set<V> connectedSet = new HashSet<>();
+            IntConsumer visit = u -> {
+                if (!visited[u]) {
+                    visited[u] = true;
+                    queue.enqueue(u);
+                    V v = vertices == null ? (V) Integer.valueOf(u) : vertices.get(u);
+                    connectedSet.add(v);
+                    vertexToConnectedSet.put(v, connectedSet);
+                }
+            };
+            visit.accept(s);
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+                g.forEachOutNeighbor(v, visit);
+                if (directed) {
+                    g.forEachInNeighbor(v, visit);
+                }
+            }
+            connectedSets.add(connectedSet);
+        }
+    }
+
     /**
      * A traversal listener that groups all vertices according to to their containing connected set.
      *
@@ -123,7 +123,7 @@ public class WeakChordalityInspector<V, E>
      */
     private void initMappings()
     {
-        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
         vertices = mapping.getVertexMap();
         indices = mapping.getIndexList();
     }
@@ -67,14 +67,18 @@ final class GraphOrdering<V, E>
         this.graph = graph;
         this.cacheEdges = cacheEdges;
 
-        List<V> vertexList = new ArrayList<>(graph.vertexSet());
+        VertexToIntegerMapping<V> mapping;
         if (orderByDegree) {
+            List<V> vertexList = new ArrayList<>(graph.vertexSet());
             vertexList.sort(VertexDegreeComparator.of(graph));
+            mapping = new VertexToIntegerMapping<>(vertexList);
+        } else {
+            mapping = Graphs.getVertexToIntegerMapping(graph);
         }
 
-        vertexCount = vertexList.size();
-        mapVertexToOrder = new VertexToIntegerMapping<>(vertexList).getVertexMap();
-        mapOrderToVertex = vertexList;
+        vertexCount = mapping.getIndexList().size();
+        mapVertexToOrder = mapping.getVertexMap();
+        mapOrderToVertex = mapping.getIndexList();
 
         if (cacheEdges) {
             outgoingEdges = new int[vertexCount][];
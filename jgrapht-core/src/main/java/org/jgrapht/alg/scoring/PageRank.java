@@ -19,6 +19,7 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
 
 import java.util.*;
 
@@ -51,6 +52,12 @@ import java.util.*;
  * an edge e out of node $v$ is equal to the weight of $e$ over the sum of weights of all outgoing
  * edges of $v$.
  * </p>
+ *
+ * <p>
+ * If the graph is an {@link IntGraph} or a {@link FrozenGraph}, the adjacency lists are computed
+ * directly from the primitive representation of the graph, without mapping the vertices to integers
+ * using a hash map.
+ * </p>
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -234,6 +241,17 @@ public final class PageRank<V, E>
             this.adjList = new ArrayList<>(totalVertices);
 
             double initScore = 1.0d / totalVertices;
+            if (graph instanceof IntGraph) {
+                initialize((IntGraph) graph, null, initScore);
+                return;
+            } else if (graph instanceof FrozenGraph) {
+                FrozenGraph<V, E> frozen = (FrozenGraph<V, E>) graph;
+                initialize(
+                    frozen.getIntGraph(), frozen.getVertexToIntegerMapping().getIndexList(),
+                    initScore);
+                return;
+            }
+
             int i = 0;
             for (V v : graph.vertexSet()) {
                 vertexIndexMap.put(v, i);
@@ -279,6 +297,48 @@ public final class PageRank<V, E>
             }
         }
 
+        @SuppressWarnings("unchecked")
+        private void initialize(IntGraph graph, List<V> vertices, double initScore)
+        {
+            for (int i = 0; i < totalVertices; i++) {
+                vertexMap[i] = vertices == null ? (V) Integer.valueOf(i) : vertices.get(i);
+                outDegree[i] = graph.outDegree(i);
+                curScore[i] = initScore;
+            }
+
+            if (isWeighted) {
+                this.weightSum = new double[totalVertices];
+                this.weightsList = new ArrayList<>(totalVertices);
+            }
+
+            int[] j = new int[1];
+            for (int i = 0; i < totalVertices; i++) {
+                int[] inNeighbors = new int[graph.inDegree(i)];
+                double[] edgeWeights = isWeighted ? new double[inNeighbors.length] : null;
+                j[0] = 0;
+                graph.forEachInEdgeAndNeighbor(i, (e, w) -> {
+                    if (isWeighted) {
+                        double edgeWeight = graph.edgeWeight(e);
+                        edgeWeights[j[0]] = edgeWeight;
+                        weightSum[w] += edgeWeight;
+                    }
+                    inNeighbors[j[0]++] = w;
+                });
+                // in undirected graphs self-loops count twice in the degree but are visited once
+                if (j[0] < inNeighbors.length) {
+                    adjList.add(Arrays.copyOf(inNeighbors, j[0]));
+                    if (isWeighted) {
+                        weightsList.add(Arrays.copyOf(edgeWeights, j[0]));
+                    }
+                } else {
+                    adjList.add(inNeighbors);
+                    if (isWeighted) {
+                        weightsList.add(edgeWeights);
+                    }
+                }
+            }
+        }
+
         public Map<V, Double> getScores()
         {
             // compute
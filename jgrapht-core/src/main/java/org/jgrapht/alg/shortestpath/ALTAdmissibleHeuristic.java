@@ -61,6 +61,10 @@ import java.util.*;
  * vertices source and target, a good landmark appears "before" source or "after" target where
  * before and after are relative to the "direction" from source to target.
  *
+ * <p>
+ * For large graphs consider using {@link ALTLandmarkTable}, which selects landmarks, computes the
+ * distances in parallel, stores them compactly and can be written to a file and read back.
+ *
  * @author Dimitrios Michail
  *
  * @param <V> the graph vertex type
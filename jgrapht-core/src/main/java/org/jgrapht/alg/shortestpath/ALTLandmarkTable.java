@@ -0,0 +1,782 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A precomputed table of landmark distances which is used as an admissible heuristic for the A*
+ * algorithm, following the ALT (A*, Landmarks and Triangle inequality) method.
+ *
+ * <p>
+ * This class serves the same purpose as {@link ALTAdmissibleHeuristic} but is designed for large
+ * graphs. The distances from each landmark, and in directed graphs also the distances to each
+ * landmark, are stored in single precision arrays indexed by the position of the vertex in
+ * {@link Graph#vertexSet()}, which requires $4n$ bytes per landmark and direction. The shortest
+ * path computations of the landmarks are executed in parallel using a {@link ForkJoinPool}. The
+ * landmarks can either be provided by the user or selected using one of the strategies of
+ * {@link LandmarkSelection}, which are described in A. V. Goldberg and R. F. Werneck. Computing
+ * point-to-point shortest paths from external memory. In Proceedings of the 7th Workshop on
+ * Algorithm Engineering and Experiments (ALENEX), 26--40, 2005.
+ *
+ * <p>
+ * Since computing the table is expensive on large graphs, it can be written to a file using
+ * {@link #write(Path)} and read on a later run using {@link #read(Graph, Path)}, after which it can
+ * be passed directly to {@link AStarShortestPath} or {@link BidirectionalAStarShortestPath}. As in
+ * {@link ContractionHierarchyIO}, the file contains a hash of the graph computed by
+ * {@link ContractionHierarchyIO#computeGraphHash(Graph)}, and reading fails if the graph differs.
+ *
+ * <p>
+ * The stored distances are rounded down to single precision such that they still satisfy the
+ * triangle inequality $d(l,v) \le d(l,u) + w(u,v)$ exactly for every edge $(u,v)$, and likewise
+ * for the distances to the landmarks. Thus the heuristic is admissible and consistent, as the one
+ * of {@link ALTAdmissibleHeuristic}, and estimates are lower than the exact bounds only by the
+ * rounding error of single precision. Edge weights must be non-negative. Changes of the graph
+ * after the construction of the table are not visible to the heuristic.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author JGraphT Contributors
+ * @see ALTAdmissibleHeuristic
+ */
+public class ALTLandmarkTable<V, E>
+    implements
+    AStarAdmissibleHeuristic<V>
+{
+    private static final int MAGIC = 0x4a47414c; // "JGAL"
+    private static final int VERSION = 2;
+
+    /**
+     * Strategies for selecting landmarks.
+     */
+    public enum LandmarkSelection
+    {
+        /**
+         * Select landmarks uniformly at random. The shortest path computations of all landmarks
+         * are executed in parallel.
+         */
+        RANDOM,
+        /**
+         * Select first the vertex farthest from a random vertex and then repeatedly the vertex
+         * whose distance to the closest landmark is maximum.
+         */
+        FARTHEST,
+        /**
+         * Select landmarks in regions which are poorly covered by the current landmarks. A
+         * shortest path tree is grown from a random root and each vertex is weighted by the
+         * difference between its distance from the root and the lower bound of the current
+         * landmarks. The next landmark is a leaf reached by repeatedly descending into the subtree
+         * with the maximum total weight, skipping subtrees which already contain a landmark.
+         */
+        AVOID
+    }
+
+    private final Graph<V, E> graph;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> landmarks;
+    private final boolean directed;
+    private final float[][] fromLandmark;
+    private final float[][] toLandmark;
+
+    /**
+     * Constructs the table for a set of landmarks using the common {@link ForkJoinPool}.
+     *
+     * @param graph the graph
+     * @param landmarks the landmarks
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTLandmarkTable(Graph<V, E> graph, Set<V> landmarks)
+    {
+        this(graph, landmarks, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs the table for a set of landmarks.
+     *
+     * @param graph the graph
+     * @param landmarks the landmarks
+     * @param pool the pool executing the shortest path computations
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTLandmarkTable(Graph<V, E> graph, Set<V> landmarks, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(landmarks, "Landmarks cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        if (landmarks.isEmpty()) {
+            throw new IllegalArgumentException("At least one landmark must be provided");
+        }
+        this.directed = isDirected(graph);
+        this.vertexMap = Graphs.getVertexToIntegerMapping(graph).getVertexMap();
+        this.landmarks = new ArrayList<>(landmarks);
+        this.fromLandmark = new float[landmarks.size()][];
+        this.toLandmark = directed ? new float[landmarks.size()][] : fromLandmark;
+
+        Index index = new Index();
+        int[] sources = new int[landmarks.size()];
+        for (int i = 0; i < sources.length; i++) {
+            Integer v = vertexMap.get(this.landmarks.get(i));
+            if (v == null) {
+                throw new IllegalArgumentException("Landmark is not a graph vertex");
+            }
+            sources[i] = v;
+        }
+        computeTables(index, sources, 0, pool);
+    }
+
+    /**
+     * Constructs the table selecting the landmarks with the given strategy.
+     *
+     * @param graph the graph
+     * @param numberOfLandmarks the number of landmarks
+     * @param selection the landmark selection strategy
+     * @param rng the random number generator
+     * @param pool the pool executing the shortest path computations
+     * @throws IllegalArgumentException if the number of landmarks is not positive or larger than
+     *         the number of vertices
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTLandmarkTable(
+        Graph<V, E> graph, int numberOfLandmarks, LandmarkSelection selection, Random rng,
+        ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(selection, "Landmark selection cannot be null");
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        int n = graph.vertexSet().size();
+        if (numberOfLandmarks < 1 || numberOfLandmarks > n) {
+            throw new IllegalArgumentException("Invalid number of landmarks");
+        }
+        this.directed = isDirected(graph);
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        this.vertexMap = mapping.getVertexMap();
+        this.fromLandmark = new float[numberOfLandmarks][];
+        this.toLandmark = directed ? new float[numberOfLandmarks][] : fromLandmark;
+
+        Index index = new Index();
+        int[] sources = new int[numberOfLandmarks];
+        if (selection == LandmarkSelection.RANDOM) {
+            // partial Fisher-Yates shuffle
+            int[] vertices = new int[n];
+            for (int i = 0; i < n; i++) {
+                vertices[i] = i;
+            }
+            for (int i = 0; i < numberOfLandmarks; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = vertices[j];
+                vertices[j] = vertices[i];
+                vertices[i] = tmp;
+                sources[i] = tmp;
+            }
+            computeTables(index, sources, 0, pool);
+        } else {
+            boolean[] isLandmark = new boolean[n];
+            for (int i = 0; i < numberOfLandmarks; i++) {
+                if (selection == LandmarkSelection.FARTHEST) {
+                    sources[i] = selectFarthest(index, i, rng.nextInt(n), isLandmark);
+                } else {
+                    sources[i] = selectAvoid(index, i, rng.nextInt(n), isLandmark);
+                }
+                isLandmark[sources[i]] = true;
+                // directions of a landmark are computed in parallel
+                computeTables(index, Arrays.copyOf(sources, i + 1), i, pool);
+            }
+        }
+
+        List<V> vertexList = mapping.getIndexList();
+        this.landmarks = new ArrayList<>(numberOfLandmarks);
+        for (int v : sources) {
+            landmarks.add(vertexList.get(v));
+        }
+    }
+
+    private ALTLandmarkTable(
+        Graph<V, E> graph, List<V> landmarks, float[][] fromLandmark, float[][] toLandmark)
+    {
+        this.graph = graph;
+        this.directed = isDirected(graph);
+        this.vertexMap = Graphs.getVertexToIntegerMapping(graph).getVertexMap();
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Get the graph.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the landmarks.
+     *
+     * @return an unmodifiable list of the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        return Collections.unmodifiableList(landmarks);
+    }
+
+    /**
+     * An admissible heuristic estimate from a source vertex to a target vertex. The estimate is
+     * always non-negative and never overestimates the true distance.
+     *
+     * @param u the source vertex
+     * @param t the target vertex
+     *
+     * @return an admissible heuristic estimate
+     */
+    @Override
+    public double getCostEstimate(V u, V t)
+    {
+        if (u.equals(t)) {
+            return 0d;
+        }
+        return estimate(vertexMap.get(u), vertexMap.get(t), fromLandmark.length);
+    }
+
+    /**
+     * Compute the lower bound of the distance between two vertex indices using the first landmarks.
+     */
+    private double estimate(int u, int t, int count)
+    {
+        double maxEstimate = 0d;
+        for (int i = 0; i < count; i++) {
+            float[] from = fromLandmark[i];
+            // d(l,t) - d(l,u) <= d(u,t)
+            maxEstimate = Math.max(maxEstimate, difference(from[t], from[u]));
+            if (directed) {
+                // d(u,l) - d(t,l) <= d(u,t)
+                float[] to = toLandmark[i];
+                maxEstimate = Math.max(maxEstimate, difference(to[u], to[t]));
+            } else {
+                maxEstimate = Math.max(maxEstimate, difference(from[u], from[t]));
+            }
+        }
+        return maxEstimate;
+    }
+
+    /**
+     * Compute the difference of two stored distances. An infinite first distance with a finite
+     * second one proves that the target is unreachable, thus the difference is infinite. Other
+     * non-finite differences carry no information and are replaced by zero.
+     */
+    private static double difference(float a, float b)
+    {
+        double d = (double) a - b;
+        return Double.isFinite(d) || d == Double.POSITIVE_INFINITY ? d : 0d;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Since the stored distances satisfy the triangle inequality, the heuristic is consistent.
+     */
+    @Override
+    public <ET> boolean isConsistent(Graph<V, ET> graph)
+    {
+        return true;
+    }
+
+    /**
+     * Write the table to a file.
+     *
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     */
+    public void write(Path file)
+        throws IOException
+    {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Write the table to an output stream. The stream is not closed.
+     *
+     * @param out the output stream
+     * @throws IOException in case of an I/O error
+     */
+    public void write(OutputStream out)
+        throws IOException
+    {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(ContractionHierarchyIO.computeGraphHash(graph));
+        data.writeInt(vertexMap.size());
+        data.writeInt(landmarks.size());
+        for (V l : landmarks) {
+            data.writeInt(vertexMap.get(l));
+        }
+        for (int i = 0; i < landmarks.size(); i++) {
+            writeFloats(data, fromLandmark[i]);
+            if (directed) {
+                writeFloats(data, toLandmark[i]);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Read the table of a graph from a file.
+     *
+     * @param graph the graph the table was computed on
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the table
+     * @throws IOException in case of an I/O error or if the file is not a valid landmark table
+     *         file
+     * @throws IllegalArgumentException if the table was computed on a different graph
+     */
+    public static <V, E> ALTLandmarkTable<V, E> read(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(graph, in);
+        }
+    }
+
+    /**
+     * Read the table of a graph from an input stream. The stream is not closed.
+     *
+     * @param graph the graph the table was computed on
+     * @param in the input stream
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the table
+     * @throws IOException in case of an I/O error or if the stream does not contain a valid
+     *         landmark table
+     * @throws IllegalArgumentException if the table was computed on a different graph
+     */
+    public static <V, E> ALTLandmarkTable<V, E> read(Graph<V, E> graph, InputStream in)
+        throws IOException
+    {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a landmark table file");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported landmark table version: " + version);
+        }
+        if (data.readLong() != ContractionHierarchyIO.computeGraphHash(graph)) {
+            throw new IllegalArgumentException("Landmark table was computed on a different graph");
+        }
+        int n = data.readInt();
+        if (n != graph.vertexSet().size()) {
+            throw new IOException("Invalid number of vertices: " + n);
+        }
+        int k = data.readInt();
+        if (k < 1 || k > n) {
+            throw new IOException("Invalid number of landmarks: " + k);
+        }
+        List<V> vertexList = Graphs.getVertexToIntegerMapping(graph).getIndexList();
+        List<V> landmarks = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            int v = data.readInt();
+            if (v < 0 || v >= n) {
+                throw new IOException("Invalid index: " + v);
+            }
+            landmarks.add(vertexList.get(v));
+        }
+        boolean directed = isDirected(graph);
+        float[][] from = new float[k][];
+        float[][] to = directed ? new float[k][] : from;
+        for (int i = 0; i < k; i++) {
+            from[i] = readFloats(data, n);
+            if (directed) {
+                to[i] = readFloats(data, n);
+            }
+        }
+        return new ALTLandmarkTable<>(graph, landmarks, from, to);
+    }
+
+    private static void writeFloats(DataOutputStream data, float[] values)
+        throws IOException
+    {
+        for (float value : values) {
+            data.writeFloat(value);
+        }
+    }
+
+    private static float[] readFloats(DataInputStream data, int n)
+        throws IOException
+    {
+        float[] values = new float[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = data.readFloat();
+        }
+        return values;
+    }
+
+    private static boolean isDirected(Graph<?, ?> graph)
+    {
+        if (graph.getType().isDirected()) {
+            return true;
+        } else if (graph.getType().isUndirected()) {
+            return false;
+        }
+        throw new IllegalArgumentException("Graph must be directed or undirected");
+    }
+
+    /**
+     * Compute in parallel the table rows of the landmarks starting at a given position.
+     */
+    private void computeTables(Index index, int[] sources, int from, ForkJoinPool pool)
+    {
+        int directions = directed ? 2 : 1;
+        pool.invoke(new SearchTask(index, sources, from * directions, sources.length * directions));
+    }
+
+    /**
+     * Select the vertex farthest from the current landmarks, or from a random vertex if there are
+     * no landmarks.
+     */
+    private int selectFarthest(Index index, int count, int root, boolean[] isLandmark)
+    {
+        int n = index.offsets.length - 1;
+        double[] distance;
+        if (count == 0) {
+            distance = new Dijkstra(index, false).run(root).distance;
+        } else {
+            distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            for (int i = 0; i < count; i++) {
+                for (int v = 0; v < n; v++) {
+                    double d = fromLandmark[i][v];
+                    if (directed) {
+                        d += toLandmark[i][v];
+                    }
+                    distance[v] = Math.min(distance[v], d);
+                }
+            }
+        }
+        int best = -1;
+        for (int v = 0; v < n; v++) {
+            if (!isLandmark[v] && (best == -1 || distance[v] > distance[best])) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Select a landmark using the avoid strategy.
+     */
+    private int selectAvoid(Index index, int count, int root, boolean[] isLandmark)
+    {
+        int n = index.offsets.length - 1;
+        Dijkstra tree = new Dijkstra(index, false).run(root);
+
+        // accumulate the weights of the subtrees in reverse order of settling
+        double[] size = new double[n];
+        boolean[] covered = new boolean[n];
+        for (int i = tree.settled - 1; i >= 0; i--) {
+            int v = tree.order[i];
+            if (isLandmark[v]) {
+                covered[v] = true;
+            }
+            if (!covered[v]) {
+                size[v] += Math.max(0d, tree.distance[v] - estimate(root, v, count));
+            }
+            int p = tree.parent[v];
+            if (p >= 0) {
+                if (covered[v]) {
+                    covered[p] = true;
+                } else {
+                    size[p] += size[v];
+                }
+            }
+        }
+
+        // descend into the heaviest uncovered subtree
+        int[] childOffsets = new int[n + 1];
+        for (int i = 0; i < tree.settled; i++) {
+            int p = tree.parent[tree.order[i]];
+            if (p >= 0) {
+                childOffsets[p + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            childOffsets[v + 1] += childOffsets[v];
+        }
+        int[] children = new int[childOffsets[n]];
+        int[] pos = Arrays.copyOf(childOffsets, n);
+        for (int i = 0; i < tree.settled; i++) {
+            int v = tree.order[i];
+            if (tree.parent[v] >= 0) {
+                children[pos[tree.parent[v]]++] = v;
+            }
+        }
+        int v = root;
+        while (true) {
+            int best = -1;
+            for (int i = childOffsets[v]; i < childOffsets[v + 1]; i++) {
+                int c = children[i];
+                if (!covered[c] && (best == -1 || size[c] > size[best])) {
+                    best = c;
+                }
+            }
+            if (best == -1) {
+                break;
+            }
+            v = best;
+        }
+        if (isLandmark[v]) {
+            // the whole tree is covered, fall back to the farthest vertex
+            return selectFarthest(index, count, root, isLandmark);
+        }
+        return v;
+    }
+
+    /**
+     * Executes the shortest path computations for a range of jobs, where each job is a landmark
+     * and a direction.
+     */
+    private class SearchTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Index index;
+        private final int[] sources;
+        private final int from;
+        private final int to;
+
+        SearchTask(Index index, int[] sources, int from, int to)
+        {
+            this.index = index;
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new SearchTask(index, sources, from, mid),
+                    new SearchTask(index, sources, mid, to));
+                return;
+            }
+            int directions = directed ? 2 : 1;
+            int landmark = from / directions;
+            boolean reverse = from % directions == 1;
+            float[] row = new Dijkstra(index, reverse).run(sources[landmark]).roundDown();
+            if (reverse) {
+                toLandmark[landmark] = row;
+            } else {
+                fromLandmark[landmark] = row;
+            }
+        }
+    }
+
+    /**
+     * The graph in compressed sparse rows format, with the reverse graph if directed.
+     */
+    private class Index
+    {
+        final int[] offsets;
+        final int[] targets;
+        final double[] weights;
+        final int[] inOffsets;
+        final int[] inTargets;
+        final double[] inWeights;
+
+        Index()
+        {
+            int n = vertexMap.size();
+            offsets = new int[n + 1];
+            inOffsets = directed ? new int[n + 1] : offsets;
+            for (E e : graph.edgeSet()) {
+                if (graph.getEdgeWeight(e) < 0d) {
+                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
+                }
+                int s = vertexMap.get(graph.getEdgeSource(e));
+                int t = vertexMap.get(graph.getEdgeTarget(e));
+                offsets[s + 1]++;
+                if (directed) {
+                    inOffsets[t + 1]++;
+                } else if (s != t) {
+                    offsets[t + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] += offsets[v];
+                if (directed) {
+                    inOffsets[v + 1] += inOffsets[v];
+                }
+            }
+            targets = new int[offsets[n]];
+            weights = new double[offsets[n]];
+            inTargets = directed ? new int[inOffsets[n]] : targets;
+            inWeights = directed ? new double[inOffsets[n]] : weights;
+            int[] pos = Arrays.copyOf(offsets, n);
+            int[] inPos = directed ? Arrays.copyOf(inOffsets, n) : pos;
+            for (E e : graph.edgeSet()) {
+                int s = vertexMap.get(graph.getEdgeSource(e));
+                int t = vertexMap.get(graph.getEdgeTarget(e));
+                double w = graph.getEdgeWeight(e);
+                targets[pos[s]] = t;
+                weights[pos[s]++] = w;
+                if (directed || s != t) {
+                    inTargets[inPos[t]] = s;
+                    inWeights[inPos[t]++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dijkstra's algorithm over the index, recording the shortest path tree and the order in which
+     * vertices are settled.
+     */
+    private static class Dijkstra
+    {
+        final int[] offsets;
+        final int[] targets;
+        final double[] weights;
+        final double[] distance;
+        final int[] parent;
+        final int[] order;
+        int settled;
+
+        Dijkstra(ALTLandmarkTable<?, ?>.Index index, boolean reverse)
+        {
+            this.offsets = reverse ? index.inOffsets : index.offsets;
+            this.targets = reverse ? index.inTargets : index.targets;
+            this.weights = reverse ? index.inWeights : index.weights;
+            int n = offsets.length - 1;
+            this.distance = new double[n];
+            this.parent = new int[n];
+            this.order = new int[n];
+        }
+
+        Dijkstra run(int source)
+        {
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            Arrays.fill(parent, -1);
+            IntDoubleHeap heap = new IntDoubleHeap(distance.length);
+            distance[source] = 0d;
+            heap.insert(source, 0d);
+            settled = 0;
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin();
+                order[settled++] = v;
+                double d = distance[v];
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = targets[i];
+                    double du = d + weights[i];
+                    if (du < distance[u]) {
+                        distance[u] = du;
+                        parent[u] = v;
+                        if (heap.contains(u)) {
+                            heap.decreaseKey(u, du);
+                        } else {
+                            heap.insert(u, du);
+                        }
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Round the distances of the last run down to single precision such that the rounded
+         * distances still satisfy $r(u) \le r(v) + w(v,u)$ for every arc $(v,u)$. Rounding each
+         * distance independently may violate this by one unit in the last place, thus arcs are
+         * relaxed once more in the order the vertices were settled, and vertices whose distance
+         * decreases afterwards are processed again.
+         */
+        float[] roundDown()
+        {
+            int n = distance.length;
+            float[] row = new float[n];
+            for (int v = 0; v < n; v++) {
+                row[v] = roundDown(distance[v], 0d);
+            }
+
+            int[] queue = Arrays.copyOf(order, n);
+            boolean[] queued = new boolean[n];
+            for (int i = 0; i < settled; i++) {
+                queued[order[i]] = true;
+            }
+            int head = 0;
+            int size = settled;
+            while (size > 0) {
+                int v = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                size--;
+                queued[v] = false;
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = targets[i];
+                    float r = roundDown(row[v], weights[i]);
+                    if (r < row[u]) {
+                        row[u] = r;
+                        if (!queued[u]) {
+                            queued[u] = true;
+                            int tail = head + size;
+                            queue[tail >= n ? tail - n : tail] = u;
+                            size++;
+                        }
+                    }
+                }
+            }
+            return row;
+        }
+
+        /**
+         * Compute the largest single precision value which is at most the exact sum of two values.
+         */
+        private static float roundDown(double a, double b)
+        {
+            double sum = a + b;
+            // exact rounding error of the sum in double precision
+            double bVirtual = sum - a;
+            double error = (a - (sum - bVirtual)) + (b - bVirtual);
+            float result = (float) sum;
+            if (result > sum || result == sum && error < 0d) {
+                result = Math.nextDown(result);
+            }
+            return result;
+        }
+    }
+
+}
@@ -19,6 +19,7 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
 
@@ -33,6 +34,10 @@ import java.util.*;
  * <p>
  * The running time is $O(|V|+|E|)$.
  *
+ * <p>
+ * If the graph is an {@link IntGraph}, the search is performed using primitive arrays indexed by
+ * the vertices, without boxing vertices or edges.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -63,6 +68,10 @@ public class BFSShortestPath<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        if (graph instanceof IntGraph) {
+            return TypeUtil.uncheckedCast(getPaths((IntGraph) graph, (Integer) source));
+        }
+
         /*
          * Initialize distanceAndPredecessorMap
          */
@@ -95,6 +104,33 @@ public class BFSShortestPath<V, E>
 
     }
 
+    private static SingleSourcePaths<Integer, Integer> getPaths(IntGraph graph, int source)
+    {
+        final int n = graph.vertexSet().size();
+        double[] distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        int[] predecessor = new int[n];
+        Arrays.fill(predecessor, -1);
+
+        distance[source] = 0d;
+        FixedSizeIntegerQueue queue = new FixedSizeIntegerQueue(n);
+        queue.enqueue(source);
+
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            double newDist = distance[v] + 1.0;
+            graph.forEachOutEdgeAndNeighbor(v, (e, u) -> {
+                if (distance[u] == Double.POSITIVE_INFINITY) {
+                    queue.enqueue(u);
+                    distance[u] = newDist;
+                    predecessor[u] = e;
+                }
+            });
+        }
+
+        return new IntGraphSingleSourcePaths(graph, source, distance, predecessor);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -38,12 +38,13 @@ import java.util.function.*;
  * The algorithm was first introduced in Ira Sheldon Pohl. 1969. Bi-Directional and Heuristic Search
  * in Path Problems. Ph.D. Dissertation. Stanford University, Stanford, CA, USA. AAI7001588.
  * <p>
- * The implementation uses two termination criteria depending on if the provided heuristic is
- * consistent or not. Both criteria are based on the shortest path distance $\mu$ seen thus far in
- * the search. Initially, in both cases the algorithm sets $\mu=\infty$. Whenever the search updates
- * the information about the vertex $v$, it sets $\mu = min\{\mu; g_f(v) + g_b(v)\}$, where $g_f(v)$
- * is the current best-known path cost from $source$ to $sink$ and $g_b(v)$ is the current
- * best-known path cost from $sink$ to $source$.
+ * The termination criterion is based on the shortest path distance $\mu$ seen thus far in the
+ * search. Initially the algorithm sets $\mu=\infty$. Whenever the search updates the information
+ * about the vertex $v$, it sets $\mu = min\{\mu; g_f(v) + g_b(v)\}$, where $g_f(v)$ is the current
+ * best-known path cost from $source$ to $sink$ and $g_b(v)$ is the current best-known path cost
+ * from $sink$ to $source$. The search stops as soon as the smallest key of one of the two searches
+ * is at least $\mu$. The criterion is valid for consistent and inconsistent heuristics alike, and
+ * does not require the forward and the backward heuristic to sum to a constant.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -143,14 +144,8 @@ public class BidirectionalAStarShortestPath<V, E>
         AStarSearchFrontier frontier = forwardFrontier;
         AStarSearchFrontier otherFrontier = backwardFrontier;
 
-        TerminationCriterion condition;
-        if (forwardHeuristic.isConsistent(graph)) {
-            double sourceTargetEstimate = forwardFrontier.heuristic.getCostEstimate(source, sink);
-            condition = new ConsistentTerminationCriterion(
-                forwardFrontier, backwardFrontier, sourceTargetEstimate);
-        } else {
-            condition = new InconsistentTerminationCriterion(forwardFrontier, backwardFrontier);
-        }
+        TerminationCriterion condition =
+            new TerminationCriterion(forwardFrontier, backwardFrontier);
 
         while (true) {
             // stopping condition
@@ -319,9 +314,11 @@ public class BidirectionalAStarShortestPath<V, E>
     }
 
     /**
-     * Termination criterion for the heuristic search.
+     * Termination criterion for the heuristic search. Every path shorter than $\mu$ has a vertex
+     * whose key is smaller than $\mu$ in the open list of each search, thus the search can stop as
+     * soon as one of the searches has no such key left.
      */
-    abstract class TerminationCriterion
+    class TerminationCriterion
     {
         final AStarSearchFrontier forward;
         final AStarSearchFrontier backward;
@@ -338,47 +335,6 @@ public class BidirectionalAStarShortestPath<V, E>
          * @param bestPath length of the shortest path seen so far
          * @return true iff the search should be terminated
          */
-        abstract boolean stop(double bestPath);
-    }
-
-    /**
-     * Termination criterion for the consistent heuristics.
-     */
-    class ConsistentTerminationCriterion
-        extends
-        TerminationCriterion
-    {
-        final double sourceTargetEstimate;
-
-        ConsistentTerminationCriterion(
-            AStarSearchFrontier forward, AStarSearchFrontier backward, double sourceTargetEstimate)
-        {
-            super(forward, backward);
-            this.sourceTargetEstimate = sourceTargetEstimate;
-        }
-
-        @Override
-        boolean stop(double bestPath)
-        {
-            return forward.openList.isEmpty() || backward.openList.isEmpty()
-                || forward.openList.findMin().getKey()
-                    + backward.openList.findMin().getKey() >= bestPath + sourceTargetEstimate;
-        }
-    }
-
-    /**
-     * Termination criterion for the inconsistent heuristics.
-     */
-    class InconsistentTerminationCriterion
-        extends
-        TerminationCriterion
-    {
-        InconsistentTerminationCriterion(AStarSearchFrontier forward, AStarSearchFrontier backward)
-        {
-            super(forward, backward);
-        }
-
-        @Override
         boolean stop(double bestPath)
         {
             return forward.openList.isEmpty() || backward.openList.isEmpty()
@@ -0,0 +1,425 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A blocked and parallel variant of the Floyd-Warshall algorithm.
+ *
+ * <p>
+ * The algorithm computes all $n^2$ shortest paths in $O(n^3)$ time, just like
+ * {@link FloydWarshallShortestPaths}, but stores the distances in a single flat primitive array and
+ * processes it in square tiles of $b \times b$ entries. For each of the $\lceil n/b \rceil$ rounds
+ * $k$, the diagonal tile $(k,k)$ is updated first, then all tiles of row $k$ and column $k$, which
+ * depend only on the diagonal tile, and finally all remaining tiles, which depend only on the tiles
+ * of row and column $k$. The tiles within each of the last two phases are independent and are
+ * processed in parallel using a {@link ForkJoinPool}. Working on tiles keeps the inner loops inside
+ * the processor caches, see G. Venkataraman, S. Sahni, S. Mukhopadhyaya. A Blocked All-Pairs
+ * Shortest-Paths Algorithm. Journal of Experimental Algorithmics, 8, 2003.
+ *
+ * <p>
+ * The distances can optionally be stored using single precision, which halves the memory footprint
+ * of the distance matrix at the cost of accuracy. The algorithm additionally stores an $n \times n$
+ * integer matrix with the first edge of each shortest path, which is used to reconstruct the
+ * paths. The graph may contain negative edge weights but no negative cycles. Self-loops are
+ * ignored.
+ *
+ * <p>
+ * Note that during construction time, no computations are performed. All computations are
+ * performed the first time one of the member methods of this class is invoked. The results are
+ * stored, so all subsequent calls are computationally efficient.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ */
+public class BlockedFloydWarshallShortestPaths<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default tile size.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int blockSize;
+    private final boolean singlePrecision;
+    private final ForkJoinPool pool;
+
+    private final int n;
+    private final int blocks;
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndices;
+
+    private double[] distance;
+    private float[] floatDistance;
+    private int[] firstEdge;
+    private List<E> edges;
+
+    /**
+     * Create a new instance using double precision, the default tile size and the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, DEFAULT_BLOCK_SIZE, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance using double precision and the default tile size.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to process independent tiles in parallel
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, DEFAULT_BLOCK_SIZE, false, pool);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param blockSize the size of each tile
+     * @param singlePrecision whether to store the distances using single precision
+     * @param pool the pool used to process independent tiles in parallel
+     * @throws IllegalArgumentException if the block size is not positive or if the graph has too
+     *         many vertices for its distance matrix to be stored in a single array
+     */
+    public BlockedFloydWarshallShortestPaths(
+        Graph<V, E> graph, int blockSize, boolean singlePrecision, ForkJoinPool pool)
+    {
+        super(graph);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.singlePrecision = singlePrecision;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        this.vertices = mapping.getIndexList();
+        this.vertexIndices = mapping.getVertexMap();
+        this.n = vertices.size();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph has too many vertices");
+        }
+        this.blocks = (n + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        lazyCalculateMatrix();
+
+        int s = vertexIndices.get(source);
+        int t = vertexIndices.get(sink);
+        if (s == t || firstEdge[s * n + t] == -1) {
+            return createEmptyPath(source, sink);
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        V u = source;
+        int ui = s;
+        while (ui != t) {
+            E e = edges.get(firstEdge[ui * n + t]);
+            edgeList.add(e);
+            u = Graphs.getOppositeVertex(graph, e, u);
+            ui = vertexIndices.get(u);
+        }
+        return new GraphWalk<>(graph, source, sink, null, edgeList, weight(s * n + t));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        lazyCalculateMatrix();
+
+        return weight(vertexIndices.get(source) * n + vertexIndices.get(sink));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new BlockedFloydWarshallSingleSourcePaths(source);
+    }
+
+    private double weight(int entry)
+    {
+        return singlePrecision ? floatDistance[entry] : distance[entry];
+    }
+
+    /**
+     * Initializes the matrices and executes all rounds of the algorithm.
+     */
+    private void lazyCalculateMatrix()
+    {
+        if (firstEdge != null) {
+            // already done
+            return;
+        }
+
+        int size = n * n;
+        int[] first = new int[size];
+        Arrays.fill(first, -1);
+        if (singlePrecision) {
+            floatDistance = new float[size];
+            Arrays.fill(floatDistance, Float.POSITIVE_INFINITY);
+        } else {
+            distance = new double[size];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        }
+        for (int i = 0; i < n; i++) {
+            setDistance(i * n + i, 0d);
+        }
+
+        edges = new ArrayList<>(graph.edgeSet());
+        boolean undirected = graph.getType().isUndirected();
+        for (int e = 0; e < edges.size(); e++) {
+            E edge = edges.get(e);
+            int s = vertexIndices.get(graph.getEdgeSource(edge));
+            int t = vertexIndices.get(graph.getEdgeTarget(edge));
+            if (s == t) {
+                continue;
+            }
+            double w = graph.getEdgeWeight(edge);
+            if (Double.compare(w, weight(s * n + t)) < 0) {
+                setDistance(s * n + t, w);
+                first[s * n + t] = e;
+            }
+            if (undirected && Double.compare(w, weight(t * n + s)) < 0) {
+                setDistance(t * n + s, w);
+                first[t * n + s] = e;
+            }
+        }
+        firstEdge = first;
+
+        for (int kb = 0; kb < blocks; kb++) {
+            // phase 1: the diagonal tile
+            relaxBlock(kb, kb, kb);
+            if (blocks == 1) {
+                break;
+            }
+            // phase 2: the tiles of row and column kb
+            pool.invoke(new BlocksTask(kb, true, 0, 2 * (blocks - 1)));
+            // phase 3: all remaining tiles
+            pool.invoke(new BlocksTask(kb, false, 0, (blocks - 1) * (blocks - 1)));
+        }
+    }
+
+    private void setDistance(int entry, double value)
+    {
+        if (singlePrecision) {
+            floatDistance[entry] = (float) value;
+        } else {
+            distance[entry] = value;
+        }
+    }
+
+    /**
+     * Relax all entries of tile $(bi,bj)$ using the intermediate vertices of tile $bk$.
+     *
+     * @param bi the row of the tile
+     * @param bj the column of the tile
+     * @param bk the tile of the intermediate vertices
+     */
+    private void relaxBlock(int bi, int bj, int bk)
+    {
+        int iFrom = bi * blockSize;
+        int iTo = Math.min(iFrom + blockSize, n);
+        int jFrom = bj * blockSize;
+        int jTo = Math.min(jFrom + blockSize, n);
+        int kFrom = bk * blockSize;
+        int kTo = Math.min(kFrom + blockSize, n);
+        if (singlePrecision) {
+            relaxFloat(iFrom, iTo, jFrom, jTo, kFrom, kTo);
+        } else {
+            relaxDouble(iFrom, iTo, jFrom, jTo, kFrom, kTo);
+        }
+    }
+
+    private void relaxDouble(int iFrom, int iTo, int jFrom, int jTo, int kFrom, int kTo)
+    {
+        double[] d = distance;
+        int[] first = firstEdge;
+        for (int k = kFrom; k < kTo; k++) {
+            int rowK = k * n;
+            for (int i = iFrom; i < iTo; i++) {
+                int rowI = i * n;
+                double dik = d[rowI + k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int hop = first[rowI + k];
+                for (int j = jFrom; j < jTo; j++) {
+                    double candidate = dik + d[rowK + j];
+                    if (candidate < d[rowI + j]) {
+                        d[rowI + j] = candidate;
+                        first[rowI + j] = hop;
+                    }
+                }
+            }
+        }
+    }
+
+    private void relaxFloat(int iFrom, int iTo, int jFrom, int jTo, int kFrom, int kTo)
+    {
+        float[] d = floatDistance;
+        int[] first = firstEdge;
+        for (int k = kFrom; k < kTo; k++) {
+            int rowK = k * n;
+            for (int i = iFrom; i < iTo; i++) {
+                int rowI = i * n;
+                float dik = d[rowI + k];
+                if (dik == Float.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int hop = first[rowI + k];
+                for (int j = jFrom; j < jTo; j++) {
+                    float candidate = dik + d[rowK + j];
+                    if (candidate < d[rowI + j]) {
+                        d[rowI + j] = candidate;
+                        first[rowI + j] = hop;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Relaxes a range of independent tiles of a single phase, splitting the range recursively.
+     * Tiles are numbered implicitly skipping the row and column of the current round.
+     */
+    private class BlocksTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int kb;
+        private final boolean panels;
+        private final int from;
+        private final int to;
+
+        BlocksTask(int kb, boolean panels, int from, int to)
+        {
+            this.kb = kb;
+            this.panels = panels;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new BlocksTask(kb, panels, from, mid), new BlocksTask(kb, panels, mid, to));
+                return;
+            }
+            int others = blocks - 1;
+            if (panels) {
+                if (from < others) {
+                    relaxBlock(kb, skip(from), kb);
+                } else {
+                    relaxBlock(skip(from - others), kb, kb);
+                }
+            } else {
+                relaxBlock(skip(from / others), skip(from % others), kb);
+            }
+        }
+
+        private int skip(int b)
+        {
+            return b < kb ? b : b + 1;
+        }
+    }
+
+    class BlockedFloydWarshallSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final V source;
+
+        BlockedFloydWarshallSingleSourcePaths(V source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPathWeight(source, sink);
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPath(source, sink);
+        }
+    }
+
+}
@@ -0,0 +1,615 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Computes the exact diameter, radius, center, periphery and eccentricities of a graph using
+ * eccentricity bounds instead of all-pairs shortest paths.
+ *
+ * <p>
+ * The algorithm maintains for every vertex $w$ a lower bound $L(w)$ and an upper bound $U(w)$ on
+ * its eccentricity $\epsilon(w)$. After computing the shortest paths from and to a selected vertex
+ * $v$, the triangle inequality gives $\max\{d(w,v), \epsilon(v) - d(v,w)\} \le \epsilon(w) \le
+ * d(w,v) + \epsilon(v)$ for every vertex $w$. Vertices whose bounds show that they cannot be part
+ * of the center or the periphery, or whose eccentricity is known exactly, are not selected again.
+ * The next vertex is selected alternately as the one with the largest upper bound and the one with
+ * the smallest lower bound, ties broken by the largest degree. This is the strategy of the
+ * BoundingDiameters algorithm described in F. W. Takes and W. A. Kosters. Determining the diameter
+ * of small world networks. In Proceedings of the 20th ACM International Conference on Information
+ * and Knowledge Management, 1191--1196, 2011, and F. W. Takes and W. A. Kosters. Computing the
+ * eccentricity distribution of large graphs. Algorithms, 6(1): 100--118, 2013. In undirected
+ * graphs the upper bounds are additionally refined using the distances from the vertex with the
+ * smallest eccentricity found so far, as in the iFUB algorithm of P. Crescenzi et al. On computing
+ * the diameter of real-world undirected graphs. Theoretical Computer Science, 514: 84--95, 2013.
+ * For unweighted graphs the shortest paths are computed using breadth-first search, otherwise
+ * Dijkstra's algorithm is used. Directed graphs are supported by computing both forward and
+ * backward shortest paths from each selected vertex.
+ *
+ * <p>
+ * In the worst case the algorithm computes the shortest paths from all vertices, but on real-world
+ * graphs a small number of searches usually suffices. The graph is indexed into compressed sparse
+ * rows format once, thus the memory requirement is linear in the size of the graph. When
+ * constructed with a {@link ForkJoinPool}, the algorithm selects one vertex per worker of the pool
+ * in each round and executes the searches in parallel, which uses memory proportional to the number
+ * of vertices for each worker.
+ *
+ * <p>
+ * Edge weights must be non-negative. Eccentricities are computed with the same tolerance as
+ * {@link GraphMeasurer}, which is exact for unweighted graphs. If the graph is not (strongly)
+ * connected, vertices which cannot reach all other vertices have infinite eccentricity. Changes of
+ * the graph after the first computation are not visible to the algorithm.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author JGraphT Contributors
+ * @see GraphMeasurer
+ */
+public class BoundingGraphMeasurer<V, E>
+{
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private final Comparator<Double> comparator;
+
+    private List<V> vertices;
+    private int[] outOffsets;
+    private int[] outTargets;
+    private double[] outWeights;
+    private int[] inOffsets;
+    private int[] inTargets;
+    private double[] inWeights;
+    private boolean unweighted;
+
+    private double[] lower;
+    private double[] upper;
+    private boolean[] resolved;
+    private boolean selectLargestUpper;
+    private double referenceEccentricity;
+    private double[] referenceDistance;
+    private int[] referenceOrder;
+    private int searches;
+
+    private double diameter;
+    private double radius;
+    private Mode computed;
+
+    /**
+     * Constructs a new instance of the algorithm which executes the searches sequentially.
+     *
+     * @param graph the input graph
+     */
+    public BoundingGraphMeasurer(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm which executes the searches in parallel using the
+     * given pool. If the pool is null the searches are executed sequentially.
+     *
+     * @param graph the input graph
+     * @param pool the pool executing the searches, or null
+     */
+    public BoundingGraphMeasurer(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = pool;
+        this.comparator = new ToleranceDoubleComparator();
+    }
+
+    /**
+     * Compute the diameter of the graph, which is defined as $\max_{v\in V}\epsilon(v)$, where
+     * $\epsilon(v)$ is the eccentricity of vertex $v$. If the graph has no vertices, the diameter
+     * is 0. If the graph is disconnected, the diameter is {@link Double#POSITIVE_INFINITY}.
+     *
+     * @return the diameter of the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public double getDiameter()
+    {
+        compute(Mode.VALUES);
+        return diameter;
+    }
+
+    /**
+     * Compute the radius of the graph, which is defined as $\min_{v\in V}\epsilon(v)$, where
+     * $\epsilon(v)$ is the eccentricity of vertex $v$. If the graph has no vertices, the radius is
+     * 0. If the graph is disconnected, the radius is {@link Double#POSITIVE_INFINITY}.
+     *
+     * @return the radius of the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public double getRadius()
+    {
+        compute(Mode.VALUES);
+        return radius;
+    }
+
+    /**
+     * Compute the graph center, which is the set of vertices with eccentricity equal to the radius
+     * of the graph.
+     *
+     * @return the graph center
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public Set<V> getGraphCenter()
+    {
+        compute(Mode.SETS);
+        return collect(radius);
+    }
+
+    /**
+     * Compute the graph periphery, which is the set of vertices with eccentricity equal to the
+     * diameter of the graph.
+     *
+     * @return the graph periphery
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public Set<V> getGraphPeriphery()
+    {
+        compute(Mode.SETS);
+        return collect(diameter);
+    }
+
+    /**
+     * Compute the eccentricity of each vertex in the graph. The eccentricity of a vertex $u$ is
+     * defined as $\max_{v}d(u,v)$, where $d(u,v)$ is the shortest path distance between vertices
+     * $u$ and $v$. This requires more searches than the computation of the diameter or the radius
+     * alone.
+     *
+     * @return a map containing the eccentricity of each vertex
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public Map<V, Double> getVertexEccentricityMap()
+    {
+        compute(Mode.ALL);
+        Map<V, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            result.put(vertices.get(i), upper[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get the number of single-source searches executed so far, counting a forward and a backward
+     * search of directed graphs as one.
+     *
+     * @return the number of searches
+     */
+    int getSearches()
+    {
+        return searches;
+    }
+
+    private void compute(Mode mode)
+    {
+        if (computed != null && computed.compareTo(mode) >= 0) {
+            return;
+        }
+        index();
+        run(mode);
+        computed = mode;
+    }
+
+    private Set<V> collect(double value)
+    {
+        Set<V> result = new LinkedHashSet<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            if (resolved[i] && comparator.compare(upper[i], value) == 0) {
+                result.add(vertices.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Execute rounds of searches until no vertex with unknown eccentricity is needed by the given
+     * mode.
+     *
+     * @param mode the mode
+     */
+    private void run(Mode mode)
+    {
+        int n = vertices.size();
+        if (n == 0) {
+            diameter = 0d;
+            radius = 0d;
+            return;
+        }
+        int batch = pool == null ? 1 : Math.max(1, pool.getParallelism());
+        List<Search> workspaces = new ArrayList<>();
+
+        while (true) {
+            updateExtremal();
+            List<Integer> selected = select(mode, Math.min(batch, n));
+            if (selected.isEmpty()) {
+                break;
+            }
+            while (workspaces.size() < selected.size()) {
+                workspaces.add(new Search(n));
+            }
+            if (pool == null) {
+                workspaces.get(0).run(selected.get(0));
+            } else {
+                List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                for (int i = 0; i < selected.size(); i++) {
+                    Search search = workspaces.get(i);
+                    int v = selected.get(i);
+                    tasks.add(pool.submit(() -> search.run(v)));
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            }
+            for (int i = 0; i < selected.size(); i++) {
+                workspaces.get(i).updateBounds();
+                workspaces.get(i).updateReference();
+            }
+            refineUpperBounds();
+            searches += selected.size();
+        }
+    }
+
+    /**
+     * Refine the upper bounds using the distances from the reference vertex $u$ in undirected
+     * graphs, as in the iFUB algorithm. For a vertex $w$ with $d(u,w) = r$, any vertex $x$ with
+     * $d(u,x) \le r$ has $d(w,x) \le 2r$ while any other vertex has $d(w,x) \le \epsilon(x)$.
+     * Thus $\epsilon(w) \le \max\{2r, \max_{x: d(u,x) > r} U(x)\}$.
+     */
+    private void refineUpperBounds()
+    {
+        if (referenceOrder == null) {
+            return;
+        }
+        double farther = 0d;
+        int i = 0;
+        while (i < referenceOrder.length) {
+            double r = referenceDistance[referenceOrder[i]];
+            int j = i;
+            while (j < referenceOrder.length && referenceDistance[referenceOrder[j]] == r) {
+                j++;
+            }
+            if (r != Double.POSITIVE_INFINITY) {
+                double bound = Math.max(2 * r, farther);
+                for (int k = i; k < j; k++) {
+                    int w = referenceOrder[k];
+                    if (!resolved[w] && bound < upper[w]) {
+                        upper[w] = bound;
+                        if (comparator.compare(lower[w], upper[w]) >= 0) {
+                            lower[w] = upper[w];
+                            resolved[w] = true;
+                        }
+                    }
+                }
+            }
+            for (int k = i; k < j; k++) {
+                farther = Math.max(farther, upper[referenceOrder[k]]);
+            }
+            i = j;
+        }
+    }
+
+    private void updateExtremal()
+    {
+        diameter = 0d;
+        radius = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < lower.length; i++) {
+            diameter = Math.max(diameter, lower[i]);
+            radius = Math.min(radius, upper[i]);
+        }
+    }
+
+    private boolean isNeeded(int w, Mode mode)
+    {
+        if (resolved[w]) {
+            return false;
+        }
+        switch (mode) {
+        case VALUES:
+            return comparator.compare(lower[w], radius) < 0
+                || comparator.compare(upper[w], diameter) > 0;
+        case SETS:
+            return comparator.compare(lower[w], radius) <= 0
+                || comparator.compare(upper[w], diameter) >= 0;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Select vertices to search from, alternating between the largest upper bound and the
+     * smallest lower bound.
+     */
+    private List<Integer> select(Mode mode, int count)
+    {
+        List<Integer> selected = new ArrayList<>(count);
+        boolean[] taken = null;
+        for (int k = 0; k < count; k++) {
+            int best = -1;
+            for (int w = 0; w < lower.length; w++) {
+                if (!isNeeded(w, mode) || taken != null && taken[w]) {
+                    continue;
+                }
+                if (best == -1 || isBetter(w, best)) {
+                    best = w;
+                }
+            }
+            if (best == -1) {
+                break;
+            }
+            selected.add(best);
+            if (count > 1) {
+                if (taken == null) {
+                    taken = new boolean[lower.length];
+                }
+                taken[best] = true;
+            }
+            selectLargestUpper = !selectLargestUpper;
+        }
+        return selected;
+    }
+
+    private boolean isBetter(int w, int best)
+    {
+        int c = selectLargestUpper ? Double.compare(upper[w], upper[best])
+            : Double.compare(lower[best], lower[w]);
+        if (c != 0) {
+            return c > 0;
+        }
+        return degree(w) > degree(best);
+    }
+
+    private int degree(int w)
+    {
+        return outOffsets[w + 1] - outOffsets[w] + inOffsets[w + 1] - inOffsets[w];
+    }
+
+    /**
+     * Index the graph into compressed sparse rows format.
+     */
+    private void index()
+    {
+        if (vertices != null) {
+            return;
+        }
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        List<V> vertexList = mapping.getIndexList();
+        int n = vertexList.size();
+        boolean directed = graph.getType().isDirected();
+
+        int m = 0;
+        for (E e : graph.edgeSet()) {
+            double w = graph.getEdgeWeight(e);
+            if (w < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            if (!graph.getEdgeSource(e).equals(graph.getEdgeTarget(e))) {
+                m++;
+            }
+        }
+        int arcs = directed ? m : 2 * m;
+
+        outOffsets = new int[n + 1];
+        outTargets = new int[arcs];
+        outWeights = new double[arcs];
+        unweighted = true;
+        for (int i = 0; i < n; i++) {
+            V v = vertexList.get(i);
+            int pos = outOffsets[i];
+            for (E e : graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                if (u.equals(v)) {
+                    continue;
+                }
+                outTargets[pos] = vertexMap.get(u);
+                outWeights[pos] = graph.getEdgeWeight(e);
+                unweighted &= outWeights[pos] == 1d;
+                pos++;
+            }
+            outOffsets[i + 1] = pos;
+        }
+
+        if (directed) {
+            inOffsets = new int[n + 1];
+            inTargets = new int[arcs];
+            inWeights = new double[arcs];
+            for (int i = 0; i < n; i++) {
+                V v = vertexList.get(i);
+                int pos = inOffsets[i];
+                for (E e : graph.incomingEdgesOf(v)) {
+                    V u = Graphs.getOppositeVertex(graph, e, v);
+                    if (u.equals(v)) {
+                        continue;
+                    }
+                    inTargets[pos] = vertexMap.get(u);
+                    inWeights[pos] = graph.getEdgeWeight(e);
+                    pos++;
+                }
+                inOffsets[i + 1] = pos;
+            }
+        } else {
+            inOffsets = outOffsets;
+            inTargets = outTargets;
+            inWeights = outWeights;
+        }
+
+        lower = new double[n];
+        upper = new double[n];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        resolved = new boolean[n];
+        selectLargestUpper = true;
+        vertices = vertexList;
+    }
+
+    /**
+     * What needs to be computed, each mode implying the previous ones.
+     */
+    private enum Mode
+    {
+        /**
+         * The diameter and the radius, where a vertex is needed if its eccentricity may be larger
+         * than the diameter or smaller than the radius found so far.
+         */
+        VALUES,
+        /**
+         * The center and the periphery, where a vertex is needed if its eccentricity may be equal
+         * to the diameter or the radius.
+         */
+        SETS,
+        /**
+         * The eccentricities of all vertices.
+         */
+        ALL
+    }
+
+    /**
+     * Workspace of a single search, computing the distances from and to a vertex.
+     */
+    private class Search
+    {
+        private final double[] forward;
+        private final double[] backward;
+        private final int[] queue;
+        private final IntDoubleHeap heap;
+        private int source;
+        private double eccentricity;
+
+        Search(int n)
+        {
+            this.forward = new double[n];
+            this.backward = outOffsets == inOffsets ? forward : new double[n];
+            this.queue = unweighted ? new int[n] : null;
+            this.heap = unweighted ? null : new IntDoubleHeap(n);
+        }
+
+        void run(int source)
+        {
+            this.source = source;
+            shortestPaths(source, outOffsets, outTargets, outWeights, forward);
+            if (backward != forward) {
+                shortestPaths(source, inOffsets, inTargets, inWeights, backward);
+            }
+            eccentricity = 0d;
+            for (double d : forward) {
+                eccentricity = Math.max(eccentricity, d);
+            }
+        }
+
+        /**
+         * Use the search as the reference of the upper bound refinement, if the graph is
+         * undirected and the source has the smallest eccentricity found so far.
+         */
+        void updateReference()
+        {
+            if (backward != forward || referenceDistance != null
+                && eccentricity >= referenceEccentricity)
+            {
+                return;
+            }
+            referenceEccentricity = eccentricity;
+            referenceDistance = forward.clone();
+            Integer[] order = new Integer[forward.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(referenceDistance[b], referenceDistance[a]));
+            referenceOrder = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                referenceOrder[i] = order[i];
+            }
+        }
+
+        /**
+         * Update the bounds of all vertices with the result of the search. Must be called by a
+         * single thread.
+         */
+        void updateBounds()
+        {
+            lower[source] = eccentricity;
+            upper[source] = eccentricity;
+            resolved[source] = true;
+            for (int w = 0; w < forward.length; w++) {
+                if (resolved[w]) {
+                    continue;
+                }
+                // d(w,v) <= ecc(w) and d(v,x) <= d(v,w) + d(w,x)
+                double l = backward[w];
+                if (forward[w] != Double.POSITIVE_INFINITY) {
+                    l = Math.max(l, eccentricity - forward[w]);
+                }
+                lower[w] = Math.max(lower[w], l);
+                // d(w,x) <= d(w,v) + d(v,x)
+                upper[w] = Math.min(upper[w], backward[w] + eccentricity);
+                if (comparator.compare(lower[w], upper[w]) >= 0) {
+                    lower[w] = upper[w];
+                    resolved[w] = true;
+                }
+            }
+        }
+
+        private void shortestPaths(
+            int s, int[] offsets, int[] targets, double[] weights, double[] distance)
+        {
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            distance[s] = 0d;
+            if (unweighted) {
+                int head = 0;
+                int tail = 0;
+                queue[tail++] = s;
+                while (head < tail) {
+                    int v = queue[head++];
+                    double d = distance[v] + 1d;
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        int u = targets[i];
+                        if (distance[u] == Double.POSITIVE_INFINITY) {
+                            distance[u] = d;
+                            queue[tail++] = u;
+                        }
+                    }
+                }
+            } else {
+                heap.clear();
+                heap.insert(s, 0d);
+                while (!heap.isEmpty()) {
+                    int v = heap.deleteMin();
+                    double d = distance[v];
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        int u = targets[i];
+                        double du = d + weights[i];
+                        if (du < distance[u]) {
+                            distance[u] = du;
+                            if (heap.contains(u)) {
+                                heap.decreaseKey(u, du);
+                            } else {
+                                heap.insert(u, du);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+}
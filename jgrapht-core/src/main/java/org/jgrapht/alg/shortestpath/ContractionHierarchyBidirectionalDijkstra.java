@@ -66,7 +66,8 @@ import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
  * <p>
  * There is a possibility to provide an already computed contraction for the graph. For now there is no means
  * to ensure that the specified contraction is correct, nor to fail-fast. If algorithm uses an incorrect
- * contraction, the results of the search are unpredictable.
+ * contraction, the results of the search are unpredictable. A hierarchy loaded with
+ * {@link ContractionHierarchyIO} is at least checked to belong to the same graph.
  *
  * <p>
  * Comparing to usual shortest path algorithm, as {@link DijkstraShortestPath}, {@link AStarShortestPath},
@@ -112,6 +113,15 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
      */
     private double radius;
 
+    /**
+     * One-to-all queries on the hierarchy, created on demand by {@link #getPaths(Object)}.
+     */
+    private PHASTShortestPaths<V, E> phast;
+    /**
+     * Modification count of the hierarchy when {@link #phast} was created.
+     */
+    private int phastModificationCount;
+
     /**
      * Constructs a new instance of the algorithm for a given {@code graph}.
      *
@@ -274,6 +284,29 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Unless a radius is specified, the paths are computed with {@link PHASTShortestPaths}
+     * instead of a separate query for each vertex.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (radius != Double.POSITIVE_INFINITY) {
+            return super.getPaths(source);
+        }
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (phast == null || phastModificationCount != contractionHierarchy.modificationCount) {
+            phast = new PHASTShortestPaths<>(contractionHierarchy);
+            phastModificationCount = contractionHierarchy.modificationCount;
+        }
+        return phast.getPaths(source);
+    }
+
     /**
      * Builds shortest unpacked path between {@code source} and {@code sink} based on the
      * information provided by search frontiers and common vertex.
@@ -0,0 +1,329 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+
+/**
+ * Persistence of a {@link ContractionHierarchy} in a compact binary format.
+ *
+ * <p>
+ * Computing a contraction hierarchy with {@link ContractionHierarchyPrecomputation} is expensive
+ * on large graphs. This class stores the result, that is the contraction level of each vertex,
+ * the edges of the contraction graph together with their weights and the pair of bypassed edges of
+ * each shortcut, so that it can be loaded on a later run and passed directly to
+ * {@link ContractionHierarchyBidirectionalDijkstra}, {@link CHManyToManyShortestPaths} or
+ * {@link TransitNodeRoutingPrecomputation}.
+ *
+ * <p>
+ * Vertices and edges of the original graph are stored by their position in the iteration order of
+ * {@link Graph#vertexSet()} and {@link Graph#edgeSet()}. Therefore, the graph used when loading a
+ * hierarchy must be constructed in the same way as the graph it was computed on. To detect stale
+ * hierarchies, the file contains a hash of the graph which is computed from the graph type, the
+ * hash codes of the vertices in iteration order, and the endpoints and weight of each edge in
+ * iteration order. Loading fails if the hash of the provided graph differs. Note that vertex hash
+ * codes need to be stable across runs, which is the case for strings, numbers and most value
+ * types but not for classes relying on identity hash codes.
+ *
+ * @author JGraphT Contributors
+ */
+public final class ContractionHierarchyIO
+{
+    private static final int MAGIC = 0x4a474348; // "JGCH"
+    private static final int VERSION = 1;
+
+    private static final byte ORIGINAL_EDGE = 0;
+    private static final byte SHORTCUT_EDGE = 1;
+
+    private ContractionHierarchyIO()
+    {
+    }
+
+    /**
+     * Write a contraction hierarchy to a file.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void write(ContractionHierarchy<V, E> hierarchy, Path file)
+        throws IOException
+    {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(hierarchy, out);
+        }
+    }
+
+    /**
+     * Write a contraction hierarchy to an output stream. The stream is not closed.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param out the output stream
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void write(ContractionHierarchy<V, E> hierarchy, OutputStream out)
+        throws IOException
+    {
+        Graph<V, E> graph = hierarchy.getGraph();
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            hierarchy.getContractionGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = hierarchy.getContractionMapping();
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(computeGraphHash(graph));
+
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        data.writeInt(graph.vertexSet().size());
+        for (V v : graph.vertexSet()) {
+            vertexIndex.put(v, vertexIndex.size());
+            ContractionVertex<V> contractionVertex = contractionMapping.get(v);
+            data.writeInt(contractionVertex.vertexId);
+            data.writeInt(contractionVertex.contractionLevel);
+        }
+
+        Map<E, Integer> edgeIndex = new HashMap<>();
+        for (E e : graph.edgeSet()) {
+            edgeIndex.put(e, edgeIndex.size());
+        }
+
+        // shortcuts refer to their bypassed edges, which are written first
+        Map<ContractionEdge<E>, Integer> written = new IdentityHashMap<>();
+        data.writeInt(contractionGraph.edgeSet().size());
+        Deque<ContractionEdge<E>> stack = new ArrayDeque<>();
+        for (ContractionEdge<E> root : contractionGraph.edgeSet()) {
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                ContractionEdge<E> e = stack.peek();
+                if (written.containsKey(e)) {
+                    stack.pop();
+                    continue;
+                }
+                Pair<ContractionEdge<E>, ContractionEdge<E>> bypassed = e.bypassedEdges;
+                if (bypassed != null) {
+                    boolean pending = false;
+                    if (!written.containsKey(bypassed.getSecond())) {
+                        stack.push(bypassed.getSecond());
+                        pending = true;
+                    }
+                    if (!written.containsKey(bypassed.getFirst())) {
+                        stack.push(bypassed.getFirst());
+                        pending = true;
+                    }
+                    if (pending) {
+                        continue;
+                    }
+                }
+                stack.pop();
+                written.put(e, written.size());
+
+                data.writeInt(vertexIndex.get(contractionGraph.getEdgeSource(e).vertex));
+                data.writeInt(vertexIndex.get(contractionGraph.getEdgeTarget(e).vertex));
+                data.writeDouble(contractionGraph.getEdgeWeight(e));
+                data.writeBoolean(e.isUpward);
+                data.writeInt(e.originalEdges);
+                if (bypassed == null) {
+                    data.writeByte(ORIGINAL_EDGE);
+                    data.writeInt(edgeIndex.get(e.edge));
+                } else {
+                    data.writeByte(SHORTCUT_EDGE);
+                    data.writeInt(written.get(bypassed.getFirst()));
+                    data.writeInt(written.get(bypassed.getSecond()));
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Read a contraction hierarchy of a graph from a file.
+     *
+     * @param graph the graph the hierarchy was computed on
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error or if the file is not a valid contraction
+     *         hierarchy file
+     * @throws IllegalArgumentException if the hierarchy was computed on a different graph
+     */
+    public static <V, E> ContractionHierarchy<V, E> read(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(graph, in);
+        }
+    }
+
+    /**
+     * Read a contraction hierarchy of a graph from an input stream. The stream is not closed.
+     *
+     * @param graph the graph the hierarchy was computed on
+     * @param in the input stream
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error or if the stream does not contain a valid
+     *         contraction hierarchy
+     * @throws IllegalArgumentException if the hierarchy was computed on a different graph
+     */
+    public static <V, E> ContractionHierarchy<V, E> read(Graph<V, E> graph, InputStream in)
+        throws IOException
+    {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a contraction hierarchy file");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported contraction hierarchy version: " + version);
+        }
+        if (data.readLong() != computeGraphHash(graph)) {
+            throw new IllegalArgumentException(
+                "Contraction hierarchy was computed on a different graph");
+        }
+
+        int n = data.readInt();
+        if (n != graph.vertexSet().size()) {
+            throw new IOException("Invalid number of vertices: " + n);
+        }
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+        List<ContractionVertex<V>> vertices = new ArrayList<>(n);
+        for (V v : graph.vertexSet()) {
+            ContractionVertex<V> contractionVertex = new ContractionVertex<>(v, data.readInt());
+            contractionVertex.contractionLevel = data.readInt();
+            vertices.add(contractionVertex);
+            contractionGraph.addVertex(contractionVertex);
+            contractionMapping.put(v, contractionVertex);
+        }
+
+        List<E> originalEdges = new ArrayList<>(graph.edgeSet());
+        int m = data.readInt();
+        List<ContractionEdge<E>> edges = new ArrayList<>(m);
+        for (int i = 0; i < m; i++) {
+            ContractionVertex<V> source = vertices.get(readIndex(data, n));
+            ContractionVertex<V> target = vertices.get(readIndex(data, n));
+            double weight = data.readDouble();
+            boolean isUpward = data.readBoolean();
+            int numOfOriginalEdges = data.readInt();
+
+            ContractionEdge<E> e;
+            byte kind = data.readByte();
+            if (kind == ORIGINAL_EDGE) {
+                e = new ContractionEdge<>(originalEdges.get(readIndex(data, originalEdges.size())));
+            } else if (kind == SHORTCUT_EDGE) {
+                ContractionEdge<E> first = edges.get(readIndex(data, i));
+                ContractionEdge<E> second = edges.get(readIndex(data, i));
+                e = new ContractionEdge<>(Pair.of(first, second));
+            } else {
+                throw new IOException("Invalid edge kind: " + kind);
+            }
+            e.isUpward = isUpward;
+            e.originalEdges = numOfOriginalEdges;
+
+            if (!contractionGraph.addEdge(source, target, e)) {
+                throw new IOException("Duplicate contraction edge");
+            }
+            contractionGraph.setEdgeWeight(e, weight);
+            edges.add(e);
+        }
+
+        return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+    }
+
+    /**
+     * Compute the hash of a graph which is stored together with its contraction hierarchy. The
+     * hash depends on the graph type, the hash codes of the vertices and the endpoints and weights
+     * of the edges, all in iteration order.
+     *
+     * @param graph the graph
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the hash of the graph
+     */
+    public static <V, E> long computeGraphHash(Graph<V, E> graph)
+    {
+        long hash = mix(graph.getType().isDirected() ? 1 : 2);
+        hash = mix(hash ^ graph.vertexSet().size());
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            vertexIndex.put(v, vertexIndex.size());
+            hash = mix(hash ^ v.hashCode());
+        }
+        hash = mix(hash ^ graph.edgeSet().size());
+        for (E e : graph.edgeSet()) {
+            hash = mix(hash ^ vertexIndex.get(graph.getEdgeSource(e)));
+            hash = mix(hash ^ vertexIndex.get(graph.getEdgeTarget(e)));
+            hash = mix(hash ^ Double.doubleToLongBits(graph.getEdgeWeight(e)));
+        }
+        return hash;
+    }
+
+    /**
+     * The finalization step of the SplitMix64 generator.
+     */
+    private static long mix(long x)
+    {
+        x += 0x9e3779b97f4a7c15L;
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    private static int readIndex(DataInputStream data, int bound)
+        throws IOException
+    {
+        int index = data.readInt();
+        if (index < 0 || index >= bound) {
+            throw new IOException("Invalid index: " + index);
+        }
+        return index;
+    }
+
+}
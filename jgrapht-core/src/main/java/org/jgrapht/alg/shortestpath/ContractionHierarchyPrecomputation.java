@@ -965,7 +965,8 @@ public class ContractionHierarchyPrecomputation<V, E>
 
     /**
      * Return type of this algorithm. Contains {@code contractionGraph} and
-     * {@code contractionMapping}.
+     * {@code contractionMapping}. A computed hierarchy can be stored and loaded on a later run
+     * using {@link ContractionHierarchyIO}.
      *
      * @param <V> the graph vertex type
      * @param <E> the graph edge type
@@ -985,6 +986,11 @@ public class ContractionHierarchyPrecomputation<V, E>
          * hierarchy graph.
          */
         private Map<V, ContractionVertex<V>> contractionMapping;
+        /**
+         * Number of modifications of the hierarchy after its construction. Allows data derived
+         * from the hierarchy to detect that it is out of date.
+         */
+        int modificationCount;
 
         /**
          * Returns the underlying graph of this contraction hierarchy.
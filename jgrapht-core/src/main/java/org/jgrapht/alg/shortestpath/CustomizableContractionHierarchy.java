@@ -0,0 +1,635 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+
+/**
+ * Customizable contraction hierarchy, which separates the metric independent preprocessing from
+ * the edge weights.
+ *
+ * <p>
+ * The technique is described in the article: Julian Dibbelt, Ben Strasser, and Dorothea Wagner.
+ * 2016. Customizable Contraction Hierarchies. ACM J. Exp. Algorithmics 21, Article 1.5.
+ *
+ * <p>
+ * Contrary to {@link ContractionHierarchyPrecomputation}, which uses witness searches and thus
+ * depends on the edge weights, the contraction order and the shortcuts are computed only once from
+ * the structure of the graph. Contracting a vertex connects all its remaining neighbours with
+ * shortcuts, regardless of weights. The weights of the shortcuts are computed afterwards by the
+ * customization phase, which for every pair of vertices $x, y$ connected in the hierarchy takes
+ * the minimum over the original edges $(x, y)$ and the lower triangles $\langle x, z, y\rangle$
+ * where $z$ was contracted before both $x$ and $y$. Customization processes the vertices by
+ * their level in the elimination tree and the vertices of each level in parallel, which takes
+ * time linear in the number of triangles of the hierarchy. New edge weights are applied with
+ * {@link #customize(Map)}.
+ *
+ * <p>
+ * By default the contraction order is computed with the minimum degree heuristic on the
+ * underlying undirected graph. The quality of the hierarchy, that is the number of shortcuts,
+ * depends heavily on the order, thus on road networks an order computed by nested dissection
+ * should be provided when available.
+ *
+ * <p>
+ * The result is exposed as a {@link ContractionHierarchy} with {@link #getContractionHierarchy()},
+ * thus {@link ContractionHierarchyBidirectionalDijkstra} and {@link CHManyToManyShortestPaths}
+ * can be used for queries. Each customization updates the contraction hierarchy in place, so that
+ * existing query algorithms observe the new weights. Queries must not run concurrently with a
+ * customization. Edge weights given to {@link #customize(Map)} are used only by the hierarchy,
+ * the graph itself is not modified.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author JGraphT Contributors
+ */
+public class CustomizableContractionHierarchy<V, E>
+{
+    /**
+     * Levels of the elimination tree with less vertices are customized sequentially.
+     */
+    private static final int MIN_PARALLEL_LEVEL_SIZE = 64;
+
+    private final Graph<V, E> graph;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Original vertices in contraction order.
+     */
+    private final List<V> vertices;
+    /**
+     * Original edges, the position of an edge is its index.
+     */
+    private final List<E> edges;
+    private final Map<E, Integer> edgeIndex;
+    /**
+     * Current weight of each original edge.
+     */
+    private final double[] edgeWeights;
+    /**
+     * The arc of each original edge, $-1$ for self-loops.
+     */
+    private final int[] edgeArc;
+    /**
+     * Whether each original edge has the direction from the lower to the higher vertex of its arc.
+     */
+    private final boolean[] edgeUpward;
+
+    /**
+     * Arcs of the hierarchy, grouped by their lower vertex in compressed sparse rows format. Arc
+     * $a$ connects the lower vertex $x$, where $upOffsets[x] \le a &lt; upOffsets[x+1]$, with the
+     * higher vertex $upTargets[a]$. Targets of each row are sorted.
+     */
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    /**
+     * For each vertex $x$, the vertices $z$ lower than $x$ which are connected with $x$ together
+     * with the corresponding arcs.
+     */
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final int[] downArcs;
+    /**
+     * Vertices grouped by their level in the elimination tree.
+     */
+    private final int[] levelOffsets;
+    private final int[] levelVertices;
+
+    /**
+     * Customized weights and unpacking information of each arc in both directions. The middle
+     * vertex is $-1$ if the arc is realized by an original edge.
+     */
+    private final double[] upWeight;
+    private final double[] downWeight;
+    private final int[] upMiddle;
+    private final int[] downMiddle;
+    private final int[] upEdge;
+    private final int[] downEdge;
+
+    private final ContractionHierarchy<V, E> contractionHierarchy;
+    private final List<ContractionEdge<E>> upContractionEdges;
+    private final List<ContractionEdge<E>> downContractionEdges;
+
+    /**
+     * Constructs a new instance for the given {@code graph}, computes the contraction order using
+     * the minimum degree heuristic and customizes it with the weights of the graph. It is up to a
+     * user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param executor executor which will be used for parallelization
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public CustomizableContractionHierarchy(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, null, executor);
+    }
+
+    /**
+     * Constructs a new instance for the given {@code graph} and contraction order and customizes
+     * it with the weights of the graph. The order usually comes from a nested dissection of the
+     * graph. It is up to a user of this algorithm to handle the creation and termination of the
+     * provided {@code executor}.
+     *
+     * @param graph graph
+     * @param order all vertices of the graph in contraction order, or null to use the minimum
+     *        degree heuristic
+     * @param executor executor which will be used for parallelization
+     * @throws IllegalArgumentException if the order is not a permutation of the vertices of the
+     *         graph or if the graph contains negative edge weights
+     */
+    public CustomizableContractionHierarchy(
+        Graph<V, E> graph, List<V> order, ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph);
+        this.executor = Objects.requireNonNull(executor);
+
+        int n = graph.vertexSet().size();
+        List<V> graphVertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> graphIndex = new HashMap<>();
+        for (V v : graphVertices) {
+            graphIndex.put(v, graphIndex.size());
+        }
+
+        // undirected skeleton without self-loops and multiple edges
+        int[] degree = new int[n];
+        for (E e : graph.edgeSet()) {
+            int s = graphIndex.get(graph.getEdgeSource(e));
+            int t = graphIndex.get(graph.getEdgeTarget(e));
+            if (s != t) {
+                degree[s]++;
+                degree[t]++;
+            }
+        }
+        int[][] adjacency = new int[n][];
+        for (int v = 0; v < n; v++) {
+            adjacency[v] = new int[degree[v]];
+            degree[v] = 0;
+        }
+        for (E e : graph.edgeSet()) {
+            int s = graphIndex.get(graph.getEdgeSource(e));
+            int t = graphIndex.get(graph.getEdgeTarget(e));
+            if (s != t) {
+                adjacency[s][degree[s]++] = t;
+                adjacency[t][degree[t]++] = s;
+            }
+        }
+        int[] seenBy = new int[n];
+        Arrays.fill(seenBy, -1);
+        for (int v = 0; v < n; v++) {
+            int d = 0;
+            for (int i = 0; i < degree[v]; i++) {
+                int u = adjacency[v][i];
+                if (seenBy[u] != v) {
+                    seenBy[u] = v;
+                    adjacency[v][d++] = u;
+                }
+            }
+            degree[v] = d;
+        }
+
+        // eliminate vertices, the remaining neighbours of a vertex become its upward arcs
+        int[] eliminationOrder = new int[n];
+        if (order != null) {
+            Set<V> seen = new HashSet<>();
+            int i = 0;
+            for (V v : order) {
+                Integer index = graphIndex.get(v);
+                if (index == null || !seen.add(v) || i >= n) {
+                    throw new IllegalArgumentException(
+                        "Order must be a permutation of the graph vertices");
+                }
+                eliminationOrder[i++] = index;
+            }
+            if (i != n) {
+                throw new IllegalArgumentException(
+                    "Order must be a permutation of the graph vertices");
+            }
+        }
+        int[][] upNeighbours = eliminate(adjacency, degree, eliminationOrder, order == null);
+        int[] rank = new int[n];
+        this.vertices = new ArrayList<>(n);
+        for (int r = 0; r < n; r++) {
+            rank[eliminationOrder[r]] = r;
+            vertices.add(graphVertices.get(eliminationOrder[r]));
+        }
+
+        this.upOffsets = new int[n + 1];
+        for (int r = 0; r < n; r++) {
+            int[] up = upNeighbours[eliminationOrder[r]];
+            for (int i = 0; i < up.length; i++) {
+                up[i] = rank[up[i]];
+            }
+            Arrays.sort(up);
+            upOffsets[r + 1] = upOffsets[r] + up.length;
+        }
+        int arcs = upOffsets[n];
+        this.upTargets = new int[arcs];
+        for (int r = 0; r < n; r++) {
+            int[] up = upNeighbours[eliminationOrder[r]];
+            System.arraycopy(up, 0, upTargets, upOffsets[r], up.length);
+        }
+
+        this.downOffsets = new int[n + 1];
+        for (int a = 0; a < arcs; a++) {
+            downOffsets[upTargets[a] + 1]++;
+        }
+        for (int r = 0; r < n; r++) {
+            downOffsets[r + 1] += downOffsets[r];
+        }
+        this.downSources = new int[arcs];
+        this.downArcs = new int[arcs];
+        int[] position = Arrays.copyOf(downOffsets, n);
+        int[] level = new int[n];
+        int levels = n == 0 ? 0 : 1;
+        for (int x = 0; x < n; x++) {
+            for (int a = upOffsets[x]; a < upOffsets[x + 1]; a++) {
+                int y = upTargets[a];
+                int p = position[y]++;
+                downSources[p] = x;
+                downArcs[p] = a;
+                level[y] = Math.max(level[y], level[x] + 1);
+                levels = Math.max(levels, level[y] + 1);
+            }
+        }
+        this.levelOffsets = new int[levels + 1];
+        for (int x = 0; x < n; x++) {
+            levelOffsets[level[x] + 1]++;
+        }
+        for (int l = 0; l < levels; l++) {
+            levelOffsets[l + 1] += levelOffsets[l];
+        }
+        this.levelVertices = new int[n];
+        int[] levelPosition = Arrays.copyOf(levelOffsets, levels);
+        for (int x = 0; x < n; x++) {
+            levelVertices[levelPosition[level[x]]++] = x;
+        }
+
+        // original edges
+        this.edges = new ArrayList<>(graph.edgeSet());
+        this.edgeIndex = new HashMap<>();
+        this.edgeWeights = new double[edges.size()];
+        this.edgeArc = new int[edges.size()];
+        this.edgeUpward = new boolean[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            E e = edges.get(i);
+            edgeIndex.put(e, i);
+            edgeWeights[i] = checkWeight(graph.getEdgeWeight(e));
+            int s = rank[graphIndex.get(graph.getEdgeSource(e))];
+            int t = rank[graphIndex.get(graph.getEdgeTarget(e))];
+            if (s == t) {
+                edgeArc[i] = -1;
+            } else {
+                edgeArc[i] = findArc(Math.min(s, t), Math.max(s, t));
+                edgeUpward[i] = s < t;
+            }
+        }
+
+        this.upWeight = new double[arcs];
+        this.downWeight = new double[arcs];
+        this.upMiddle = new int[arcs];
+        this.downMiddle = new int[arcs];
+        this.upEdge = new int[arcs];
+        this.downEdge = new int[arcs];
+
+        // contraction hierarchy with all vertices, edges are added during customization
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+        List<ContractionVertex<V>> contractionVertices = new ArrayList<>(n);
+        for (int x = 0; x < n; x++) {
+            ContractionVertex<V> vertex = new ContractionVertex<>(vertices.get(x), x);
+            vertex.contractionLevel = x;
+            contractionVertices.add(vertex);
+        }
+        for (V v : graphVertices) {
+            ContractionVertex<V> vertex = contractionVertices.get(rank[graphIndex.get(v)]);
+            contractionGraph.addVertex(vertex);
+            contractionMapping.put(v, vertex);
+        }
+        this.contractionHierarchy =
+            new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+        this.upContractionEdges = new ArrayList<>(arcs);
+        this.downContractionEdges = new ArrayList<>(arcs);
+        for (int a = 0; a < arcs; a++) {
+            ContractionEdge<E> up = new ContractionEdge<>((E) null);
+            up.isUpward = true;
+            upContractionEdges.add(up);
+            ContractionEdge<E> down = new ContractionEdge<>((E) null);
+            down.isUpward = false;
+            downContractionEdges.add(down);
+        }
+
+        customize();
+    }
+
+    /**
+     * Returns the contraction hierarchy, which reflects the most recent customization.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> getContractionHierarchy()
+    {
+        return contractionHierarchy;
+    }
+
+    /**
+     * Returns the number of arcs of the hierarchy, that is the number of pairs of vertices which
+     * are connected by original edges or shortcuts. The number depends only on the contraction
+     * order.
+     *
+     * @return the number of arcs
+     */
+    public int getNumberOfArcs()
+    {
+        return upTargets.length;
+    }
+
+    /**
+     * Changes the weights of some edges and customizes the hierarchy. Edges not contained in the
+     * map keep their previous weight.
+     *
+     * @param weights the new edge weights
+     * @throws IllegalArgumentException if an edge is not contained in the graph or a weight is
+     *         negative
+     */
+    public void customize(Map<E, Double> weights)
+    {
+        for (Map.Entry<E, Double> entry : weights.entrySet()) {
+            if (edgeIndex.get(entry.getKey()) == null) {
+                throw new IllegalArgumentException("no such edge in graph: " + entry.getKey());
+            }
+            checkWeight(entry.getValue());
+        }
+        for (Map.Entry<E, Double> entry : weights.entrySet()) {
+            edgeWeights[edgeIndex.get(entry.getKey())] = entry.getValue();
+        }
+        customize();
+    }
+
+    /**
+     * Customizes the hierarchy using the current edge weights.
+     */
+    private void customize()
+    {
+        Arrays.fill(upWeight, Double.POSITIVE_INFINITY);
+        Arrays.fill(downWeight, Double.POSITIVE_INFINITY);
+        Arrays.fill(upMiddle, -1);
+        Arrays.fill(downMiddle, -1);
+        Arrays.fill(upEdge, -1);
+        Arrays.fill(downEdge, -1);
+
+        // original edges, keep the lightest of parallel edges
+        boolean undirected = graph.getType().isUndirected();
+        for (int i = 0; i < edgeArc.length; i++) {
+            int a = edgeArc[i];
+            if (a < 0) {
+                continue;
+            }
+            double w = edgeWeights[i];
+            if ((edgeUpward[i] || undirected) && w < upWeight[a]) {
+                upWeight[a] = w;
+                upEdge[a] = i;
+            }
+            if ((!edgeUpward[i] || undirected) && w < downWeight[a]) {
+                downWeight[a] = w;
+                downEdge[a] = i;
+            }
+        }
+
+        // lower triangles, level by level
+        for (int l = 0; l + 1 < levelOffsets.length; l++) {
+            int from = levelOffsets[l];
+            int to = levelOffsets[l + 1];
+            int tasks =
+                Math.min(executor.getMaximumPoolSize(), (to - from) / MIN_PARALLEL_LEVEL_SIZE);
+            if (tasks <= 1) {
+                customizeVertices(from, to);
+            } else {
+                CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+                for (int t = 0; t < tasks; t++) {
+                    int taskFrom = from + (int) ((long) (to - from) * t / tasks);
+                    int taskTo = from + (int) ((long) (to - from) * (t + 1) / tasks);
+                    futures[t] = CompletableFuture
+                        .runAsync(() -> customizeVertices(taskFrom, taskTo), executor);
+                }
+                CompletableFuture.allOf(futures).join();
+            }
+        }
+
+        // update the contraction graph, arcs are visited bottom-up
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            contractionHierarchy.getContractionGraph();
+        List<ContractionVertex<V>> contractionVertices = new ArrayList<>(vertices.size());
+        for (V v : vertices) {
+            contractionVertices.add(contractionHierarchy.getContractionMapping().get(v));
+        }
+        for (int x = 0; x < vertices.size(); x++) {
+            ContractionVertex<V> lower = contractionVertices.get(x);
+            for (int a = upOffsets[x]; a < upOffsets[x + 1]; a++) {
+                ContractionVertex<V> higher = contractionVertices.get(upTargets[a]);
+                updateContractionEdge(
+                    contractionGraph, upContractionEdges.get(a), lower, higher, upWeight[a],
+                    upEdge[a], upMiddle[a] < 0 ? null
+                        : Pair.of(
+                            downContractionEdges.get(findArc(upMiddle[a], x)),
+                            upContractionEdges.get(findArc(upMiddle[a], upTargets[a]))));
+                updateContractionEdge(
+                    contractionGraph, downContractionEdges.get(a), higher, lower, downWeight[a],
+                    downEdge[a], downMiddle[a] < 0 ? null
+                        : Pair.of(
+                            downContractionEdges.get(findArc(downMiddle[a], upTargets[a])),
+                            upContractionEdges.get(findArc(downMiddle[a], x))));
+            }
+        }
+        contractionHierarchy.modificationCount++;
+    }
+
+    /**
+     * Computes the final weights of the upward arcs of the vertices in
+     * $levelVertices[from, to)$ using the lower triangles. The arcs of lower vertices must be
+     * final.
+     */
+    private void customizeVertices(int from, int to)
+    {
+        for (int i = from; i < to; i++) {
+            int x = levelVertices[i];
+            for (int p = downOffsets[x]; p < downOffsets[x + 1]; p++) {
+                int z = downSources[p];
+                int zx = downArcs[p];
+                // the higher neighbours of z form a clique, visit those higher than x
+                int end = upOffsets[z + 1];
+                int zy = Arrays.binarySearch(upTargets, upOffsets[z], end, x) + 1;
+                for (; zy < end; zy++) {
+                    int a = findArc(x, upTargets[zy]);
+                    double up = downWeight[zx] + upWeight[zy];
+                    if (up < upWeight[a]) {
+                        upWeight[a] = up;
+                        upMiddle[a] = z;
+                        upEdge[a] = -1;
+                    }
+                    double down = downWeight[zy] + upWeight[zx];
+                    if (down < downWeight[a]) {
+                        downWeight[a] = down;
+                        downMiddle[a] = z;
+                        downEdge[a] = -1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds, updates or removes an edge of the contraction graph according to its customized
+     * weight.
+     */
+    private void updateContractionEdge(
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph, ContractionEdge<E> e,
+        ContractionVertex<V> source, ContractionVertex<V> target, double weight, int originalEdge,
+        Pair<ContractionEdge<E>, ContractionEdge<E>> bypassedEdges)
+    {
+        if (weight == Double.POSITIVE_INFINITY) {
+            contractionGraph.removeEdge(e);
+            return;
+        }
+        if (bypassedEdges == null) {
+            e.edge = edges.get(originalEdge);
+            e.bypassedEdges = null;
+            e.originalEdges = 1;
+        } else {
+            e.edge = null;
+            e.bypassedEdges = bypassedEdges;
+            e.originalEdges =
+                bypassedEdges.getFirst().originalEdges + bypassedEdges.getSecond().originalEdges;
+        }
+        contractionGraph.addEdge(source, target, e);
+        contractionGraph.setEdgeWeight(e, weight);
+    }
+
+    /**
+     * Finds the arc between a lower vertex $x$ and a higher vertex $y$.
+     */
+    private int findArc(int x, int y)
+    {
+        return Arrays.binarySearch(upTargets, upOffsets[x], upOffsets[x + 1], y);
+    }
+
+    private static double checkWeight(double weight)
+    {
+        if (weight < 0d) {
+            throw new IllegalArgumentException("Negative edge weight not allowed");
+        }
+        return weight;
+    }
+
+    /**
+     * Eliminates the vertices of the undirected graph, connecting the remaining neighbours of each
+     * eliminated vertex. The order is either given or computed with the minimum degree heuristic
+     * and written to {@code order}. The adjacency arrays, whose first {@code degree[v]} entries are
+     * the neighbours of each vertex $v$, are consumed.
+     *
+     * @return the neighbours of each vertex at the time it was eliminated
+     */
+    private static int[][] eliminate(
+        int[][] adjacency, int[] degree, int[] order, boolean minimumDegree)
+    {
+        int n = adjacency.length;
+        int[][] up = new int[n][];
+        PriorityQueue<Long> queue = null;
+        if (minimumDegree) {
+            queue = new PriorityQueue<>();
+            for (int v = 0; v < n; v++) {
+                queue.add(key(degree[v], v));
+            }
+        }
+        int[] mark = new int[n];
+        int stamp = 0;
+        for (int next = 0; next < n; next++) {
+            int v;
+            if (minimumDegree) {
+                long key;
+                do {
+                    key = queue.poll();
+                    v = (int) key;
+                } while (up[v] != null || (int) (key >>> 32) != degree[v]);
+                order[next] = v;
+            } else {
+                v = order[next];
+            }
+
+            int dv = degree[v];
+            int[] neighbours = Arrays.copyOf(adjacency[v], dv);
+            up[v] = neighbours;
+            for (int u : neighbours) {
+                // the neighbours of u become (N(u) + N(v)) - {u, v}
+                stamp++;
+                int[] uNeighbours = adjacency[u];
+                int du = 0;
+                for (int i = 0; i < degree[u]; i++) {
+                    int w = uNeighbours[i];
+                    if (w != v) {
+                        uNeighbours[du++] = w;
+                        mark[w] = stamp;
+                    }
+                }
+                mark[u] = stamp;
+                if (uNeighbours.length < du + dv) {
+                    uNeighbours = Arrays.copyOf(uNeighbours, Math.max(du + dv, 2 * du));
+                    adjacency[u] = uNeighbours;
+                }
+                for (int w : neighbours) {
+                    if (mark[w] != stamp) {
+                        uNeighbours[du++] = w;
+                    }
+                }
+                degree[u] = du;
+                if (minimumDegree) {
+                    queue.add(key(du, u));
+                }
+            }
+            adjacency[v] = null;
+        }
+        return up;
+    }
+
+    private static long key(int degree, int v)
+    {
+        return ((long) degree << 32) | v;
+    }
+
+}
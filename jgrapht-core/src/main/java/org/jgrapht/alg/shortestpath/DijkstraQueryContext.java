@@ -0,0 +1,317 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A reusable context for answering many Dijkstra shortest path queries on the same graph.
+ *
+ * <p>
+ * {@link DijkstraShortestPath} allocates a heap, a map of heap handles and a map entry per touched
+ * vertex on every query. This class instead indexes the graph once during construction, storing
+ * its adjacency in compressed sparse rows format, and keeps the distance and predecessor arrays and
+ * an {@link IntDoubleHeap} across queries. Each query increments a version number and a vertex is
+ * considered reached only if its stamp equals the current version, thus the arrays are never
+ * cleared and the cost of a query is proportional to the number of vertices and edges it touches.
+ * After the first query, {@link #getPathWeight(Object, Object)} performs no allocations, while
+ * {@link #getPath(Object, Object)} only allocates the returned path.
+ *
+ * <p>
+ * The graph is indexed during construction, so later changes of the graph, including changes of
+ * edge weights, are not visible to the context. Vertices of an {@link IntGraph} are used directly
+ * as indices, while vertices of any other graph are mapped using a {@link VertexToIntegerMapping}.
+ *
+ * <p>
+ * The context is not thread-safe. A service answering queries from many threads should create one
+ * context per thread, for example using a {@link ThreadLocal}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ */
+public final class DijkstraQueryContext<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertexList;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final E[] edges;
+
+    private final IntDoubleHeap heap;
+    private final double[] distance;
+    private final int[] parent;
+    private final int[] parentSlot;
+    private final int[] stamp;
+    private int version;
+
+    /**
+     * Constructs a new context for a given graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @SuppressWarnings("unchecked")
+    public DijkstraQueryContext(Graph<V, E> graph)
+    {
+        super(graph);
+
+        int n = graph.vertexSet().size();
+        if (graph instanceof IntGraph) {
+            this.vertexMap = null;
+            this.vertexList = null;
+        } else {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.vertexMap = mapping.getVertexMap();
+            this.vertexList = mapping.getIndexList();
+        }
+
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            // the degree of an undirected graph counts self-loops twice
+            offsets[i + 1] = offsets[i] + graph.outgoingEdgesOf(vertexAt(i)).size();
+        }
+        int m = offsets[n];
+        this.targets = new int[m];
+        this.weights = new double[m];
+        this.edges = (E[]) new Object[m];
+        for (int i = 0, slot = 0; i < n; i++) {
+            V v = vertexAt(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                targets[slot] = indexOf(Graphs.getOppositeVertex(graph, e, v));
+                weights[slot] = w;
+                edges[slot] = e;
+                slot++;
+            }
+        }
+
+        this.heap = new IntDoubleHeap(n);
+        this.distance = new double[n];
+        this.parent = new int[n];
+        this.parentSlot = new int[n];
+        this.stamp = new int[n];
+        this.version = 0;
+    }
+
+    /**
+     * Constructs a new context which shares the graph index of another context but has its own
+     * query state. Creating such a context is much cheaper than indexing the graph again.
+     *
+     * @param other the context whose graph index is shared
+     */
+    DijkstraQueryContext(DijkstraQueryContext<V, E> other)
+    {
+        super(other.graph);
+        this.vertexMap = other.vertexMap;
+        this.vertexList = other.vertexList;
+        this.offsets = other.offsets;
+        this.targets = other.targets;
+        this.weights = other.weights;
+        this.edges = other.edges;
+
+        int n = other.distance.length;
+        this.heap = new IntDoubleHeap(n);
+        this.distance = new double[n];
+        this.parent = new int[n];
+        this.parentSlot = new int[n];
+        this.stamp = new int[n];
+        this.version = 0;
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        search(s, t);
+        if (stamp[t] != version) {
+            return null;
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        for (int v = t; v != s; v = parent[v]) {
+            edgeList.add(edges[parentSlot[v]]);
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(graph, source, sink, null, edgeList, distance[t]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This method does not allocate any memory.
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int t = sinkIndex(sink);
+        search(sourceIndex(source), t);
+        return stamp[t] == version ? distance[t] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned paths are independent of the context and remain valid after subsequent
+     * queries.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = sourceIndex(source);
+        search(s, -1);
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < stamp.length; v++) {
+            if (stamp[v] == version) {
+                E e = v == s ? null : edges[parentSlot[v]];
+                distanceAndPredecessorMap.put(vertexAt(v), Pair.of(distance[v], e));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Run Dijkstra's algorithm from a source vertex until the sink vertex is settled or all
+     * reachable vertices are settled.
+     *
+     * @param source the source vertex index
+     * @param sink the sink vertex index or $-1$ for none
+     */
+    private void search(int source, int sink)
+    {
+        search(source, sink, null, 0);
+    }
+
+    /**
+     * Run Dijkstra's algorithm from a source vertex until the sink vertex is settled, all marked
+     * vertices are settled or all reachable vertices are settled.
+     *
+     * @param source the source vertex index
+     * @param sink the sink vertex index or $-1$ for none
+     * @param marked marks the vertices to settle, or null for none
+     * @param remaining the number of marked vertices
+     */
+    void search(int source, int sink, boolean[] marked, int remaining)
+    {
+        if (++version == 0) {
+            // wrap around, stamps of older queries could become valid again
+            Arrays.fill(stamp, 0);
+            version = 1;
+        }
+        heap.clear();
+
+        stamp[source] = version;
+        distance[source] = 0d;
+        parent[source] = -1;
+        heap.insert(source, 0d);
+
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            if (v == sink || marked != null && marked[v] && --remaining == 0) {
+                break;
+            }
+            double vDistance = distance[v];
+            for (int slot = offsets[v], end = offsets[v + 1]; slot < end; slot++) {
+                int u = targets[slot];
+                double uDistance = vDistance + weights[slot];
+                if (stamp[u] != version) {
+                    stamp[u] = version;
+                    distance[u] = uDistance;
+                    parent[u] = v;
+                    parentSlot[u] = slot;
+                    heap.insert(u, uDistance);
+                } else if (uDistance < distance[u]) {
+                    // settled vertices never improve since weights are non-negative
+                    distance[u] = uDistance;
+                    parent[u] = v;
+                    parentSlot[u] = slot;
+                    heap.decreaseKey(u, uDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the last edge of the shortest path to a vertex computed by the last search.
+     *
+     * @param v the vertex index
+     * @return the edge or null if the vertex is the source or was not reached
+     */
+    E predecessorOf(int v)
+    {
+        return stamp[v] == version && parent[v] >= 0 ? edges[parentSlot[v]] : null;
+    }
+
+    /**
+     * Get the distance of a vertex computed by the last search.
+     *
+     * @param v the vertex index
+     * @return the distance or infinity if the vertex was not reached
+     */
+    double distanceOf(int v)
+    {
+        return stamp[v] == version ? distance[v] : Double.POSITIVE_INFINITY;
+    }
+
+    private int sourceIndex(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return indexOf(source);
+    }
+
+    private int sinkIndex(V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return indexOf(sink);
+    }
+
+    int indexOf(V v)
+    {
+        return vertexMap == null ? (Integer) v : vertexMap.get(v);
+    }
+
+    private V vertexAt(int i)
+    {
+        return vertexList == null ? TypeUtil.uncheckedCast(i) : vertexList.get(i);
+    }
+
+}
@@ -19,9 +19,11 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -29,6 +31,17 @@ import java.util.function.*;
  * shortest path algorithm</a> using a pairing heap by default. A custom heap implementation can by
  * specified during the construction time.
  *
+ * <p>
+ * If the graph is an {@link IntGraph} and no custom heap is specified, the algorithm uses primitive
+ * arrays indexed by the vertices together with an {@link IntDoubleHeap}, without boxing vertices or
+ * edges during the edge relaxations.
+ *
+ * <p>
+ * Applications which answer many queries on the same graph should consider
+ * {@link DijkstraQueryContext}, which reuses its auxiliary memory across queries. Graphs whose edge
+ * weights are non-negative integers are better served by {@link IntegerWeightDijkstraShortestPath}
+ * which uses a bucket queue or a radix heap instead of a comparison based heap.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author John V. Sichi
@@ -39,6 +52,7 @@ public final class DijkstraShortestPath<V, E>
 {
     private final double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
+    private final boolean defaultHeap;
 
     /**
      * Constructs a new instance of the algorithm for a given graph. The constructed algorithm will
@@ -48,7 +62,7 @@ public final class DijkstraShortestPath<V, E>
      */
     public DijkstraShortestPath(Graph<V, E> graph)
     {
-        this(graph, Double.POSITIVE_INFINITY, PairingHeap::new);
+        this(graph, Double.POSITIVE_INFINITY);
     }
 
     /**
@@ -60,7 +74,7 @@ public final class DijkstraShortestPath<V, E>
      */
     public DijkstraShortestPath(Graph<V, E> graph, double radius)
     {
-        this(graph, radius, PairingHeap::new);
+        this(graph, radius, PairingHeap::new, true);
     }
 
     /**
@@ -86,12 +100,20 @@ public final class DijkstraShortestPath<V, E>
     public DijkstraShortestPath(
         Graph<V, E> graph, double radius,
         Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier)
+    {
+        this(graph, radius, heapSupplier, false);
+    }
+
+    private DijkstraShortestPath(
+        Graph<V, E> graph, double radius,
+        Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier, boolean defaultHeap)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.heapSupplier = heapSupplier;
+        this.defaultHeap = defaultHeap;
         this.radius = radius;
     }
 
@@ -127,6 +149,11 @@ public final class DijkstraShortestPath<V, E>
             return createEmptyPath(source, sink);
         }
 
+        if (defaultHeap && graph instanceof IntGraph) {
+            int t = (Integer) sink;
+            return TypeUtil.uncheckedCast(getPaths((IntGraph) graph, (Integer) source, t).getPath(t));
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
@@ -154,6 +181,10 @@ public final class DijkstraShortestPath<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        if (defaultHeap && graph instanceof IntGraph) {
+            return TypeUtil.uncheckedCast(getPaths((IntGraph) graph, (Integer) source, -1));
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
@@ -164,4 +195,53 @@ public final class DijkstraShortestPath<V, E>
         return it.getPaths();
     }
 
+    /**
+     * Run the algorithm on an {@link IntGraph} using primitive arrays. The search stops early when
+     * the sink vertex is settled, thus only the path to the sink is guaranteed to be a shortest
+     * path if a sink is given.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @param sink the sink vertex or $-1$ for none
+     * @return the single source paths
+     */
+    private SingleSourcePaths<Integer, Integer> getPaths(IntGraph graph, int source, int sink)
+    {
+        final int n = graph.vertexSet().size();
+        double[] distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        int[] predecessor = new int[n];
+        Arrays.fill(predecessor, -1);
+        IntDoubleHeap heap = new IntDoubleHeap(n);
+
+        distance[source] = 0d;
+        heap.insert(source, 0d);
+
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            if (v == sink) {
+                break;
+            }
+            double vDistance = distance[v];
+            graph.forEachOutEdgeAndNeighbor(v, (e, u) -> {
+                double eWeight = graph.edgeWeight(e);
+                if (eWeight < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                double uDistance = vDistance + eWeight;
+                if (uDistance < distance[u] && uDistance <= radius) {
+                    distance[u] = uDistance;
+                    predecessor[u] = e;
+                    if (heap.contains(u)) {
+                        heap.decreaseKey(u, uDistance);
+                    } else {
+                        heap.insert(u, uDistance);
+                    }
+                }
+            });
+        }
+
+        return new IntGraphSingleSourcePaths(graph, source, distance, predecessor);
+    }
+
 }
@@ -0,0 +1,417 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.event.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.util.*;
+
+/**
+ * Maintains the single-source shortest paths tree of a graph under edge insertions, edge
+ * deletions and edge weight changes.
+ *
+ * <p>
+ * The implementation follows the fully dynamic algorithm of Ramalingam and Reps, as described in
+ * G. Ramalingam and T. Reps. On the computational complexity of dynamic graph problems.
+ * Theoretical Computer Science, 158(1):233–277, 1996. When the weight of a tree edge increases or
+ * a tree edge is removed, only the vertices of the subtree below that edge are affected. Their
+ * distances are reset and recomputed by a Dijkstra search which is seeded from the unaffected
+ * vertices adjacent to the subtree. When the weight of an edge decreases or an edge is added, a
+ * Dijkstra search is started only from the endpoint whose distance improves. The running time of
+ * an update is therefore proportional to the number of vertices whose distance or predecessor
+ * changes and to their degrees, instead of to the size of the whole graph.
+ *
+ * <p>
+ * The algorithm is a {@link GraphListener}. If added as a listener to the graph, e.g. a
+ * {@link org.jgrapht.graph.DefaultListenableGraph}, the shortest paths are repaired after each
+ * modification of the graph. As a {@link GraphBatchListener} all edges of a bulk operation are
+ * repaired at once. Alternatively, the weights of edges can be changed through
+ * {@link #updateEdgeWeight(Object, double)} and {@link #updateEdgeWeights(Map)}. If the algorithm
+ * is added as listener to a graph other than the one it was constructed with, results are
+ * undefined.
+ *
+ * <p>
+ * The paths returned by {@link #getPaths()} are a view which always reflects the latest state of
+ * the graph. Edge weights must be non-negative. The source vertex should not be removed from the
+ * graph; if it is, all vertices become unreachable until it is added again.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ */
+public class DynamicSingleSourceShortestPaths<V, E>
+    implements
+    GraphBatchListener<V, E>
+{
+    private final Graph<V, E> graph;
+    private final V source;
+    private final boolean directed;
+
+    /**
+     * Distance and predecessor edge of all reachable vertices.
+     */
+    private final Map<V, Pair<Double, E>> map;
+
+    private final SingleSourcePaths<V, E> paths;
+
+    private int lastRepairSize;
+
+    /**
+     * Whether the weights of a batch update are being written to the graph. Weight change events
+     * fired by the graph meanwhile are ignored, since the batch is repaired at once afterwards.
+     */
+    private boolean updating;
+
+    /**
+     * Constructs the shortest paths tree of the given {@code graph} from the {@code source}
+     * vertex.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @throws IllegalArgumentException if the source vertex is not contained in the graph or the
+     *         graph contains edges with negative weights
+     */
+    public DynamicSingleSourceShortestPaths(Graph<V, E> graph, V source)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph is null");
+        this.source = Objects.requireNonNull(source, "Source vertex is null");
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException("Graph must contain the source vertex!");
+        }
+        this.directed = graph.getType().isDirected();
+        this.map = new HashMap<>();
+        this.paths = new TreeSingleSourcePathsImpl<>(graph, source, map);
+
+        AddressableHeap<Double, V> heap = new PairingHeap<>();
+        Map<V, AddressableHeap.Handle<Double, V>> handles = new HashMap<>();
+        map.put(source, Pair.of(0d, null));
+        handles.put(source, heap.insert(0d, source));
+        propagate(heap, handles);
+    }
+
+    /**
+     * Get the source vertex.
+     *
+     * @return the source vertex
+     */
+    public V getSourceVertex()
+    {
+        return source;
+    }
+
+    /**
+     * Get the shortest paths from the source vertex. The returned paths are a view which reflects
+     * all modifications of the graph which have been repaired so far.
+     *
+     * @return the shortest paths from the source vertex
+     */
+    public SingleSourcePaths<V, E> getPaths()
+    {
+        return paths;
+    }
+
+    /**
+     * Get the shortest path from the source vertex to the {@code sink} vertex.
+     *
+     * @param sink the sink vertex
+     * @return the shortest path, or {@code null} if the sink is not reachable
+     */
+    public GraphPath<V, E> getPath(V sink)
+    {
+        return paths.getPath(sink);
+    }
+
+    /**
+     * Get the weight of the shortest path from the source vertex to the {@code sink} vertex.
+     *
+     * @param sink the sink vertex
+     * @return the weight of the shortest path, or {@link Double#POSITIVE_INFINITY} if the sink is
+     *         not reachable
+     */
+    public double getPathWeight(V sink)
+    {
+        return paths.getWeight(sink);
+    }
+
+    /**
+     * Changes the weight of an edge of the graph and repairs the shortest paths.
+     *
+     * @param e the edge
+     * @param weight the new weight
+     * @throws IllegalArgumentException if the weight is negative
+     */
+    public void updateEdgeWeight(E e, double weight)
+    {
+        updateEdgeWeights(Collections.singletonMap(e, weight));
+    }
+
+    /**
+     * Changes the weights of multiple edges of the graph and repairs the shortest paths once for
+     * all of them. If the algorithm is a listener of the graph, the weight change events fired by
+     * the graph during the update are ignored.
+     *
+     * @param weights the new weights of the edges
+     * @throws IllegalArgumentException if any of the weights is negative
+     */
+    public void updateEdgeWeights(Map<E, Double> weights)
+    {
+        List<E> edges = new ArrayList<>(weights.size());
+        List<V> sources = new ArrayList<>(weights.size());
+        List<V> targets = new ArrayList<>(weights.size());
+        for (Map.Entry<E, Double> entry : weights.entrySet()) {
+            if (entry.getValue() < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+        updating = true;
+        try {
+            for (Map.Entry<E, Double> entry : weights.entrySet()) {
+                E e = entry.getKey();
+                graph.setEdgeWeight(e, entry.getValue());
+                edges.add(e);
+                sources.add(graph.getEdgeSource(e));
+                targets.add(graph.getEdgeTarget(e));
+            }
+        } finally {
+            updating = false;
+        }
+        repair(edges, sources, targets);
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        repair(
+            Collections.singletonList(e.getEdge()), Collections.singletonList(e.getEdgeSource()),
+            Collections.singletonList(e.getEdgeTarget()));
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        repair(
+            Collections.singletonList(e.getEdge()), Collections.singletonList(e.getEdgeSource()),
+            Collections.singletonList(e.getEdgeTarget()));
+    }
+
+    @Override
+    public void edgeWeightUpdated(GraphEdgeChangeEvent<V, E> e)
+    {
+        if (updating) {
+            return;
+        }
+        repair(
+            Collections.singletonList(e.getEdge()), Collections.singletonList(e.getEdgeSource()),
+            Collections.singletonList(e.getEdgeTarget()));
+    }
+
+    @Override
+    public void edgesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        repair(e);
+    }
+
+    @Override
+    public void edgesRemoved(GraphBatchChangeEvent<V, E> e)
+    {
+        repair(e);
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        if (source.equals(e.getVertex())) {
+            map.put(source, Pair.of(0d, null));
+        }
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        // the touching edges have already been removed
+        if (source.equals(e.getVertex())) {
+            map.clear();
+        } else {
+            map.remove(e.getVertex());
+        }
+    }
+
+    /**
+     * Get the number of vertices whose distance was recomputed by the last repair.
+     *
+     * @return the number of vertices whose distance was recomputed by the last repair
+     */
+    int getLastRepairSize()
+    {
+        return lastRepairSize;
+    }
+
+    private void repair(GraphBatchChangeEvent<V, E> e)
+    {
+        List<V> sources = new ArrayList<>(e.getEdges().size());
+        List<V> targets = new ArrayList<>(e.getEdges().size());
+        for (int i = 0; i < e.getEdges().size(); i++) {
+            sources.add(e.getEdgeSource(i));
+            targets.add(e.getEdgeTarget(i));
+        }
+        repair(e.getEdges(), sources, targets);
+    }
+
+    /**
+     * Repairs the shortest paths tree after the given edges have been added, removed or had their
+     * weights changed.
+     *
+     * @param edges the modified edges
+     * @param sources the source vertices of the modified edges
+     * @param targets the target vertices of the modified edges
+     */
+    private void repair(List<E> edges, List<V> sources, List<V> targets)
+    {
+        lastRepairSize = 0;
+        if (!map.containsKey(source)) {
+            return;
+        }
+
+        // find tree edges whose weight increased or which were removed
+        Deque<V> roots = new ArrayDeque<>();
+        for (int i = 0; i < edges.size(); i++) {
+            E e = edges.get(i);
+            V u = sources.get(i);
+            V v = targets.get(i);
+            if (isInvalidated(e, u, v)) {
+                roots.add(v);
+            }
+            if (!directed && isInvalidated(e, v, u)) {
+                roots.add(u);
+            }
+        }
+
+        // collect and reset the subtrees below these edges
+        Set<V> affected = new HashSet<>();
+        while (!roots.isEmpty()) {
+            V v = roots.poll();
+            if (!affected.add(v)) {
+                continue;
+            }
+            for (E e : graph.outgoingEdgesOf(v)) {
+                V w = Graphs.getOppositeVertex(graph, e, v);
+                Pair<Double, E> p = map.get(w);
+                if (p != null && e.equals(p.getSecond()) && !w.equals(v)) {
+                    roots.add(w);
+                }
+            }
+        }
+        map.keySet().removeAll(affected);
+
+        AddressableHeap<Double, V> heap = new PairingHeap<>();
+        Map<V, AddressableHeap.Handle<Double, V>> handles = new HashMap<>();
+
+        // seed the affected vertices from their unaffected neighbors
+        for (V v : affected) {
+            for (E e : graph.incomingEdgesOf(v)) {
+                relax(Graphs.getOppositeVertex(graph, e, v), e, v, heap, handles);
+            }
+        }
+
+        // seed the endpoints of the modified edges whose distance improves
+        for (int i = 0; i < edges.size(); i++) {
+            E e = edges.get(i);
+            if (!graph.containsEdge(e)) {
+                continue;
+            }
+            relax(sources.get(i), e, targets.get(i), heap, handles);
+            if (!directed) {
+                relax(targets.get(i), e, sources.get(i), heap, handles);
+            }
+        }
+
+        propagate(heap, handles);
+    }
+
+    /**
+     * Whether the tree edge {@code e} from {@code u} to {@code v} was removed or became heavier,
+     * so that the distance of {@code v} is no longer valid.
+     */
+    private boolean isInvalidated(E e, V u, V v)
+    {
+        Pair<Double, E> p = map.get(v);
+        if (p == null || !e.equals(p.getSecond()) || u.equals(v)) {
+            return false;
+        }
+        if (!graph.containsEdge(e)) {
+            return true;
+        }
+        Pair<Double, E> pu = map.get(u);
+        return pu == null || pu.getFirst() + graph.getEdgeWeight(e) > p.getFirst();
+    }
+
+    /**
+     * Relaxes edge {@code e} from {@code u} to {@code v}.
+     */
+    private void relax(
+        V u, E e, V v, AddressableHeap<Double, V> heap,
+        Map<V, AddressableHeap.Handle<Double, V>> handles)
+    {
+        if (u.equals(v)) {
+            return;
+        }
+        Pair<Double, E> pu = map.get(u);
+        if (pu == null) {
+            return;
+        }
+        double weight = graph.getEdgeWeight(e);
+        if (weight < 0d) {
+            throw new IllegalArgumentException("Negative edge weight not allowed");
+        }
+        double distance = pu.getFirst() + weight;
+        Pair<Double, E> pv = map.get(v);
+        if (pv != null && pv.getFirst() <= distance) {
+            return;
+        }
+        map.put(v, Pair.of(distance, e));
+        AddressableHeap.Handle<Double, V> handle = handles.get(v);
+        if (handle == null) {
+            handles.put(v, heap.insert(distance, v));
+        } else {
+            handle.decreaseKey(distance);
+        }
+    }
+
+    /**
+     * Runs Dijkstra from the vertices in the heap, improving the distances of their descendants.
+     */
+    private void propagate(
+        AddressableHeap<Double, V> heap, Map<V, AddressableHeap.Handle<Double, V>> handles)
+    {
+        while (!heap.isEmpty()) {
+            V u = heap.deleteMin().getValue();
+            handles.remove(u);
+            lastRepairSize++;
+            for (E e : graph.outgoingEdgesOf(u)) {
+                relax(u, e, Graphs.getOppositeVertex(graph, e, u), heap, handles);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,518 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Parallel implementation of the delta-stepping single-source shortest path algorithm on top of a
+ * {@link ForkJoinPool} and primitive arrays.
+ *
+ * <p>
+ * This class computes the same result as {@link DeltaSteppingShortestPath}, using the same bucket
+ * structure and light/heavy edge phases, see U. Meyer, P. Sanders, $\Delta$-stepping: a
+ * parallelizable shortest path algorithm, Journal of Algorithms, 49(1), 2003. It differs in the
+ * way the work is organized. The graph is indexed once into compressed sparse rows format where the
+ * outgoing edges of each vertex are split into light edges, with weight at most $\Delta$, stored
+ * first and heavy edges stored after them. The vertices are split into partitions, each owning the
+ * distances, predecessors and buckets of its vertices. Each phase of the algorithm consists of two
+ * steps executed as work-stealing tasks, one per partition. First, every partition scans the
+ * vertices of its current bucket and appends relaxation requests into its own buffers, one per
+ * target partition. Then, every partition applies the requests addressed to it from all buffers.
+ * Since a vertex is only ever updated by the task of its partition, no atomic operations, locks or
+ * concurrent collections are needed, and no objects are allocated per vertex or edge.
+ *
+ * <p>
+ * The graph is indexed during the first computation, so later changes of the graph, including
+ * changes of edge weights, are not visible to the algorithm. Vertices of an {@link IntGraph} are
+ * used directly as indices, while vertices of any other graph are mapped using a
+ * {@link VertexToIntegerMapping}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author JGraphT Contributors
+ * @see DeltaSteppingShortestPath
+ */
+public class ForkJoinDeltaSteppingShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Number of partitions per worker thread of the pool.
+     */
+    private static final int PARTITIONS_PER_THREAD = 2;
+
+    private final ForkJoinPool pool;
+    private double delta;
+
+    private Map<V, Integer> vertexMap;
+    private List<V> vertexList;
+    private int[] offsets;
+    private int[] lightEnd;
+    private int[] targets;
+    private double[] weights;
+    private E[] edges;
+    private double maxWeight;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using the common
+     * {@link ForkJoinPool}. The bucket width is computed as the maximum edge weight divided by the
+     * maximum out-degree of the graph.
+     *
+     * @param graph the graph
+     */
+    public ForkJoinDeltaSteppingShortestPath(Graph<V, E> graph)
+    {
+        this(graph, 0d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph, bucket width and pool. If delta
+     * is $0.0$ it is computed as the maximum edge weight divided by the maximum out-degree of the
+     * graph.
+     *
+     * @param graph the graph
+     * @param delta the bucket width
+     * @param pool the pool which executes the phases of the algorithm
+     * @throws IllegalArgumentException if delta is negative
+     */
+    public ForkJoinDeltaSteppingShortestPath(Graph<V, E> graph, double delta, ForkJoinPool pool)
+    {
+        super(graph);
+        if (!(delta >= 0d)) {
+            throw new IllegalArgumentException("Delta must be non-negative");
+        }
+        this.delta = delta;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        index();
+        return new Search(indexOf(source));
+    }
+
+    /**
+     * Build the compressed sparse rows index of the graph, if not already built, computing the
+     * bucket width if needed.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized void index()
+    {
+        if (offsets != null) {
+            return;
+        }
+        int n = graph.vertexSet().size();
+        if (!(graph instanceof IntGraph)) {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            vertexMap = mapping.getVertexMap();
+            vertexList = mapping.getIndexList();
+        }
+
+        int[] rowOffsets = new int[n + 1];
+        int maxOutDegree = 0;
+        double max = 0d;
+        for (int i = 0; i < n; i++) {
+            Set<E> out = graph.outgoingEdgesOf(vertexAt(i));
+            rowOffsets[i + 1] = rowOffsets[i] + out.size();
+            maxOutDegree = Math.max(maxOutDegree, graph.outDegreeOf(vertexAt(i)));
+            for (E e : out) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                max = Math.max(max, w);
+            }
+        }
+        if (delta == 0d) {
+            delta = max == 0d ? 1d : max / maxOutDegree;
+        }
+
+        int m = rowOffsets[n];
+        targets = new int[m];
+        weights = new double[m];
+        edges = (E[]) new Object[m];
+        lightEnd = new int[n];
+        for (int i = 0; i < n; i++) {
+            V v = vertexAt(i);
+            int light = rowOffsets[i];
+            int heavy = rowOffsets[i + 1];
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                int slot = w <= delta ? light++ : --heavy;
+                targets[slot] = indexOf(Graphs.getOppositeVertex(graph, e, v));
+                weights[slot] = w;
+                edges[slot] = e;
+            }
+            lightEnd[i] = light;
+        }
+        maxWeight = max;
+        offsets = rowOffsets;
+    }
+
+    private int indexOf(V v)
+    {
+        return vertexMap == null ? (Integer) v : vertexMap.get(v);
+    }
+
+    private V vertexAt(int i)
+    {
+        return vertexList == null ? TypeUtil.uncheckedCast(i) : vertexList.get(i);
+    }
+
+    /**
+     * A single execution of the algorithm, which also stores the resulting shortest paths tree.
+     */
+    private class Search
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final int source;
+        private final double[] distance;
+        private final int[] predecessor;
+        private final long[] bucketOf;
+        private final boolean[] removed;
+        private final int numOfBuckets;
+        private final List<Partition> partitions;
+
+        Search(int source)
+        {
+            int n = offsets.length - 1;
+            this.source = source;
+            this.distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.predecessor = new int[n];
+            Arrays.fill(predecessor, -1);
+            this.bucketOf = new long[n];
+            Arrays.fill(bucketOf, -1L);
+            this.removed = new boolean[n];
+
+            // pending vertices are at most maxWeight away from the current bucket
+            double span = Math.ceil(maxWeight / delta) + 2;
+            if (span > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Delta too small compared to edge weights");
+            }
+            this.numOfBuckets = (int) span;
+            int p = Math.max(1, Math.min(n, pool.getParallelism() * PARTITIONS_PER_THREAD));
+            this.partitions = new ArrayList<>(p);
+            for (int i = 0; i < p; i++) {
+                partitions.add(new Partition(i, p));
+            }
+
+            distance[source] = 0d;
+            partitions.get(partitionOf(source)).insert(source, 0L);
+            run();
+        }
+
+        private void run()
+        {
+            long current = 0;
+            while (pending() > 0) {
+                while (!nonEmpty(current)) {
+                    current++;
+                }
+                final long bucket = current;
+                // light edges, repeated while vertices are reinserted into the current bucket
+                do {
+                    invokeAll(p -> p.expandBucket(bucket));
+                    invokeAll(Partition::applyRequests);
+                } while (nonEmpty(bucket));
+                // heavy edges of all vertices removed from the current bucket
+                invokeAll(Partition::expandRemoved);
+                invokeAll(Partition::applyRequests);
+                current++;
+            }
+        }
+
+        private long pending()
+        {
+            long sum = 0;
+            for (Partition p : partitions) {
+                sum += p.pending;
+            }
+            return sum;
+        }
+
+        private boolean nonEmpty(long bucket)
+        {
+            int b = (int) (bucket % numOfBuckets);
+            for (Partition p : partitions) {
+                if (p.buckets[b] != null && p.buckets[b].size > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int partitionOf(int v)
+        {
+            return v % partitions.size();
+        }
+
+        private void invokeAll(Consumer<Partition> step)
+        {
+            pool.invoke(new PartitionTask(step, 0, partitions.size()));
+        }
+
+        /**
+         * Executes a step for a range of partitions, splitting the range recursively.
+         */
+        private class PartitionTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final transient Consumer<Partition> step;
+            private final int from;
+            private final int to;
+
+            PartitionTask(Consumer<Partition> step, int from, int to)
+            {
+                this.step = step;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from > 1) {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(
+                        new PartitionTask(step, from, mid), new PartitionTask(step, mid, to));
+                } else {
+                    step.accept(partitions.get(from));
+                }
+            }
+        }
+
+        /**
+         * The state owned by a partition of the vertices.
+         */
+        private class Partition
+        {
+            private final int id;
+            private final IntList[] buckets;
+            private final IntList removedVertices;
+            private final RequestBuffer[] requests;
+            private long pending;
+
+            Partition(int id, int numOfPartitions)
+            {
+                this.id = id;
+                this.buckets = new IntList[numOfBuckets];
+                this.removedVertices = new IntList();
+                this.requests = new RequestBuffer[numOfPartitions];
+            }
+
+            void insert(int v, long bucket)
+            {
+                bucketOf[v] = bucket;
+                int b = (int) (bucket % numOfBuckets);
+                if (buckets[b] == null) {
+                    buckets[b] = new IntList();
+                }
+                buckets[b].add(v);
+                pending++;
+            }
+
+            void expandBucket(long bucket)
+            {
+                IntList list = buckets[(int) (bucket % numOfBuckets)];
+                if (list == null || list.size == 0) {
+                    return;
+                }
+                for (int i = 0; i < list.size; i++) {
+                    int v = list.data[i];
+                    if (bucketOf[v] != bucket) {
+                        // stale entry, the vertex moved to another bucket or was expanded
+                        continue;
+                    }
+                    bucketOf[v] = -1L;
+                    if (!removed[v]) {
+                        removed[v] = true;
+                        removedVertices.add(v);
+                    }
+                    expand(v, offsets[v], lightEnd[v]);
+                }
+                pending -= list.size;
+                list.size = 0;
+            }
+
+            void expandRemoved()
+            {
+                for (int i = 0; i < removedVertices.size; i++) {
+                    int v = removedVertices.data[i];
+                    removed[v] = false;
+                    expand(v, lightEnd[v], offsets[v + 1]);
+                }
+                removedVertices.size = 0;
+            }
+
+            private void expand(int v, int from, int to)
+            {
+                double vDistance = distance[v];
+                for (int slot = from; slot < to; slot++) {
+                    int u = targets[slot];
+                    double uDistance = vDistance + weights[slot];
+                    // distances are only read during this step, thus no races
+                    if (uDistance < distance[u]) {
+                        int q = partitionOf(u);
+                        if (requests[q] == null) {
+                            requests[q] = new RequestBuffer();
+                        }
+                        requests[q].add(slot, uDistance);
+                    }
+                }
+            }
+
+            void applyRequests()
+            {
+                for (Partition p : partitions) {
+                    RequestBuffer buffer = p.requests[id];
+                    if (buffer == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < buffer.size; i++) {
+                        int slot = buffer.slots[i];
+                        int u = targets[slot];
+                        double uDistance = buffer.distances[i];
+                        if (uDistance < distance[u]) {
+                            distance[u] = uDistance;
+                            predecessor[u] = slot;
+                            insert(u, (long) Math.floor(uDistance / delta));
+                        }
+                    }
+                    buffer.size = 0;
+                }
+            }
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return vertexAt(source);
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            return distance[indexOf(sink)];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            int t = indexOf(sink);
+            V s = vertexAt(source);
+            if (t == source) {
+                return createEmptyPath(s, sink);
+            }
+            if (predecessor[t] < 0) {
+                return null;
+            }
+            List<E> edgeList = new ArrayList<>();
+            V cur = sink;
+            for (int v = t; v != source;) {
+                E e = edges[predecessor[v]];
+                edgeList.add(e);
+                cur = Graphs.getOppositeVertex(graph, e, cur);
+                v = indexOf(cur);
+            }
+            Collections.reverse(edgeList);
+            return new GraphWalk<>(graph, s, sink, null, edgeList, distance[t]);
+        }
+    }
+
+    /**
+     * A growable list of primitive integers.
+     */
+    private static class IntList
+    {
+        int[] data = new int[8];
+        int size;
+
+        void add(int value)
+        {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, 2 * size);
+            }
+            data[size++] = value;
+        }
+    }
+
+    /**
+     * A growable buffer of relaxation requests, each consisting of the edge slot and the tentative
+     * distance of its target.
+     */
+    private static class RequestBuffer
+    {
+        int[] slots = new int[16];
+        double[] distances = new double[16];
+        int size;
+
+        void add(int slot, double distance)
+        {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, 2 * size);
+                distances = Arrays.copyOf(distances, 2 * size);
+            }
+            slots[size] = slot;
+            distances[size] = distance;
+            size++;
+        }
+    }
+
+}
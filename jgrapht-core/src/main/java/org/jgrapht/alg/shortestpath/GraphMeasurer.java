@@ -39,7 +39,9 @@ public class GraphMeasurer<V, E>
     /* Input graph */
     private final Graph<V, E> graph;
     /* All-pairs shortest path algorithm */
-    private final ShortestPathAlgorithm<V, E> shortestPathAlgorithm;
+    private ShortestPathAlgorithm<V, E> shortestPathAlgorithm;
+    /* Eccentricity bounding algorithm, or null if all eccentricities are computed */
+    private final BoundingGraphMeasurer<V, E> boundingMeasurer;
 
     /* Vertex eccentricity map */
     private Map<V, Double> eccentricityMap = null;
@@ -74,6 +76,24 @@ public class GraphMeasurer<V, E>
     {
         this.graph = graph;
         this.shortestPathAlgorithm = shortestPathAlgorithm;
+        this.boundingMeasurer = null;
+    }
+
+    /**
+     * Constructs a new instance of GraphMeasurer which computes the diameter, the radius, the
+     * center, the periphery and the eccentricities using the given {@link BoundingGraphMeasurer}.
+     * On large graphs this usually requires only a few single-source shortest path computations
+     * instead of all-pairs shortest paths. The edge weights of the graph must be non-negative. The
+     * pseudo-periphery is computed using {@link FloydWarshallShortestPaths}.
+     * 
+     * @param graph input graph
+     * @param boundingMeasurer the eccentricity bounding algorithm for the same graph
+     */
+    public GraphMeasurer(Graph<V, E> graph, BoundingGraphMeasurer<V, E> boundingMeasurer)
+    {
+        this.graph = graph;
+        this.shortestPathAlgorithm = null;
+        this.boundingMeasurer = Objects.requireNonNull(boundingMeasurer);
     }
 
     /**
@@ -87,6 +107,9 @@ public class GraphMeasurer<V, E>
      */
     public double getDiameter()
     {
+        if (boundingMeasurer != null) {
+            return boundingMeasurer.getDiameter();
+        }
         computeEccentricityMap();
         return diameter;
     }
@@ -101,6 +124,9 @@ public class GraphMeasurer<V, E>
      */
     public double getRadius()
     {
+        if (boundingMeasurer != null) {
+            return boundingMeasurer.getRadius();
+        }
         computeEccentricityMap();
         return radius;
     }
@@ -117,6 +143,9 @@ public class GraphMeasurer<V, E>
      */
     public Map<V, Double> getVertexEccentricityMap()
     {
+        if (boundingMeasurer != null && eccentricityMap == null) {
+            return boundingMeasurer.getVertexEccentricityMap();
+        }
         computeEccentricityMap();
         return Collections.unmodifiableMap(this.eccentricityMap);
     }
@@ -129,6 +158,9 @@ public class GraphMeasurer<V, E>
      */
     public Set<V> getGraphCenter()
     {
+        if (boundingMeasurer != null) {
+            return boundingMeasurer.getGraphCenter();
+        }
         computeEccentricityMap();
         Set<V> graphCenter = new LinkedHashSet<>();
         ToleranceDoubleComparator comp = new ToleranceDoubleComparator();
@@ -148,6 +180,9 @@ public class GraphMeasurer<V, E>
      */
     public Set<V> getGraphPeriphery()
     {
+        if (boundingMeasurer != null) {
+            return boundingMeasurer.getGraphPeriphery();
+        }
         computeEccentricityMap();
         Set<V> graphPeriphery = new LinkedHashSet<>();
         ToleranceDoubleComparator comp = new ToleranceDoubleComparator();
@@ -193,6 +228,9 @@ public class GraphMeasurer<V, E>
     {
         if (eccentricityMap != null)
             return;
+        if (shortestPathAlgorithm == null) {
+            shortestPathAlgorithm = new FloydWarshallShortestPaths<>(graph);
+        }
 
         // Compute the eccentricity map
         eccentricityMap = new LinkedHashMap<>();
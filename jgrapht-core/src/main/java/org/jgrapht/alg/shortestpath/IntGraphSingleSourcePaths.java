@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An implementation of {@link SingleSourcePaths} for an {@link IntGraph} which stores the
+ * shortest path tree in primitive arrays indexed by vertex.
+ *
+ * <p>
+ * For each vertex the array representation stores the distance from the source and the last edge
+ * of the path, or $-1$ if the vertex is the source or is not reachable. Paths are computed in the
+ * same way as in {@link TreeSingleSourcePathsImpl}.
+ *
+ * @author JGraphT Contributors
+ */
+class IntGraphSingleSourcePaths
+    implements
+    SingleSourcePaths<Integer, Integer>,
+    Serializable
+{
+    private static final long serialVersionUID = 6418379372164396478L;
+
+    private final IntGraph graph;
+    private final int source;
+    private final double[] distance;
+    private final int[] predecessor;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @param distance the distance of each vertex from the source, infinity if not reachable
+     * @param predecessor the last edge of the path of each vertex, $-1$ if none
+     */
+    IntGraphSingleSourcePaths(IntGraph graph, int source, double[] distance, int[] predecessor)
+    {
+        this.graph = graph;
+        this.source = source;
+        this.distance = distance;
+        this.predecessor = predecessor;
+    }
+
+    @Override
+    public Graph<Integer, Integer> getGraph()
+    {
+        return graph;
+    }
+
+    @Override
+    public Integer getSourceVertex()
+    {
+        return source;
+    }
+
+    @Override
+    public double getWeight(Integer targetVertex)
+    {
+        if (!graph.containsVertex(targetVertex)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return distance[targetVertex];
+    }
+
+    @Override
+    public GraphPath<Integer, Integer> getPath(Integer targetVertex)
+    {
+        if (targetVertex == source) {
+            return GraphWalk.singletonWalk(graph, source, 0d);
+        }
+        if (!graph.containsVertex(targetVertex) || predecessor[targetVertex] < 0) {
+            return null;
+        }
+
+        Deque<Integer> edgeList = new ArrayDeque<>();
+        double weight = 0d;
+        int cur = targetVertex;
+        int e;
+        while (cur != source && (e = predecessor[cur]) >= 0) {
+            edgeList.addFirst(e);
+            weight += graph.edgeWeight(e);
+            cur = graph.oppositeVertex(e, cur);
+        }
+
+        return new GraphWalk<>(
+            graph, source, targetVertex, null, new ArrayList<>(edgeList), weight);
+    }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Dijkstra Shortest Path implementation specialized for graphs with non-negative integer edge
+ * weights.
+ *
+ * <p>
+ * When all edge weights are integers, the distances are integers as well and the priority queue
+ * of Dijkstra's algorithm only sees keys which are not smaller than the last extracted key. This
+ * implementation exploits both properties and uses a monotone integer priority queue which does
+ * not compare keys: if the maximum edge weight $C$ is small, Dial's buckets
+ * ({@link IntLongBucketHeap}) with $O(1)$ operations, and otherwise a radix heap
+ * ({@link IntLongRadixHeap}) with $O(1)$ insert and decrease-key and $O(\log C)$ amortized
+ * delete-min. The running time is therefore $O(m + n \log C)$ or $O(m + D)$ respectively, where
+ * $D$ is the maximum distance, instead of $O(m \log n)$.
+ *
+ * <p>
+ * The graph is indexed into compressed sparse rows format during construction, where the edge
+ * weights are validated. Thus, later changes of the graph, including changes of edge weights, are
+ * not visible to the algorithm.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ * @see DijkstraShortestPath
+ * @see IntVertexDijkstraShortestPath
+ */
+public final class IntegerWeightDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Maximum edge weight for which Dial's buckets are used instead of a radix heap.
+     */
+    public static final int MAX_BUCKET_WEIGHT = 1 << 12;
+
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertexList;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] weights;
+    private final E[] edges;
+    private final long maxWeight;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The maximum edge weight is
+     * computed from the graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if an edge weight is not a non-negative integer or if the
+     *         edge weights are so large that distances may overflow
+     */
+    public IntegerWeightDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, -1);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph with a known maximum edge
+     * weight. The maximum determines the type of the priority queue.
+     *
+     * @param graph the graph
+     * @param maxWeight the maximum edge weight or a negative value to compute it from the graph
+     * @throws IllegalArgumentException if an edge weight is not a non-negative integer, if an edge
+     *         weight is larger than the given maximum or if the edge weights are so large that
+     *         distances may overflow
+     */
+    @SuppressWarnings("unchecked")
+    public IntegerWeightDijkstraShortestPath(Graph<V, E> graph, long maxWeight)
+    {
+        super(graph);
+
+        int n = graph.vertexSet().size();
+        if (graph instanceof IntGraph) {
+            this.vertexMap = null;
+            this.vertexList = null;
+        } else {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.vertexMap = mapping.getVertexMap();
+            this.vertexList = mapping.getIndexList();
+        }
+
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + graph.outgoingEdgesOf(vertexAt(i)).size();
+        }
+        int m = offsets[n];
+        this.targets = new int[m];
+        this.weights = new long[m];
+        this.edges = (E[]) new Object[m];
+        long max = 0;
+        for (int i = 0, slot = 0; i < n; i++) {
+            V v = vertexAt(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                if (!(w >= 0d) || w != Math.rint(w) || w > (double) Long.MAX_VALUE) {
+                    throw new IllegalArgumentException(
+                        "Edge weights must be non-negative integers");
+                }
+                if (maxWeight >= 0 && w > maxWeight) {
+                    throw new IllegalArgumentException("Edge weight larger than the maximum");
+                }
+                targets[slot] = indexOf(Graphs.getOppositeVertex(graph, e, v));
+                weights[slot] = (long) w;
+                edges[slot] = e;
+                max = Math.max(max, weights[slot]);
+                slot++;
+            }
+        }
+        this.maxWeight = maxWeight >= 0 ? maxWeight : max;
+        if (n > 1 && this.maxWeight > Long.MAX_VALUE / (n - 1)) {
+            throw new IllegalArgumentException("Edge weights too large, distances may overflow");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        int t = indexOf(sink);
+        return new Search(indexOf(source), t).getPath(sink, t);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        int t = indexOf(sink);
+        return new Search(indexOf(source), t).getWeight(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Note that in the case of Dijkstra's algorithm it is more efficient to compute all
+     * single-source shortest paths using this method than repeatedly invoking
+     * {@link #getPath(Object, Object)} for the same source but different sink vertex.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new Search(indexOf(source), -1);
+    }
+
+    private int indexOf(V v)
+    {
+        return vertexMap == null ? (Integer) v : vertexMap.get(v);
+    }
+
+    private V vertexAt(int i)
+    {
+        return vertexList == null ? TypeUtil.uncheckedCast(i) : vertexList.get(i);
+    }
+
+    /**
+     * A single execution of the algorithm, which also stores the resulting shortest paths tree.
+     */
+    private class Search
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final int source;
+        private final long[] distance;
+        private final int[] parentSlot;
+        private final boolean[] settled;
+
+        /**
+         * Run Dijkstra's algorithm from a source vertex until the sink vertex is settled or all
+         * reachable vertices are settled.
+         *
+         * @param source the source vertex index
+         * @param sink the sink vertex index or $-1$ for none
+         */
+        Search(int source, int sink)
+        {
+            int n = offsets.length - 1;
+            this.source = source;
+            this.distance = new long[n];
+            this.parentSlot = new int[n];
+            this.settled = new boolean[n];
+
+            IntLongMonotoneHeap heap = maxWeight <= MAX_BUCKET_WEIGHT
+                ? new IntLongBucketHeap(n, (int) maxWeight) : new IntLongRadixHeap(n);
+            Arrays.fill(parentSlot, -1);
+            heap.insert(source, 0L);
+            while (!heap.isEmpty()) {
+                long vDistance = heap.findMinKey();
+                int v = heap.deleteMin();
+                distance[v] = vDistance;
+                settled[v] = true;
+                if (v == sink) {
+                    break;
+                }
+                for (int slot = offsets[v], end = offsets[v + 1]; slot < end; slot++) {
+                    int u = targets[slot];
+                    if (settled[u]) {
+                        continue;
+                    }
+                    long uDistance = vDistance + weights[slot];
+                    if (!heap.contains(u)) {
+                        heap.insert(u, uDistance);
+                        parentSlot[u] = slot;
+                    } else if (uDistance < heap.getKey(u)) {
+                        heap.decreaseKey(u, uDistance);
+                        parentSlot[u] = slot;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return vertexAt(source);
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            return getWeight(indexOf(sink));
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            return getPath(sink, indexOf(sink));
+        }
+
+        double getWeight(int t)
+        {
+            return settled[t] ? distance[t] : Double.POSITIVE_INFINITY;
+        }
+
+        GraphPath<V, E> getPath(V sink, int t)
+        {
+            V s = vertexAt(source);
+            if (t == source) {
+                return createEmptyPath(s, sink);
+            }
+            if (!settled[t]) {
+                return null;
+            }
+            List<E> edgeList = new ArrayList<>();
+            V cur = sink;
+            for (int v = t; v != source;) {
+                E e = edges[parentSlot[v]];
+                edgeList.add(e);
+                cur = Graphs.getOppositeVertex(graph, e, cur);
+                v = indexOf(cur);
+            }
+            Collections.reverse(edgeList);
+            return new GraphWalk<>(graph, s, sink, null, edgeList, distance[t]);
+        }
+    }
+
+}
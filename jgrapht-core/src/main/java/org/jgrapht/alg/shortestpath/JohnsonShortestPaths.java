@@ -24,6 +24,7 @@ import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -45,6 +46,13 @@ import java.util.*;
  * In case the algorithm detects a negative weight cycle it will throw an exception of type
  * {@link NegativeCycleDetectedException} which will contain the detected negative weight cycle.
  *
+ * <p>
+ * The Dijkstra searches of the different source vertices are independent. When a
+ * {@link ForkJoinPool} is provided, they are distributed among its workers. The graph is then
+ * indexed once and every worker reuses its heap and arrays for all of its searches. For large
+ * distance tables where the paths are not needed, see also
+ * {@link ParallelDijkstraManyToManyShortestPaths}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -59,6 +67,7 @@ public class JohnsonShortestPaths<V, E>
     private Map<V, Integer> vertexIndices;
 
     private final Comparator<Double> comparator;
+    private final ForkJoinPool pool;
 
     /**
      * Construct a new instance.
@@ -80,6 +89,21 @@ public class JohnsonShortestPaths<V, E>
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.pool = null;
+    }
+
+    /**
+     * Construct a new instance which executes the Dijkstra searches in parallel.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param pool the pool which executes the Dijkstra searches
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ForkJoinPool pool)
+    {
+        super(graph);
+        this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
     }
 
     /**
@@ -211,22 +235,7 @@ public class JohnsonShortestPaths<V, E>
         /*
          * Execute Dijkstra multiple times
          */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it =
-                new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform result
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> pair = distanceAndPredecessorMap
-                    .getOrDefault(u, Pair.of(Double.POSITIVE_INFINITY, null));
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getSecond();
-            }
-        }
+        runDijkstra(g, null);
     }
 
     /**
@@ -269,33 +278,64 @@ public class JohnsonShortestPaths<V, E>
         /*
          * Run Dijkstra using new weights for all vertices
          */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it = new DijkstraClosestFirstIterator<>(
-                newEdgeWeightsGraph, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform distances to original weights
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> oldPair = distanceAndPredecessorMap.get(u);
-
-                Pair<Double, E> newPair;
-                if (oldPair != null) {
-                    newPair = Pair
-                        .of(
-                            oldPair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u),
-                            oldPair.getSecond());
-                } else {
-                    newPair = Pair.of(Double.POSITIVE_INFINITY, null);
-                }
+        runDijkstra(newEdgeWeightsGraph, vertexWeights);
+    }
 
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getSecond();
+    /**
+     * Run Dijkstra's algorithm from every vertex, sequentially or using the pool.
+     *
+     * @param g the graph with non-negative edge weights
+     * @param vertexWeights the vertex weights used for re-weighting or null if none
+     */
+    private void runDijkstra(Graph<V, E> g, Map<V, Double> vertexWeights)
+    {
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        if (pool == null) {
+            for (V v : vertices) {
+                runDijkstra(g, v, vertexWeights);
             }
+        } else {
+            pool.invoke(
+                new DijkstraTask(
+                    new ParallelDijkstra(g, vertices, vertexWeights), 0, vertices.size()));
         }
+    }
 
+    /**
+     * Run Dijkstra's algorithm from a single vertex and store the result in its rows of the
+     * distance and predecessor matrices.
+     *
+     * @param g the graph with non-negative edge weights
+     * @param v the source vertex
+     * @param vertexWeights the vertex weights used for re-weighting or null if none
+     */
+    private void runDijkstra(Graph<V, E> g, V v, Map<V, Double> vertexWeights)
+    {
+        DijkstraClosestFirstIterator<V, E> it =
+            new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
+        while (it.hasNext()) {
+            it.next();
+        }
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
+
+        // transform result, converting distances to original weights if needed
+        double[] vDistance = distance[vertexIndices.get(v)];
+        E[] vPred = pred[vertexIndices.get(v)];
+        for (V u : g.vertexSet()) {
+            Pair<Double, E> pair = distanceAndPredecessorMap.get(u);
+            int uIndex = vertexIndices.get(u);
+            if (pair == null) {
+                vDistance[uIndex] = Double.POSITIVE_INFINITY;
+                vPred[uIndex] = null;
+            } else if (vertexWeights == null) {
+                vDistance[uIndex] = pair.getFirst();
+                vPred[uIndex] = pair.getSecond();
+            } else {
+                vDistance[uIndex] =
+                    pair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u);
+                vPred[uIndex] = pair.getSecond();
+            }
+        }
     }
 
     /**
@@ -362,6 +402,111 @@ public class JohnsonShortestPaths<V, E>
         return numbering;
     }
 
+    /**
+     * The shared state of the parallel Dijkstra searches. The graph is indexed once and every
+     * worker reuses a workspace with its own heap and arrays for all the searches it performs.
+     */
+    private class ParallelDijkstra
+    {
+        private final List<V> vertices;
+        private final DijkstraQueryContext<V, E> index;
+        private final Queue<DijkstraQueryContext<V, E>> workspaces;
+        /**
+         * Position in the result matrices of each vertex of the index.
+         */
+        private final int[] positions;
+        /**
+         * Vertex weight of each vertex of the index, or null if there is no re-weighting.
+         */
+        private final double[] vertexWeights;
+
+        ParallelDijkstra(Graph<V, E> g, List<V> vertices, Map<V, Double> vertexWeights)
+        {
+            this.vertices = vertices;
+            this.index = new DijkstraQueryContext<>(g);
+            this.workspaces = new ConcurrentLinkedQueue<>();
+            workspaces.add(index);
+
+            int n = vertices.size();
+            this.positions = new int[n];
+            this.vertexWeights = vertexWeights == null ? null : new double[n];
+            for (V u : vertices) {
+                int i = index.indexOf(u);
+                positions[i] = vertexIndices.get(u);
+                if (vertexWeights != null) {
+                    this.vertexWeights[i] = vertexWeights.get(u);
+                }
+            }
+        }
+
+        /**
+         * Run Dijkstra's algorithm from a single vertex and store the result in its rows of the
+         * distance and predecessor matrices.
+         *
+         * @param source the position of the source vertex in the vertex list
+         */
+        void run(int source)
+        {
+            DijkstraQueryContext<V, E> context = workspaces.poll();
+            if (context == null) {
+                context = new DijkstraQueryContext<>(index);
+            }
+            try {
+                V v = vertices.get(source);
+                int s = context.indexOf(v);
+                context.search(s, -1, null, 0);
+
+                // transform result, converting distances to original weights if needed
+                double[] vDistance = distance[vertexIndices.get(v)];
+                E[] vPred = pred[vertexIndices.get(v)];
+                for (int u = 0; u < positions.length; u++) {
+                    double d = context.distanceOf(u);
+                    if (vertexWeights != null && d != Double.POSITIVE_INFINITY) {
+                        d = d - vertexWeights[s] + vertexWeights[u];
+                    }
+                    vDistance[positions[u]] = d;
+                    vPred[positions[u]] = context.predecessorOf(u);
+                }
+            } finally {
+                workspaces.offer(context);
+            }
+        }
+    }
+
+    /**
+     * Runs the Dijkstra searches of a range of source vertices, splitting the range recursively.
+     */
+    private class DijkstraTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ParallelDijkstra search;
+        private final int from;
+        private final int to;
+
+        DijkstraTask(ParallelDijkstra search, int from, int to)
+        {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new DijkstraTask(search, from, mid), new DijkstraTask(search, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                search.run(i);
+            }
+        }
+    }
+
     class JohnsonSingleSourcePaths
         implements
         SingleSourcePaths<V, E>
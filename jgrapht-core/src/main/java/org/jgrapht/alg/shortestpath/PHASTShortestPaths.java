@@ -0,0 +1,389 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.util.IntDoubleHeap;
+import org.jgrapht.alg.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+
+/**
+ * Implementation of the PHAST algorithm for one-to-all shortest paths on a contraction hierarchy.
+ *
+ * <p>
+ * The algorithm is described in the article: Daniel Delling, Andrew V. Goldberg, Andreas
+ * Nowatzyk, and Renato F. Werneck. 2013. PHAST: Hardware-accelerated shortest path trees. Journal
+ * of Parallel and Distributed Computing 73, 7, 940-952.
+ *
+ * <p>
+ * A query from a source $s$ runs in two phases. First, a Dijkstra search from $s$ which only
+ * relaxes upward edges of the hierarchy computes the distances to the vertices of the upward
+ * search space of $s$. Second, all vertices are scanned in decreasing contraction level and the
+ * distance of each vertex $v$ is set to the minimum of its current value and $d(u) + w(u, v)$ over
+ * the downward edges $(u, v)$. Since $u$ has a higher level than $v$, its distance is already
+ * final when $v$ is scanned. The second phase does not need a priority queue and scans the
+ * vertices and edges of the hierarchy once, in the order in which they are stored in memory.
+ *
+ * <p>
+ * For computing distances from many sources, {@link #getDistances(List)} processes the sources
+ * in batches. A single sweep serves all sources of a batch: the distances of each vertex are
+ * stored next to each other and the innermost loop runs over the sources of the batch, which is
+ * simple enough for the JIT compiler to vectorize.
+ *
+ * <p>
+ * The hierarchy is copied into arrays during construction, thus later changes of the contraction
+ * hierarchy, such as a new customization of a {@link CustomizableContractionHierarchy}, require a
+ * new instance. Queries do not modify the instance and can run concurrently.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author JGraphT Contributors
+ * @see ContractionHierarchyPrecomputation
+ */
+public class PHASTShortestPaths<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default number of sources which share a downward sweep.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 8;
+
+    /**
+     * Largest array size which can be allocated by the virtual machine.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int batchSize;
+
+    /**
+     * Vertices of the hierarchy in decreasing contraction level. The position of a vertex in this
+     * list is its index in all the arrays below.
+     */
+    private final List<ContractionVertex<V>> vertices;
+    private final Map<V, Integer> index;
+    /**
+     * Position of each vertex in the iteration order of the vertex set of the graph.
+     */
+    private final int[] graphPosition;
+
+    /**
+     * Upward edges in compressed sparse rows format, grouped by source.
+     */
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final List<ContractionEdge<E>> upEdges;
+
+    /**
+     * Downward edges in compressed sparse rows format, grouped by target.
+     */
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final double[] downWeights;
+    private final List<ContractionEdge<E>> downEdges;
+
+    /**
+     * Constructs a new instance of the algorithm for the given {@code hierarchy}.
+     *
+     * @param hierarchy contraction hierarchy
+     */
+    public PHASTShortestPaths(ContractionHierarchy<V, E> hierarchy)
+    {
+        this(hierarchy, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for the given {@code hierarchy} and
+     * {@code batchSize}.
+     *
+     * @param hierarchy contraction hierarchy
+     * @param batchSize the number of sources which share a downward sweep in
+     *        {@link #getDistances(List)}
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public PHASTShortestPaths(ContractionHierarchy<V, E> hierarchy, int batchSize)
+    {
+        super(hierarchy.getGraph());
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            hierarchy.getContractionGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = hierarchy.getContractionMapping();
+
+        int n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(n);
+        for (V v : graph.vertexSet()) {
+            vertices.add(contractionMapping.get(v));
+        }
+        vertices.sort(
+            Comparator.comparingInt((ContractionVertex<V> v) -> v.contractionLevel).reversed());
+        this.index = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            index.put(vertices.get(i).vertex, i);
+        }
+        this.graphPosition = new int[n];
+        int position = 0;
+        for (V v : graph.vertexSet()) {
+            graphPosition[index.get(v)] = position++;
+        }
+
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            ContractionVertex<V> v = vertices.get(i);
+            int up = 0;
+            for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(v)) {
+                if (e.isUpward) {
+                    up++;
+                }
+            }
+            int down = 0;
+            for (ContractionEdge<E> e : contractionGraph.incomingEdgesOf(v)) {
+                if (!e.isUpward) {
+                    down++;
+                }
+            }
+            upOffsets[i + 1] = upOffsets[i] + up;
+            downOffsets[i + 1] = downOffsets[i] + down;
+        }
+
+        this.upTargets = new int[upOffsets[n]];
+        this.upWeights = new double[upOffsets[n]];
+        this.upEdges = new ArrayList<>(upOffsets[n]);
+        this.downSources = new int[downOffsets[n]];
+        this.downWeights = new double[downOffsets[n]];
+        this.downEdges = new ArrayList<>(downOffsets[n]);
+        for (int i = 0; i < n; i++) {
+            ContractionVertex<V> v = vertices.get(i);
+            for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(v)) {
+                if (e.isUpward) {
+                    upTargets[upEdges.size()] =
+                        index.get(contractionGraph.getEdgeTarget(e).vertex);
+                    upWeights[upEdges.size()] = contractionGraph.getEdgeWeight(e);
+                    upEdges.add(e);
+                }
+            }
+            for (ContractionEdge<E> e : contractionGraph.incomingEdgesOf(v)) {
+                if (!e.isUpward) {
+                    downSources[downEdges.size()] =
+                        index.get(contractionGraph.getEdgeSource(e).vertex);
+                    downWeights[downEdges.size()] = contractionGraph.getEdgeWeight(e);
+                    downEdges.add(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This method computes the distances to all vertices, thus {@link #getPaths(Object)} should
+     * be used when paths to several sinks are needed.
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int n = vertices.size();
+        int s = sourceIndex(source);
+        double[] distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        // predecessors smaller than the number of downward edges denote downward edges, larger
+        // ones upward edges
+        int[] predecessor = new int[n];
+        Arrays.fill(predecessor, -1);
+
+        // upward search
+        IntDoubleHeap heap = new IntDoubleHeap(n);
+        upwardSearch(heap, s, distance, 0, 1, predecessor);
+
+        // downward sweep, predecessors are downward edges
+        for (int v = 0; v < n; v++) {
+            double d = distance[v];
+            int p = predecessor[v];
+            for (int i = downOffsets[v], end = downOffsets[v + 1]; i < end; i++) {
+                double candidate = distance[downSources[i]] + downWeights[i];
+                if (candidate < d) {
+                    d = candidate;
+                    p = i;
+                }
+            }
+            distance[v] = d;
+            predecessor[v] = p;
+        }
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            if (distance[v] == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            E e = null;
+            if (v != s) {
+                ContractionEdge<E> last = predecessor[v] >= downOffsets[n]
+                    ? upEdges.get(predecessor[v] - downOffsets[n]) : downEdges.get(predecessor[v]);
+                while (last.bypassedEdges != null) {
+                    last = last.bypassedEdges.getSecond();
+                }
+                e = last.edge;
+            }
+            distanceAndPredecessorMap.put(vertices.get(v).vertex, Pair.of(distance[v], e));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Computes the distances from a source vertex to all vertices.
+     *
+     * @param source the source vertex
+     * @return the distances to all vertices, in the iteration order of the vertex set of the
+     *         graph, infinity for unreachable vertices
+     */
+    public double[] getDistances(V source)
+    {
+        return getDistances(List.of(source))[0];
+    }
+
+    /**
+     * Computes the distances from several source vertices to all vertices. The sources are
+     * processed in batches which share a single downward sweep.
+     *
+     * @param sources the source vertices
+     * @return for each source, the distances to all vertices in the iteration order of the vertex
+     *         set of the graph, infinity for unreachable vertices
+     */
+    public double[][] getDistances(List<V> sources)
+    {
+        int n = vertices.size();
+        int[] s = new int[sources.size()];
+        for (int j = 0; j < s.length; j++) {
+            s[j] = sourceIndex(sources.get(j));
+        }
+
+        double[][] result = new double[s.length][n];
+        IntDoubleHeap heap = new IntDoubleHeap(n);
+        // batches are limited so that the distances of a batch fit into a single array
+        int maxBatchSize = (int) Math.min(batchSize, Math.max(1, MAX_ARRAY_SIZE / Math.max(1, n)));
+        for (int from = 0; from < s.length; from += maxBatchSize) {
+            int k = Math.min(maxBatchSize, s.length - from);
+
+            // distances of vertex v are stored at [v * k, (v + 1) * k)
+            double[] distance = new double[n * k];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            for (int j = 0; j < k; j++) {
+                upwardSearch(heap, s[from + j], distance, j, k, null);
+            }
+
+            for (int v = 0; v < n; v++) {
+                int vOffset = v * k;
+                for (int i = downOffsets[v], end = downOffsets[v + 1]; i < end; i++) {
+                    int uOffset = downSources[i] * k;
+                    double w = downWeights[i];
+                    for (int j = 0; j < k; j++) {
+                        distance[vOffset + j] =
+                            Math.min(distance[vOffset + j], distance[uOffset + j] + w);
+                    }
+                }
+            }
+
+            for (int v = 0; v < n; v++) {
+                int p = graphPosition[v];
+                for (int j = 0; j < k; j++) {
+                    result[from + j][p] = distance[v * k + j];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Dijkstra search from a source which relaxes only upward edges.
+     *
+     * @param heap an empty heap
+     * @param source the source index
+     * @param distance the distances, where the distance of vertex $v$ is stored at position $v
+     *        \cdot stride + offset$
+     * @param offset the offset in the distances
+     * @param stride the stride in the distances
+     * @param predecessor the upward edge used to reach each vertex, or null if not needed
+     */
+    private void upwardSearch(
+        IntDoubleHeap heap, int source, double[] distance, int offset, int stride,
+        int[] predecessor)
+    {
+        int downEdgesCount = downOffsets[downOffsets.length - 1];
+        distance[source * stride + offset] = 0d;
+        heap.insert(source, 0d);
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            int v = heap.deleteMin();
+            for (int i = upOffsets[v], end = upOffsets[v + 1]; i < end; i++) {
+                int u = upTargets[i];
+                double uDistance = vDistance + upWeights[i];
+                int position = u * stride + offset;
+                if (uDistance < distance[position]) {
+                    if (distance[position] == Double.POSITIVE_INFINITY) {
+                        heap.insert(u, uDistance);
+                    } else {
+                        heap.decreaseKey(u, uDistance);
+                    }
+                    distance[position] = uDistance;
+                    if (predecessor != null) {
+                        predecessor[u] = downEdgesCount + i;
+                    }
+                }
+            }
+        }
+    }
+
+    private int sourceIndex(V source)
+    {
+        Integer s = index.get(source);
+        if (s == null || !graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return s;
+    }
+
+}
@@ -0,0 +1,479 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A parallel direction-optimizing breadth-first search which computes shortest paths from a single
+ * source vertex in an unweighted graph.
+ *
+ * <p>
+ * The search proceeds level by level. A level is expanded either top-down, where the vertices of
+ * the frontier scan their outgoing edges and claim their unvisited neighbors, or bottom-up, where
+ * every unvisited vertex scans its incoming edges until it finds a neighbor in the frontier. The
+ * bottom-up direction stops scanning a vertex as soon as a parent is found, which saves most of the
+ * edge inspections when the frontier contains a large fraction of the graph, as is common in
+ * low-diameter graphs. Following S. Beamer, K. Asanović, D. Patterson. Direction-optimizing
+ * breadth-first search. SC '12, the search switches to bottom-up when the number of edges incident
+ * to the frontier exceeds $1/\alpha$ of the edges incident to unvisited vertices, and back to
+ * top-down when the frontier contains less than $1/\beta$ of the vertices.
+ *
+ * <p>
+ * Frontiers are stored as bitmaps and the vertices of each level are processed in parallel using a
+ * {@link ForkJoinPool}. Parents are recorded in an atomic integer array, where a vertex is claimed
+ * by compare-and-set during the top-down steps. The graph is indexed once, during the first search,
+ * into compressed sparse rows arrays which contain only the neighbors of each vertex. Vertices of
+ * an {@link IntGraph} are used directly as indices, while vertices of any other graph are mapped
+ * using a {@link VertexToIntegerMapping}. Later changes of the graph are not visible to the
+ * algorithm.
+ *
+ * <p>
+ * The weight of a path is its number of edges. Since only the parent vertex of each vertex is
+ * stored, the edges of a path are looked up in the graph when the path is requested.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ * @see BFSShortestPath
+ */
+public class ParallelBFSShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Switch to bottom-up when the frontier edges exceed this fraction of the unexplored edges.
+     */
+    private static final int ALPHA = 14;
+    /**
+     * Switch back to top-down when the frontier vertices are less than this fraction of all
+     * vertices.
+     */
+    private static final int BETA = 24;
+    /**
+     * Number of bitmap words processed sequentially by a single task.
+     */
+    private static final int GRAIN = 64;
+
+    private final ForkJoinPool pool;
+
+    private Map<V, Integer> vertexMap;
+    private List<V> vertexList;
+    private int[] outOffsets;
+    private int[] outNeighbors;
+    private int[] inOffsets;
+    private int[] inNeighbors;
+
+    /**
+     * Construct a new instance which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public ParallelBFSShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param pool the pool which processes the levels of the search
+     */
+    public ParallelBFSShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        index();
+        int s = indexOf(source);
+        int n = outOffsets.length - 1;
+        AtomicIntegerArray parent = new AtomicIntegerArray(n);
+        int[] depth = search(s, parent);
+        return new BFSSingleSourcePaths(s, parent, depth);
+    }
+
+    /**
+     * Compute the number of edges of the shortest path from a source vertex to every vertex. The
+     * result is indexed by vertex for an {@link IntGraph}, and by the position of the vertex in the
+     * iteration order of {@code graph.vertexSet()} for any other graph.
+     *
+     * @param source the source vertex
+     * @return the depth of each vertex in the breadth-first search tree, or $-1$ for vertices which
+     *         are not reachable from the source
+     * @throws IllegalArgumentException if the source vertex is not contained in the graph
+     */
+    public int[] getDepths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        index();
+        int n = outOffsets.length - 1;
+        return search(indexOf(source), new AtomicIntegerArray(n));
+    }
+
+    /**
+     * Execute the search.
+     *
+     * @param source the source vertex index
+     * @param parent the parent array, where the parent of each vertex is stored increased by one
+     *        and zero denotes an unvisited vertex
+     * @return the depth of each vertex or $-1$ for unreachable vertices
+     */
+    private int[] search(int source, AtomicIntegerArray parent)
+    {
+        int n = outOffsets.length - 1;
+        int words = (n + Long.SIZE - 1) / Long.SIZE;
+        int[] depth = new int[n];
+        Arrays.fill(depth, -1);
+
+        AtomicLongArray frontier = new AtomicLongArray(words);
+        AtomicLongArray next = new AtomicLongArray(words);
+        parent.set(source, source + 1);
+        depth[source] = 0;
+        frontier.set(source / Long.SIZE, 1L << source);
+
+        long frontierSize = 1;
+        long frontierEdges = outOffsets[source + 1] - outOffsets[source];
+        long unexploredEdges =
+            inOffsets[n] - (long) (inOffsets[source + 1] - inOffsets[source]);
+        boolean bottomUp = false;
+        for (int level = 0; frontierSize > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / BETA) {
+                bottomUp = false;
+            }
+
+            LevelTask task =
+                new LevelTask(bottomUp, level + 1, frontier, next, parent, depth, 0, words);
+            pool.invoke(task);
+            frontierSize = task.discovered;
+            frontierEdges = task.discoveredOutEdges;
+            unexploredEdges -= task.discoveredInEdges;
+
+            AtomicLongArray tmp = frontier;
+            frontier = next;
+            next = tmp;
+            for (int w = 0; w < words; w++) {
+                next.set(w, 0L);
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Expands a range of bitmap words of a single level, splitting the range recursively.
+     */
+    private class LevelTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean bottomUp;
+        private final int level;
+        private final AtomicLongArray frontier;
+        private final AtomicLongArray next;
+        private final AtomicIntegerArray parent;
+        private final int[] depth;
+        private final int from;
+        private final int to;
+
+        long discovered;
+        long discoveredOutEdges;
+        long discoveredInEdges;
+
+        LevelTask(
+            boolean bottomUp, int level, AtomicLongArray frontier, AtomicLongArray next,
+            AtomicIntegerArray parent, int[] depth, int from, int to)
+        {
+            this.bottomUp = bottomUp;
+            this.level = level;
+            this.frontier = frontier;
+            this.next = next;
+            this.parent = parent;
+            this.depth = depth;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                LevelTask left =
+                    new LevelTask(bottomUp, level, frontier, next, parent, depth, from, mid);
+                LevelTask right =
+                    new LevelTask(bottomUp, level, frontier, next, parent, depth, mid, to);
+                invokeAll(left, right);
+                discovered = left.discovered + right.discovered;
+                discoveredOutEdges = left.discoveredOutEdges + right.discoveredOutEdges;
+                discoveredInEdges = left.discoveredInEdges + right.discoveredInEdges;
+                return;
+            }
+            if (bottomUp) {
+                bottomUp();
+            } else {
+                topDown();
+            }
+        }
+
+        private void topDown()
+        {
+            for (int w = from; w < to; w++) {
+                long bits = frontier.get(w);
+                while (bits != 0L) {
+                    int v = w * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    for (int slot = outOffsets[v], end = outOffsets[v + 1]; slot < end; slot++) {
+                        int u = outNeighbors[slot];
+                        if (parent.get(u) == 0 && parent.compareAndSet(u, 0, v + 1)) {
+                            depth[u] = level;
+                            setBit(u);
+                            visit(u);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void bottomUp()
+        {
+            int n = depth.length;
+            for (int w = from; w < to; w++) {
+                long bits = 0L;
+                for (int v = w * Long.SIZE, end = Math.min(v + Long.SIZE, n); v < end; v++) {
+                    if (parent.get(v) != 0) {
+                        continue;
+                    }
+                    for (int slot = inOffsets[v], last = inOffsets[v + 1]; slot < last; slot++) {
+                        int p = inNeighbors[slot];
+                        if ((frontier.get(p / Long.SIZE) & (1L << p)) != 0L) {
+                            parent.set(v, p + 1);
+                            depth[v] = level;
+                            bits |= 1L << v;
+                            visit(v);
+                            break;
+                        }
+                    }
+                }
+                if (bits != 0L) {
+                    // only this task writes this word during a bottom-up step
+                    next.set(w, bits);
+                }
+            }
+        }
+
+        private void setBit(int v)
+        {
+            int w = v / Long.SIZE;
+            long bit = 1L << v;
+            long old;
+            do {
+                old = next.get(w);
+            } while (!next.compareAndSet(w, old, old | bit));
+        }
+
+        private void visit(int v)
+        {
+            discovered++;
+            discoveredOutEdges += outOffsets[v + 1] - outOffsets[v];
+            discoveredInEdges += inOffsets[v + 1] - inOffsets[v];
+        }
+    }
+
+    /**
+     * Build the compressed sparse rows index of the graph, if not already built.
+     */
+    private synchronized void index()
+    {
+        if (outOffsets != null) {
+            return;
+        }
+        int n = graph.vertexSet().size();
+        if (!(graph instanceof IntGraph)) {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            vertexMap = mapping.getVertexMap();
+            vertexList = mapping.getIndexList();
+        }
+
+        int[][] out = rows(n, false);
+        if (graph.getType().isUndirected()) {
+            inOffsets = out[0];
+            inNeighbors = out[1];
+        } else {
+            int[][] in = rows(n, true);
+            inOffsets = in[0];
+            inNeighbors = in[1];
+        }
+        outNeighbors = out[1];
+        outOffsets = out[0];
+    }
+
+    /**
+     * Compute the neighbors of every vertex in compressed sparse rows format.
+     *
+     * @param n the number of vertices
+     * @param incoming whether to use the incoming instead of the outgoing edges
+     * @return the offsets and the neighbors arrays
+     */
+    private int[][] rows(int n, boolean incoming)
+    {
+        int[] offsets = new int[n + 1];
+        int[] neighbors;
+        if (graph instanceof IntGraph) {
+            IntGraph g = (IntGraph) graph;
+            int[] count = new int[1];
+            for (int i = 0; i < n; i++) {
+                // count edges instead of using the degree which counts self-loops twice
+                count[0] = 0;
+                if (incoming) {
+                    g.forEachInEdge(i, e -> count[0]++);
+                } else {
+                    g.forEachOutEdge(i, e -> count[0]++);
+                }
+                offsets[i + 1] = offsets[i] + count[0];
+            }
+            neighbors = new int[offsets[n]];
+            int[] slot = new int[1];
+            for (int i = 0; i < n; i++) {
+                if (incoming) {
+                    g.forEachInNeighbor(i, u -> neighbors[slot[0]++] = u);
+                } else {
+                    g.forEachOutNeighbor(i, u -> neighbors[slot[0]++] = u);
+                }
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                V v = vertexAt(i);
+                int degree =
+                    incoming ? graph.incomingEdgesOf(v).size() : graph.outgoingEdgesOf(v).size();
+                offsets[i + 1] = offsets[i] + degree;
+            }
+            neighbors = new int[offsets[n]];
+            for (int i = 0, slot = 0; i < n; i++) {
+                V v = vertexAt(i);
+                for (E e : incoming ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v)) {
+                    neighbors[slot++] = indexOf(Graphs.getOppositeVertex(graph, e, v));
+                }
+            }
+        }
+        return new int[][] { offsets, neighbors };
+    }
+
+    private int indexOf(V v)
+    {
+        return vertexMap == null ? (Integer) v : vertexMap.get(v);
+    }
+
+    private V vertexAt(int i)
+    {
+        return vertexList == null ? TypeUtil.uncheckedCast(i) : vertexList.get(i);
+    }
+
+    /**
+     * Shortest paths tree of a single search, stored in the parent and depth arrays.
+     */
+    private class BFSSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final int source;
+        private final AtomicIntegerArray parent;
+        private final int[] depth;
+
+        BFSSingleSourcePaths(int source, AtomicIntegerArray parent, int[] depth)
+        {
+            this.source = source;
+            this.parent = parent;
+            this.depth = depth;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return vertexAt(source);
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            int t = indexOf(sink);
+            return depth[t] < 0 ? Double.POSITIVE_INFINITY : depth[t];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            int t = indexOf(sink);
+            if (t == source) {
+                return createEmptyPath(vertexAt(source), sink);
+            }
+            if (depth[t] < 0) {
+                return null;
+            }
+            List<E> edgeList = new ArrayList<>(depth[t]);
+            for (int v = t; v != source;) {
+                int p = parent.get(v) - 1;
+                edgeList.add(graph.getEdge(vertexAt(p), vertexAt(v)));
+                v = p;
+            }
+            Collections.reverse(edgeList);
+            return new GraphWalk<>(graph, vertexAt(source), sink, null, edgeList, depth[t]);
+        }
+    }
+
+}
@@ -0,0 +1,335 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parallel algorithm for the many-to-many shortest paths problem using one Dijkstra search per
+ * source vertex.
+ *
+ * <p>
+ * The searches of different source vertices are independent and are distributed among the workers
+ * of a {@link ForkJoinPool}. The graph is indexed once into compressed sparse rows format using a
+ * {@link DijkstraQueryContext}, and every worker reuses a workspace with its own heap and distance
+ * arrays for all the searches it performs. Each search
+ * stops as soon as all target vertices are settled. In case $|T| &#62; |S|$ the searches are
+ * performed on the reversed graph from the target vertices, which reduces the number of searches
+ * to $min(|S|,|T|)$.
+ *
+ * <p>
+ * The distances are stored in a single primitive array of $|S| \cdot |T|$ entries, see
+ * {@link #getDistances(List, List)}, while the shortest paths trees of the searches are discarded.
+ * Paths are therefore computed on demand, using one point-to-point search per requested path.
+ * This makes the algorithm suitable for computing large distance tables, for example of all pairs
+ * of vertices, with a memory footprint of a single double per pair.
+ *
+ * <p>
+ * The graph is indexed during the first computation, so later changes of the graph, including
+ * changes of edge weights, are not visible to the algorithm. The graph must not contain edges with
+ * negative weights.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author JGraphT Contributors
+ * @see DijkstraManyToManyShortestPaths
+ */
+public class ParallelDijkstraManyToManyShortestPaths<V, E>
+    extends
+    BaseManyToManyShortestPaths<V, E>
+{
+    /**
+     * Number of tasks per worker thread, which balances the load of searches with different
+     * search space sizes.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final ForkJoinPool pool;
+
+    private DijkstraQueryContext<V, E> forward;
+    private DijkstraQueryContext<V, E> reversed;
+    private final Queue<DijkstraQueryContext<V, E>> forwardWorkspaces;
+    private final Queue<DijkstraQueryContext<V, E>> reversedWorkspaces;
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code graph} using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph underlying graph
+     */
+    public ParallelDijkstraManyToManyShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code graph} and {@code pool}.
+     *
+     * @param graph underlying graph
+     * @param pool the pool which executes the searches
+     */
+    public ParallelDijkstraManyToManyShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        this.pool = Objects.requireNonNull(pool, "pool cannot be null!");
+        this.forwardWorkspaces = new ConcurrentLinkedQueue<>();
+        this.reversedWorkspaces = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public ManyToManyShortestPaths<V, E> getManyToManyPaths(Set<V> sources, Set<V> targets)
+    {
+        Objects.requireNonNull(sources, "sources cannot be null!");
+        Objects.requireNonNull(targets, "targets cannot be null!");
+
+        List<V> sourceList = new ArrayList<>(sources);
+        List<V> targetList = new ArrayList<>(targets);
+        double[] distances = getDistances(sourceList, targetList);
+        return new ParallelManyToManyShortestPathsImpl(
+            sources, targets, sourceList, targetList, distances);
+    }
+
+    /**
+     * Computes the distances from every source vertex to every target vertex. The result is a
+     * matrix stored in row-major order, that is the distance from {@code sources.get(i)} to
+     * {@code targets.get(j)} is stored at index {@code i * targets.size() + j}. Unreachable targets
+     * have infinite distance.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @return the distance matrix
+     * @throws IllegalArgumentException if a source or target vertex is not contained in the graph,
+     *         if the graph contains an edge with negative weight or if the matrix has too many
+     *         entries to be stored in a single array
+     */
+    public double[] getDistances(List<V> sources, List<V> targets)
+    {
+        Objects.requireNonNull(sources, "sources cannot be null!");
+        Objects.requireNonNull(targets, "targets cannot be null!");
+        for (V source : sources) {
+            if (!graph.containsVertex(source)) {
+                throw new IllegalArgumentException("graph must contain the source vertex!");
+            }
+        }
+        for (V target : targets) {
+            if (!graph.containsVertex(target)) {
+                throw new IllegalArgumentException("graph must contain the target vertex!");
+            }
+        }
+        if ((long) sources.size() * targets.size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many source and target vertices");
+        }
+
+        double[] distances = new double[sources.size() * targets.size()];
+        if (distances.length == 0) {
+            return distances;
+        }
+        if (sources.size() >= targets.size()) {
+            pool.invoke(new SearchTask(sources, targets, false, distances, 0, sources.size()));
+        } else {
+            pool.invoke(new SearchTask(targets, sources, true, distances, 0, targets.size()));
+        }
+        return distances;
+    }
+
+    /**
+     * Get a workspace for a search.
+     *
+     * @param reverse whether to search the reversed graph
+     * @return a workspace
+     */
+    private DijkstraQueryContext<V, E> acquire(boolean reverse)
+    {
+        Queue<DijkstraQueryContext<V, E>> workspaces =
+            reverse ? reversedWorkspaces : forwardWorkspaces;
+        DijkstraQueryContext<V, E> context = workspaces.poll();
+        if (context != null) {
+            return context;
+        }
+        return createWorkspace(reverse);
+    }
+
+    private void release(DijkstraQueryContext<V, E> context, boolean reverse)
+    {
+        (reverse ? reversedWorkspaces : forwardWorkspaces).offer(context);
+    }
+
+    /**
+     * Create a new workspace. The first workspace indexes the graph, later ones share its index.
+     *
+     * @param reverse whether to search the reversed graph
+     * @return a workspace
+     */
+    private synchronized DijkstraQueryContext<V, E> createWorkspace(boolean reverse)
+    {
+        if (reverse) {
+            if (reversed == null) {
+                reversed = new DijkstraQueryContext<>(new EdgeReversedGraph<>(graph));
+                return reversed;
+            }
+            return new DijkstraQueryContext<>(reversed);
+        }
+        if (forward == null) {
+            forward = new DijkstraQueryContext<>(graph);
+            return forward;
+        }
+        return new DijkstraQueryContext<>(forward);
+    }
+
+    /**
+     * Performs the searches of a range of origins, splitting the range recursively.
+     */
+    private class SearchTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final List<V> origins;
+        private final List<V> destinations;
+        private final boolean reverse;
+        private final double[] distances;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        SearchTask(
+            List<V> origins, List<V> destinations, boolean reverse, double[] distances, int from,
+            int to)
+        {
+            this.origins = origins;
+            this.destinations = destinations;
+            this.reverse = reverse;
+            this.distances = distances;
+            this.from = from;
+            this.to = to;
+            this.grain = Math.max(1, origins.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > grain) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new SearchTask(origins, destinations, reverse, distances, from, mid),
+                    new SearchTask(origins, destinations, reverse, distances, mid, to));
+                return;
+            }
+
+            DijkstraQueryContext<V, E> context = acquire(reverse);
+            try {
+                int d = destinations.size();
+                int[] indices = new int[d];
+                boolean[] marked = new boolean[graph.vertexSet().size()];
+                int remaining = 0;
+                for (int j = 0; j < d; j++) {
+                    indices[j] = context.indexOf(destinations.get(j));
+                    if (!marked[indices[j]]) {
+                        marked[indices[j]] = true;
+                        remaining++;
+                    }
+                }
+                for (int i = from; i < to; i++) {
+                    context.search(context.indexOf(origins.get(i)), -1, marked, remaining);
+                    for (int j = 0; j < d; j++) {
+                        double distance = context.distanceOf(indices[j]);
+                        if (reverse) {
+                            distances[j * origins.size() + i] = distance;
+                        } else {
+                            distances[i * d + j] = distance;
+                        }
+                    }
+                }
+            } finally {
+                release(context, reverse);
+            }
+        }
+    }
+
+    /**
+     * Implementation of the
+     * {@link org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths}
+     * which stores the distances in a primitive matrix and computes paths on demand.
+     */
+    private class ParallelManyToManyShortestPathsImpl
+        extends
+        BaseManyToManyShortestPathsImpl<V, E>
+    {
+        private final Map<V, Integer> sourceIndices;
+        private final Map<V, Integer> targetIndices;
+        private final double[] distances;
+
+        ParallelManyToManyShortestPathsImpl(
+            Set<V> sources, Set<V> targets, List<V> sourceList, List<V> targetList,
+            double[] distances)
+        {
+            super(sources, targets);
+            this.sourceIndices = indices(sourceList);
+            this.targetIndices = indices(targetList);
+            this.distances = distances;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GraphPath<V, E> getPath(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+            if (Double.isInfinite(getWeight(source, target))) {
+                return null;
+            }
+            DijkstraQueryContext<V, E> context = acquire(false);
+            try {
+                return context.getPath(source, target);
+            } finally {
+                release(context, false);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getWeight(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+            return distances[sourceIndices.get(source) * targetIndices.size()
+                + targetIndices.get(target)];
+        }
+
+        private Map<V, Integer> indices(List<V> vertices)
+        {
+            Map<V, Integer> result = new HashMap<>();
+            for (int i = 0; i < vertices.size(); i++) {
+                result.put(vertices.get(i), i);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A queue-based variant of the Bellman-Ford algorithm, also known as the shortest path faster
+ * algorithm (SPFA).
+ *
+ * <p>
+ * Computes shortest paths from a single source vertex to all other vertices in a weighted graph
+ * with possibly negative edge weights. Instead of relaxing all edges in each round, only the
+ * vertices whose distance decreased are kept in a queue and scanned. The queue is either a plain
+ * FIFO queue or uses the small label first (SLF) rule, which inserts a vertex at the front of the
+ * queue if its distance is smaller than the distance of the first vertex in the queue. A vertex is
+ * not scanned if its parent in the shortest paths tree is still in the queue, since its distance
+ * is then going to decrease again. See B. V. Cherkassky and A. V. Goldberg. Negative-cycle
+ * detection algorithms. Mathematical Programming, 85:277–311, 1999.
+ *
+ * <p>
+ * Alternatively, if a {@link ForkJoinPool} is provided, the algorithm executes rounds of the
+ * Bellman-Ford algorithm in parallel. In each round every vertex computes its new distance from
+ * the distances of the previous round of its in-neighbors whose distance changed. Both modes keep
+ * the distances in primitive arrays indexed by the vertices.
+ *
+ * <p>
+ * Negative weight cycles are not allowed and will be reported by the algorithm. This implies that
+ * negative edge weights are not allowed in undirected graphs. In such cases the code will throw an
+ * exception of type {@link NegativeCycleDetectedException} which will contain the detected negative
+ * weight cycle. Negative cycles are found by periodically checking the shortest paths tree for a
+ * cycle, which only exists if the graph contains a negative weight cycle. Note that the algorithm
+ * will not report or find negative weight cycles which are not reachable from the source vertex.
+ *
+ * <p>
+ * The running time is $O(|E||V|)$ in the worst case, but is usually much smaller in practice.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ * @see BellmanFordShortestPath
+ */
+public class SPFAShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Number of vertices processed sequentially by a single task in the parallel mode.
+     */
+    private static final int GRAIN = 1024;
+
+    /**
+     * The queue discipline of the sequential mode.
+     */
+    public enum QueueStrategy
+    {
+        /**
+         * Vertices are scanned in the order in which they were inserted.
+         */
+        FIFO,
+        /**
+         * A vertex is inserted at the front of the queue if its distance is smaller than the
+         * distance of the first vertex in the queue, and at the back otherwise.
+         */
+        SMALL_LABEL_FIRST,
+    }
+
+    private final double epsilon;
+    private final QueueStrategy strategy;
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     */
+    public SPFAShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     */
+    public SPFAShortestPath(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, QueueStrategy.SMALL_LABEL_FIRST);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param strategy the queue discipline
+     */
+    public SPFAShortestPath(Graph<V, E> graph, double epsilon, QueueStrategy strategy)
+    {
+        super(graph);
+        this.epsilon = epsilon;
+        this.strategy = Objects.requireNonNull(strategy, "Queue strategy cannot be null");
+        this.pool = null;
+    }
+
+    /**
+     * Construct a new instance which executes parallel rounds of relaxations.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param pool the pool which executes the rounds
+     */
+    public SPFAShortestPath(Graph<V, E> graph, double epsilon, ForkJoinPool pool)
+    {
+        super(graph);
+        this.epsilon = epsilon;
+        this.strategy = null;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        Index index = new Index(pool != null);
+        int n = index.vertices.size();
+        double[] distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        int[] predVertex = new int[n];
+        Arrays.fill(predVertex, -1);
+        int[] predEdge = new int[n];
+
+        int s = index.vertexMap.get(source);
+        distance[s] = 0d;
+        if (pool == null) {
+            scan(index, s, distance, predVertex, predEdge);
+        } else {
+            rounds(index, s, distance, predVertex, predEdge);
+        }
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            E e = predVertex[v] == -1 ? null : index.edges.get(predEdge[v]);
+            distanceAndPredecessorMap.put(index.vertices.get(v), Pair.of(distance[v], e));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Find a path between two vertices.
+     * 
+     * @param graph the graph to be searched
+     * @param source the vertex at which the path should start
+     * @param sink the vertex at which the path should end
+     * 
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return a shortest path, or null if no path exists
+     */
+    public static <V, E> GraphPath<V, E> findPathBetween(Graph<V, E> graph, V source, V sink)
+    {
+        return new SPFAShortestPath<>(graph).getPath(source, sink);
+    }
+
+    /**
+     * Whether distance {@code d} improves distance {@code current} by more than the tolerance.
+     */
+    private boolean improves(double d, double current)
+    {
+        return d < current && current - d >= epsilon;
+    }
+
+    /**
+     * Sequential label-correcting search with a FIFO or SLF queue and parent checking.
+     */
+    private void scan(Index index, int s, double[] distance, int[] predVertex, int[] predEdge)
+    {
+        int n = distance.length;
+        // circular deque, each vertex is contained at most once
+        int[] queue = new int[n];
+        int head = 0;
+        int size = 1;
+        boolean[] inQueue = new boolean[n];
+        queue[0] = s;
+        inQueue[s] = true;
+
+        boolean slf = strategy == QueueStrategy.SMALL_LABEL_FIRST;
+        int relaxations = 0;
+        while (size > 0) {
+            int v = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            inQueue[v] = false;
+
+            // the distance of v will decrease again when its parent is scanned
+            if (predVertex[v] != -1 && inQueue[predVertex[v]]) {
+                continue;
+            }
+
+            double dv = distance[v];
+            for (int a = index.outOffsets[v], end = index.outOffsets[v + 1]; a < end; a++) {
+                int u = index.outTargets[a];
+                double du = dv + index.outWeights[a];
+                if (!improves(du, distance[u])) {
+                    continue;
+                }
+                distance[u] = du;
+                predVertex[u] = v;
+                predEdge[u] = index.outEdges[a];
+
+                if (++relaxations >= n) {
+                    relaxations = 0;
+                    checkNegativeCycle(index, predVertex, predEdge);
+                }
+
+                if (!inQueue[u]) {
+                    inQueue[u] = true;
+                    if (slf && size > 0 && du < distance[queue[head]]) {
+                        head = head == 0 ? n - 1 : head - 1;
+                        queue[head] = u;
+                    } else {
+                        int tail = head + size;
+                        queue[tail >= n ? tail - n : tail] = u;
+                    }
+                    size++;
+                }
+            }
+        }
+        checkNegativeCycle(index, predVertex, predEdge);
+    }
+
+    /**
+     * Parallel rounds of the Bellman-Ford algorithm.
+     */
+    private void rounds(Index index, int s, double[] distance, int[] predVertex, int[] predEdge)
+    {
+        int n = distance.length;
+        double[] next = distance.clone();
+        boolean[] changed = new boolean[n];
+        boolean[] nextChanged = new boolean[n];
+        changed[s] = true;
+
+        double[] current = distance;
+        for (int round = 1;; round++) {
+            RoundTask task = new RoundTask(
+                index, current, next, changed, nextChanged, predVertex, predEdge, 0, n);
+            pool.invoke(task);
+            if (!task.anyChanged) {
+                break;
+            }
+
+            double[] tmp = current;
+            current = next;
+            next = tmp;
+            boolean[] tmpChanged = changed;
+            changed = nextChanged;
+            nextChanged = tmpChanged;
+            System.arraycopy(current, 0, next, 0, n);
+
+            // check for cycles in the shortest paths tree with exponential backoff, and in every
+            // round once a simple path has had enough rounds to settle
+            if ((round & (round - 1)) == 0 || round >= n - 1) {
+                checkNegativeCycle(index, predVertex, predEdge);
+            }
+        }
+        if (current != distance) {
+            System.arraycopy(current, 0, distance, 0, n);
+        }
+        checkNegativeCycle(index, predVertex, predEdge);
+    }
+
+    /**
+     * Throws an exception if the shortest paths tree contains a cycle, which can only be the case
+     * if the graph contains a negative weight cycle.
+     */
+    private void checkNegativeCycle(Index index, int[] predVertex, int[] predEdge)
+    {
+        int n = predVertex.length;
+        int[] walk = new int[n];
+        for (int s = 0; s < n; s++) {
+            int v = s;
+            while (v != -1 && walk[v] == 0) {
+                walk[v] = s + 1;
+                v = predVertex[v];
+            }
+            if (v != -1 && walk[v] == s + 1) {
+                throw new NegativeCycleDetectedException(
+                    GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE,
+                    computeNegativeCycle(index, v, predVertex, predEdge));
+            }
+        }
+    }
+
+    /**
+     * Computes the negative weight cycle of the shortest paths tree which contains vertex
+     * {@code start}.
+     */
+    private GraphPath<V, E> computeNegativeCycle(
+        Index index, int start, int[] predVertex, int[] predEdge)
+    {
+        List<E> cycle = new ArrayList<>();
+        double weight = 0d;
+        int v = start;
+        do {
+            E e = index.edges.get(predEdge[v]);
+            cycle.add(e);
+            weight += graph.getEdgeWeight(e);
+            v = predVertex[v];
+        } while (v != start);
+        Collections.reverse(cycle);
+
+        V startVertex = index.vertices.get(start);
+        return new GraphWalk<>(graph, startVertex, startVertex, cycle, weight);
+    }
+
+    /**
+     * Integer index of the graph in compressed sparse rows format.
+     */
+    private class Index
+    {
+        final Map<V, Integer> vertexMap;
+        final List<V> vertices;
+        final List<E> edges;
+        final int[] outOffsets;
+        final int[] outTargets;
+        final double[] outWeights;
+        final int[] outEdges;
+        final int[] inOffsets;
+        final int[] inSources;
+        final double[] inWeights;
+        final int[] inEdges;
+
+        Index(boolean incoming)
+        {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.vertexMap = mapping.getVertexMap();
+            this.vertices = mapping.getIndexList();
+            this.edges = new ArrayList<>();
+
+            int n = vertices.size();
+            this.outOffsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                outOffsets[v + 1] = outOffsets[v] + graph.outgoingEdgesOf(vertices.get(v)).size();
+            }
+            this.outTargets = new int[outOffsets[n]];
+            this.outWeights = new double[outOffsets[n]];
+            this.outEdges = new int[outOffsets[n]];
+            for (int v = 0; v < n; v++) {
+                V vertex = vertices.get(v);
+                int a = outOffsets[v];
+                for (E e : graph.outgoingEdgesOf(vertex)) {
+                    outTargets[a] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                    outWeights[a] = graph.getEdgeWeight(e);
+                    outEdges[a] = edges.size();
+                    edges.add(e);
+                    a++;
+                }
+            }
+
+            if (!incoming) {
+                this.inOffsets = null;
+                this.inSources = null;
+                this.inWeights = null;
+                this.inEdges = null;
+                return;
+            }
+            this.inOffsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                inOffsets[v + 1] = inOffsets[v] + graph.incomingEdgesOf(vertices.get(v)).size();
+            }
+            this.inSources = new int[inOffsets[n]];
+            this.inWeights = new double[inOffsets[n]];
+            this.inEdges = new int[inOffsets[n]];
+            for (int v = 0; v < n; v++) {
+                V vertex = vertices.get(v);
+                int a = inOffsets[v];
+                for (E e : graph.incomingEdgesOf(vertex)) {
+                    inSources[a] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                    inWeights[a] = graph.getEdgeWeight(e);
+                    inEdges[a] = edges.size();
+                    edges.add(e);
+                    a++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the distances of a range of vertices in a single round, splitting the range
+     * recursively.
+     */
+    private class RoundTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Index index;
+        private final double[] distance;
+        private final double[] next;
+        private final boolean[] changed;
+        private final boolean[] nextChanged;
+        private final int[] predVertex;
+        private final int[] predEdge;
+        private final int from;
+        private final int to;
+
+        boolean anyChanged;
+
+        RoundTask(
+            Index index, double[] distance, double[] next, boolean[] changed,
+            boolean[] nextChanged, int[] predVertex, int[] predEdge, int from, int to)
+        {
+            this.index = index;
+            this.distance = distance;
+            this.next = next;
+            this.changed = changed;
+            this.nextChanged = nextChanged;
+            this.predVertex = predVertex;
+            this.predEdge = predEdge;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                RoundTask left = new RoundTask(
+                    index, distance, next, changed, nextChanged, predVertex, predEdge, from, mid);
+                RoundTask right = new RoundTask(
+                    index, distance, next, changed, nextChanged, predVertex, predEdge, mid, to);
+                invokeAll(left, right);
+                anyChanged = left.anyChanged || right.anyChanged;
+                return;
+            }
+
+            for (int v = from; v < to; v++) {
+                double best = distance[v];
+                int bestArc = -1;
+                for (int a = index.inOffsets[v], end = index.inOffsets[v + 1]; a < end; a++) {
+                    int u = index.inSources[a];
+                    if (!changed[u]) {
+                        continue;
+                    }
+                    double d = distance[u] + index.inWeights[a];
+                    if (improves(d, best)) {
+                        best = d;
+                        bestArc = a;
+                    }
+                }
+                if (bestArc == -1) {
+                    nextChanged[v] = false;
+                } else {
+                    next[v] = best;
+                    predVertex[v] = index.inSources[bestArc];
+                    predEdge[v] = index.inEdges[bestArc];
+                    nextChanged[v] = true;
+                    anyChanged = true;
+                }
+            }
+        }
+    }
+}
@@ -19,8 +19,10 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Implementation of Yen`s algorithm for finding $k$ shortest loopless paths.
@@ -39,6 +41,11 @@ import java.util.*;
  * {@code sink} and forms the resulting list. It is possible to provide a {@link PathValidator} to
  * filter the resulting path list
  *
+ * <p>
+ * If a {@link ForkJoinPool} is provided, the spur paths of each path are computed in parallel and
+ * candidate paths which are heavier than the $k$ paths to be returned are pruned. The returned
+ * paths are sorted by weight in both modes.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -60,6 +67,11 @@ public class YenKShortestPath<V, E>
      */
     private PathValidator<V, E> pathValidator;
 
+    /**
+     * Pool which executes the spur searches, or {@code null} for the sequential mode.
+     */
+    private final ForkJoinPool pool;
+
     /**
      * Constructs an instance of the algorithm for the given {@code graph}.
      *
@@ -81,6 +93,23 @@ public class YenKShortestPath<V, E>
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         this.pathValidator = pathValidator;
+        this.pool = null;
+    }
+
+    /**
+     * Constructs an instance of the algorithm for the given {@code graph}, {@code pathValidator}
+     * and {@code pool}. The spur paths are computed in parallel using the {@code pool}.
+     *
+     * @param graph graph
+     * @param pathValidator validator for computed paths
+     * @param pool pool which executes the spur searches
+     */
+    public YenKShortestPath(
+        Graph<V, E> graph, PathValidator<V, E> pathValidator, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
+        this.pathValidator = pathValidator;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
     }
 
     /**
@@ -100,8 +129,13 @@ public class YenKShortestPath<V, E>
             throw new IllegalArgumentException("k should be positive");
         }
         List<GraphPath<V, E>> result = new ArrayList<>();
-        YenShortestPathIterator<V, E> iterator =
-            new YenShortestPathIterator<>(graph, source, sink, pathValidator);
+        YenShortestPathIterator<V, E> iterator;
+        if (pool == null) {
+            iterator = new YenShortestPathIterator<>(graph, source, sink, pathValidator);
+        } else {
+            iterator = new YenShortestPathIterator<>(
+                graph, source, sink, PairingHeap::new, pathValidator, pool, k);
+        }
         for (int i = 0; i < k && iterator.hasNext(); i++) {
             result.add(iterator.next());
         }
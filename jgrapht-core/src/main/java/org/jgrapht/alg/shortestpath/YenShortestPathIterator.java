@@ -20,10 +20,12 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -53,6 +55,17 @@ import java.util.function.*;
  * <p>
  * Additionally, the algorithm supports path validation by means of {@link PathValidator}.
  *
+ * <p>
+ * When constructed with a {@link ForkJoinPool}, the spur paths of all deviation vertices of a path
+ * are computed in parallel. In this mode each spur path is computed independently by a
+ * point-to-point Dijkstra search in the graph with the root part of the path removed, as in the
+ * original algorithm of Yen, using an integer index of the graph which is built once and search
+ * workspaces which are reused across spur searches. The candidates are inserted into the heap in
+ * the same order as in the sequential mode, thus the paths are returned in the same order of
+ * weights. If the number of paths which will be requested is known, as in
+ * {@link YenKShortestPath}, candidates heavier than the paths which will be returned are pruned
+ * and the spur searches are bounded accordingly.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -126,6 +139,32 @@ public class YenShortestPathIterator<V, E>
      */
     private boolean shortestPathComputed;
 
+    /**
+     * Pool which executes the spur searches in parallel, or {@code null} for the sequential mode.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Maximum number of paths which will be returned, used to prune dominated candidates.
+     */
+    private final int limit;
+
+    /**
+     * Number of valid paths returned so far.
+     */
+    private int numberOfReturnedPaths;
+
+    /**
+     * Multiset of the weights of the valid candidates in {@code candidatePaths}, maintained only if
+     * the number of paths which will be returned is bounded.
+     */
+    private TreeMap<Double, Integer> validCandidateWeights;
+
+    /**
+     * Integer index of the graph used in the parallel mode.
+     */
+    private SpurIndex spurIndex;
+
     /**
      * Constructs an instance of the algorithm for given {@code graph}, {@code source} and
      * {@code sink}.
@@ -186,6 +225,50 @@ public class YenShortestPathIterator<V, E>
         Graph<V, E> graph, V source, V sink,
         Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
         PathValidator<V, E> pathValidator)
+    {
+        this(graph, source, sink, heapSupplier, pathValidator, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for given {@code graph}, {@code source},
+     * {@code sink}, {@code heapSupplier}, {@code pathValidator} and {@code pool}. The
+     * {@code pathValidator} can be {@code null}, which will indicate that all paths are valid. The
+     * spur paths of each path are computed in parallel using the {@code pool}.
+     *
+     * @param graph graph
+     * @param source source vertex
+     * @param sink sink vertex
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param pathValidator validator for computed paths
+     * @param pool pool which executes the spur searches
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public YenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink,
+        Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
+        PathValidator<V, E> pathValidator, ForkJoinPool pool)
+    {
+        this(
+            graph, source, sink, heapSupplier, pathValidator,
+            Objects.requireNonNull(pool, "Pool cannot be null"), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an instance of the algorithm which is going to be asked for at most
+     * {@code limit} paths.
+     *
+     * @param graph graph
+     * @param source source vertex
+     * @param sink sink vertex
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param pathValidator validator for computed paths
+     * @param pool pool which executes the spur searches, or {@code null}
+     * @param limit maximum number of paths which will be returned
+     */
+    YenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink,
+        Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
+        PathValidator<V, E> pathValidator, ForkJoinPool pool, int limit)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         if (!graph.containsVertex(source)) {
@@ -202,6 +285,14 @@ public class YenShortestPathIterator<V, E>
         this.candidatePaths = heapSupplier.get();
         this.firstDeviations = new HashMap<>();
         this.lastDeviations = new HashMap<>();
+        this.pool = pool;
+        this.limit = limit;
+        if (pool != null) {
+            this.spurIndex = new SpurIndex();
+            if (limit != Integer.MAX_VALUE) {
+                this.validCandidateWeights = new TreeMap<>();
+            }
+        }
     }
 
     /**
@@ -229,6 +320,7 @@ public class YenShortestPathIterator<V, E>
 
                 if (shortestPathIsValid) {
                     ++numberOfValidPathInQueue;
+                    addValidCandidateWeight(shortestPath.getWeight());
                 }
 
                 ensureAtLeastOneValidPathInQueue();
@@ -318,6 +410,8 @@ public class YenShortestPathIterator<V, E>
             if (isValid) {
                 result = path;
                 --numberOfValidPathInQueue;
+                ++numberOfReturnedPaths;
+                removeValidCandidateWeight(path.getWeight());
             }
 
             resultList.add(path);
@@ -350,6 +444,9 @@ public class YenShortestPathIterator<V, E>
      */
     private int addDeviations(GraphPath<V, E> path)
     {
+        if (pool != null) {
+            return addDeviationsInParallel(path);
+        }
         int result = 0;
 
         // initializations
@@ -433,6 +530,147 @@ public class YenShortestPathIterator<V, E>
         return result;
     }
 
+    /**
+     * Builds unique loopless deviations from the given path in the {@code graph} by computing the
+     * spur path of each deviation vertex independently and in parallel. The vertices of the path
+     * before the deviation vertex are masked, as well as the edge of the path leaving the
+     * deviation vertex. For the first deviation vertex of the path, the corresponding edges of the
+     * coinciding paths in {@code resultList} are also masked. Candidates are inserted in the same
+     * order as in {@link #addDeviations(GraphPath)}.
+     *
+     * @param path path to build deviations of
+     *
+     * @return number of computed valid deviations
+     */
+    private int addDeviationsInParallel(GraphPath<V, E> path)
+    {
+        V pathDeviation = firstDeviations.get(path);
+        List<V> pathVertices = path.getVertexList();
+        List<E> pathEdges = path.getEdgeList();
+        int pathDeviationIndex = pathVertices.indexOf(pathDeviation);
+
+        V lastDeviation = lastDeviations.get(path);
+        int lastDeviationIndex = lastDeviation == null ? pathVertices.size() - 2
+            : pathVertices.indexOf(lastDeviation);
+        if (lastDeviationIndex < pathDeviationIndex) {
+            return 0;
+        }
+
+        // edges of coinciding paths which are masked at the deviation vertex
+        Set<E> maskedEdges =
+            getMaskedVerticesAndEdges(path, pathDeviation, pathDeviationIndex).getSecond();
+        maskedEdges.removeAll(pathEdges.subList(pathDeviationIndex, pathEdges.size()));
+        int[] deviationMaskedEdges = new int[maskedEdges.size()];
+        int k = 0;
+        for (E e : maskedEdges) {
+            deviationMaskedEdges[k++] = spurIndex.edgeMap.get(e);
+        }
+        Arrays.sort(deviationMaskedEdges);
+
+        int[] vertices = new int[pathVertices.size()];
+        int[] edges = new int[pathEdges.size()];
+        double[] rootWeights = new double[pathVertices.size()];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = spurIndex.vertexMap.get(pathVertices.get(i));
+            if (i < edges.length) {
+                edges[i] = spurIndex.edgeMap.get(pathEdges.get(i));
+                rootWeights[i + 1] = rootWeights[i] + graph.getEdgeWeight(pathEdges.get(i));
+            }
+        }
+
+        double bound = getDominationBound();
+        List<List<E>> spurPaths = new ArrayList<>(
+            Collections.nCopies(lastDeviationIndex - pathDeviationIndex + 1, null));
+        for (int i = 0; i < vertices.length; i++) {
+            spurIndex.pathPosition[vertices[i]] = i;
+        }
+        try {
+            pool.invoke(
+                new SpurTask(
+                    vertices, edges, rootWeights, deviationMaskedEdges, pathDeviationIndex,
+                    pathDeviationIndex, lastDeviationIndex + 1, bound, spurPaths));
+        } finally {
+            for (int v : vertices) {
+                spurIndex.pathPosition[v] = -1;
+            }
+        }
+
+        int result = 0;
+        for (int i = lastDeviationIndex; i >= pathDeviationIndex; i--) {
+            List<E> spurPath = spurPaths.get(i - pathDeviationIndex);
+            if (spurPath == null) {
+                continue;
+            }
+            List<V> candidateVertices = new ArrayList<>(pathVertices.subList(0, i + 1));
+            List<E> candidateEdges = new ArrayList<>(pathEdges.subList(0, i));
+            double spurWeight = 0d;
+            V current = pathVertices.get(i);
+            for (E e : spurPath) {
+                candidateEdges.add(e);
+                spurWeight += graph.getEdgeWeight(e);
+                current = Graphs.getOppositeVertex(graph, e, current);
+                candidateVertices.add(current);
+            }
+            double candidateWeight = rootWeights[i] + spurWeight;
+            if (candidateWeight > bound) {
+                // dominated by the candidates in the heap
+                continue;
+            }
+            GraphPath<V, E> candidate = new GraphWalk<>(
+                graph, source, sink, candidateVertices, candidateEdges, candidateWeight);
+            V recoverVertex = pathVertices.get(i);
+            V candidateLastDeviation = getLastValidDeviation(candidate, recoverVertex);
+            boolean candidateIsValid = candidateLastDeviation == null;
+
+            candidatePaths.insert(candidateWeight, Pair.of(candidate, candidateIsValid));
+            firstDeviations.put(candidate, recoverVertex);
+            lastDeviations.put(candidate, candidateLastDeviation);
+
+            if (candidateIsValid) {
+                ++result;
+                addValidCandidateWeight(candidateWeight);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the weight above which candidates are dominated. If $r$ more paths are going to be
+     * returned and the heap contains at least $r$ valid candidates, no path heavier than the $r$-th
+     * lightest valid candidate will be returned, and neither will any of its deviations, since
+     * deviations are never lighter than the path they deviate from.
+     *
+     * @return the weight above which candidates are dominated
+     */
+    private double getDominationBound()
+    {
+        if (validCandidateWeights == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int remaining = limit - numberOfReturnedPaths;
+        for (Map.Entry<Double, Integer> entry : validCandidateWeights.entrySet()) {
+            remaining -= entry.getValue();
+            if (remaining <= 0) {
+                return entry.getKey();
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private void addValidCandidateWeight(double weight)
+    {
+        if (validCandidateWeights != null) {
+            validCandidateWeights.merge(weight, 1, Integer::sum);
+        }
+    }
+
+    private void removeValidCandidateWeight(double weight)
+    {
+        if (validCandidateWeights != null) {
+            validCandidateWeights.computeIfPresent(weight, (w, c) -> c == 1 ? null : c - 1);
+        }
+    }
+
     /**
      * For the given {@code path} builds sets of vertices and edges to be masked. First masks all
      * edges and vertices of the provided {@code path} except for the {@code sink}. Then for each
@@ -660,4 +898,231 @@ public class YenShortestPathIterator<V, E>
             }
         }
     }
+
+    /**
+     * Integer index of the graph in compressed sparse rows format, together with the workspaces
+     * of the spur searches.
+     */
+    private class SpurIndex
+    {
+        final Map<V, Integer> vertexMap;
+        final Map<E, Integer> edgeMap;
+        final int[] offsets;
+        final int[] targets;
+        final int[] arcEdges;
+        final double[] weights;
+        final List<E> edges;
+        final int[] pathPosition;
+        final int sinkIndex;
+        final Queue<SpurSearch> workspaces;
+
+        SpurIndex()
+        {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.vertexMap = mapping.getVertexMap();
+            List<V> vertexList = mapping.getIndexList();
+            this.edges = new ArrayList<>(graph.edgeSet());
+            this.edgeMap = new HashMap<>();
+            for (E e : edges) {
+                if (graph.getEdgeWeight(e) < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                edgeMap.put(e, edgeMap.size());
+            }
+            int n = vertexList.size();
+            this.offsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] = offsets[v] + graph.outgoingEdgesOf(vertexList.get(v)).size();
+            }
+            this.targets = new int[offsets[n]];
+            this.arcEdges = new int[offsets[n]];
+            this.weights = new double[offsets[n]];
+            for (int v = 0; v < n; v++) {
+                V vertex = vertexList.get(v);
+                int pos = offsets[v];
+                for (E e : graph.outgoingEdgesOf(vertex)) {
+                    targets[pos] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                    arcEdges[pos] = edgeMap.get(e);
+                    weights[pos] = graph.getEdgeWeight(e);
+                    pos++;
+                }
+            }
+            this.pathPosition = new int[n];
+            Arrays.fill(pathPosition, -1);
+            this.sinkIndex = vertexMap.get(sink);
+            this.workspaces = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Reusable workspace of a point-to-point Dijkstra search towards the sink.
+     */
+    private class SpurSearch
+    {
+        final double[] distance;
+        final int[] predecessor;
+        final int[] predecessorEdge;
+        final int[] touched;
+        int touchedCount;
+        final IntDoubleHeap heap;
+
+        SpurSearch(int n)
+        {
+            this.distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.predecessor = new int[n];
+            this.predecessorEdge = new int[n];
+            this.touched = new int[n];
+            this.heap = new IntDoubleHeap(n);
+        }
+
+        /**
+         * Computes the spur path from the vertex at position {@code spur} of the path.
+         *
+         * @param vertices vertices of the path
+         * @param edges edges of the path
+         * @param deviationMaskedEdges sorted edges masked at the deviation vertex of the path
+         * @param deviation whether the spur vertex is the deviation vertex of the path
+         * @param spur position of the spur vertex in the path
+         * @param bound maximum weight of the spur path
+         * @return the edges of the spur path, or null if no such path exists within the bound
+         */
+        List<E> search(
+            int[] vertices, int[] edges, int[] deviationMaskedEdges, boolean deviation, int spur,
+            double bound)
+        {
+            SpurIndex index = spurIndex;
+            int s = vertices[spur];
+            int maskedEdge = edges[spur];
+            distance[s] = 0d;
+            touched[touchedCount++] = s;
+            heap.insert(s, 0d);
+            boolean found = false;
+            while (!heap.isEmpty()) {
+                if (heap.findMinKey() > bound) {
+                    break;
+                }
+                int v = heap.deleteMin();
+                if (v == index.sinkIndex) {
+                    found = true;
+                    break;
+                }
+                double d = distance[v];
+                for (int a = index.offsets[v]; a < index.offsets[v + 1]; a++) {
+                    int u = index.targets[a];
+                    int position = index.pathPosition[u];
+                    if (position >= 0 && position <= spur) {
+                        // vertices of the root part
+                        continue;
+                    }
+                    int e = index.arcEdges[a];
+                    if (e == maskedEdge
+                        || deviation && Arrays.binarySearch(deviationMaskedEdges, e) >= 0)
+                    {
+                        continue;
+                    }
+                    double du = d + index.weights[a];
+                    if (du < distance[u]) {
+                        if (distance[u] == Double.POSITIVE_INFINITY) {
+                            touched[touchedCount++] = u;
+                        }
+                        distance[u] = du;
+                        predecessor[u] = v;
+                        predecessorEdge[u] = e;
+                        if (heap.contains(u)) {
+                            heap.decreaseKey(u, du);
+                        } else {
+                            heap.insert(u, du);
+                        }
+                    }
+                }
+            }
+
+            List<E> result = null;
+            if (found) {
+                LinkedList<E> path = new LinkedList<>();
+                int v = index.sinkIndex;
+                while (v != s) {
+                    path.addFirst(index.edges.get(predecessorEdge[v]));
+                    v = predecessor[v];
+                }
+                result = new ArrayList<>(path);
+            }
+
+            // reset the workspace
+            heap.clear();
+            for (int i = 0; i < touchedCount; i++) {
+                distance[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            touchedCount = 0;
+            return result;
+        }
+    }
+
+    /**
+     * Task which computes the spur paths of a range of positions of a path.
+     */
+    private class SpurTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] vertices;
+        private final int[] edges;
+        private final double[] rootWeights;
+        private final int[] deviationMaskedEdges;
+        private final int deviationIndex;
+        private final int from;
+        private final int to;
+        private final double bound;
+        private final List<List<E>> spurPaths;
+
+        SpurTask(
+            int[] vertices, int[] edges, double[] rootWeights, int[] deviationMaskedEdges,
+            int deviationIndex, int from, int to, double bound, List<List<E>> spurPaths)
+        {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.rootWeights = rootWeights;
+            this.deviationMaskedEdges = deviationMaskedEdges;
+            this.deviationIndex = deviationIndex;
+            this.from = from;
+            this.to = to;
+            this.bound = bound;
+            this.spurPaths = spurPaths;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new SpurTask(
+                        vertices, edges, rootWeights, deviationMaskedEdges, deviationIndex, from,
+                        mid, bound, spurPaths),
+                    new SpurTask(
+                        vertices, edges, rootWeights, deviationMaskedEdges, deviationIndex, mid, to,
+                        bound, spurPaths));
+                return;
+            }
+            if (rootWeights[from] > bound) {
+                return;
+            }
+            SpurSearch search = spurIndex.workspaces.poll();
+            if (search == null) {
+                search = new SpurSearch(spurIndex.pathPosition.length);
+            }
+            try {
+                spurPaths.set(
+                    from - deviationIndex,
+                    search.search(
+                        vertices, edges, deviationMaskedEdges, from == deviationIndex, from,
+                        bound - rootWeights[from]));
+            } finally {
+                spurIndex.workspaces.offer(search);
+            }
+        }
+    }
 }
@@ -218,7 +218,7 @@ public class TwoOptHeuristicTSP<V, E>
         this.graph = graph;
         this.n = graph.vertexSet().size();
         this.dist = new double[n][n];
-        VertexToIntegerMapping<V> vertex2index = new VertexToIntegerMapping<>(graph.vertexSet());
+        VertexToIntegerMapping<V> vertex2index = Graphs.getVertexToIntegerMapping(graph);
         this.index = vertex2index.getVertexMap();
         this.revIndex = vertex2index.getIndexList();
 
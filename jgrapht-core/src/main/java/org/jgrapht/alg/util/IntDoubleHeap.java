@@ -0,0 +1,272 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An addressable d-ary min-heap of integer elements with double keys.
+ *
+ * <p>
+ * The elements are integers in the range $[0, N)$ where $N$ is the capacity of the heap and each
+ * element can be contained at most once. Elements and keys are kept in primitive arrays and the
+ * position of each element in the heap is recorded in an array indexed by the element, thus no
+ * objects are allocated after construction. This makes the heap suitable as the priority queue of
+ * shortest path algorithms on graphs whose vertices are consecutive integers.
+ *
+ * <p>
+ * Operations {@link #insert(int, double)} and {@link #decreaseKey(int, double)} cost $O(\log_d N)$
+ * and {@link #deleteMin()} costs $O(d \log_d N)$. Method {@link #clear()} runs in time linear to
+ * the current size of the heap, which allows cheap reuse of the heap across many queries.
+ *
+ * @author JGraphT Contributors
+ */
+public final class IntDoubleHeap
+{
+    private static final int DEFAULT_ARITY = 4;
+
+    private final int d;
+    private final int[] elements;
+    private final double[] keys;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Create a new 4-ary heap.
+     *
+     * @param capacity the capacity of the heap, elements must be in the range $[0, capacity)$
+     */
+    public IntDoubleHeap(int capacity)
+    {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the capacity of the heap, elements must be in the range $[0, capacity)$
+     * @param d the arity of the heap
+     */
+    public IntDoubleHeap(int capacity, int d)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.d = d;
+        this.elements = new int[capacity];
+        this.keys = new double[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+        this.size = 0;
+    }
+
+    /**
+     * Check whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check whether an element is contained in the heap.
+     *
+     * @param element the element
+     * @return true if the element is contained in the heap, false otherwise
+     */
+    public boolean contains(int element)
+    {
+        return positions[element] >= 0;
+    }
+
+    /**
+     * Get the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     * @throws NoSuchElementException if the element is not contained in the heap
+     */
+    public double getKey(int element)
+    {
+        int pos = positions[element];
+        if (pos < 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[pos];
+    }
+
+    /**
+     * Insert an element.
+     *
+     * @param element the element
+     * @param key the key of the element
+     * @throws IllegalArgumentException if the element is already contained in the heap
+     */
+    public void insert(int element, double key)
+    {
+        if (positions[element] >= 0) {
+            throw new IllegalArgumentException("Element already in the heap");
+        }
+        siftUp(size++, element, key);
+    }
+
+    /**
+     * Decrease the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @param key the new key
+     * @throws NoSuchElementException if the element is not contained in the heap
+     * @throws IllegalArgumentException if the new key is larger than the current key
+     */
+    public void decreaseKey(int element, double key)
+    {
+        int pos = positions[element];
+        if (pos < 0) {
+            throw new NoSuchElementException();
+        }
+        if (key > keys[pos]) {
+            throw new IllegalArgumentException("Keys can only be decreased");
+        }
+        siftUp(pos, element, key);
+    }
+
+    /**
+     * Get an element with minimum key.
+     *
+     * @return an element with minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * Get the minimum key.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    /**
+     * Delete and return an element with minimum key.
+     *
+     * @return an element with minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = elements[0];
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(0, elements[size], keys[size]);
+        }
+        return min;
+    }
+
+    /**
+     * Remove all elements from the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            positions[elements[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos, int element, double key)
+    {
+        while (pos > 0) {
+            int parent = (pos - 1) / d;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, pos);
+            pos = parent;
+        }
+        place(pos, element, key);
+    }
+
+    private void siftDown(int pos, int element, double key)
+    {
+        while (true) {
+            int first = pos * d + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + d, size);
+            int minChild = first;
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < keys[minChild]) {
+                    minChild = c;
+                }
+            }
+            if (keys[minChild] >= key) {
+                break;
+            }
+            move(minChild, pos);
+            pos = minChild;
+        }
+        place(pos, element, key);
+    }
+
+    private void move(int from, int to)
+    {
+        elements[to] = elements[from];
+        keys[to] = keys[from];
+        positions[elements[to]] = to;
+    }
+
+    private void place(int pos, int element, double key)
+    {
+        elements[pos] = element;
+        keys[pos] = key;
+        positions[element] = pos;
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An addressable monotone bucket queue of integer elements with non-negative long keys, also known
+ * as Dial's buckets.
+ *
+ * <p>
+ * The queue requires a bound $C$ such that all keys contained in the queue are in the range $[l, l
+ * + C]$ where $l$ is the key of the last deleted element. This is the case for Dijkstra's algorithm
+ * when all edge weights are integers not larger than $C$, see R.B. Dial. Algorithm 360: shortest-path
+ * forest with topological ordering. Communications of the ACM, 12(11), 1969. The queue uses $C+1$
+ * buckets in a circular array and an element with key $k$ is stored in bucket $k \bmod (C+1)$,
+ * thus all elements in a bucket have the same key. Operations {@link #insert(int, long)} and
+ * {@link #decreaseKey(int, long)} cost $O(1)$ while {@link #deleteMin()} scans the buckets until
+ * the next non-empty one, which costs $O(C)$ in the worst case but is amortized over the whole
+ * range of keys. Therefore, the queue is preferable to {@link IntLongRadixHeap} for small values
+ * of $C$.
+ *
+ * <p>
+ * The buckets are doubly linked lists stored in primitive arrays indexed by the element, thus no
+ * objects are allocated after construction.
+ *
+ * @author JGraphT Contributors
+ */
+public final class IntLongBucketHeap
+    implements
+    IntLongMonotoneHeap
+{
+    private final long range;
+    private final long[] keys;
+    private final int[] next;
+    private final int[] prev;
+    private final boolean[] contained;
+    private final int[] heads;
+    private int size;
+    private long last;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the capacity of the queue, elements must be in the range $[0, capacity)$
+     * @param maxKeyRange the maximum difference $C$ between a key and the last deleted key
+     * @throws IllegalArgumentException if the capacity is negative or if the key range is
+     *         negative or too large to allocate its buckets
+     */
+    public IntLongBucketHeap(int capacity, int maxKeyRange)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        if (maxKeyRange < 0 || maxKeyRange == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid key range");
+        }
+        this.range = maxKeyRange;
+        this.keys = new long[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.contained = new boolean[capacity];
+        this.heads = new int[maxKeyRange + 1];
+        Arrays.fill(heads, -1);
+        this.size = 0;
+        this.last = 0;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int element)
+    {
+        return contained[element];
+    }
+
+    @Override
+    public long getKey(int element)
+    {
+        if (!contained[element]) {
+            throw new NoSuchElementException();
+        }
+        return keys[element];
+    }
+
+    @Override
+    public void insert(int element, long key)
+    {
+        if (contained[element]) {
+            throw new IllegalArgumentException("Element already in the heap");
+        }
+        checkKey(key);
+        keys[element] = key;
+        link(element);
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int element, long key)
+    {
+        if (!contained[element]) {
+            throw new NoSuchElementException();
+        }
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("Keys can only be decreased");
+        }
+        checkKey(key);
+        if (key != keys[element]) {
+            unlink(element);
+            keys[element] = key;
+            link(element);
+        }
+    }
+
+    @Override
+    public long findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        advance();
+        return last;
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        advance();
+        int min = heads[bucket(last)];
+        unlink(min);
+        size--;
+        return min;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int b = 0; size > 0 && b < heads.length; b++) {
+            for (int e = heads[b]; e != -1; e = next[e]) {
+                contained[e] = false;
+                size--;
+            }
+            heads[b] = -1;
+        }
+        size = 0;
+        last = 0;
+    }
+
+    /**
+     * Advance the last deleted key to the minimum key. Assumes that the queue is not empty.
+     */
+    private void advance()
+    {
+        int b = bucket(last);
+        while (heads[b] == -1) {
+            last++;
+            b = b == heads.length - 1 ? 0 : b + 1;
+        }
+    }
+
+    private void checkKey(long key)
+    {
+        if (key < last || key - last > range) {
+            throw new IllegalArgumentException("Key outside the range of the queue");
+        }
+    }
+
+    private int bucket(long key)
+    {
+        return (int) (key % heads.length);
+    }
+
+    private void link(int element)
+    {
+        int b = bucket(keys[element]);
+        int head = heads[b];
+        next[element] = head;
+        prev[element] = -1;
+        if (head != -1) {
+            prev[head] = element;
+        }
+        heads[b] = element;
+        contained[element] = true;
+    }
+
+    private void unlink(int element)
+    {
+        int p = prev[element];
+        int n = next[element];
+        if (p == -1) {
+            heads[bucket(keys[element])] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != -1) {
+            prev[n] = p;
+        }
+        contained[element] = false;
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An addressable monotone min-heap of integer elements with non-negative long keys.
+ *
+ * <p>
+ * The elements are integers in the range $[0, N)$ where $N$ is the capacity of the heap and each
+ * element can be contained at most once. The heap is monotone, which means that the key of an
+ * inserted element or the new key of a decreased element can never be smaller than the key of the
+ * last element removed by {@link #deleteMin()}. This is always the case for the priority queue of
+ * Dijkstra's algorithm with non-negative edge weights, and allows implementations which do not
+ * compare keys, such as radix heaps or bucket queues.
+ *
+ * @author JGraphT Contributors
+ * @see IntLongRadixHeap
+ * @see IntLongBucketHeap
+ */
+public interface IntLongMonotoneHeap
+{
+    /**
+     * Check whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    int size();
+
+    /**
+     * Check whether an element is contained in the heap.
+     *
+     * @param element the element
+     * @return true if the element is contained in the heap, false otherwise
+     */
+    boolean contains(int element);
+
+    /**
+     * Get the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     * @throws NoSuchElementException if the element is not contained in the heap
+     */
+    long getKey(int element);
+
+    /**
+     * Insert an element.
+     *
+     * @param element the element
+     * @param key the key of the element
+     * @throws IllegalArgumentException if the element is already contained in the heap or if the
+     *         key violates the monotonicity of the heap
+     */
+    void insert(int element, long key);
+
+    /**
+     * Decrease the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @param key the new key
+     * @throws NoSuchElementException if the element is not contained in the heap
+     * @throws IllegalArgumentException if the new key is larger than the current key or if the
+     *         key violates the monotonicity of the heap
+     */
+    void decreaseKey(int element, long key);
+
+    /**
+     * Get the minimum key.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    long findMinKey();
+
+    /**
+     * Delete and return an element with minimum key.
+     *
+     * @return an element with minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    int deleteMin();
+
+    /**
+     * Remove all elements from the heap and reset the heap to its initial state, where any
+     * non-negative key can be inserted.
+     */
+    void clear();
+
+}
@@ -0,0 +1,237 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An addressable monotone radix heap of integer elements with non-negative long keys.
+ *
+ * <p>
+ * The heap keeps the key $l$ of the last deleted element and stores an element with key $k$ in
+ * bucket $0$ if $k = l$ and otherwise in bucket $i$ where $i-1$ is the most significant bit in
+ * which $k$ and $l$ differ. When bucket $0$ is empty, the first non-empty bucket is scanned for its
+ * minimum key, which becomes the new $l$, and its elements are redistributed into smaller buckets.
+ * Since an element only moves to smaller buckets, see R.K. Ahuja, K. Mehlhorn, J. Orlin, R.E.
+ * Tarjan. Faster algorithms for the shortest path problem. Journal of the ACM, 37(2), 1990,
+ * operations {@link #insert(int, long)} and {@link #decreaseKey(int, long)} cost $O(1)$ and
+ * {@link #deleteMin()} costs $O(\log C)$ amortized, where $C$ is the maximum difference between a
+ * key and the last deleted key. No comparisons between keys are needed except inside the scanned
+ * bucket.
+ *
+ * <p>
+ * The buckets are doubly linked lists stored in primitive arrays indexed by the element, thus no
+ * objects are allocated after construction.
+ *
+ * @author JGraphT Contributors
+ */
+public final class IntLongRadixHeap
+    implements
+    IntLongMonotoneHeap
+{
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final long[] keys;
+    private final int[] bucketOf;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] heads;
+    private int size;
+    private long last;
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the capacity of the heap, elements must be in the range $[0, capacity)$
+     */
+    public IntLongRadixHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.keys = new long[capacity];
+        this.bucketOf = new int[capacity];
+        Arrays.fill(bucketOf, -1);
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.heads = new int[BUCKETS];
+        Arrays.fill(heads, -1);
+        this.size = 0;
+        this.last = 0;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int element)
+    {
+        return bucketOf[element] >= 0;
+    }
+
+    @Override
+    public long getKey(int element)
+    {
+        if (bucketOf[element] < 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[element];
+    }
+
+    @Override
+    public void insert(int element, long key)
+    {
+        if (bucketOf[element] >= 0) {
+            throw new IllegalArgumentException("Element already in the heap");
+        }
+        if (key < last) {
+            throw new IllegalArgumentException("Key smaller than the last deleted key");
+        }
+        keys[element] = key;
+        link(element, bucket(key));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int element, long key)
+    {
+        int b = bucketOf[element];
+        if (b < 0) {
+            throw new NoSuchElementException();
+        }
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("Keys can only be decreased");
+        }
+        if (key < last) {
+            throw new IllegalArgumentException("Key smaller than the last deleted key");
+        }
+        keys[element] = key;
+        int nb = bucket(key);
+        if (nb != b) {
+            unlink(element);
+            link(element, nb);
+        }
+    }
+
+    @Override
+    public long findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        fillFirstBucket();
+        return last;
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        fillFirstBucket();
+        int min = heads[0];
+        unlink(min);
+        size--;
+        return min;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int e = heads[b]; e != -1; e = next[e]) {
+                bucketOf[e] = -1;
+            }
+            heads[b] = -1;
+        }
+        size = 0;
+        last = 0;
+    }
+
+    /**
+     * Make sure that the first bucket is not empty, by redistributing the elements of the first
+     * non-empty bucket. Assumes that the heap is not empty.
+     */
+    private void fillFirstBucket()
+    {
+        if (heads[0] != -1) {
+            return;
+        }
+        int b = 1;
+        while (heads[b] == -1) {
+            b++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int e = heads[b]; e != -1; e = next[e]) {
+            if (keys[e] < min) {
+                min = keys[e];
+            }
+        }
+        last = min;
+        int e = heads[b];
+        heads[b] = -1;
+        while (e != -1) {
+            int nextElement = next[e];
+            link(e, bucket(keys[e]));
+            e = nextElement;
+        }
+    }
+
+    private int bucket(long key)
+    {
+        return key == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int element, int b)
+    {
+        int head = heads[b];
+        next[element] = head;
+        prev[element] = -1;
+        if (head != -1) {
+            prev[head] = element;
+        }
+        heads[b] = element;
+        bucketOf[element] = b;
+    }
+
+    private void unlink(int element)
+    {
+        int p = prev[element];
+        int n = next[element];
+        if (p == -1) {
+            heads[bucketOf[element]] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != -1) {
+            prev[n] = p;
+        }
+        bucketOf[element] = -1;
+    }
+
+}
@@ -34,6 +34,10 @@ import java.util.function.*;
  * result of the union of calling predecessorsOf(v) and successorsOf(v) is equal to the result of
  * calling neighborsOf(v) for a given vertex v.
  * 
+ * <p>
+ * Bulk operations of a {@link org.jgrapht.graph.DefaultListenableGraph} are applied to the cache
+ * directly from the batch event, without creating an event object per edge.
+ * 
  * @param <V> the vertex type
  * @param <E> the edge type
  * 
@@ -41,7 +45,7 @@ import java.util.function.*;
  */
 public class NeighborCache<V, E>
     implements
-    GraphListener<V, E>
+    GraphBatchListener<V, E>
 {
     private Map<V, Neighbors<V>> successors = new HashMap<>();
     private Map<V, Neighbors<V>> predecessors = new HashMap<>();
@@ -128,9 +132,22 @@ public class NeighborCache<V, E>
         assert e
             .getSource() == this.graph : "This NeighborCache is added as a listener to a graph other than the one specified during the construction of this NeighborCache!";
 
-        V source = e.getEdgeSource();
-        V target = e.getEdgeTarget();
+        edgeAdded(e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    @Override
+    public void edgesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        assert e
+            .getSource() == this.graph : "This NeighborCache is added as a listener to a graph other than the one specified during the construction of this NeighborCache!";
+
+        for (int i = 0; i < e.getEdges().size(); i++) {
+            edgeAdded(e.getEdgeSource(i), e.getEdgeTarget(i));
+        }
+    }
 
+    private void edgeAdded(V source, V target)
+    {
         if (successors.containsKey(source)) {
             successors.get(source).addNeighbor(target);
         }
@@ -154,9 +171,22 @@ public class NeighborCache<V, E>
         assert e
             .getSource() == this.graph : "This NeighborCache is added as a listener to a graph other than the one specified during the construction of this NeighborCache!";
 
-        V source = e.getEdgeSource();
-        V target = e.getEdgeTarget();
+        edgeRemoved(e.getEdgeSource(), e.getEdgeTarget());
+    }
 
+    @Override
+    public void edgesRemoved(GraphBatchChangeEvent<V, E> e)
+    {
+        assert e
+            .getSource() == this.graph : "This NeighborCache is added as a listener to a graph other than the one specified during the construction of this NeighborCache!";
+
+        for (int i = 0; i < e.getEdges().size(); i++) {
+            edgeRemoved(e.getEdgeSource(i), e.getEdgeTarget(i));
+        }
+    }
+
+    private void edgeRemoved(V source, V target)
+    {
         if (successors.containsKey(source)) {
             successors.get(source).removeNeighbor(target);
         }
@@ -180,6 +210,12 @@ public class NeighborCache<V, E>
         // Nothing to cache until there are edges
     }
 
+    @Override
+    public void verticesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        // Nothing to cache until there are edges
+    }
+
     @Override
     public void vertexRemoved(GraphVertexChangeEvent<V> e)
     {
@@ -0,0 +1,189 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.event;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * An event which indicates that a batch of vertices or edges has been added to or removed from a
+ * graph by a single bulk operation. The type of the event can be tested using the
+ * {@link org.jgrapht.event.GraphChangeEvent#getType()} method.
+ *
+ * <p>
+ * Edge batches keep the source, target and weight of each edge at the same index as the edge, so
+ * that listeners can process the batch without querying the graph. This is important for removed
+ * edges which are no longer part of the graph when the event is fired.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ * @see GraphBatchListener
+ */
+public class GraphBatchChangeEvent<V, E>
+    extends
+    GraphChangeEvent
+{
+    private static final long serialVersionUID = 2473592620826716387L;
+
+    /**
+     * Vertices added event. This event is fired after a batch of vertices is added to a graph.
+     */
+    public static final int VERTICES_ADDED = 31;
+
+    /**
+     * Edges added event. This event is fired after a batch of edges is added to a graph.
+     */
+    public static final int EDGES_ADDED = 33;
+
+    /**
+     * Edges removed event. This event is fired after a batch of edges is removed from a graph.
+     */
+    public static final int EDGES_REMOVED = 34;
+
+    /**
+     * The vertices that this event is related to.
+     */
+    protected List<V> vertices;
+
+    /**
+     * The edges that this event is related to.
+     */
+    protected List<E> edges;
+
+    /**
+     * The source vertices of the edges that this event is related to.
+     */
+    protected List<V> edgeSources;
+
+    /**
+     * The target vertices of the edges that this event is related to.
+     */
+    protected List<V> edgeTargets;
+
+    /**
+     * The weights of the edges that this event is related to, or {@code null} if all edges have
+     * the default weight.
+     */
+    protected double[] edgeWeights;
+
+    /**
+     * Constructor for a vertex batch event.
+     *
+     * @param eventSource the source of this event.
+     * @param type the event type of this event.
+     * @param vertices the vertices that this event is related to.
+     */
+    public GraphBatchChangeEvent(Object eventSource, int type, List<V> vertices)
+    {
+        super(eventSource, type);
+        this.vertices = Objects.requireNonNull(vertices);
+        this.edges = Collections.emptyList();
+        this.edgeSources = Collections.emptyList();
+        this.edgeTargets = Collections.emptyList();
+    }
+
+    /**
+     * Constructor for an edge batch event.
+     *
+     * @param eventSource the source of this event.
+     * @param type the event type of this event.
+     * @param edges the edges that this event is related to.
+     * @param edgeSources the source vertex of each edge
+     * @param edgeTargets the target vertex of each edge
+     * @param edgeWeights the weight of each edge, or {@code null} if all edges have the default
+     *        weight
+     * @throws IllegalArgumentException if the sizes of the edge lists or weights differ
+     */
+    public GraphBatchChangeEvent(
+        Object eventSource, int type, List<E> edges, List<V> edgeSources, List<V> edgeTargets,
+        double[] edgeWeights)
+    {
+        super(eventSource, type);
+        this.vertices = Collections.emptyList();
+        this.edges = Objects.requireNonNull(edges);
+        this.edgeSources = Objects.requireNonNull(edgeSources);
+        this.edgeTargets = Objects.requireNonNull(edgeTargets);
+        this.edgeWeights = edgeWeights;
+        if (edgeSources.size() != edges.size() || edgeTargets.size() != edges.size()
+            || (edgeWeights != null && edgeWeights.length != edges.size()))
+        {
+            throw new IllegalArgumentException("Edge sources, targets and weights must match edges");
+        }
+    }
+
+    /**
+     * Returns the vertices that this event is related to. The list is empty for edge events.
+     *
+     * @return event vertices
+     */
+    public List<V> getVertices()
+    {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    /**
+     * Returns the edges that this event is related to. The list is empty for vertex events.
+     *
+     * @return event edges
+     */
+    public List<E> getEdges()
+    {
+        return Collections.unmodifiableList(edges);
+    }
+
+    /**
+     * Returns the source vertex of the edge at the specified index.
+     *
+     * @param index the index of the edge in {@link #getEdges()}
+     * @return the edge source vertex
+     */
+    public V getEdgeSource(int index)
+    {
+        return edgeSources.get(index);
+    }
+
+    /**
+     * Returns the target vertex of the edge at the specified index.
+     *
+     * @param index the index of the edge in {@link #getEdges()}
+     * @return the edge target vertex
+     */
+    public V getEdgeTarget(int index)
+    {
+        return edgeTargets.get(index);
+    }
+
+    /**
+     * Returns the weight of the edge at the specified index.
+     *
+     * @param index the index of the edge in {@link #getEdges()}
+     * @return the edge weight
+     */
+    public double getEdgeWeight(int index)
+    {
+        if (edgeWeights == null) {
+            Objects.checkIndex(index, edges.size());
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return edgeWeights[index];
+    }
+
+}
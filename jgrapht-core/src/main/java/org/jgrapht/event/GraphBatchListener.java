@@ -0,0 +1,84 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.event;
+
+/**
+ * A graph listener which can also be notified once per bulk graph operation.
+ *
+ * <p>
+ * Bulk operations such as {@link org.jgrapht.graph.DefaultListenableGraph#addEdges} fire a single
+ * {@link GraphBatchChangeEvent} to listeners implementing this interface, and one event per
+ * element to all other listeners. Batch events are fired after the whole batch has been applied to
+ * the graph. The default implementations forward each element of the batch to the corresponding
+ * single element method, so that implementations only need to override the batch methods they
+ * can handle more efficiently.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ * @see GraphBatchChangeEvent
+ */
+public interface GraphBatchListener<V, E>
+    extends
+    GraphListener<V, E>
+{
+    /**
+     * Notifies that a batch of vertices has been added to the graph.
+     *
+     * @param e the batch event.
+     */
+    default void verticesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        for (V v : e.getVertices()) {
+            vertexAdded(
+                new GraphVertexChangeEvent<>(e.getSource(), GraphVertexChangeEvent.VERTEX_ADDED, v));
+        }
+    }
+
+    /**
+     * Notifies that a batch of edges has been added to the graph.
+     *
+     * @param e the batch event.
+     */
+    default void edgesAdded(GraphBatchChangeEvent<V, E> e)
+    {
+        for (int i = 0; i < e.getEdges().size(); i++) {
+            edgeAdded(
+                new GraphEdgeChangeEvent<>(
+                    e.getSource(), GraphEdgeChangeEvent.EDGE_ADDED, e.getEdges().get(i),
+                    e.getEdgeSource(i), e.getEdgeTarget(i), e.getEdgeWeight(i)));
+        }
+    }
+
+    /**
+     * Notifies that a batch of edges has been removed from the graph.
+     *
+     * @param e the batch event.
+     */
+    default void edgesRemoved(GraphBatchChangeEvent<V, E> e)
+    {
+        for (int i = 0; i < e.getEdges().size(); i++) {
+            edgeRemoved(
+                new GraphEdgeChangeEvent<>(
+                    e.getSource(), GraphEdgeChangeEvent.EDGE_REMOVED, e.getEdges().get(i),
+                    e.getEdgeSource(i), e.getEdgeTarget(i), e.getEdgeWeight(i)));
+        }
+    }
+
+}
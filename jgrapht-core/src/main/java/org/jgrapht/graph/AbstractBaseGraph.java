@@ -18,6 +18,7 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.specifics.*;
 import org.jgrapht.util.*;
 
@@ -325,6 +326,147 @@ public abstract class AbstractBaseGraph<V, E>
         }
     }
 
+    /**
+     * Adds all vertices of the specified collection to this graph. Vertices which are already
+     * contained in the graph are ignored. Each vertex is added by calling {@link #addVertex(Object)},
+     * so that subclasses which override it see every vertex of the batch.
+     *
+     * @param vertices the vertices to add
+     * @return {@code true} if the graph changed as a result of the call
+     * @throws NullPointerException if the collection contains a {@code null} vertex
+     */
+    public boolean addVertices(Collection<? extends V> vertices)
+    {
+        return addVertices(vertices, v -> {
+        });
+    }
+
+    /**
+     * Adds all vertices of the specified collection and reports each vertex actually added.
+     *
+     * @param vertices the vertices to add
+     * @param added callback for each vertex which was added
+     * @return {@code true} if the graph changed as a result of the call
+     */
+    boolean addVertices(Collection<? extends V> vertices, Consumer<? super V> added)
+    {
+        for (V v : vertices) {
+            if (v == null) {
+                throw new NullPointerException();
+            }
+        }
+        boolean modified = false;
+        for (V v : vertices) {
+            if (addVertex(v)) {
+                added.accept(v);
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * Adds all edges of the specified collection to this graph. Each edge is given as a triple of
+     * source vertex, target vertex and edge. The edges are added by calling
+     * {@link #addEdge(Object, Object, Object)} for each one of them, so that subclasses which
+     * override it see every edge of the batch, but the edge containers of the touching vertices
+     * are grown once for the whole collection.
+     *
+     * <p>
+     * The vertices and self-loops of all edges are validated before the graph is modified, so the
+     * graph is unchanged if such an exception is thrown. If a subclass rejects an individual edge,
+     * such as {@link DirectedAcyclicGraph} does for an edge which would induce a cycle, the edges
+     * preceding it in the collection remain in the graph.
+     *
+     * @param edges the edges to add
+     * @return {@code true} if the graph changed as a result of the call
+     * @throws IllegalArgumentException if some source or target vertex is not found in the graph,
+     *         if a self-loop is given and the graph does not allow them, or if a subclass rejects
+     *         an edge
+     * @throws NullPointerException if some triple, vertex or edge is {@code null}
+     */
+    public boolean addEdges(Collection<? extends Triple<V, V, E>> edges)
+    {
+        return addEdges(edges, t -> {
+        });
+    }
+
+    /**
+     * Adds all edges of the specified collection and reports each edge actually added.
+     *
+     * @param edges the edges to add
+     * @param added callback for each edge which was added
+     * @return {@code true} if the graph changed as a result of the call
+     */
+    boolean addEdges(
+        Collection<? extends Triple<V, V, E>> edges, Consumer<? super Triple<V, V, E>> added)
+    {
+        Map<V, int[]> counts = new HashMap<>();
+        for (Triple<V, V, E> t : edges) {
+            V sourceVertex = t.getFirst();
+            V targetVertex = t.getSecond();
+            if (t.getThird() == null) {
+                throw new NullPointerException();
+            }
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+            if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+            counts.computeIfAbsent(sourceVertex, v -> new int[2])[1]++;
+            counts.computeIfAbsent(targetVertex, v -> new int[2])[0]++;
+        }
+        for (Map.Entry<V, int[]> entry : counts.entrySet()) {
+            int[] count = entry.getValue();
+            specifics.ensureEdgeCapacity(entry.getKey(), count[0], count[1]);
+        }
+
+        boolean modified = false;
+        for (Triple<V, V, E> t : edges) {
+            if (addEdge(t.getFirst(), t.getSecond(), t.getThird())) {
+                added.accept(t);
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * Removes all edges of the specified collection from this graph. Edges which are not contained
+     * in the graph are ignored. Each edge is removed by calling {@link #removeEdge(Object)}.
+     *
+     * @param edges the edges to remove
+     * @return {@code true} if the graph changed as a result of the call
+     */
+    public boolean removeEdges(Collection<? extends E> edges)
+    {
+        return removeEdges(edges, (e, s, t) -> {
+        });
+    }
+
+    /**
+     * Removes all edges of the specified collection and reports each edge just before it is
+     * removed, while its weight can still be queried.
+     *
+     * @param edges the edges to remove
+     * @param removed callback for each edge which is removed
+     * @return {@code true} if the graph changed as a result of the call
+     */
+    boolean removeEdges(Collection<? extends E> edges, RemovedEdgeConsumer<V, E> removed)
+    {
+        boolean modified = false;
+        for (E e : edges) {
+            if (containsEdge(e)) {
+                V sourceVertex = getEdgeSource(e);
+                V targetVertex = getEdgeTarget(e);
+                removed.accept(e, sourceVertex, targetVertex);
+                removeEdge(e);
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -585,4 +727,15 @@ public abstract class AbstractBaseGraph<V, E>
         }
         return graphIterables;
     }
+
+    /**
+     * Callback for an edge removed by a bulk edge removal.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    interface RemovedEdgeConsumer<V, E>
+    {
+        void accept(E e, V sourceVertex, V targetVertex);
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Intrusive edges specifics for graphs whose edges are non-negative integers, such as those
+ * produced by {@link SupplierUtil#createIntegerSupplier()}.
+ * 
+ * <p>
+ * The source, target and weight of each edge are stored in growable arrays indexed by the edge
+ * itself, so that {@link #getEdgeSource(Integer)}, {@link #getEdgeTarget(Integer)} and
+ * {@link #getEdgeWeight(Integer)} are plain array loads instead of hash lookups. The arrays grow up
+ * to the largest edge ever added, thus the edges should be dense, ideally the sequence
+ * $0,1,\dots,m-1$. The edge set iterates over the edges in increasing order, which coincides with
+ * the insertion order when edges are created by an integer supplier.
+ * 
+ * @author JGraphT Contributors
+ *
+ * @param <V> the graph vertex type
+ */
+public class ArrayIntrusiveEdgesSpecifics<V>
+    implements
+    IntrusiveEdgesSpecifics<V, Integer>
+{
+    private static final long serialVersionUID = 2410876535428735174L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Largest array size which can be allocated by the virtual machine.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final boolean weighted;
+    private Object[] sources;
+    private Object[] targets;
+    private double[] weights;
+    private int size;
+    private int limit;
+    private transient Set<Integer> unmodifiableEdgeSet = null;
+
+    /**
+     * Constructor
+     * 
+     * @param weighted whether to store edge weights
+     */
+    public ArrayIntrusiveEdgesSpecifics(boolean weighted)
+    {
+        this.weighted = weighted;
+        this.sources = new Object[DEFAULT_CAPACITY];
+        this.targets = new Object[DEFAULT_CAPACITY];
+        this.weights = weighted ? new double[DEFAULT_CAPACITY] : null;
+    }
+
+    @Override
+    public V getEdgeSource(Integer e)
+    {
+        return TypeUtil.uncheckedCast(sources[assertEdgeExist(e)]);
+    }
+
+    @Override
+    public V getEdgeTarget(Integer e)
+    {
+        return TypeUtil.uncheckedCast(targets[assertEdgeExist(e)]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the edge is negative or too large to be stored in an
+     *         array
+     */
+    @Override
+    public boolean add(Integer e, V sourceVertex, V targetVertex)
+    {
+        int index = e;
+        if (index < 0) {
+            throw new IllegalArgumentException("Edge must be a non-negative integer: " + e);
+        }
+        if (index >= MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                "Edge must be smaller than " + MAX_CAPACITY + ": " + e);
+        }
+        if (containsEdge(e)) {
+            return false;
+        }
+        if (index >= sources.length) {
+            long grown = (long) sources.length + (sources.length >> 1);
+            int capacity = (int) Math.min(MAX_CAPACITY, Math.max(index + 1L, grown));
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            if (weighted) {
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+        sources[index] = sourceVertex;
+        targets[index] = targetVertex;
+        if (weighted) {
+            weights[index] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        size++;
+        limit = Math.max(limit, index + 1);
+        return true;
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        if (e == null) {
+            return false;
+        }
+        int index = e;
+        return index >= 0 && index < limit && sources[index] != null;
+    }
+
+    @Override
+    public Set<Integer> getEdgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new EdgeSet();
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    @Override
+    public void remove(Integer e)
+    {
+        if (containsEdge(e)) {
+            int index = e;
+            sources[index] = null;
+            targets[index] = null;
+            size--;
+            while (limit > 0 && sources[limit - 1] == null) {
+                limit--;
+            }
+        }
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        if (!weighted) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return weights[assertEdgeExist(e)];
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException();
+        }
+        weights[assertEdgeExist(e)] = weight;
+    }
+
+    private int assertEdgeExist(Integer e)
+    {
+        if (!containsEdge(e)) {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+        return e;
+    }
+
+    /**
+     * Unmodifiable view of the edges which are currently stored.
+     */
+    private class EdgeSet
+        extends
+        AbstractSet<Integer>
+    {
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = advance(0);
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < limit;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= limit) {
+                        throw new NoSuchElementException();
+                    }
+                    int e = next;
+                    next = advance(e + 1);
+                    return e;
+                }
+
+                private int advance(int from)
+                {
+                    int e = from;
+                    while (e < limit && sources[e] == null) {
+                        e++;
+                    }
+                    return e;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o instanceof Integer && containsEdge((Integer) o);
+        }
+    }
+
+}
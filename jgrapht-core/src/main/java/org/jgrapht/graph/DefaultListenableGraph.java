@@ -18,10 +18,12 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.event.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A graph backed by the the graph specified at the constructor, which can be listened by
@@ -34,6 +36,14 @@ import java.util.*;
  * but relies on <code>Object</code>'s <code>equals</code> and <code>hashCode</code> methods.
  * </p>
  *
+ * <p>
+ * The bulk operations {@link #addVertices(Collection)}, {@link #addEdges(Collection)} and
+ * {@link #removeEdges(Collection)} notify listeners implementing {@link GraphBatchListener} with a
+ * single {@link GraphBatchChangeEvent} per operation, while all other listeners still receive one
+ * event per vertex or edge. When the backing graph is an {@link AbstractBaseGraph} the bulk
+ * operations also use its bulk methods.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -141,6 +151,109 @@ public class DefaultListenableGraph<V, E>
         return added;
     }
 
+    /**
+     * Adds all vertices of the specified collection to this graph. Batch listeners are notified
+     * once after all vertices have been added.
+     *
+     * @param vertices the vertices to add
+     * @return {@code true} if the graph changed as a result of the call
+     */
+    public boolean addVertices(Collection<? extends V> vertices)
+    {
+        List<V> added = new ArrayList<>();
+        Graph<V, E> g = getDelegate();
+        if (g instanceof AbstractBaseGraph) {
+            ((AbstractBaseGraph<V, E>) g).addVertices(vertices, added::add);
+        } else {
+            for (V v : vertices) {
+                if (g.addVertex(v)) {
+                    added.add(v);
+                }
+            }
+        }
+        fireVerticesAdded(added);
+        return !added.isEmpty();
+    }
+
+    /**
+     * Adds all edges of the specified collection to this graph. Each edge is given as a triple of
+     * source vertex, target vertex and edge. Batch listeners are notified once after all edges have
+     * been added.
+     *
+     * @param edges the edges to add
+     * @return {@code true} if the graph changed as a result of the call
+     * @throws IllegalArgumentException if some source or target vertex is not found in the graph,
+     *         if a self-loop is given and the graph does not allow them, or if the delegate graph
+     *         rejects an edge
+     */
+    public boolean addEdges(Collection<? extends Triple<V, V, E>> edges)
+    {
+        List<E> added = new ArrayList<>();
+        List<V> sources = new ArrayList<>();
+        List<V> targets = new ArrayList<>();
+        Consumer<Triple<V, V, E>> onAdded = t -> {
+            added.add(t.getThird());
+            sources.add(t.getFirst());
+            targets.add(t.getSecond());
+        };
+
+        Graph<V, E> g = getDelegate();
+        try {
+            if (g instanceof AbstractBaseGraph) {
+                ((AbstractBaseGraph<V, E>) g).addEdges(edges, onAdded);
+            } else {
+                for (Triple<V, V, E> t : edges) {
+                    if (g.addEdge(t.getFirst(), t.getSecond(), t.getThird())) {
+                        onAdded.accept(t);
+                    }
+                }
+            }
+        } finally {
+            // report the edges added before the delegate rejected an edge
+            fireEdgesAdded(added, sources, targets, null);
+        }
+        return !added.isEmpty();
+    }
+
+    /**
+     * Removes all edges of the specified collection from this graph. Batch listeners are notified
+     * once after all edges have been removed.
+     *
+     * @param edges the edges to remove
+     * @return {@code true} if the graph changed as a result of the call
+     */
+    public boolean removeEdges(Collection<? extends E> edges)
+    {
+        List<E> removed = new ArrayList<>();
+        List<V> sources = new ArrayList<>();
+        List<V> targets = new ArrayList<>();
+        double[] weights = new double[edges.size()];
+
+        Graph<V, E> g = getDelegate();
+        if (g instanceof AbstractBaseGraph) {
+            ((AbstractBaseGraph<V, E>) g).removeEdges(edges, (e, s, t) -> {
+                weights[removed.size()] = g.getEdgeWeight(e);
+                removed.add(e);
+                sources.add(s);
+                targets.add(t);
+            });
+        } else {
+            for (E e : edges) {
+                if (g.containsEdge(e)) {
+                    V s = g.getEdgeSource(e);
+                    V t = g.getEdgeTarget(e);
+                    weights[removed.size()] = g.getEdgeWeight(e);
+                    g.removeEdge(e);
+                    removed.add(e);
+                    sources.add(s);
+                    targets.add(t);
+                }
+            }
+        }
+        fireEdgesRemoved(removed, sources, targets, Arrays.copyOf(weights, removed.size()));
+        return !removed.isEmpty();
+    }
+
     @Override
     public void addGraphListener(GraphListener<V, E> l)
     {
@@ -354,6 +467,107 @@ public class DefaultListenableGraph<V, E>
         }
     }
 
+    /**
+     * Notify listeners that the specified vertices were added. Batch listeners receive a single
+     * event, all other listeners one event per vertex.
+     *
+     * @param vertices the vertices that were added.
+     */
+    protected void fireVerticesAdded(List<V> vertices)
+    {
+        if (vertices.isEmpty()) {
+            return;
+        }
+
+        for (VertexSetListener<V> l : vertexSetListeners) {
+            for (V v : vertices) {
+                l.vertexAdded(
+                    createGraphVertexChangeEvent(GraphVertexChangeEvent.VERTEX_ADDED, v));
+            }
+        }
+
+        GraphBatchChangeEvent<V, E> batch = null;
+        for (GraphListener<V, E> l : graphListeners) {
+            if (l instanceof GraphBatchListener) {
+                if (batch == null) {
+                    batch = new GraphBatchChangeEvent<>(
+                        this, GraphBatchChangeEvent.VERTICES_ADDED, vertices);
+                }
+                ((GraphBatchListener<V, E>) l).verticesAdded(batch);
+            } else {
+                for (V v : vertices) {
+                    l.vertexAdded(
+                        createGraphVertexChangeEvent(GraphVertexChangeEvent.VERTEX_ADDED, v));
+                }
+            }
+        }
+    }
+
+    /**
+     * Notify listeners that the specified edges were added. Batch listeners receive a single
+     * event, all other listeners one event per edge.
+     *
+     * @param edges the edges that were added.
+     * @param sources the source of each edge
+     * @param targets the target of each edge
+     * @param weights the weight of each edge, or {@code null} for the default edge weight
+     */
+    protected void fireEdgesAdded(List<E> edges, List<V> sources, List<V> targets, double[] weights)
+    {
+        fireEdges(GraphBatchChangeEvent.EDGES_ADDED, edges, sources, targets, weights);
+    }
+
+    /**
+     * Notify listeners that the specified edges were removed. Batch listeners receive a single
+     * event, all other listeners one event per edge.
+     *
+     * @param edges the edges that were removed.
+     * @param sources the source of each edge
+     * @param targets the target of each edge
+     * @param weights the weight of each edge, or {@code null} for the default edge weight
+     */
+    protected void fireEdgesRemoved(
+        List<E> edges, List<V> sources, List<V> targets, double[] weights)
+    {
+        fireEdges(GraphBatchChangeEvent.EDGES_REMOVED, edges, sources, targets, weights);
+    }
+
+    private void fireEdges(
+        int batchType, List<E> edges, List<V> sources, List<V> targets, double[] weights)
+    {
+        if (edges.isEmpty()) {
+            return;
+        }
+
+        boolean added = batchType == GraphBatchChangeEvent.EDGES_ADDED;
+        int eventType = added ? GraphEdgeChangeEvent.EDGE_ADDED : GraphEdgeChangeEvent.EDGE_REMOVED;
+        GraphBatchChangeEvent<V, E> batch = null;
+        for (GraphListener<V, E> l : graphListeners) {
+            if (l instanceof GraphBatchListener) {
+                if (batch == null) {
+                    batch =
+                        new GraphBatchChangeEvent<>(this, batchType, edges, sources, targets, weights);
+                }
+                if (added) {
+                    ((GraphBatchListener<V, E>) l).edgesAdded(batch);
+                } else {
+                    ((GraphBatchListener<V, E>) l).edgesRemoved(batch);
+                }
+                continue;
+            }
+            for (int i = 0; i < edges.size(); i++) {
+                GraphEdgeChangeEvent<V, E> e = createGraphEdgeChangeEvent(
+                    eventType, edges.get(i), sources.get(i), targets.get(i),
+                    weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights[i]);
+                if (added) {
+                    l.edgeAdded(e);
+                } else {
+                    l.edgeRemoved(e);
+                }
+            }
+        }
+    }
+
     private static <L extends EventListener> void addToListenerList(List<L> list, L l)
     {
         if (!list.contains(l)) {
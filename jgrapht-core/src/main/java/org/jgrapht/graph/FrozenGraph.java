@@ -0,0 +1,391 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An immutable snapshot of a graph stored in compressed sparse rows format.
+ *
+ * <p>
+ * The snapshot assigns to each vertex and to each edge of the original graph an integer index in
+ * the order of iteration of the vertex and edge set respectively. The graph structure is stored in
+ * primitive arrays over these indices which are exposed using {@link #getIntGraph()}. All queries
+ * of this class accept and return the original vertex and edge objects, which must therefore
+ * remain unchanged. The vertex and edge sets iterate in the same order as in the original graph.
+ *
+ * <p>
+ * The snapshot does not track changes of the original graph. Any attempt to modify it results in
+ * an {@link UnsupportedOperationException}. Algorithms which require a mapping of the vertices to
+ * integers can reuse the mapping of the snapshot by calling
+ * {@link Graphs#getVertexToIntegerMapping(Graph)}, and some algorithms operate directly on the
+ * primitive representation.
+ *
+ * <p>
+ * Mixed graphs are not supported. Membership queries cost $O(1)$ while {@link #getEdge(Object,
+ * Object)} and {@link #getAllEdges(Object, Object)} cost $O(d)$ where $d$ is the out-degree of the
+ * source vertex.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ * @see Graphs#freeze(Graph)
+ */
+public class FrozenGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final GraphType type;
+    private final VertexToIntegerMapping<V> vertexMapping;
+    private final VertexToIntegerMapping<E> edgeMapping;
+    private final FrozenIntGraph intGraph;
+
+    /**
+     * Create a snapshot of a graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph is mixed
+     */
+    public FrozenGraph(Graph<V, E> graph)
+    {
+        GraphType graphType = Objects.requireNonNull(graph, "Graph cannot be null").getType();
+        if (graphType.isMixed()) {
+            throw new IllegalArgumentException("Mixed graphs are not supported");
+        }
+        this.type = graphType.asUnmodifiable();
+        this.vertexMapping = new VertexToIntegerMapping<>(
+            Collections.unmodifiableList(new ArrayList<>(graph.vertexSet())));
+        this.edgeMapping = new VertexToIntegerMapping<>(
+            Collections.unmodifiableList(new ArrayList<>(graph.edgeSet())));
+
+        Map<V, Integer> vertexMap = vertexMapping.getVertexMap();
+        List<E> edges = edgeMapping.getIndexList();
+        int m = edges.size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = graphType.isWeighted() ? new double[m] : null;
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            sources[i] = vertexMap.get(graph.getEdgeSource(e));
+            targets[i] = vertexMap.get(graph.getEdgeTarget(e));
+            if (weights != null) {
+                weights[i] = graph.getEdgeWeight(e);
+            }
+        }
+        this.intGraph = new FrozenIntGraph(graphType, vertexMap.size(), sources, targets, weights);
+    }
+
+    /**
+     * Get the mapping of the vertices of the snapshot to the integer range $[0, n)$. The mapping
+     * must not be modified.
+     *
+     * @return the vertex mapping
+     */
+    public VertexToIntegerMapping<V> getVertexToIntegerMapping()
+    {
+        return vertexMapping;
+    }
+
+    /**
+     * Get the mapping of the edges of the snapshot to the integer range $[0, m)$. The mapping must
+     * not be modified.
+     *
+     * @return the edge mapping
+     */
+    public VertexToIntegerMapping<E> getEdgeToIntegerMapping()
+    {
+        return edgeMapping;
+    }
+
+    /**
+     * Get the primitive representation of the snapshot. Vertex $i$ and edge $j$ of the returned
+     * graph correspond to the elements at position $i$ and $j$ of the index lists of the vertex and
+     * edge mapping respectively.
+     *
+     * @return the primitive representation of the snapshot
+     */
+    public IntGraph getIntGraph()
+    {
+        return intGraph;
+    }
+
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public V addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return edgeMapping.getVertexMap().containsKey(e);
+    }
+
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return vertexMapping.getVertexMap().containsKey(v);
+    }
+
+    @Override
+    public Set<E> edgeSet()
+    {
+        return new IndexedSet<>(edgeMapping);
+    }
+
+    @Override
+    public Set<V> vertexSet()
+    {
+        return new IndexedSet<>(vertexMapping);
+    }
+
+    @Override
+    public int degreeOf(V vertex)
+    {
+        return intGraph.degreeOf(vertexIndex(vertex));
+    }
+
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        int v = vertexIndex(vertex);
+        if (type.isDirected()) {
+            return new UnmodifiableUnionSet<>(outgoingEdges(v), incomingEdges(v));
+        }
+        return outgoingEdges(v);
+    }
+
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        return intGraph.inDegree(vertexIndex(vertex));
+    }
+
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return incomingEdges(vertexIndex(vertex));
+    }
+
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        return intGraph.outDegree(vertexIndex(vertex));
+    }
+
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return outgoingEdges(vertexIndex(vertex));
+    }
+
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return vertexMapping.getIndexList().get(intGraph.sources[edgeIndex(e)]);
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return vertexMapping.getIndexList().get(intGraph.targets[edgeIndex(e)]);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        return intGraph.edgeWeight(edgeIndex(e));
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        Integer s = vertexMapping.getVertexMap().get(sourceVertex);
+        Integer t = vertexMapping.getVertexMap().get(targetVertex);
+        if (s == null || t == null) {
+            return null;
+        }
+        int i = intGraph.findEdge(s, t, intGraph.outOffsets[s]);
+        return i < 0 ? null : edgeMapping.getIndexList().get(intGraph.outEdges[i]);
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Integer s = vertexMapping.getVertexMap().get(sourceVertex);
+        Integer t = vertexMapping.getVertexMap().get(targetVertex);
+        if (s == null || t == null) {
+            return null;
+        }
+        List<E> edges = edgeMapping.getIndexList();
+        Set<E> result = new LinkedHashSet<>();
+        int i = intGraph.findEdge(s, t, intGraph.outOffsets[s]);
+        while (i >= 0) {
+            result.add(edges.get(intGraph.outEdges[i]));
+            i = intGraph.findEdge(s, t, i + 1);
+        }
+        return result;
+    }
+
+    private int vertexIndex(V v)
+    {
+        Integer index = vertexMapping.getVertexMap().get(v);
+        if (index == null) {
+            if (v == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return index;
+    }
+
+    private int edgeIndex(E e)
+    {
+        Integer index = edgeMapping.getVertexMap().get(e);
+        if (index == null) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return index;
+    }
+
+    private Set<E> outgoingEdges(int v)
+    {
+        return new FrozenIntGraph.IncidenceSet<>(
+            intGraph, v, intGraph.outOffsets[v], intGraph.outOffsets[v + 1], intGraph.outEdges,
+            true, !type.isDirected(), edgeMapping.getIndexList()::get, this::edgeIndexOrNone);
+    }
+
+    private Set<E> incomingEdges(int v)
+    {
+        return new FrozenIntGraph.IncidenceSet<>(
+            intGraph, v, intGraph.inOffsets[v], intGraph.inOffsets[v + 1], intGraph.inEdges,
+            !type.isDirected(), true, edgeMapping.getIndexList()::get, this::edgeIndexOrNone);
+    }
+
+    private int edgeIndexOrNone(Object e)
+    {
+        Integer index = edgeMapping.getVertexMap().get(e);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * An unmodifiable set view of the index list of a mapping.
+     *
+     * @param <T> the element type
+     */
+    private static class IndexedSet<T>
+        extends
+        AbstractSet<T>
+    {
+        private final VertexToIntegerMapping<T> mapping;
+
+        IndexedSet(VertexToIntegerMapping<T> mapping)
+        {
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return mapping.getIndexList().iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return mapping.getIndexList().size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return mapping.getVertexMap().containsKey(o);
+        }
+    }
+
+}
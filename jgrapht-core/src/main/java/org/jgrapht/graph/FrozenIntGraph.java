@@ -0,0 +1,591 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An unmodifiable graph on vertices $0, \ldots, n-1$ and edges $0, \ldots, m-1$ stored in
+ * compressed sparse rows format. This is the representation behind {@link FrozenGraph}.
+ *
+ * <p>
+ * For each edge the source, the target and optionally the weight are stored in arrays indexed by
+ * the edge. For each vertex the outgoing and the incoming edges are stored as consecutive ranges of
+ * an edge array, sorted by edge. In undirected graphs both ranges coincide and each edge appears
+ * once in the range of each endpoint, thus self-loops appear once.
+ *
+ * @author JGraphT Contributors
+ */
+class FrozenIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    final GraphType type;
+    final boolean directed;
+    final int n;
+    final int m;
+    final int[] sources;
+    final int[] targets;
+    final double[] weights;
+    final int[] outOffsets;
+    final int[] outEdges;
+    final int[] inOffsets;
+    final int[] inEdges;
+    final int[] degrees;
+
+    /**
+     * Create a new graph.
+     *
+     * @param type the graph type, must be either directed or undirected
+     * @param n the number of vertices
+     * @param sources the source of each edge
+     * @param targets the target of each edge
+     * @param weights the weight of each edge, or null for unweighted graphs
+     */
+    FrozenIntGraph(GraphType type, int n, int[] sources, int[] targets, double[] weights)
+    {
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("Mixed graphs are not supported");
+        }
+        this.type = type.asUnmodifiable();
+        this.directed = type.isDirected();
+        this.n = n;
+        this.m = sources.length;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+
+        if (directed) {
+            this.outOffsets = new int[n + 1];
+            this.outEdges = new int[m];
+            buildRows(outOffsets, outEdges, sources, null);
+            this.inOffsets = new int[n + 1];
+            this.inEdges = new int[m];
+            buildRows(inOffsets, inEdges, targets, null);
+            this.degrees = null;
+        } else {
+            int loops = 0;
+            this.degrees = new int[n];
+            for (int e = 0; e < m; e++) {
+                degrees[sources[e]]++;
+                degrees[targets[e]]++;
+                if (sources[e] == targets[e]) {
+                    loops++;
+                }
+            }
+            this.outOffsets = new int[n + 1];
+            this.outEdges = new int[2 * m - loops];
+            buildRows(outOffsets, outEdges, sources, targets);
+            this.inOffsets = outOffsets;
+            this.inEdges = outEdges;
+        }
+    }
+
+    /*
+     * Counting sort of the edges by row. Edges are placed in increasing order within each row.
+     */
+    private void buildRows(int[] offsets, int[] entries, int[] first, int[] second)
+    {
+        for (int e = 0; e < m; e++) {
+            offsets[first[e] + 1]++;
+            if (second != null && second[e] != first[e]) {
+                offsets[second[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < m; e++) {
+            entries[next[first[e]]++] = e;
+            if (second != null && second[e] != first[e]) {
+                entries[next[second[e]]++] = e;
+            }
+        }
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < m;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < n;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new IntRangeSet(m);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new IntRangeSet(n);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return directed ? outDegree(vertex) + inDegree(vertex) : degrees[vertex];
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            return new UnmodifiableUnionSet<>(outgoingEdges(vertex), incomingEdges(vertex));
+        }
+        return outgoingEdges(vertex);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return incomingEdges(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outgoingEdges(vertex);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return sources[e];
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return targets[e];
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return edgeWeight(e);
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int i = findEdge(sourceVertex, targetVertex, outOffsets[sourceVertex]);
+        return i < 0 ? null : outEdges[i];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new LinkedHashSet<>();
+        int i = findEdge(sourceVertex, targetVertex, outOffsets[sourceVertex]);
+        while (i >= 0) {
+            result.add(outEdges[i]);
+            i = findEdge(sourceVertex, targetVertex, i + 1);
+        }
+        return result;
+    }
+
+    @Override
+    public int outDegree(int vertex)
+    {
+        if (!directed) {
+            return degrees[vertex];
+        }
+        return outOffsets[vertex + 1] - outOffsets[vertex];
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        if (!directed) {
+            return degrees[vertex];
+        }
+        return inOffsets[vertex + 1] - inOffsets[vertex];
+    }
+
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        for (int i = outOffsets[vertex], to = outOffsets[vertex + 1]; i < to; i++) {
+            action.accept(outEdges[i]);
+        }
+    }
+
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        for (int i = inOffsets[vertex], to = inOffsets[vertex + 1]; i < to; i++) {
+            action.accept(inEdges[i]);
+        }
+    }
+
+    @Override
+    public void forEachOutEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        for (int i = outOffsets[vertex], to = outOffsets[vertex + 1]; i < to; i++) {
+            int e = outEdges[i];
+            action.accept(e, directed ? targets[e] : oppositeVertex(e, vertex));
+        }
+    }
+
+    @Override
+    public void forEachInEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        for (int i = inOffsets[vertex], to = inOffsets[vertex + 1]; i < to; i++) {
+            int e = inEdges[i];
+            action.accept(e, directed ? sources[e] : oppositeVertex(e, vertex));
+        }
+    }
+
+    @Override
+    public int edgeSource(int edge)
+    {
+        return sources[edge];
+    }
+
+    @Override
+    public int edgeTarget(int edge)
+    {
+        return targets[edge];
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights[edge];
+    }
+
+    @Override
+    public int oppositeVertex(int edge, int vertex)
+    {
+        int source = sources[edge];
+        return source == vertex ? targets[edge] : source;
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+    }
+
+    /**
+     * Find the position of the first edge from a source to a target vertex in the outgoing edges
+     * array, starting from a given position.
+     *
+     * @return the position in the outgoing edges array, or $-1$ if not found
+     */
+    int findEdge(int source, int target, int from)
+    {
+        for (int i = from, to = outOffsets[source + 1]; i < to; i++) {
+            int e = outEdges[i];
+            int t = directed ? targets[e] : oppositeVertex(e, source);
+            if (t == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the outgoing edges of a vertex as an unmodifiable set.
+     *
+     * @param vertex the vertex
+     * @return the outgoing edges of the vertex
+     */
+    Set<Integer> outgoingEdges(int vertex)
+    {
+        return new IncidenceSet<>(
+            this, vertex, outOffsets[vertex], outOffsets[vertex + 1], outEdges, true, !directed,
+            e -> e, o -> o instanceof Integer && containsEdge((Integer) o) ? (Integer) o : -1);
+    }
+
+    /**
+     * Get the incoming edges of a vertex as an unmodifiable set.
+     *
+     * @param vertex the vertex
+     * @return the incoming edges of the vertex
+     */
+    Set<Integer> incomingEdges(int vertex)
+    {
+        return new IncidenceSet<>(
+            this, vertex, inOffsets[vertex], inOffsets[vertex + 1], inEdges, !directed, true,
+            e -> e, o -> o instanceof Integer && containsEdge((Integer) o) ? (Integer) o : -1);
+    }
+
+    /**
+     * An unmodifiable set of consecutive integers starting from zero.
+     */
+    private static class IntRangeSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int size;
+
+        IntRangeSet(int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < size;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int v = (Integer) o;
+            return v >= 0 && v < size;
+        }
+    }
+
+    /**
+     * An unmodifiable view of a range of the incidence arrays as a set of edges. The edges are
+     * converted to objects using a mapping function. Membership is decided in constant time using
+     * the endpoints of the edge.
+     *
+     * @param <T> the edge type
+     */
+    static class IncidenceSet<T>
+        extends
+        AbstractSet<T>
+    {
+        private final FrozenIntGraph graph;
+        private final int vertex;
+        private final int from;
+        private final int to;
+        private final int[] entries;
+        private final boolean matchSource;
+        private final boolean matchTarget;
+        private final IntFunction<T> edgeOf;
+        private final ToIntFunction<Object> indexOf;
+
+        IncidenceSet(
+            FrozenIntGraph graph, int vertex, int from, int to, int[] entries, boolean matchSource,
+            boolean matchTarget, IntFunction<T> edgeOf, ToIntFunction<Object> indexOf)
+        {
+            this.graph = graph;
+            this.vertex = vertex;
+            this.from = from;
+            this.to = to;
+            this.entries = entries;
+            this.matchSource = matchSource;
+            this.matchTarget = matchTarget;
+            this.edgeOf = edgeOf;
+            this.indexOf = indexOf;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new Iterator<T>()
+            {
+                private int next = from;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override
+                public T next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return edgeOf.apply(entries[next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int e = indexOf.applyAsInt(o);
+            if (e < 0) {
+                return false;
+            }
+            return matchSource && graph.sources[e] == vertex
+                || matchTarget && graph.targets[e] == vertex;
+        }
+    }
+
+}
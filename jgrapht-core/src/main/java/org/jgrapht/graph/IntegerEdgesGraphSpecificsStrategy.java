@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.specifics.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A specifics strategy for graphs whose edges are non-negative integers, such as those produced by
+ * {@link SupplierUtil#createIntegerSupplier()}.
+ * 
+ * <p>
+ * Edge sources, targets and weights are stored by {@link ArrayIntrusiveEdgesSpecifics} in arrays
+ * indexed by the edges, which makes edge endpoint and weight retrievals array loads instead of hash
+ * lookups. The per vertex storage is delegated to another strategy, by default the
+ * {@link FastLookupGraphSpecificsStrategy}.
+ * 
+ * @author JGraphT Contributors
+ *
+ * @param <V> the graph vertex type
+ */
+public class IntegerEdgesGraphSpecificsStrategy<V>
+    implements
+    GraphSpecificsStrategy<V, Integer>
+{
+    private static final long serialVersionUID = -8214571342781960913L;
+
+    private final GraphSpecificsStrategy<V, Integer> specificsStrategy;
+
+    /**
+     * Create a new strategy which uses the {@link FastLookupGraphSpecificsStrategy} for the per
+     * vertex storage.
+     */
+    public IntegerEdgesGraphSpecificsStrategy()
+    {
+        this(new FastLookupGraphSpecificsStrategy<>());
+    }
+
+    /**
+     * Create a new strategy.
+     * 
+     * @param specificsStrategy the strategy providing the per vertex storage
+     */
+    public IntegerEdgesGraphSpecificsStrategy(GraphSpecificsStrategy<V, Integer> specificsStrategy)
+    {
+        this.specificsStrategy = Objects.requireNonNull(specificsStrategy);
+    }
+
+    @Override
+    public Function<GraphType,
+        IntrusiveEdgesSpecifics<V, Integer>> getIntrusiveEdgesSpecificsFactory()
+    {
+        return (Function<GraphType, IntrusiveEdgesSpecifics<V, Integer>> & Serializable) (
+            type) -> new ArrayIntrusiveEdgesSpecifics<>(type.isWeighted());
+    }
+
+    @Override
+    public BiFunction<Graph<V, Integer>, GraphType, Specifics<V, Integer>> getSpecificsFactory()
+    {
+        return specificsStrategy.getSpecificsFactory();
+    }
+
+    @Override
+    public EdgeSetFactory<V, Integer> getEdgeSetFactory()
+    {
+        return specificsStrategy.getEdgeSetFactory();
+    }
+
+}
@@ -0,0 +1,601 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph which uses fine-grained locking. In contrast to {@link AsSynchronizedGraph}
+ * which guards the whole graph with a single read-write lock, this graph allows modifications of
+ * different parts of the graph to proceed in parallel.
+ *
+ * <p>
+ * The vertex set, the edge set and the adjacency containers of the vertices are backed by
+ * {@link ConcurrentHashMap} instances. Each vertex is assigned to one of a fixed number of lock
+ * stripes based on its hash code. Adding or removing an edge acquires only the stripes of its two
+ * endpoints, in increasing order of stripe index, so edge insertions on disjoint endpoints scale
+ * with the number of threads. Adding a vertex is lock-free, while removing a vertex acquires all
+ * stripes since it needs to remove all its touching edges. Queries never lock.
+ *
+ * <p>
+ * All sets returned by this graph are unmodifiable live views. Their iterators are weakly
+ * consistent, in the sense of {@link ConcurrentHashMap}: they never throw
+ * {@link ConcurrentModificationException}, they reflect the state of the graph at some point at or
+ * since the creation of the iterator, and they may or may not reflect modifications after that. No
+ * copies of the underlying collections are made. The same hazards regarding concurrent removals as
+ * in {@link AsSynchronizedGraph} apply: a vertex or edge obtained from one call may have been
+ * removed by the time it is passed to another call, resulting in an
+ * {@link IllegalArgumentException}.
+ *
+ * <p>
+ * Users need to ensure that the vertex and edge suppliers, if any, are thread-safe. Mixed graphs
+ * are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ */
+public class ConcurrentStripedGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = 6203858620446405931L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final GraphType type;
+    private final boolean directed;
+
+    private final ConcurrentHashMap<V, Adjacency<E>> vertices;
+    private final ConcurrentHashMap<E, EdgeRecord<V>> edges;
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Create a new graph with a default number of lock stripes, which is a small multiple of the
+     * number of available processors.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public ConcurrentStripedGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this(vertexSupplier, edgeSupplier, type, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @param stripes the number of lock stripes, rounded up to a power of two
+     * @throws IllegalArgumentException if the graph type is mixed or the number of stripes is not
+     *         positive
+     */
+    public ConcurrentStripedGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type, int stripes)
+    {
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.type = Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        if (stripes <= 0 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("Number of stripes must be positive");
+        }
+        this.directed = type.isDirected();
+        this.vertices = new ConcurrentHashMap<>();
+        this.edges = new ConcurrentHashMap<>();
+
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * Get the number of lock stripes.
+     *
+     * @return the number of lock stripes
+     */
+    public int getStripes()
+    {
+        return stripes.length;
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Adjacency<E> adj = vertices.get(sourceVertex);
+        if (adj == null || !vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        Set<E> result = new LinkedHashSet<>();
+        for (E e : adj.outgoing) {
+            if (connects(e, sourceVertex, targetVertex)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        Adjacency<E> adj = vertices.get(sourceVertex);
+        if (adj == null || !vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        return findEdge(adj, sourceVertex, targetVertex);
+    }
+
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        E e = edgeSupplier.get();
+        return addEdge(sourceVertex, targetVertex, e) ? e : null;
+    }
+
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        int s = stripe(sourceVertex);
+        int t = stripe(targetVertex);
+        lock(s, t);
+        try {
+            /*
+             * Vertices cannot be removed while we hold their stripes, and any other edge between the
+             * same endpoints requires the same stripes.
+             */
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+            Adjacency<E> sourceAdj = vertices.get(sourceVertex);
+            Adjacency<E> targetAdj = vertices.get(targetVertex);
+
+            if (!type.isAllowingMultipleEdges()
+                && findEdge(sourceAdj, sourceVertex, targetVertex) != null)
+            {
+                return false;
+            }
+            if (edges.putIfAbsent(e, new EdgeRecord<>(sourceVertex, targetVertex)) != null) {
+                return false;
+            }
+
+            sourceAdj.outgoing.add(e);
+            targetAdj.incoming.add(e);
+            if (!directed && sourceVertex.equals(targetVertex)) {
+                sourceAdj.loops++;
+            }
+            return true;
+        } finally {
+            unlock(s, t);
+        }
+    }
+
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+
+        V v = vertexSupplier.get();
+
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(
+                INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL);
+        }
+        return v;
+    }
+
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        return vertices.putIfAbsent(v, new Adjacency<>(directed)) == null;
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return e != null && edges.containsKey(e);
+    }
+
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return v != null && vertices.containsKey(v);
+    }
+
+    @Override
+    public Set<E> edgeSet()
+    {
+        return Collections.unmodifiableSet(edges.keySet());
+    }
+
+    @Override
+    public int degreeOf(V vertex)
+    {
+        Adjacency<E> adj = adjacency(vertex);
+        if (directed) {
+            return adj.outgoing.size() + adj.incoming.size();
+        }
+        return adj.outgoing.size() + adj.loops;
+    }
+
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        Adjacency<E> adj = adjacency(vertex);
+        if (directed) {
+            return new UnmodifiableUnionSet<>(adj.outgoing, adj.incoming);
+        }
+        return Collections.unmodifiableSet(adj.outgoing);
+    }
+
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (directed) {
+            return adjacency(vertex).incoming.size();
+        }
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return Collections.unmodifiableSet(adjacency(vertex).incoming);
+    }
+
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (directed) {
+            return adjacency(vertex).outgoing.size();
+        }
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return Collections.unmodifiableSet(adjacency(vertex).outgoing);
+    }
+
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        if (sourceVertex == null || targetVertex == null) {
+            return null;
+        }
+        int s = stripe(sourceVertex);
+        int t = stripe(targetVertex);
+        lock(s, t);
+        try {
+            Adjacency<E> adj = vertices.get(sourceVertex);
+            if (adj == null || !vertices.containsKey(targetVertex)) {
+                return null;
+            }
+            E e = findEdge(adj, sourceVertex, targetVertex);
+            if (e != null) {
+                unlinkEdge(e, edges.remove(e));
+            }
+            return e;
+        } finally {
+            unlock(s, t);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(E e)
+    {
+        if (e == null) {
+            return false;
+        }
+        EdgeRecord<V> record = edges.get(e);
+        if (record == null) {
+            return false;
+        }
+        int s = stripe(record.source);
+        int t = stripe(record.target);
+        lock(s, t);
+        try {
+            if (!edges.remove(e, record)) {
+                return false;
+            }
+            unlinkEdge(e, record);
+            return true;
+        } finally {
+            unlock(s, t);
+        }
+    }
+
+    @Override
+    public boolean removeVertex(V v)
+    {
+        if (v == null || !vertices.containsKey(v)) {
+            return false;
+        }
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+        try {
+            Adjacency<E> adj = vertices.get(v);
+            if (adj == null) {
+                return false;
+            }
+            List<E> touching = new ArrayList<>(adj.outgoing);
+            if (directed) {
+                touching.addAll(adj.incoming);
+            }
+            for (E e : touching) {
+                EdgeRecord<V> record = edges.remove(e);
+                if (record != null) {
+                    unlinkEdge(e, record);
+                }
+            }
+            vertices.remove(v);
+            return true;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    @Override
+    public Set<V> vertexSet()
+    {
+        return Collections.unmodifiableSet(vertices.keySet());
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return record(e).source;
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return record(e).target;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        EdgeRecord<V> record = record(e);
+        return type.isWeighted() ? record.weight : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        record(e).weight = weight;
+    }
+
+    /*
+     * Remove an edge, which is no longer in the edge map, from the adjacency containers of its
+     * endpoints. The caller must hold the stripes of both endpoints.
+     */
+    private void unlinkEdge(E e, EdgeRecord<V> record)
+    {
+        Adjacency<E> sourceAdj = vertices.get(record.source);
+        Adjacency<E> targetAdj = vertices.get(record.target);
+        sourceAdj.outgoing.remove(e);
+        targetAdj.incoming.remove(e);
+        if (!directed && record.source.equals(record.target)) {
+            sourceAdj.loops--;
+        }
+    }
+
+    private E findEdge(Adjacency<E> adj, V sourceVertex, V targetVertex)
+    {
+        for (E e : adj.outgoing) {
+            if (connects(e, sourceVertex, targetVertex)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private boolean connects(E e, V sourceVertex, V targetVertex)
+    {
+        EdgeRecord<V> record = edges.get(e);
+        if (record == null) {
+            return false;
+        }
+        if (record.source.equals(sourceVertex) && record.target.equals(targetVertex)) {
+            return true;
+        }
+        return !directed && record.source.equals(targetVertex)
+            && record.target.equals(sourceVertex);
+    }
+
+    private Adjacency<E> adjacency(V v)
+    {
+        Adjacency<E> adj = vertices.get(Objects.requireNonNull(v));
+        if (adj == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return adj;
+    }
+
+    private EdgeRecord<V> record(E e)
+    {
+        EdgeRecord<V> record = edges.get(Objects.requireNonNull(e));
+        if (record == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return record;
+    }
+
+    private int stripe(V v)
+    {
+        int h = v.hashCode();
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+
+    private void lock(int s, int t)
+    {
+        if (s == t) {
+            stripes[s].lock();
+        } else if (s < t) {
+            stripes[s].lock();
+            stripes[t].lock();
+        } else {
+            stripes[t].lock();
+            stripes[s].lock();
+        }
+    }
+
+    private void unlock(int s, int t)
+    {
+        stripes[s].unlock();
+        if (s != t) {
+            stripes[t].unlock();
+        }
+    }
+
+    /**
+     * The edges touching a vertex. In undirected graphs the outgoing and the incoming edges are
+     * the same set and self-loops are counted separately in order to compute the degree.
+     *
+     * @param <E> the graph edge type
+     */
+    private static class Adjacency<E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -2213408305585404658L;
+
+        final Set<E> outgoing;
+        final Set<E> incoming;
+        volatile int loops;
+
+        Adjacency(boolean directed)
+        {
+            this.outgoing = ConcurrentHashMap.newKeySet();
+            this.incoming = directed ? ConcurrentHashMap.newKeySet() : outgoing;
+        }
+    }
+
+    /**
+     * The endpoints and weight of an edge.
+     *
+     * @param <V> the graph vertex type
+     */
+    private static class EdgeRecord<V>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 8130516290874063419L;
+
+        final V source;
+        final V target;
+        volatile double weight;
+
+        EdgeRecord(V source, V target)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+    }
+
+}
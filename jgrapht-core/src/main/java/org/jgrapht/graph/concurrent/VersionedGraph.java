@@ -0,0 +1,1140 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph which supports constant time consistent snapshots, using multi-version
+ * concurrency control.
+ *
+ * <p>
+ * The graph keeps for each vertex and each edge a chain of versions, tagged with the epoch in which
+ * they were written. Calling {@link #snapshot()} freezes the current epoch in $O(1)$ time and
+ * returns an unmodifiable {@link Snapshot} which observes the graph exactly as it was at that time.
+ * Subsequent modifications copy the adjacency of a touched vertex once per epoch and record the
+ * copy as a new version, so that the data observed by existing snapshots is never modified.
+ * Snapshots are read without any locking; they are intended for long-running algorithms which
+ * should neither block the writers nor see a graph which changes under them.
+ *
+ * <p>
+ * Modifications are serialized using a write lock. Queries on the graph itself observe the latest
+ * version and are performed under a read lock. Sets returned by the graph itself, such as
+ * {@link #edgesOf(Object)}, are unmodifiable copies, and iteration over {@link #vertexSet()} and
+ * {@link #edgeSet()} takes a copy of the underlying set. Sets returned by a snapshot are
+ * unmodifiable views which are never copied.
+ *
+ * <p>
+ * Old versions are discarded as soon as no open snapshot can observe them, either when the
+ * corresponding vertex or edge is modified again or when the snapshots observing them are closed.
+ * Thus snapshots should be closed when no longer needed, preferably using a try-with-resources
+ * statement. A snapshot must not be used after it has been closed.
+ *
+ * <p>
+ * Users need to ensure that the vertex and edge suppliers, if any, are thread-safe. Mixed graphs
+ * are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author JGraphT Contributors
+ */
+public class VersionedGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>
+{
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+    private static final String SNAPSHOT_UNMODIFIABLE = "snapshots are unmodifiable";
+
+    private static final long LATEST = Long.MAX_VALUE;
+
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final GraphType type;
+    private final boolean directed;
+
+    private final ReentrantReadWriteLock lock;
+    private final ConcurrentHashMap<V, Version<Adjacency<E>>> vertices;
+    private final ConcurrentHashMap<E, Version<EdgeRecord<V>>> edges;
+
+    /*
+     * The following are guarded by the write lock.
+     */
+    private long epoch;
+    private int vertexCount;
+    private int edgeCount;
+    private final TreeMap<Long, Integer> openSnapshots;
+    /*
+     * Keys written while a snapshot was open, with the epoch of the write, whose older versions are
+     * discarded once no open snapshot precedes that epoch.
+     */
+    private final Deque<Pair<Long, V>> pendingVertices;
+    private final Deque<Pair<Long, E>> pendingEdges;
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public VersionedGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.type = Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        this.directed = type.isDirected();
+        this.lock = new ReentrantReadWriteLock();
+        this.vertices = new ConcurrentHashMap<>();
+        this.edges = new ConcurrentHashMap<>();
+        this.openSnapshots = new TreeMap<>();
+        this.pendingVertices = new ArrayDeque<>();
+        this.pendingEdges = new ArrayDeque<>();
+    }
+
+    /**
+     * Take a consistent snapshot of the graph in $O(1)$ time. The snapshot is unmodifiable and is
+     * not affected by subsequent modifications of this graph.
+     *
+     * @return a snapshot of the graph
+     */
+    public Snapshot<V, E> snapshot()
+    {
+        lock.writeLock().lock();
+        try {
+            long version = epoch++;
+            openSnapshots.merge(version, 1, Integer::sum);
+            return new Snapshot<>(this, version, vertexCount, edgeCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of snapshots which have not been closed yet.
+     *
+     * @return the number of open snapshots
+     */
+    public int getOpenSnapshots()
+    {
+        lock.writeLock().lock();
+        try {
+            int count = 0;
+            for (int c : openSnapshots.values()) {
+                count += c;
+            }
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of vertices and edges for which versions are stored, including removed ones
+     * which are still observable by an open snapshot.
+     *
+     * @return the number of vertices and edges for which versions are stored
+     */
+    int getStoredKeyCount()
+    {
+        lock.writeLock().lock();
+        try {
+            return vertices.size() + edges.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        lock.readLock().lock();
+        try {
+            return findEdges(sourceVertex, targetVertex, LATEST);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        lock.readLock().lock();
+        try {
+            return findEdge(sourceVertex, targetVertex, LATEST);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+        lock.writeLock().lock();
+        try {
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+            if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+            E e = edgeSupplier.get();
+            return addEdge(sourceVertex, targetVertex, e) ? e : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        lock.writeLock().lock();
+        try {
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+            if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+            if (visible(edges, e, LATEST) != null) {
+                return false;
+            }
+            if (!type.isAllowingMultipleEdges()
+                && findEdge(sourceVertex, targetVertex, LATEST) != null)
+            {
+                return false;
+            }
+
+            write(edges, pendingEdges, e, new EdgeRecord<>(sourceVertex, targetVertex, DEFAULT_EDGE_WEIGHT));
+            Adjacency<E> sourceAdj = writableAdjacency(sourceVertex);
+            sourceAdj.outgoing.add(e);
+            if (sourceVertex.equals(targetVertex)) {
+                sourceAdj.incoming.add(e);
+                sourceAdj.loops++;
+            } else {
+                writableAdjacency(targetVertex).incoming.add(e);
+            }
+            edgeCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+
+        V v = vertexSupplier.get();
+
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(
+                INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL);
+        }
+        return v;
+    }
+
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        lock.writeLock().lock();
+        try {
+            if (visible(vertices, v, LATEST) != null) {
+                return false;
+            }
+            write(vertices, pendingVertices, v, new Adjacency<>(directed));
+            vertexCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        lock.readLock().lock();
+        try {
+            return e != null && visible(edges, e, LATEST) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsVertex(V v)
+    {
+        lock.readLock().lock();
+        try {
+            return v != null && visible(vertices, v, LATEST) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<E> edgeSet()
+    {
+        return new LiveSet<>(edges, this::containsEdge, () -> edgeCount);
+    }
+
+    @Override
+    public int degreeOf(V vertex)
+    {
+        lock.readLock().lock();
+        try {
+            return adjacency(vertex, LATEST).degree(directed);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        lock.readLock().lock();
+        try {
+            Adjacency<E> adj = adjacency(vertex, LATEST);
+            Set<E> result = new LinkedHashSet<>(adj.outgoing);
+            if (directed) {
+                result.addAll(adj.incoming);
+            }
+            return Collections.unmodifiableSet(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        lock.readLock().lock();
+        try {
+            Adjacency<E> adj = adjacency(vertex, LATEST);
+            return directed ? adj.incoming.size() : adj.degree(directed);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        lock.readLock().lock();
+        try {
+            return Collections
+                .unmodifiableSet(new LinkedHashSet<>(adjacency(vertex, LATEST).incoming));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        lock.readLock().lock();
+        try {
+            Adjacency<E> adj = adjacency(vertex, LATEST);
+            return directed ? adj.outgoing.size() : adj.degree(directed);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        lock.readLock().lock();
+        try {
+            return Collections
+                .unmodifiableSet(new LinkedHashSet<>(adjacency(vertex, LATEST).outgoing));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        lock.writeLock().lock();
+        try {
+            E e = findEdge(sourceVertex, targetVertex, LATEST);
+            if (e != null) {
+                removeEdge(e);
+            }
+            return e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean removeEdge(E e)
+    {
+        if (e == null) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            EdgeRecord<V> record = visible(edges, e, LATEST);
+            if (record == null) {
+                return false;
+            }
+            write(edges, pendingEdges, e, null);
+            Adjacency<E> sourceAdj = writableAdjacency(record.source);
+            sourceAdj.outgoing.remove(e);
+            if (record.source.equals(record.target)) {
+                sourceAdj.incoming.remove(e);
+                sourceAdj.loops--;
+            } else {
+                writableAdjacency(record.target).incoming.remove(e);
+            }
+            edgeCount--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean removeVertex(V v)
+    {
+        if (v == null) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Adjacency<E> adj = visible(vertices, v, LATEST);
+            if (adj == null) {
+                return false;
+            }
+            List<E> touching = new ArrayList<>(adj.outgoing);
+            if (directed) {
+                touching.addAll(adj.incoming);
+            }
+            for (E e : touching) {
+                removeEdge(e);
+            }
+            write(vertices, pendingVertices, v, null);
+            vertexCount--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<V> vertexSet()
+    {
+        return new LiveSet<>(vertices, this::containsVertex, () -> vertexCount);
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        lock.readLock().lock();
+        try {
+            return edgeRecord(e, LATEST).source;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        lock.readLock().lock();
+        try {
+            return edgeRecord(e, LATEST).target;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        lock.readLock().lock();
+        try {
+            return edgeRecord(e, LATEST).weight;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        lock.writeLock().lock();
+        try {
+            EdgeRecord<V> record = edgeRecord(e, LATEST);
+            write(edges, pendingEdges, e, new EdgeRecord<>(record.source, record.target, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Get the value of a key visible at a given epoch, or null if none.
+     */
+    private static <K, T> T visible(Map<K, Version<T>> map, Object key, long at)
+    {
+        Version<T> v = map.get(key);
+        while (v != null && v.epoch > at) {
+            v = v.previous;
+        }
+        return v == null ? null : v.value;
+    }
+
+    /*
+     * Write a new value for a key in the current epoch, and discard versions which are no longer
+     * observable by any open snapshot. If older versions remain, the key is queued once per epoch
+     * in order to discard them when the snapshots observing them are closed. Must be called with the write lock
+     * held.
+     */
+    private <K, T> Version<T> write(
+        ConcurrentHashMap<K, Version<T>> map, Deque<Pair<Long, K>> pending, K key, T value)
+    {
+        Version<T> head = map.get(key);
+        boolean created = head == null || head.epoch != epoch;
+        if (created) {
+            head = new Version<>(epoch, value, head);
+        } else {
+            head.value = value;
+        }
+        discard(map, key, head);
+        if (created && head.previous != null) {
+            pending.add(Pair.of(epoch, key));
+        }
+        return head;
+    }
+
+    /*
+     * Discard the versions of a key which are no longer observable by any open snapshot, and the
+     * key itself if it has been removed. Must be called with the write lock held.
+     */
+    private <K, T> void discard(ConcurrentHashMap<K, Version<T>> map, K key, Version<T> head)
+    {
+        long oldest = openSnapshots.isEmpty() ? LATEST : openSnapshots.firstKey();
+        Version<T> needed = head;
+        while (needed != null && needed.epoch > oldest) {
+            needed = needed.previous;
+        }
+        if (needed != null) {
+            needed.previous = null;
+        }
+
+        if (head.value == null && head.previous == null) {
+            map.remove(key);
+        } else {
+            map.put(key, head);
+        }
+    }
+
+    /*
+     * Discard the older versions of the queued keys which are no longer observable by any open
+     * snapshot. Keys are queued in increasing epoch order. Must be called with the write lock held.
+     */
+    private <K, T> void discardPending(
+        ConcurrentHashMap<K, Version<T>> map, Deque<Pair<Long, K>> pending)
+    {
+        long oldest = openSnapshots.isEmpty() ? LATEST : openSnapshots.firstKey();
+        while (!pending.isEmpty() && pending.peekFirst().getFirst() <= oldest) {
+            K key = pending.pollFirst().getSecond();
+            Version<T> head = map.get(key);
+            if (head != null) {
+                discard(map, key, head);
+            }
+        }
+    }
+
+    /*
+     * Get the adjacency of a vertex for modification in the current epoch, copying it if it is
+     * observable by a snapshot. Must be called with the write lock held.
+     */
+    private Adjacency<E> writableAdjacency(V v)
+    {
+        Version<Adjacency<E>> head = vertices.get(v);
+        if (head.epoch == epoch) {
+            return head.value;
+        }
+        return write(vertices, pendingVertices, v, new Adjacency<>(head.value, directed)).value;
+    }
+
+    private Adjacency<E> adjacency(V v, long at)
+    {
+        Adjacency<E> adj = visible(vertices, Objects.requireNonNull(v), at);
+        if (adj == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return adj;
+    }
+
+    private EdgeRecord<V> edgeRecord(E e, long at)
+    {
+        EdgeRecord<V> record = visible(edges, Objects.requireNonNull(e), at);
+        if (record == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return record;
+    }
+
+    private E findEdge(V sourceVertex, V targetVertex, long at)
+    {
+        if (sourceVertex == null || targetVertex == null) {
+            return null;
+        }
+        Adjacency<E> adj = visible(vertices, sourceVertex, at);
+        if (adj == null || visible(vertices, targetVertex, at) == null) {
+            return null;
+        }
+        for (E e : adj.outgoing) {
+            if (connects(e, sourceVertex, targetVertex, at)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private Set<E> findEdges(V sourceVertex, V targetVertex, long at)
+    {
+        if (sourceVertex == null || targetVertex == null) {
+            return null;
+        }
+        Adjacency<E> adj = visible(vertices, sourceVertex, at);
+        if (adj == null || visible(vertices, targetVertex, at) == null) {
+            return null;
+        }
+        Set<E> result = new LinkedHashSet<>();
+        for (E e : adj.outgoing) {
+            if (connects(e, sourceVertex, targetVertex, at)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    private boolean connects(E e, V sourceVertex, V targetVertex, long at)
+    {
+        EdgeRecord<V> record = visible(edges, e, at);
+        if (record.source.equals(sourceVertex) && record.target.equals(targetVertex)) {
+            return true;
+        }
+        return !directed && record.source.equals(targetVertex)
+            && record.target.equals(sourceVertex);
+    }
+
+    private void release(long version)
+    {
+        lock.writeLock().lock();
+        try {
+            Integer count = openSnapshots.get(version);
+            if (count != null) {
+                if (count == 1) {
+                    openSnapshots.remove(version);
+                    discardPending(vertices, pendingVertices);
+                    discardPending(edges, pendingEdges);
+                } else {
+                    openSnapshots.put(version, count - 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * An unmodifiable snapshot of a {@link VersionedGraph}. All queries are performed without
+     * locking and observe the graph as it was when the snapshot was taken.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static final class Snapshot<V, E>
+        extends
+        AbstractGraph<V, E>
+        implements
+        AutoCloseable
+    {
+        private final VersionedGraph<V, E> graph;
+        private final long version;
+        private final int vertexCount;
+        private final int edgeCount;
+        private final GraphType type;
+        private boolean closed;
+
+        private Snapshot(VersionedGraph<V, E> graph, long version, int vertexCount, int edgeCount)
+        {
+            this.graph = graph;
+            this.version = version;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.type = graph.type.asUnmodifiable();
+        }
+
+        /**
+         * Get the version of the graph observed by this snapshot. Versions of later snapshots are
+         * strictly larger.
+         *
+         * @return the version of the snapshot
+         */
+        public long getVersion()
+        {
+            return version;
+        }
+
+        /**
+         * Close the snapshot, allowing the graph to discard versions which are only observable by
+         * this snapshot. Closing a snapshot more than once has no effect.
+         */
+        @Override
+        public synchronized void close()
+        {
+            if (!closed) {
+                closed = true;
+                graph.release(version);
+            }
+        }
+
+        @Override
+        public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+        {
+            return graph.findEdges(sourceVertex, targetVertex, version);
+        }
+
+        @Override
+        public E getEdge(V sourceVertex, V targetVertex)
+        {
+            return graph.findEdge(sourceVertex, targetVertex, version);
+        }
+
+        @Override
+        public Supplier<V> getVertexSupplier()
+        {
+            return null;
+        }
+
+        @Override
+        public Supplier<E> getEdgeSupplier()
+        {
+            return null;
+        }
+
+        @Override
+        public E addEdge(V sourceVertex, V targetVertex)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean addEdge(V sourceVertex, V targetVertex, E e)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public V addVertex()
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean addVertex(V v)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean containsEdge(E e)
+        {
+            return e != null && visible(graph.edges, e, version) != null;
+        }
+
+        @Override
+        public boolean containsVertex(V v)
+        {
+            return v != null && visible(graph.vertices, v, version) != null;
+        }
+
+        @Override
+        public Set<E> edgeSet()
+        {
+            return new VersionSet<>(graph.edges, version, edgeCount);
+        }
+
+        @Override
+        public int degreeOf(V vertex)
+        {
+            return graph.adjacency(vertex, version).degree(graph.directed);
+        }
+
+        @Override
+        public Set<E> edgesOf(V vertex)
+        {
+            Adjacency<E> adj = graph.adjacency(vertex, version);
+            if (graph.directed) {
+                return new UnmodifiableUnionSet<>(adj.outgoing, adj.incoming);
+            }
+            return Collections.unmodifiableSet(adj.outgoing);
+        }
+
+        @Override
+        public int inDegreeOf(V vertex)
+        {
+            Adjacency<E> adj = graph.adjacency(vertex, version);
+            return graph.directed ? adj.incoming.size() : adj.degree(false);
+        }
+
+        @Override
+        public Set<E> incomingEdgesOf(V vertex)
+        {
+            Adjacency<E> adj = graph.adjacency(vertex, version);
+            return Collections.unmodifiableSet(graph.directed ? adj.incoming : adj.outgoing);
+        }
+
+        @Override
+        public int outDegreeOf(V vertex)
+        {
+            Adjacency<E> adj = graph.adjacency(vertex, version);
+            return graph.directed ? adj.outgoing.size() : adj.degree(false);
+        }
+
+        @Override
+        public Set<E> outgoingEdgesOf(V vertex)
+        {
+            return Collections.unmodifiableSet(graph.adjacency(vertex, version).outgoing);
+        }
+
+        @Override
+        public E removeEdge(V sourceVertex, V targetVertex)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeEdge(E e)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeVertex(V v)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+
+        @Override
+        public Set<V> vertexSet()
+        {
+            return new VersionSet<>(graph.vertices, version, vertexCount);
+        }
+
+        @Override
+        public V getEdgeSource(E e)
+        {
+            return graph.edgeRecord(e, version).source;
+        }
+
+        @Override
+        public V getEdgeTarget(E e)
+        {
+            return graph.edgeRecord(e, version).target;
+        }
+
+        @Override
+        public GraphType getType()
+        {
+            return type;
+        }
+
+        @Override
+        public double getEdgeWeight(E e)
+        {
+            return graph.edgeRecord(e, version).weight;
+        }
+
+        @Override
+        public void setEdgeWeight(E e, double weight)
+        {
+            throw new UnsupportedOperationException(SNAPSHOT_UNMODIFIABLE);
+        }
+    }
+
+    /**
+     * A version of a value. Versions form a chain from the newest to the oldest. The value of a
+     * version is only modified while its epoch is the current epoch of the graph, which is never
+     * observable by a snapshot.
+     *
+     * @param <T> the value type
+     */
+    private static final class Version<T>
+    {
+        final long epoch;
+        T value;
+        volatile Version<T> previous;
+
+        Version(long epoch, T value, Version<T> previous)
+        {
+            this.epoch = epoch;
+            this.value = value;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * The edges touching a vertex. In undirected graphs the outgoing and the incoming edges are
+     * the same set and self-loops are counted separately in order to compute the degree.
+     *
+     * @param <E> the graph edge type
+     */
+    private static final class Adjacency<E>
+    {
+        final Set<E> outgoing;
+        final Set<E> incoming;
+        int loops;
+
+        Adjacency(boolean directed)
+        {
+            this.outgoing = new LinkedHashSet<>();
+            this.incoming = directed ? new LinkedHashSet<>() : outgoing;
+        }
+
+        Adjacency(Adjacency<E> other, boolean directed)
+        {
+            this.outgoing = new LinkedHashSet<>(other.outgoing);
+            this.incoming = directed ? new LinkedHashSet<>(other.incoming) : outgoing;
+            this.loops = other.loops;
+        }
+
+        int degree(boolean directed)
+        {
+            return directed ? outgoing.size() + incoming.size() : outgoing.size() + loops;
+        }
+    }
+
+    /**
+     * The endpoints and the weight of an edge.
+     *
+     * @param <V> the graph vertex type
+     */
+    private static final class EdgeRecord<V>
+    {
+        final V source;
+        final V target;
+        final double weight;
+
+        EdgeRecord(V source, V target, double weight)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An unmodifiable view of the keys visible at a given epoch.
+     *
+     * @param <K> the key type
+     * @param <T> the value type
+     */
+    private static final class VersionSet<K, T>
+        extends
+        AbstractSet<K>
+    {
+        private final ConcurrentHashMap<K, Version<T>> map;
+        private final long at;
+        private final int size;
+
+        VersionSet(ConcurrentHashMap<K, Version<T>> map, long at, int size)
+        {
+            this.map = map;
+            this.at = at;
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            Iterator<Map.Entry<K, Version<T>>> it = map.entrySet().iterator();
+            return new Iterator<K>()
+            {
+                private K next = advance();
+
+                private K advance()
+                {
+                    while (it.hasNext()) {
+                        Map.Entry<K, Version<T>> entry = it.next();
+                        Version<T> v = entry.getValue();
+                        while (v != null && v.epoch > at) {
+                            v = v.previous;
+                        }
+                        if (v != null && v.value != null) {
+                            return entry.getKey();
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next != null;
+                }
+
+                @Override
+                public K next()
+                {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    K result = next;
+                    next = advance();
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o != null && visible(map, o, at) != null;
+        }
+    }
+
+    /**
+     * An unmodifiable view of the latest vertex or edge set. Iteration is performed over a copy
+     * taken under the read lock.
+     *
+     * @param <K> the key type
+     * @param <T> the value type
+     */
+    private final class LiveSet<K, T>
+        extends
+        AbstractSet<K>
+    {
+        private final ConcurrentHashMap<K, Version<T>> map;
+        private final Predicate<K> contains;
+        private final IntSupplier size;
+
+        LiveSet(
+            ConcurrentHashMap<K, Version<T>> map, Predicate<K> contains, IntSupplier size)
+        {
+            this.map = map;
+            this.contains = contains;
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            lock.readLock().lock();
+            try {
+                List<K> copy = new ArrayList<>(size.getAsInt());
+                new VersionSet<>(map, LATEST, 0).forEach(copy::add);
+                return Collections.unmodifiableList(copy).iterator();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            lock.readLock().lock();
+            try {
+                return size.getAsInt();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o)
+        {
+            return contains.test((K) o);
+        }
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.graph.specifics;
 
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
@@ -98,6 +99,18 @@ public class DirectedEdgeContainer<V, E>
         outgoing.add(e);
     }
 
+    /**
+     * Make room for additional incoming and outgoing edges.
+     *
+     * @param incomingEdges the number of incoming edges about to be added
+     * @param outgoingEdges the number of outgoing edges about to be added
+     */
+    public void ensureCapacity(int incomingEdges, int outgoingEdges)
+    {
+        ensureCapacity(incoming, incomingEdges);
+        ensureCapacity(outgoing, outgoingEdges);
+    }
+
     /**
      * Remove an incoming edge.
      *
@@ -117,4 +130,11 @@ public class DirectedEdgeContainer<V, E>
     {
         outgoing.remove(e);
     }
+
+    static <E> void ensureCapacity(Set<E> edges, int additionalEdges)
+    {
+        if (additionalEdges > 0 && edges instanceof ArrayUnenforcedSet) {
+            ((ArrayUnenforcedSet<E>) edges).ensureCapacity(edges.size() + additionalEdges);
+        }
+    }
 }
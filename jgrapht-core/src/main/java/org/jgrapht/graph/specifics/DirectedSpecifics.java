@@ -258,6 +258,15 @@ public class DirectedSpecifics<V, E>
         getEdgeContainer(targetVertex).removeIncomingEdge(e);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureEdgeCapacity(V vertex, int incomingEdges, int outgoingEdges)
+    {
+        getEdgeContainer(vertex).ensureCapacity(incomingEdges, outgoingEdges);
+    }
+
     /**
      * Get the edge container for specified vertex.
      *
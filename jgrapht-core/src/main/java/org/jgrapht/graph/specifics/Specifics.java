@@ -171,4 +171,17 @@ public interface Specifics<V, E>
      */
     void removeEdgeFromTouchingVertices(V sourceVertex, V targetVertex, E e);
 
+    /**
+     * Hint that the given number of edges is about to be added to the edge containers of a vertex.
+     * Implementations may use it in order to grow their edge containers once instead of once per
+     * edge. The default implementation does nothing.
+     *
+     * @param vertex the vertex
+     * @param incomingEdges the number of incoming edges about to be added
+     * @param outgoingEdges the number of outgoing edges about to be added
+     */
+    default void ensureEdgeCapacity(V vertex, int incomingEdges, int outgoingEdges)
+    {
+    }
+
 }
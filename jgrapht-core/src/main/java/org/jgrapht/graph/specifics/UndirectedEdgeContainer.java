@@ -81,6 +81,16 @@ public class UndirectedEdgeContainer<V, E>
         return vertexEdges.size();
     }
 
+    /**
+     * Make room for additional vertex edges.
+     *
+     * @param additionalEdges the number of edges about to be added
+     */
+    public void ensureCapacity(int additionalEdges)
+    {
+        DirectedEdgeContainer.ensureCapacity(vertexEdges, additionalEdges);
+    }
+
     /**
      * Remove a vertex edge
      *
@@ -275,6 +275,15 @@ public class UndirectedSpecifics<V, E>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureEdgeCapacity(V vertex, int incomingEdges, int outgoingEdges)
+    {
+        getEdgeContainer(vertex).ensureCapacity(incomingEdges + outgoingEdges);
+    }
+
     /**
      * Get the edge container for a specified vertex.
      *
@@ -18,9 +18,12 @@
 package org.jgrapht.alg.connectivity;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -115,6 +118,49 @@ public class ConnectivityInspectorTest
         assertEquals(true, inspector.isConnected());
     }
 
+    /**
+     * Tests that bulk operations keep the cached components consistent.
+     */
+    @Test
+    public void testBatchListener()
+    {
+        Random rng = new Random(11);
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new Pseudograph<>(DefaultEdge.class));
+        ConnectivityInspector<Integer, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+
+        List<Integer> vertices = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            vertices.add(i);
+        }
+        g.addVertices(vertices);
+        for (int round = 0; round < 5; round++) {
+            Set<Integer> previous = new HashSet<>(inspector.connectedSetOf(0));
+            Set<Integer> returned = inspector.connectedSetOf(0);
+
+            List<Triple<Integer, Integer, DefaultEdge>> edges = new ArrayList<>();
+            for (int i = 0; i < 15; i++) {
+                edges.add(Triple.of(rng.nextInt(100), rng.nextInt(100), new DefaultEdge()));
+            }
+            g.addEdges(edges);
+            assertEquals(previous, returned);
+            assertEquals(
+                new HashSet<>(new ConnectivityInspector<>(g).connectedSets()),
+                new HashSet<>(inspector.connectedSets()));
+
+            g.addVertices(List.of(100 + round));
+            assertEquals(
+                new HashSet<>(new ConnectivityInspector<>(g).connectedSets()),
+                new HashSet<>(inspector.connectedSets()));
+        }
+
+        g.removeEdges(new ArrayList<>(g.edgeSet()).subList(0, 20));
+        assertEquals(
+            new HashSet<>(new ConnectivityInspector<>(g).connectedSets()),
+            new HashSet<>(inspector.connectedSets()));
+    }
+
     /**
      * .
      */
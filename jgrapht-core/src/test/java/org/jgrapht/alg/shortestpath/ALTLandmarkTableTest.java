@@ -0,0 +1,183 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ALTLandmarkTable.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ALTLandmarkTable}
+ *
+ * @author JGraphT Contributors
+ */
+public class ALTLandmarkTableTest
+{
+
+    @Test
+    public void testShortestPaths()
+    {
+        Random rng = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = randomGraph(rng, directed, 120, 500);
+                List<ALTLandmarkTable<Integer, DefaultWeightedEdge>> tables = new ArrayList<>();
+                tables.add(new ALTLandmarkTable<>(g, Set.of(0, 17, 42)));
+                for (LandmarkSelection selection : LandmarkSelection.values()) {
+                    tables.add(new ALTLandmarkTable<>(g, 4, selection, rng, pool));
+                }
+
+                for (ALTLandmarkTable<Integer, DefaultWeightedEdge> table : tables) {
+                    assertEquals(
+                        table.getLandmarks().size(), new HashSet<>(table.getLandmarks()).size());
+                    for (int round = 0; round < 10; round++) {
+                        Integer s = rng.nextInt(120);
+                        SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                            new DijkstraShortestPath<>(g).getPaths(s);
+                        for (Integer t : g.vertexSet()) {
+                            // admissible
+                            assertTrue(
+                                table.getCostEstimate(s, t) <= expected.getWeight(t) + 1e-9);
+                        }
+                        Integer t = rng.nextInt(120);
+                        assertEquals(
+                            expected.getWeight(t),
+                            new AStarShortestPath<>(g, table).getPathWeight(s, t), 1e-9);
+                        assertEquals(
+                            expected.getWeight(t),
+                            new BidirectionalAStarShortestPath<>(g, table).getPathWeight(s, t),
+                            1e-9);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testConsistent()
+    {
+        Random rng = new Random(23);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(rng, directed, 150, 400);
+            ALTLandmarkTable<Integer, DefaultWeightedEdge> table = new ALTLandmarkTable<>(
+                g, 5, LandmarkSelection.FARTHEST, rng, ForkJoinPool.commonPool());
+            assertTrue(table.isConsistent(g));
+
+            for (int round = 0; round < 20; round++) {
+                Integer t = rng.nextInt(150);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    Integer u = g.getEdgeSource(e);
+                    Integer v = g.getEdgeTarget(e);
+                    double w = g.getEdgeWeight(e);
+                    assertTrue(
+                        table.getCostEstimate(u, t) <= w + table.getCostEstimate(v, t) + 1e-9);
+                    if (!directed) {
+                        assertTrue(
+                            table.getCostEstimate(v, t)
+                                <= w + table.getCostEstimate(u, t) + 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWriteRead()
+        throws IOException
+    {
+        Random rng = new Random(5);
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(rng, true, 50, 200);
+        ALTLandmarkTable<Integer, DefaultWeightedEdge> table = new ALTLandmarkTable<>(
+            g, 3, LandmarkSelection.AVOID, rng, ForkJoinPool.commonPool());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.write(out);
+        ALTLandmarkTable<Integer, DefaultWeightedEdge> loaded =
+            ALTLandmarkTable.read(g, new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(table.getLandmarks(), loaded.getLandmarks());
+        for (Integer u : g.vertexSet()) {
+            for (Integer v : g.vertexSet()) {
+                assertEquals(table.getCostEstimate(u, v), loaded.getCostEstimate(u, v), 0.0);
+            }
+        }
+
+        // a different graph
+        g.setEdgeWeight(g.edgeSet().iterator().next(), 100.0);
+        try {
+            ALTLandmarkTable.read(g, new ByteArrayInputStream(out.toByteArray()));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(new Random(1), false, 10, 20);
+        ALTLandmarkTable.read(g, new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoLandmarks()
+    {
+        new ALTLandmarkTable<>(randomGraph(new Random(1), false, 10, 20), Set.of());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(new Random(1), false, 10, 20);
+        g.setEdgeWeight(g.edgeSet().iterator().next(), -1.0);
+        new ALTLandmarkTable<>(g, Set.of(0));
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        Random rng, boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier())
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            n, m, rng.nextLong(), true, true).generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1000 * rng.nextDouble());
+        }
+        return g;
+    }
+
+}
@@ -192,6 +192,74 @@ public class BidirectionalAStarShortestPathTest
         }
     }
 
+    @Test
+    public void testSparseDirectedGraphs()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                100, 400, rng.nextLong(), true, true).generateGraph(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, 100 * rng.nextDouble());
+            }
+            AStarAdmissibleHeuristic<Integer> heuristic =
+                new ALTAdmissibleHeuristic<>(graph, Set.of(0, 50, 99));
+            for (int j = 0; j < 20; j++) {
+                testCorrectness(graph, rng.nextInt(100), rng.nextInt(100), heuristic);
+            }
+        }
+    }
+
+    @Test
+    public void testConsistentHeuristicExpansions()
+    {
+        Random rng = new Random(29);
+        Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(),
+            SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            200, 1000, rng.nextLong(), true, true).generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, 100 * rng.nextDouble());
+        }
+        AStarAdmissibleHeuristic<Integer> alt =
+            new ALTAdmissibleHeuristic<>(graph, Set.of(0, 100, 199));
+
+        // the consistent heuristic does not expand more vertices than the same inconsistent one
+        for (int j = 0; j < 20; j++) {
+            int source = rng.nextInt(200);
+            int target = rng.nextInt(200);
+            int[] calls = new int[2];
+            double[] weights = new double[2];
+            for (int consistent = 0; consistent < 2; consistent++) {
+                int index = consistent;
+                boolean isConsistent = consistent == 1;
+                AStarAdmissibleHeuristic<Integer> heuristic = new AStarAdmissibleHeuristic<>()
+                {
+                    @Override
+                    public double getCostEstimate(Integer sourceVertex, Integer targetVertex)
+                    {
+                        calls[index]++;
+                        return alt.getCostEstimate(sourceVertex, targetVertex);
+                    }
+
+                    @Override
+                    public <E> boolean isConsistent(Graph<Integer, E> g)
+                    {
+                        return isConsistent;
+                    }
+                };
+                weights[index] = new BidirectionalAStarShortestPath<>(graph, heuristic)
+                    .getPathWeight(source, target);
+            }
+            assertEquals(weights[0], weights[1], 0.0);
+            assertTrue(calls[1] <= calls[0]);
+        }
+    }
+
     private void testCorrectness(
         Graph<Integer, DefaultWeightedEdge> graph, int source, int target,
         AStarAdmissibleHeuristic<Integer> heuristic)
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BlockedFloydWarshallShortestPaths}
+ *
+ * @author JGraphT Contributors
+ */
+public class BlockedFloydWarshallShortestPathsTest
+{
+
+    @Test
+    public void testSameAsFloydWarshall()
+    {
+        Random rng = new Random(41);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Graph<Integer, DefaultWeightedEdge> g : List
+                .of(
+                    new DirectedWeightedPseudograph<Integer, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class),
+                    new WeightedPseudograph<Integer, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class)))
+            {
+                randomGraph(rng, g, 53, 180);
+                FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> expected =
+                    new FloydWarshallShortestPaths<>(g);
+                for (int blockSize : new int[] { 1, 7, 16, 64 }) {
+                    assertSamePaths(
+                        g, expected,
+                        new BlockedFloydWarshallShortestPaths<>(g, blockSize, false, pool), 1e-9);
+                    assertSamePaths(
+                        g, expected,
+                        new BlockedFloydWarshallShortestPaths<>(g, blockSize, true, pool), 1e-4);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 4d);
+        Graphs.addEdgeWithVertices(g, "a", "c", 2d);
+        Graphs.addEdgeWithVertices(g, "c", "b", -3d);
+        Graphs.addEdgeWithVertices(g, "b", "d", 1d);
+        Graphs.addEdgeWithVertices(g, "d", "d", -5d);
+        g.addVertex("e");
+
+        BlockedFloydWarshallShortestPaths<String, DefaultWeightedEdge> sp =
+            new BlockedFloydWarshallShortestPaths<>(g, 2, false, ForkJoinPool.commonPool());
+        assertEquals(0d, sp.getPathWeight("a", "d"), 1e-9);
+        assertEquals(
+            List.of("a", "c", "b", "d"), sp.getPath("a", "d").getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("a", "e"), 0d);
+        assertNull(sp.getPath("d", "a"));
+        assertEquals(0d, sp.getPath("e", "e").getWeight(), 0d);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = sp.getPaths("a");
+        assertEquals(-1d, paths.getWeight("b"), 1e-9);
+        assertEquals(List.of("a", "c"), paths.getPath("c").getVertexList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize()
+    {
+        new BlockedFloydWarshallShortestPaths<>(
+            new DirectedWeightedPseudograph<Integer, DefaultWeightedEdge>(
+                DefaultWeightedEdge.class),
+            0, false, ForkJoinPool.commonPool());
+    }
+
+    private static void assertSamePaths(
+        Graph<Integer, DefaultWeightedEdge> g,
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> expected,
+        BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> actual, double delta)
+    {
+        for (Integer s : g.vertexSet()) {
+            for (Integer t : g.vertexSet()) {
+                double weight = expected.getPathWeight(s, t);
+                GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(s, t);
+                if (Double.isInfinite(weight)) {
+                    assertTrue(Double.isInfinite(actual.getPathWeight(s, t)));
+                    assertNull(path);
+                    continue;
+                }
+                assertEquals(weight, actual.getPathWeight(s, t), delta);
+                assertEquals(weight, path.getWeight(), delta);
+                double sum = 0d;
+                Integer cur = s;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    sum += g.getEdgeWeight(e);
+                    cur = Graphs.getOppositeVertex(g, e, cur);
+                }
+                assertEquals(t, cur);
+                assertEquals(weight, sum, delta);
+            }
+        }
+    }
+
+    private static void randomGraph(
+        Random rng, Graph<Integer, DefaultWeightedEdge> g, int n, int m)
+    {
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < m; i++) {
+            Graphs.addEdge(g, rng.nextInt(n), rng.nextInt(n), rng.nextDouble());
+        }
+    }
+
+}
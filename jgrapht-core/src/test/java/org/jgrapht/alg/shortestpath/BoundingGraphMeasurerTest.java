@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BoundingGraphMeasurer}
+ *
+ * @author JGraphT Contributors
+ */
+public class BoundingGraphMeasurerTest
+{
+
+    @Test
+    public void testSameAsAllPairs()
+    {
+        Random rng = new Random(21);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int round = 0; round < 12; round++) {
+                boolean directed = round % 2 == 0;
+                boolean weighted = round % 3 != 0;
+                Graph<Integer, DefaultWeightedEdge> g = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier())
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier());
+                // sparse graphs are sometimes disconnected
+                int m = round < 10 ? 200 : 40;
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    60, m, rng.nextLong(), true, true).generateGraph(g);
+                if (weighted) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, rng.nextInt(10));
+                    }
+                }
+
+                GraphMeasurer<Integer, DefaultWeightedEdge> expected =
+                    new GraphMeasurer<>(g, new FloydWarshallShortestPaths<>(g));
+                for (ForkJoinPool p : Arrays.asList(null, pool)) {
+                    BoundingGraphMeasurer<Integer, DefaultWeightedEdge> actual =
+                        new BoundingGraphMeasurer<>(g, p);
+                    assertEquals(expected.getDiameter(), actual.getDiameter(), 1e-9);
+                    assertEquals(expected.getRadius(), actual.getRadius(), 1e-9);
+                    assertEquals(expected.getGraphCenter(), actual.getGraphCenter());
+                    assertEquals(expected.getGraphPeriphery(), actual.getGraphPeriphery());
+                    assertEquals(
+                        expected.getVertexEccentricityMap(), actual.getVertexEccentricityMap());
+                }
+                GraphMeasurer<Integer, DefaultWeightedEdge> measurer =
+                    new GraphMeasurer<>(g, new BoundingGraphMeasurer<>(g));
+                assertEquals(expected.getDiameter(), measurer.getDiameter(), 1e-9);
+                assertEquals(expected.getGraphCenter(), measurer.getGraphCenter());
+                assertEquals(
+                    expected.getVertexEccentricityMap(), measurer.getVertexEccentricityMap());
+                assertEquals(
+                    expected.getGraphPseudoPeriphery(), measurer.getGraphPseudoPeriphery());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFewSearches()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GridGraphGenerator<Integer, DefaultEdge>(60, 40).generateGraph(g);
+
+        BoundingGraphMeasurer<Integer, DefaultEdge> measurer = new BoundingGraphMeasurer<>(g);
+        assertEquals(59 + 39, measurer.getDiameter(), 0.0);
+        assertEquals(30 + 20, measurer.getRadius(), 0.0);
+        assertTrue(measurer.getSearches() < 20);
+        // the four corners and the four middle vertices
+        assertEquals(4, measurer.getGraphPeriphery().size());
+        assertEquals(4, measurer.getGraphCenter().size());
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        BoundingGraphMeasurer<Integer, DefaultEdge> measurer =
+            new BoundingGraphMeasurer<>(new SimpleGraph<>(DefaultEdge.class));
+        assertEquals(0d, measurer.getDiameter(), 0.0);
+        assertEquals(0d, measurer.getRadius(), 0.0);
+        assertTrue(measurer.getGraphCenter().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1.0);
+        new BoundingGraphMeasurer<>(g).getDiameter();
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ContractionHierarchyIO}.
+ */
+public class ContractionHierarchyIOTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 19L;
+
+    /**
+     * Executor which is supplied to the {@link ContractionHierarchyPrecomputation} algorithm in
+     * this test case.
+     */
+    private static ThreadPoolExecutor executor;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    /**
+     * Asserts that a stored and loaded hierarchy answers queries as the original graph.
+     */
+    @Test
+    public void testRoundTrip()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        for (Graph<Integer, DefaultWeightedEdge> graph : List
+            .of(
+                generateRandomGraph(
+                    new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), random),
+                generateRandomGraph(
+                    new WeightedPseudograph<>(DefaultWeightedEdge.class), random)))
+        {
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                    .computeContractionHierarchy();
+            ContractionHierarchy<Integer, DefaultWeightedEdge> loaded =
+                ContractionHierarchyIO.read(graph, toStream(hierarchy));
+
+            assertEquals(
+                hierarchy.getContractionGraph().vertexSet().size(),
+                loaded.getContractionGraph().vertexSet().size());
+            assertEquals(
+                hierarchy.getContractionGraph().edgeSet().size(),
+                loaded.getContractionGraph().edgeSet().size());
+            for (Integer v : graph.vertexSet()) {
+                assertEquals(
+                    hierarchy.getContractionMapping().get(v).contractionLevel,
+                    loaded.getContractionMapping().get(v).contractionLevel);
+            }
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+                new ContractionHierarchyBidirectionalDijkstra<>(loaded);
+            for (Integer source : List.of(0, 7, 42)) {
+                for (Integer sink : graph.vertexSet()) {
+                    assertEquals(dijkstra.getPath(source, sink), ch.getPath(source, sink));
+                }
+            }
+
+            Set<Integer> sources = Set.of(1, 2, 3);
+            Set<Integer> targets = Set.of(10, 20, 30, 40);
+            ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+                DefaultWeightedEdge> manyToMany =
+                    new CHManyToManyShortestPaths<>(loaded).getManyToManyPaths(sources, targets);
+            for (Integer source : sources) {
+                for (Integer target : targets) {
+                    assertEquals(
+                        dijkstra.getPathWeight(source, target),
+                        manyToMany.getWeight(source, target), 1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that a hierarchy can be stored in a file.
+     */
+    @Test
+    public void testFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), new Random(SEED));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+
+        Path file = folder.newFile("graph.ch").toPath();
+        ContractionHierarchyIO.write(hierarchy, file);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> loaded =
+            ContractionHierarchyIO.read(graph, file);
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+            new ContractionHierarchyBidirectionalDijkstra<>(loaded);
+        for (Integer sink : graph.vertexSet()) {
+            assertEquals(dijkstra.getPath(3, sink), ch.getPath(3, sink));
+        }
+    }
+
+    /**
+     * Asserts that a hierarchy cannot be loaded after the graph changed.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testStaleHierarchy()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), new Random(SEED));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+        InputStream in = toStream(hierarchy);
+
+        DefaultWeightedEdge e = graph.edgeSet().iterator().next();
+        graph.setEdgeWeight(e, graph.getEdgeWeight(e) + 1);
+        ContractionHierarchyIO.read(graph, in);
+    }
+
+    /**
+     * Asserts that invalid input is detected.
+     */
+    @Test(expected = IOException.class)
+    public void testInvalidInput()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        ContractionHierarchyIO.read(graph, new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+    }
+
+    private static InputStream toStream(ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ContractionHierarchyIO.write(hierarchy, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        Graph<Integer, DefaultWeightedEdge> graph, Random random)
+    {
+        ((AbstractBaseGraph<Integer, DefaultWeightedEdge>) graph)
+            .setVertexSupplier(SupplierUtil.createIntegerSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 400, SEED)
+            .generateGraph(graph);
+        Object[] vertices = graph.vertexSet().toArray();
+        for (int i = 0; i < vertices.length - 1; ++i) {
+            graph.addEdge((Integer) vertices[i], (Integer) vertices[i + 1]);
+            graph.addEdge((Integer) vertices[i + 1], (Integer) vertices[i]);
+        }
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+
+}
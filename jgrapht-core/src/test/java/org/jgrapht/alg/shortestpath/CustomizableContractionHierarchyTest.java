@@ -0,0 +1,238 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link CustomizableContractionHierarchy}.
+ */
+public class CustomizableContractionHierarchyTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 19L;
+
+    /**
+     * Executor which is supplied to the {@link CustomizableContractionHierarchy} in this test
+     * case.
+     */
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    /**
+     * Asserts that queries are correct for the initial weights and after customizations.
+     */
+    @Test
+    public void testCustomization()
+    {
+        Random random = new Random(SEED);
+        for (Graph<Integer, DefaultWeightedEdge> graph : List
+            .of(
+                generateRandomGraph(
+                    new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), 300, 900, random),
+                generateRandomGraph(
+                    new WeightedPseudograph<>(DefaultWeightedEdge.class), 300, 600, random)))
+        {
+            CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+                new CustomizableContractionHierarchy<>(graph, executor);
+            assertQueries(graph, cch, random);
+
+            for (int round = 0; round < 3; round++) {
+                Map<DefaultWeightedEdge, Double> weights = new HashMap<>();
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    if (random.nextInt(3) == 0) {
+                        weights.put(e, random.nextDouble() * 10);
+                    }
+                }
+                cch.customize(weights);
+                weights.forEach(graph::setEdgeWeight);
+                assertQueries(graph, cch, random);
+            }
+        }
+    }
+
+    /**
+     * Asserts that single source queries of an existing query algorithm observe a customization.
+     */
+    @Test
+    public void testSingleSourceAfterCustomization()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), 200, 800, random);
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchy<>(graph, executor);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+            new ContractionHierarchyBidirectionalDijkstra<>(cch.getContractionHierarchy());
+
+        for (int round = 0; round < 3; round++) {
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            for (Integer source : List.of(0, 1, 2)) {
+                ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                    ch.getPaths(source);
+                for (Integer sink : graph.vertexSet()) {
+                    assertEquals(
+                        dijkstra.getPathWeight(source, sink), paths.getWeight(sink), 1e-9);
+                }
+            }
+
+            Map<DefaultWeightedEdge, Double> weights = new HashMap<>();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                weights.put(e, random.nextDouble() * 10);
+            }
+            cch.customize(weights);
+            weights.forEach(graph::setEdgeWeight);
+        }
+    }
+
+    /**
+     * Asserts that disconnected vertices and a given contraction order are handled.
+     */
+    @Test
+    public void testOrderAndUnreachable()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 1d);
+        Graphs.addEdgeWithVertices(graph, "b", "c", 1d);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 3d);
+        Graphs.addEdgeWithVertices(graph, "c", "c", 1d);
+        graph.addVertex("d");
+
+        CustomizableContractionHierarchy<String, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchy<>(graph, List.of("b", "d", "a", "c"), executor);
+        assertEquals(3, cch.getNumberOfArcs());
+        ShortestPathAlgorithm<String, DefaultWeightedEdge> ch =
+            new ContractionHierarchyBidirectionalDijkstra<>(cch.getContractionHierarchy());
+        assertEquals(2d, ch.getPathWeight("a", "c"), 0d);
+        assertEquals(List.of("a", "b", "c"), ch.getPath("a", "c").getVertexList());
+        assertNull(ch.getPath("c", "a"));
+        assertNull(ch.getPath("a", "d"));
+
+        cch.customize(Map.of(graph.getEdge("a", "b"), 5d));
+        assertEquals(3d, ch.getPathWeight("a", "c"), 0d);
+        assertEquals(List.of("a", "c"), ch.getPath("a", "c").getVertexList());
+    }
+
+    /**
+     * Asserts that an invalid order is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidOrder()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 1d);
+        new CustomizableContractionHierarchy<>(graph, List.of("a", "a"), executor);
+    }
+
+    /**
+     * Asserts that negative weights are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e = Graphs.addEdgeWithVertices(graph, "a", "b", 1d);
+        new CustomizableContractionHierarchy<>(graph, executor).customize(Map.of(e, -1d));
+    }
+
+    private static void assertQueries(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch, Random random)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+            new ContractionHierarchyBidirectionalDijkstra<>(cch.getContractionHierarchy());
+        List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+        for (int i = 0; i < 200; i++) {
+            Integer source = vertices.get(random.nextInt(vertices.size()));
+            Integer sink = vertices.get(random.nextInt(vertices.size()));
+            double expected = dijkstra.getPathWeight(source, sink);
+            GraphPath<Integer, DefaultWeightedEdge> path = ch.getPath(source, sink);
+            if (Double.isInfinite(expected)) {
+                assertNull(path);
+                continue;
+            }
+            assertEquals(expected, path.getWeight(), 1e-9);
+            double sum = 0d;
+            Integer cur = source;
+            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                sum += graph.getEdgeWeight(e);
+                cur = Graphs.getOppositeVertex(graph, e, cur);
+            }
+            assertEquals(sink, cur);
+            assertEquals(expected, sum, 1e-9);
+        }
+
+        Set<Integer> sources = Set.of(vertices.get(0), vertices.get(1));
+        Set<Integer> targets = Set.of(vertices.get(2), vertices.get(3), vertices.get(4));
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> manyToMany = new CHManyToManyShortestPaths<>(
+                cch.getContractionHierarchy()).getManyToManyPaths(sources, targets);
+        for (Integer source : sources) {
+            for (Integer target : targets) {
+                assertEquals(
+                    dijkstra.getPathWeight(source, target), manyToMany.getWeight(source, target),
+                    1e-9);
+            }
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        Graph<Integer, DefaultWeightedEdge> graph, int n, int m, Random random)
+    {
+        ((AbstractBaseGraph<Integer, DefaultWeightedEdge>) graph)
+            .setVertexSupplier(SupplierUtil.createIntegerSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, SEED, true, true)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble() * 10);
+        }
+        return graph;
+    }
+
+}
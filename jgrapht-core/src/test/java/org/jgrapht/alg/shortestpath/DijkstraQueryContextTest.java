@@ -0,0 +1,143 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DijkstraQueryContext}
+ *
+ * @author JGraphT Contributors
+ */
+public class DijkstraQueryContextTest
+{
+
+    @Test
+    public void testSameAsDijkstra()
+    {
+        Random rng = new Random(23);
+        for (Graph<String, DefaultWeightedEdge> g : List
+            .of(
+                new DirectedWeightedPseudograph<String, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class),
+                new WeightedPseudograph<String, DefaultWeightedEdge>(DefaultWeightedEdge.class)))
+        {
+            randomGraph(rng, g, 80, 200);
+            List<String> vertices = new ArrayList<>(g.vertexSet());
+            DijkstraShortestPath<String, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(g);
+            DijkstraQueryContext<String, DefaultWeightedEdge> context =
+                new DijkstraQueryContext<>(g);
+
+            for (int i = 0; i < 500; i++) {
+                String s = vertices.get(rng.nextInt(vertices.size()));
+                String t = vertices.get(rng.nextInt(vertices.size()));
+                double weight = expected.getPathWeight(s, t);
+                assertEquals(weight, context.getPathWeight(s, t), 1e-9);
+
+                GraphPath<String, DefaultWeightedEdge> path = context.getPath(s, t);
+                if (Double.isInfinite(weight)) {
+                    assertNull(path);
+                    continue;
+                }
+                assertEquals(weight, path.getWeight(), 1e-9);
+                assertEquals(s, path.getStartVertex());
+                assertEquals(t, path.getEndVertex());
+                double sum = 0d;
+                String cur = s;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    sum += g.getEdgeWeight(e);
+                    cur = Graphs.getOppositeVertex(g, e, cur);
+                }
+                assertEquals(t, cur);
+                assertEquals(weight, sum, 1e-9);
+            }
+
+            String source = vertices.get(0);
+            SingleSourcePaths<String, DefaultWeightedEdge> expectedPaths =
+                expected.getPaths(source);
+            SingleSourcePaths<String, DefaultWeightedEdge> paths = context.getPaths(source);
+            context.getPathWeight(vertices.get(1), vertices.get(2));
+            for (String v : vertices) {
+                assertEquals(expectedPaths.getWeight(v), paths.getWeight(v), 1e-9);
+                assertEquals(expectedPaths.getPath(v) == null, paths.getPath(v) == null);
+            }
+        }
+    }
+
+    @Test
+    public void testIntGraph()
+    {
+        Random rng = new Random(29);
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        randomGraph(rng, g, 50, 150);
+        FrozenGraph<String, DefaultWeightedEdge> frozen = Graphs.freeze(g);
+        IntGraph intGraph = frozen.getIntGraph();
+        List<String> vertices = frozen.getVertexToIntegerMapping().getIndexList();
+
+        DijkstraQueryContext<Integer, Integer> context = new DijkstraQueryContext<>(intGraph);
+        DijkstraShortestPath<String, DefaultWeightedEdge> expected = new DijkstraShortestPath<>(g);
+        for (int s = 0; s < 50; s += 3) {
+            for (int t = 0; t < 50; t++) {
+                assertEquals(
+                    expected.getPathWeight(vertices.get(s), vertices.get(t)),
+                    context.getPathWeight(s, t), 1e-9);
+            }
+        }
+        assertEquals(0, context.getPath(4, 4).getLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1d);
+        new DijkstraQueryContext<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSink()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1d);
+        new DijkstraQueryContext<>(g).getPathWeight("a", "c");
+    }
+
+    private static void randomGraph(
+        Random rng, Graph<String, DefaultWeightedEdge> g, int n, int m)
+    {
+        for (int i = 0; i < n; i++) {
+            g.addVertex("v" + i);
+        }
+        for (int i = 0; i < m; i++) {
+            DefaultWeightedEdge e = g.addEdge("v" + rng.nextInt(n), "v" + rng.nextInt(n));
+            g.setEdgeWeight(e, rng.nextInt(10));
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DynamicSingleSourceShortestPaths}
+ *
+ * @author JGraphT Contributors
+ */
+public class DynamicSingleSourceShortestPathsTest
+{
+
+    @Test
+    public void testRandomUpdates()
+    {
+        Random rng = new Random(31);
+        List<Graph<Integer, DefaultWeightedEdge>> graphs = List
+            .of(
+                new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier()),
+                new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier()));
+
+        for (Graph<Integer, DefaultWeightedEdge> base : graphs) {
+            DefaultListenableGraph<Integer, DefaultWeightedEdge> g =
+                new DefaultListenableGraph<>(base);
+            int n = 80;
+            for (int i = 0; i < n; i++) {
+                g.addVertex(i);
+            }
+            for (int i = 0; i < 3 * n; i++) {
+                addRandomEdge(rng, g, n);
+            }
+
+            DynamicSingleSourceShortestPaths<Integer, DefaultWeightedEdge> alg =
+                new DynamicSingleSourceShortestPaths<>(g, 0);
+            g.addGraphListener(alg);
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = alg.getPaths();
+            assertSamePaths(g, paths);
+
+            for (int round = 0; round < 300; round++) {
+                List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+                switch (rng.nextInt(6)) {
+                case 0:
+                    addRandomEdge(rng, g, n);
+                    break;
+                case 1:
+                    g.removeEdge(edges.get(rng.nextInt(edges.size())));
+                    break;
+                case 2:
+                    // remove a tree edge
+                    Integer v = 1 + rng.nextInt(n - 1);
+                    GraphPath<Integer, DefaultWeightedEdge> p = paths.getPath(v);
+                    if (p != null && !p.getEdgeList().isEmpty()) {
+                        g.removeEdge(p.getEdgeList().get(p.getLength() - 1));
+                    }
+                    break;
+                case 3:
+                    int u = 1 + rng.nextInt(n - 1);
+                    g.removeVertex(u);
+                    g.addVertex(u);
+                    break;
+                default:
+                    DefaultWeightedEdge e = edges.get(rng.nextInt(edges.size()));
+                    g.setEdgeWeight(e, rng.nextInt(10) * rng.nextDouble());
+                }
+                assertSamePaths(g, paths);
+            }
+
+            // batch operations
+            List<Triple<Integer, Integer, DefaultWeightedEdge>> added = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                added.add(Triple.of(rng.nextInt(n), rng.nextInt(n), new DefaultWeightedEdge()));
+            }
+            g.addEdges(added);
+            assertSamePaths(g, paths);
+            List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+            Collections.shuffle(edges, rng);
+            g.removeEdges(edges.subList(0, edges.size() / 3));
+            assertSamePaths(g, paths);
+        }
+    }
+
+    @Test
+    public void testExplicitUpdates()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(),
+            SupplierUtil.createDefaultWeightedEdgeSupplier());
+        int n = 100;
+        List<DefaultWeightedEdge> chain = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            chain.add(g.addEdge(i, i + 1));
+        }
+        DefaultWeightedEdge shortcut = g.addEdge(0, n - 1);
+        g.setEdgeWeight(shortcut, 2 * n);
+
+        DynamicSingleSourceShortestPaths<Integer, DefaultWeightedEdge> alg =
+            new DynamicSingleSourceShortestPaths<>(g, 0);
+        assertEquals(n - 1, alg.getPathWeight(n - 1), 0.0);
+
+        // only the last vertex is affected
+        alg.updateEdgeWeight(chain.get(n - 2), 3.0);
+        assertEquals(1, alg.getLastRepairSize());
+        assertEquals(n + 1, alg.getPathWeight(n - 1), 0.0);
+
+        alg.updateEdgeWeights(Map.of(shortcut, 1.0, chain.get(0), 5.0));
+        assertEquals(1d, alg.getPathWeight(n - 1), 0.0);
+        assertEquals(List.of(shortcut), alg.getPath(n - 1).getEdgeList());
+        assertEquals(n + 2, alg.getPathWeight(n - 2), 0.0);
+        assertSamePaths(g, alg.getPaths());
+
+        // making the shortcut heavy again restores the chain
+        alg.updateEdgeWeight(shortcut, 2 * n);
+        assertEquals(n + 5, alg.getPathWeight(n - 1), 0.0);
+        assertSamePaths(g, alg.getPaths());
+    }
+
+    @Test
+    public void testExplicitUpdatesAsListener()
+    {
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g = new DefaultListenableGraph<>(
+            new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier()));
+        int n = 100;
+        List<DefaultWeightedEdge> chain = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            chain.add(g.addEdge(i, i + 1));
+        }
+
+        DynamicSingleSourceShortestPaths<Integer, DefaultWeightedEdge> alg =
+            new DynamicSingleSourceShortestPaths<>(g, 0);
+        g.addGraphListener(alg);
+
+        // the whole chain is repaired by the batch, not by the weight events of the graph
+        Map<DefaultWeightedEdge, Double> weights = new LinkedHashMap<>();
+        for (int i = n - 2; i >= 0; i--) {
+            weights.put(chain.get(i), 2.0);
+        }
+        alg.updateEdgeWeights(weights);
+        assertEquals(n - 1, alg.getLastRepairSize());
+        assertEquals(2 * (n - 1), alg.getPathWeight(n - 1), 0.0);
+        assertSamePaths(g, alg.getPaths());
+
+        // weight events outside of a batch are still repaired
+        g.setEdgeWeight(chain.get(n - 2), 1.0);
+        assertEquals(1, alg.getLastRepairSize());
+        assertEquals(2 * n - 3, alg.getPathWeight(n - 1), 0.0);
+        assertSamePaths(g, alg.getPaths());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e = Graphs.addEdgeWithVertices(g, 0, 1, 1.0);
+        new DynamicSingleSourceShortestPaths<>(g, 0).updateEdgeWeight(e, -1.0);
+    }
+
+    private static void addRandomEdge(Random rng, Graph<Integer, DefaultWeightedEdge> g, int n)
+    {
+        DefaultWeightedEdge e = g.addEdge(rng.nextInt(n), rng.nextInt(n));
+        g.setEdgeWeight(e, rng.nextInt(10) * rng.nextDouble());
+    }
+
+    private static void assertSamePaths(
+        Graph<Integer, DefaultWeightedEdge> g, SingleSourcePaths<Integer, DefaultWeightedEdge> paths)
+    {
+        SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g).getPaths(paths.getSourceVertex());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(expected.getWeight(v), paths.getWeight(v), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(v);
+            if (expected.getPath(v) == null) {
+                assertNull(path);
+            } else {
+                assertEquals(expected.getWeight(v), path.getWeight(), 1e-9);
+                ((GraphWalk<Integer, DefaultWeightedEdge>) path).verify();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ForkJoinDeltaSteppingShortestPath}
+ *
+ * @author JGraphT Contributors
+ */
+public class ForkJoinDeltaSteppingShortestPathTest
+{
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(13);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (int round = 0; round < 5; round++) {
+                    Graph<Integer, DefaultWeightedEdge> g = directed
+                        ? new DirectedWeightedPseudograph<>(
+                            SupplierUtil.createIntegerSupplier(),
+                            SupplierUtil.createDefaultWeightedEdgeSupplier())
+                        : new WeightedPseudograph<>(
+                            SupplierUtil.createIntegerSupplier(),
+                            SupplierUtil.createDefaultWeightedEdgeSupplier());
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                        150, 900, rng.nextLong(), true, true).generateGraph(g);
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        // include zero weight edges
+                        g.setEdgeWeight(e, rng.nextInt(5) == 0 ? 0d : 10 * rng.nextDouble());
+                    }
+                    Integer source = rng.nextInt(150);
+                    SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                        new DijkstraShortestPath<>(g).getPaths(source);
+                    for (double delta : new double[] { 0d, 0.3, 4d, 100d }) {
+                        assertSamePaths(
+                            g, expected, new ForkJoinDeltaSteppingShortestPath<>(g, delta, pool)
+                                .getPaths(source));
+                    }
+                    FrozenGraph<Integer, DefaultWeightedEdge> frozen = Graphs.freeze(g);
+                    assertSamePaths(
+                        g, expected,
+                        new ForkJoinDeltaSteppingShortestPath<>(frozen).getPaths(source));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetPath()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 3.0);
+        Graphs.addEdgeWithVertices(g, "a", "c", 1.0);
+        Graphs.addEdgeWithVertices(g, "c", "b", 1.0);
+        Graphs.addEdgeWithVertices(g, "b", "d", 2.0);
+        g.addVertex("e");
+
+        ForkJoinDeltaSteppingShortestPath<String, DefaultWeightedEdge> alg =
+            new ForkJoinDeltaSteppingShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> path = alg.getPath("a", "d");
+        assertEquals(List.of("a", "c", "b", "d"), path.getVertexList());
+        assertEquals(4.0, path.getWeight(), 0.0);
+        assertEquals(0, alg.getPath("a", "a").getLength());
+        assertNull(alg.getPath("a", "e"));
+        assertEquals(Double.POSITIVE_INFINITY, alg.getPathWeight("d", "a"), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1.0);
+        new ForkJoinDeltaSteppingShortestPath<>(g).getPaths("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDelta()
+    {
+        new ForkJoinDeltaSteppingShortestPath<>(
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class), -1.0,
+            ForkJoinPool.commonPool());
+    }
+
+    private static <V, E> void assertSamePaths(
+        Graph<V, E> g, SingleSourcePaths<V, E> expected, SingleSourcePaths<V, E> actual)
+    {
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-9);
+            GraphPath<V, E> path = actual.getPath(v);
+            if (expected.getPath(v) == null) {
+                assertNull(path);
+                continue;
+            }
+            assertEquals(v, path.getEndVertex());
+            assertEquals(expected.getSourceVertex(), path.getStartVertex());
+            double weight = 0d;
+            for (E e : path.getEdgeList()) {
+                weight += g.getEdgeWeight(e);
+            }
+            assertEquals(expected.getWeight(v), weight, 1e-9);
+            // the vertex list validates the path
+            assertEquals(path.getLength() + 1, path.getVertexList().size());
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntegerWeightDijkstraShortestPath}
+ *
+ * @author JGraphT Contributors
+ */
+public class IntegerWeightDijkstraShortestPathTest
+{
+
+    @Test
+    public void testSameAsDijkstra()
+    {
+        Random rng = new Random(31);
+        // small weights use buckets, large weights a radix heap
+        for (int maxWeight : new int[] { 1, 20, 1 << 20 }) {
+            for (Graph<String, DefaultWeightedEdge> g : List
+                .of(
+                    new DirectedWeightedPseudograph<String, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class),
+                    new WeightedPseudograph<String, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class)))
+            {
+                for (int i = 0; i < 120; i++) {
+                    g.addVertex("v" + i);
+                }
+                for (int i = 0; i < 300; i++) {
+                    Graphs
+                        .addEdge(
+                            g, "v" + rng.nextInt(120), "v" + rng.nextInt(120),
+                            rng.nextInt(maxWeight + 1));
+                }
+
+                DijkstraShortestPath<String, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(g);
+                IntegerWeightDijkstraShortestPath<String, DefaultWeightedEdge> actual =
+                    new IntegerWeightDijkstraShortestPath<>(g);
+                for (int i = 0; i < 10; i++) {
+                    String s = "v" + rng.nextInt(120);
+                    SingleSourcePaths<String, DefaultWeightedEdge> expectedPaths =
+                        expected.getPaths(s);
+                    SingleSourcePaths<String, DefaultWeightedEdge> actualPaths =
+                        actual.getPaths(s);
+                    assertEquals(s, actualPaths.getSourceVertex());
+                    for (String t : g.vertexSet()) {
+                        double weight = expectedPaths.getWeight(t);
+                        assertEquals(weight, actualPaths.getWeight(t), 0d);
+                        assertEquals(weight, actual.getPathWeight(s, t), 0d);
+                        GraphPath<String, DefaultWeightedEdge> path = actual.getPath(s, t);
+                        if (Double.isInfinite(weight)) {
+                            assertNull(path);
+                            assertNull(actualPaths.getPath(t));
+                            continue;
+                        }
+                        assertEquals(weight, path.getWeight(), 0d);
+                        assertEquals(s, path.getStartVertex());
+                        assertEquals(t, path.getEndVertex());
+                        double sum = 0d;
+                        for (DefaultWeightedEdge e : path.getEdgeList()) {
+                            sum += g.getEdgeWeight(e);
+                        }
+                        assertEquals(weight, sum, 0d);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testKnownMaximum()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 3);
+        Graphs.addEdgeWithVertices(g, 1, 2, 4);
+        Graphs.addEdgeWithVertices(g, 0, 2, 8);
+        Graphs.addEdgeWithVertices(g, 2, 3, 0);
+
+        IntegerWeightDijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+            new IntegerWeightDijkstraShortestPath<>(g, 10);
+        assertEquals(7d, sp.getPathWeight(0, 3), 0d);
+        assertEquals(List.of(0, 1, 2, 3), sp.getPath(0, 3).getVertexList());
+        assertNull(sp.getPath(3, 0));
+        assertEquals(0d, sp.getPath(3, 3).getWeight(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFractionalWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 1.5);
+        new IntegerWeightDijkstraShortestPath<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightAboveMaximum()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 5);
+        new IntegerWeightDijkstraShortestPath<>(g, 4);
+    }
+
+}
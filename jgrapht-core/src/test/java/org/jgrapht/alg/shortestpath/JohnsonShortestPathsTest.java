@@ -25,6 +25,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.assertEquals;
@@ -92,6 +93,48 @@ public class JohnsonShortestPathsTest
         assertEquals(-7, alg.getPathWeight("z", "x"), 1e-9);
     }
 
+    @Test
+    public void testParallel()
+    {
+        Random rng = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean negative : new boolean[] { false, true }) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeClass(DefaultWeightedEdge.class).weighted(true)
+                    .allowingMultipleEdges(true).allowingSelfLoops(true).buildGraph();
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(40, 0.2, rng, false)
+                    .generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    // backward edges outweigh any negative path, thus no negative cycles
+                    boolean forward = g.getEdgeSource(e) < g.getEdgeTarget(e);
+                    g.setEdgeWeight(
+                        e, negative && forward ? -rng.nextDouble() : 41d + rng.nextDouble());
+                }
+
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> sequential =
+                    new JohnsonShortestPaths<>(g);
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                    new JohnsonShortestPaths<>(g, 1e-9, pool);
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        assertEquals(
+                            sequential.getPathWeight(v, u), parallel.getPathWeight(v, u), 1e-9);
+                        GraphPath<Integer, DefaultWeightedEdge> path = parallel.getPath(v, u);
+                        if (path != null) {
+                            assertEquals(
+                                sequential.getPathWeight(v, u), path.getWeight(), 1e-9);
+                            assertEquals(u, path.getEndVertex());
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testRandomGraphsCompareWithFloydWarshall()
     {
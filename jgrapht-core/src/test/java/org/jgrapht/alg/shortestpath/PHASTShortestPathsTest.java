@@ -0,0 +1,161 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link PHASTShortestPaths}.
+ */
+public class PHASTShortestPathsTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 19L;
+
+    /**
+     * Executor which is supplied to the {@link ContractionHierarchyPrecomputation} algorithm in
+     * this test case.
+     */
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    /**
+     * Asserts that single source paths equal the ones computed by Dijkstra's algorithm.
+     */
+    @Test
+    public void testSingleSource()
+    {
+        Random random = new Random(SEED);
+        for (Graph<Integer, DefaultWeightedEdge> graph : graphs(random)) {
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                    .computeContractionHierarchy();
+            PHASTShortestPaths<Integer, DefaultWeightedEdge> phast =
+                new PHASTShortestPaths<>(hierarchy);
+
+            for (Integer source : List.of(0, 13, 77)) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(graph).getPaths(source);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> actual = phast.getPaths(source);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> ch =
+                    new ContractionHierarchyBidirectionalDijkstra<>(hierarchy).getPaths(source);
+                double[] distances = phast.getDistances(source);
+                int i = 0;
+                for (Integer v : graph.vertexSet()) {
+                    assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-9);
+                    assertEquals(expected.getWeight(v), distances[i++], 1e-9);
+                    assertEquals(expected.getPath(v), actual.getPath(v));
+                    assertEquals(expected.getPath(v), ch.getPath(v));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that batched distances equal the ones computed by Dijkstra's algorithm, including a
+     * last batch which is not full.
+     */
+    @Test
+    public void testBatches()
+    {
+        Random random = new Random(SEED);
+        for (Graph<Integer, DefaultWeightedEdge> graph : graphs(random)) {
+            CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+                new CustomizableContractionHierarchy<>(graph, executor);
+            PHASTShortestPaths<Integer, DefaultWeightedEdge> phast =
+                new PHASTShortestPaths<>(cch.getContractionHierarchy(), 3);
+
+            List<Integer> sources = List.of(5, 1, 99, 42, 5, 17, 60);
+            double[][] distances = phast.getDistances(sources);
+            assertEquals(sources.size(), distances.length);
+            for (int j = 0; j < sources.size(); j++) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(graph).getPaths(sources.get(j));
+                int i = 0;
+                for (Integer v : graph.vertexSet()) {
+                    assertEquals(expected.getWeight(v), distances[j][i++], 1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that unreachable vertices have infinite distance.
+     */
+    @Test
+    public void testUnreachable()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 2d);
+        graph.addVertex("c");
+        PHASTShortestPaths<String, DefaultWeightedEdge> phast = new PHASTShortestPaths<>(
+            new ContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy());
+
+        assertArrayEquals(
+            new double[] { 0d, 2d, Double.POSITIVE_INFINITY }, phast.getDistances("a"), 0d);
+        assertNull(phast.getPath("b", "a"));
+        assertNull(phast.getPath("a", "c"));
+        assertEquals(2d, phast.getPathWeight("a", "b"), 0d);
+    }
+
+    private static List<Graph<Integer, DefaultWeightedEdge>> graphs(Random random)
+    {
+        List<Graph<Integer, DefaultWeightedEdge>> graphs = new ArrayList<>();
+        graphs.add(new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        graphs.add(new WeightedPseudograph<>(DefaultWeightedEdge.class));
+        for (Graph<Integer, DefaultWeightedEdge> graph : graphs) {
+            ((AbstractBaseGraph<Integer, DefaultWeightedEdge>) graph)
+                .setVertexSupplier(SupplierUtil.createIntegerSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 300, SEED)
+                .generateGraph(graph);
+            for (DefaultWeightedEdge edge : graph.edgeSet()) {
+                graph.setEdgeWeight(edge, random.nextDouble());
+            }
+        }
+        return graphs;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelBFSShortestPath}
+ *
+ * @author JGraphT Contributors
+ */
+public class ParallelBFSShortestPathTest
+{
+
+    @Test
+    public void testSameAsBFS()
+    {
+        Random rng = new Random(37);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // sparse graphs stay top-down, dense graphs switch to bottom-up
+            for (int m : new int[] { 6000, 60000 }) {
+                for (Graph<Integer, DefaultEdge> g : List
+                    .of(
+                        new DirectedPseudograph<Integer, DefaultEdge>(DefaultEdge.class),
+                        new Pseudograph<Integer, DefaultEdge>(DefaultEdge.class)))
+                {
+                    int n = 5000;
+                    for (int i = 0; i < n; i++) {
+                        g.addVertex(i);
+                    }
+                    for (int i = 0; i < m; i++) {
+                        g.addEdge(rng.nextInt(n), rng.nextInt(n));
+                    }
+                    assertSameAsBFS(g, new ParallelBFSShortestPath<>(g, pool), rng);
+
+                    IntGraph intGraph = Graphs.freeze(g).getIntGraph();
+                    assertSameAsBFS(intGraph, new ParallelBFSShortestPath<>(intGraph, pool), rng);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDepths()
+    {
+        Graph<String, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b");
+        Graphs.addEdgeWithVertices(g, "b", "c");
+        Graphs.addEdgeWithVertices(g, "a", "c");
+        Graphs.addEdgeWithVertices(g, "c", "d");
+        g.addVertex("e");
+
+        ParallelBFSShortestPath<String, DefaultEdge> bfs = new ParallelBFSShortestPath<>(g);
+        assertArrayEquals(new int[] { 0, 1, 1, 2, -1 }, bfs.getDepths("a"));
+        assertArrayEquals(new int[] { -1, -1, 0, 1, -1 }, bfs.getDepths("c"));
+        assertEquals(List.of("a", "c", "d"), bfs.getPath("a", "d").getVertexList());
+        assertEquals(2d, bfs.getPathWeight("a", "d"), 0d);
+        assertNull(bfs.getPath("d", "a"));
+        assertEquals(0d, bfs.getPath("e", "e").getWeight(), 0d);
+    }
+
+    private static <V, E> void assertSameAsBFS(
+        Graph<V, E> g, ParallelBFSShortestPath<V, E> bfs, Random rng)
+    {
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        for (int i = 0; i < 3; i++) {
+            V source = vertices.get(rng.nextInt(vertices.size()));
+            SingleSourcePaths<V, E> expected = new BFSShortestPath<>(g).getPaths(source);
+            SingleSourcePaths<V, E> actual = bfs.getPaths(source);
+            int[] depths = bfs.getDepths(source);
+            for (int j = 0; j < vertices.size(); j++) {
+                V v = vertices.get(j);
+                double weight = expected.getWeight(v);
+                assertEquals(weight, actual.getWeight(v), 0d);
+                assertEquals(Double.isInfinite(weight) ? -1 : (int) weight, depths[j]);
+
+                GraphPath<V, E> path = actual.getPath(v);
+                if (Double.isInfinite(weight)) {
+                    assertNull(path);
+                    continue;
+                }
+                assertEquals((int) weight, path.getLength());
+                V cur = source;
+                for (E e : path.getEdgeList()) {
+                    assertTrue(
+                        g.getEdgeSource(e).equals(cur)
+                            || g.getType().isUndirected() && g.getEdgeTarget(e).equals(cur));
+                    cur = Graphs.getOppositeVertex(g, e, cur);
+                }
+                assertEquals(v, cur);
+            }
+        }
+    }
+
+}
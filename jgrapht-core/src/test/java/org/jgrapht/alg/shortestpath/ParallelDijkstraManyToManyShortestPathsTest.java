@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelDijkstraManyToManyShortestPaths}
+ *
+ * @author JGraphT Contributors
+ */
+public class ParallelDijkstraManyToManyShortestPathsTest
+{
+
+    @Test
+    public void testSameAsSequential()
+    {
+        Random rng = new Random(29);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Graph<Integer, DefaultWeightedEdge> g : List
+                .of(
+                    new DirectedWeightedPseudograph<Integer, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class),
+                    new WeightedPseudograph<Integer, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class)))
+            {
+                for (int i = 0; i < 100; i++) {
+                    g.addVertex(i);
+                }
+                for (int i = 0; i < 250; i++) {
+                    Graphs.addEdge(g, rng.nextInt(100), rng.nextInt(100), rng.nextDouble());
+                }
+
+                ParallelDijkstraManyToManyShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                    new ParallelDijkstraManyToManyShortestPaths<>(g, pool);
+                DijkstraManyToManyShortestPaths<Integer, DefaultWeightedEdge> sequential =
+                    new DijkstraManyToManyShortestPaths<>(g);
+
+                // more sources than targets and vice versa
+                for (int[] sizes : new int[][] { { 60, 15 }, { 10, 70 } }) {
+                    Set<Integer> sources = randomSubset(rng, g.vertexSet(), sizes[0]);
+                    Set<Integer> targets = randomSubset(rng, g.vertexSet(), sizes[1]);
+                    ManyToManyShortestPaths<Integer, DefaultWeightedEdge> expected =
+                        sequential.getManyToManyPaths(sources, targets);
+                    ManyToManyShortestPaths<Integer, DefaultWeightedEdge> actual =
+                        parallel.getManyToManyPaths(sources, targets);
+
+                    for (Integer s : sources) {
+                        for (Integer t : targets) {
+                            double weight = expected.getWeight(s, t);
+                            assertEquals(weight, actual.getWeight(s, t), 1e-9);
+                            GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(s, t);
+                            if (Double.isInfinite(weight)) {
+                                assertNull(path);
+                                continue;
+                            }
+                            assertEquals(weight, path.getWeight(), 1e-9);
+                            assertEquals(s, path.getStartVertex());
+                            assertEquals(t, path.getEndVertex());
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDistanceMatrix()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1d);
+        Graphs.addEdgeWithVertices(g, "b", "c", 2d);
+        Graphs.addEdgeWithVertices(g, "a", "c", 5d);
+        g.addVertex("d");
+
+        ParallelDijkstraManyToManyShortestPaths<String, DefaultWeightedEdge> sp =
+            new ParallelDijkstraManyToManyShortestPaths<>(g);
+        double inf = Double.POSITIVE_INFINITY;
+        assertArrayEquals(
+            new double[] { 0d, 1d, 3d, inf, inf, 0d, 2d, inf },
+            sp.getDistances(List.of("a", "b"), List.of("a", "b", "c", "d")), 0d);
+        assertArrayEquals(
+            new double[] { 3d, 2d, 0d },
+            sp.getDistances(List.of("a", "b", "c"), List.of("c")), 0d);
+        assertArrayEquals(
+            new double[] { 1d, 3d, 0d },
+            sp.getDistances(List.of("a"), List.of("b", "c", "a")), 0d);
+        assertEquals(0, sp.getDistances(List.of(), List.of("a")).length);
+        assertEquals(List.of("a", "b", "c"), sp.getPath("a", "c").getVertexList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1d);
+        new ParallelDijkstraManyToManyShortestPaths<>(g).getDistances(List.of("a"), List.of("b"));
+    }
+
+    private static Set<Integer> randomSubset(Random rng, Set<Integer> vertices, int size)
+    {
+        List<Integer> list = new ArrayList<>(vertices);
+        Collections.shuffle(list, rng);
+        return new HashSet<>(list.subList(0, size));
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SPFAShortestPath}
+ *
+ * @author JGraphT Contributors
+ */
+public class SPFAShortestPathTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(3);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    private static List<Function<Graph<Integer, DefaultWeightedEdge>,
+        SPFAShortestPath<Integer, DefaultWeightedEdge>>> algorithms()
+    {
+        return List
+            .of(
+                g -> new SPFAShortestPath<>(g, 1e-9, SPFAShortestPath.QueueStrategy.FIFO),
+                g -> new SPFAShortestPath<>(
+                    g, 1e-9, SPFAShortestPath.QueueStrategy.SMALL_LABEL_FIRST),
+                g -> new SPFAShortestPath<>(g, 1e-9, pool));
+    }
+
+    @Test
+    public void testNegativeEdgesAgainstBellmanFord()
+    {
+        Random rng = new Random(11);
+        for (int n : new int[] { 30, 3000 }) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+            double[] potential = new double[n];
+            for (int i = 0; i < n; i++) {
+                g.addVertex(i);
+                potential[i] = 10 * rng.nextDouble();
+            }
+            // reduced costs are non-negative, thus there are no negative cycles
+            for (int i = 0; i < 4 * n; i++) {
+                int u = rng.nextInt(n);
+                int v = rng.nextInt(n);
+                DefaultWeightedEdge e = g.addEdge(u, v);
+                g.setEdgeWeight(e, rng.nextDouble() + potential[u] - potential[v]);
+            }
+
+            for (int source : new int[] { 0, n / 2 }) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new BellmanFordShortestPath<>(g).getPaths(source);
+                for (Function<Graph<Integer, DefaultWeightedEdge>,
+                    SPFAShortestPath<Integer, DefaultWeightedEdge>> alg : algorithms())
+                {
+                    SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+                        alg.apply(g).getPaths(source);
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-6);
+                        GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(v);
+                        if (path != null) {
+                            assertEquals(expected.getWeight(v), path.getWeight(), 1e-6);
+                            ((GraphWalk<Integer, DefaultWeightedEdge>) path).verify();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeCycleDetection()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        int n = 2000;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            Graphs.addEdge(g, i, i + 1, 1.0);
+        }
+        Random rng = new Random(5);
+        for (int i = 0; i < 2 * n; i++) {
+            Graphs.addEdge(g, rng.nextInt(n), rng.nextInt(n), 1.0 + rng.nextDouble());
+        }
+        Graphs.addEdge(g, 1500, 1200, -400.0);
+
+        for (Function<Graph<Integer, DefaultWeightedEdge>,
+            SPFAShortestPath<Integer, DefaultWeightedEdge>> alg : algorithms())
+        {
+            try {
+                alg.apply(g).getPaths(0);
+                fail("Negative-weight cycle not detected");
+            } catch (NegativeCycleDetectedException e) {
+                assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+
+                @SuppressWarnings("unchecked") GraphWalk<Integer, DefaultWeightedEdge> cycle =
+                    (GraphWalk<Integer, DefaultWeightedEdge>) e.getCycle();
+                cycle.verify();
+                assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+                assertTrue(cycle.getWeight() < 0d);
+            }
+        }
+    }
+
+    @Test
+    public void testDoNotDetectNonReachableNegativeCycle()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 1, 2, 1.0);
+        Graphs.addEdgeWithVertices(g, 2, 3, 1.0);
+        Graphs.addEdgeWithVertices(g, 3, 4, 1.0);
+        Graphs.addEdgeWithVertices(g, 5, 4, 1.0);
+        Graphs.addEdgeWithVertices(g, 5, 6, -1.0);
+        Graphs.addEdgeWithVertices(g, 6, 7, -1.0);
+        Graphs.addEdgeWithVertices(g, 7, 5, -1.0);
+
+        for (Function<Graph<Integer, DefaultWeightedEdge>,
+            SPFAShortestPath<Integer, DefaultWeightedEdge>> alg : algorithms())
+        {
+            assertEquals(3.0, alg.apply(g).getPaths(1).getWeight(4), 1e-9);
+        }
+    }
+
+    @Test
+    public void testNegativeEdgeUndirectedGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 1.0);
+        Graphs.addEdgeWithVertices(g, 1, 2, 1.0);
+        Graphs.addEdgeWithVertices(g, 1, 2, -1.0);
+
+        for (Function<Graph<Integer, DefaultWeightedEdge>,
+            SPFAShortestPath<Integer, DefaultWeightedEdge>> alg : algorithms())
+        {
+            try {
+                alg.apply(g).getPaths(0);
+                fail("Negative-weight cycle not detected");
+            } catch (NegativeCycleDetectedException e) {
+                @SuppressWarnings("unchecked") GraphPath<Integer, DefaultWeightedEdge> cycle =
+                    (GraphPath<Integer, DefaultWeightedEdge>) e.getCycle();
+                assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+                assertEquals(-2.0d, cycle.getWeight(), 1e-9);
+                assertEquals(2, cycle.getLength());
+            }
+        }
+    }
+
+    @Test
+    public void testUnreachable()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 2.0);
+        Graphs.addEdgeWithVertices(g, 1, 2, -1.0);
+        g.addVertex(3);
+
+        for (Function<Graph<Integer, DefaultWeightedEdge>,
+            SPFAShortestPath<Integer, DefaultWeightedEdge>> alg : algorithms())
+        {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = alg.apply(g).getPaths(0);
+            assertEquals(1.0, paths.getWeight(2), 1e-9);
+            assertEquals(List.of(0, 1, 2), paths.getPath(2).getVertexList());
+            assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(3), 0.0);
+            assertNull(paths.getPath(3));
+        }
+    }
+
+}
@@ -24,8 +24,10 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests for the {@link YenKShortestPath}.
@@ -135,6 +137,53 @@ public class YenKShortestPathTest
         }
     }
 
+    @Test
+    public void testParallelOnRandomGraphs()
+    {
+        Random random = new Random(SEED);
+        int n = 40;
+        double p = 0.1;
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 40; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = i % 2 == 0
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier())
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier());
+                getRandomGraph(graph, n, p, random);
+                Integer source = random.nextInt(n);
+                Integer target = random.nextInt(n);
+                Set<DefaultWeightedEdge> randomEdges = getRandomEdges(graph, 5);
+                PathValidator<Integer, DefaultWeightedEdge> pathValidator =
+                    (path, edge) -> !randomEdges.contains(edge);
+
+                for (int k : new int[] { 1, 7, 50 }) {
+                    List<GraphPath<Integer, DefaultWeightedEdge>> expected =
+                        new YenKShortestPath<>(graph, pathValidator).getPaths(source, target, k);
+                    List<GraphPath<Integer, DefaultWeightedEdge>> actual =
+                        new YenKShortestPath<>(graph, pathValidator, pool)
+                            .getPaths(source, target, k);
+
+                    assertEquals(expected.size(), actual.size());
+                    for (int j = 0; j < expected.size(); j++) {
+                        GraphPath<Integer, DefaultWeightedEdge> path = actual.get(j);
+                        assertEquals(expected.get(j).getWeight(), path.getWeight(), 1e-9);
+                        ((GraphWalk<Integer, DefaultWeightedEdge>) path).verify();
+                        assertEquals(
+                            path.getLength() + 1, new HashSet<>(path.getVertexList()).size());
+                        assertTrue(isValidPath(path, pathValidator));
+                    }
+                    assertEquals(actual.size(), new HashSet<>(actual).size());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     /**
      * Computes all simple shortest paths between {@code source} and {@code target} without
      * {@code pathValidator}. Then computes all shortest paths between {@code source} and
@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntDoubleHeap}
+ *
+ * @author JGraphT Contributors
+ */
+public class IntDoubleHeapTest
+{
+
+    @Test
+    public void testBasic()
+    {
+        IntDoubleHeap heap = new IntDoubleHeap(10);
+        assertTrue(heap.isEmpty());
+
+        heap.insert(3, 5.0);
+        heap.insert(7, 2.0);
+        heap.insert(1, 9.0);
+        assertEquals(3, heap.size());
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(2));
+        assertEquals(7, heap.findMin());
+        assertEquals(2.0, heap.findMinKey(), 0.0);
+
+        heap.decreaseKey(1, 1.0);
+        assertEquals(1.0, heap.getKey(1), 0.0);
+        assertEquals(1, heap.deleteMin());
+        assertEquals(7, heap.deleteMin());
+        assertEquals(3, heap.deleteMin());
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+    }
+
+    @Test
+    public void testClearAndReuse()
+    {
+        IntDoubleHeap heap = new IntDoubleHeap(5, 2);
+        for (int i = 0; i < 5; i++) {
+            heap.insert(i, 5 - i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            assertFalse(heap.contains(i));
+        }
+        heap.insert(2, 1.0);
+        assertEquals(2, heap.deleteMin());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateInsert()
+    {
+        IntDoubleHeap heap = new IntDoubleHeap(3);
+        heap.insert(1, 1.0);
+        heap.insert(1, 2.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncreaseKey()
+    {
+        IntDoubleHeap heap = new IntDoubleHeap(3);
+        heap.insert(1, 1.0);
+        heap.decreaseKey(1, 2.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDeleteMinEmpty()
+    {
+        new IntDoubleHeap(3).deleteMin();
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(17);
+        for (int d : new int[] { 2, 3, 4, 8 }) {
+            int n = 1000;
+            IntDoubleHeap heap = new IntDoubleHeap(n, d);
+            double[] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = rng.nextDouble();
+                heap.insert(i, keys[i]);
+            }
+            for (int i = 0; i < n; i += 3) {
+                keys[i] /= 2;
+                heap.decreaseKey(i, keys[i]);
+            }
+            double[] sorted = keys.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < n; i++) {
+                assertEquals(sorted[i], heap.findMinKey(), 0.0);
+                int min = heap.deleteMin();
+                assertEquals(sorted[i], keys[min], 0.0);
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntLongRadixHeap}
+ *
+ * @author JGraphT Contributors
+ */
+public class IntLongRadixHeapTest
+{
+
+    @Test
+    public void testBasic()
+    {
+        IntLongMonotoneHeap heap = new IntLongRadixHeap(10);
+        assertTrue(heap.isEmpty());
+
+        heap.insert(3, 5);
+        heap.insert(7, 2);
+        heap.insert(1, 9);
+        assertEquals(3, heap.size());
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(2));
+        assertEquals(2, heap.findMinKey());
+
+        heap.decreaseKey(1, 3);
+        assertEquals(3, heap.getKey(1));
+        assertEquals(7, heap.deleteMin());
+        assertEquals(1, heap.deleteMin());
+        heap.insert(2, 4);
+        assertEquals(2, heap.deleteMin());
+        assertEquals(3, heap.deleteMin());
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+
+        heap.insert(4, 8);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(4));
+        heap.insert(4, 0);
+        assertEquals(4, heap.deleteMin());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotMonotone()
+    {
+        IntLongMonotoneHeap heap = new IntLongRadixHeap(10);
+        heap.insert(1, 5);
+        heap.deleteMin();
+        heap.insert(2, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncreaseKey()
+    {
+        IntLongMonotoneHeap heap = new IntLongRadixHeap(10);
+        heap.insert(1, 1);
+        heap.decreaseKey(1, 2);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDeleteMinEmpty()
+    {
+        new IntLongRadixHeap(10).deleteMin();
+    }
+
+    @Test
+    public void testRandomMonotone()
+    {
+        Random rng = new Random(13);
+        int n = 2000;
+        IntLongMonotoneHeap heap = new IntLongRadixHeap(n);
+        TreeSet<Long> reference = new TreeSet<>();
+        long[] keys = new long[n];
+        int next = 0;
+        long last = 0;
+        heap.insert(next, 0);
+        reference.add(pack(0, next++));
+        while (!reference.isEmpty()) {
+            long expected = reference.first() >>> 20;
+            assertEquals(expected, heap.findMinKey());
+            int min = heap.deleteMin();
+            assertTrue(reference.remove(pack(expected, min)));
+            assertTrue(expected >= last);
+            last = expected;
+
+            // insert or decrease keys within the range of the last deleted key
+            for (int i = 0; i < 3; i++) {
+                long key = last + rng.nextInt(1000000 + 1);
+                if (next < n && rng.nextBoolean()) {
+                    keys[next] = key;
+                    heap.insert(next, key);
+                    reference.add(pack(key, next++));
+                } else if (next > 0) {
+                    int e = rng.nextInt(next);
+                    if (heap.contains(e) && key < keys[e]) {
+                        reference.remove(pack(keys[e], e));
+                        keys[e] = key;
+                        heap.decreaseKey(e, key);
+                        reference.add(pack(key, e));
+                    }
+                }
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    private static long pack(long key, int element)
+    {
+        return (key << 20) | element;
+    }
+
+}
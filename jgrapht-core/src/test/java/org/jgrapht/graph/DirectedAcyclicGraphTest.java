@@ -20,6 +20,8 @@ package org.jgrapht.graph;
 import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 import org.jgrapht.alg.cycle.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.event.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.traverse.*;
@@ -127,6 +129,90 @@ public class DirectedAcyclicGraphTest
         }
     }
 
+    @Test
+    public void testBatchOperationsKeepTopologicalOrder()
+    {
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        dag.addVertices(List.of(4, 3, 2, 1));
+        assertEquals(4, dag.vertexSet().size());
+
+        DefaultEdge e12 = new DefaultEdge();
+        DefaultEdge e23 = new DefaultEdge();
+        DefaultEdge e34 = new DefaultEdge();
+        DefaultEdge e41 = new DefaultEdge();
+        dag.addEdges(List.of(Triple.of(1, 2, e12), Triple.of(2, 3, e23), Triple.of(3, 4, e34)));
+        assertEquals(List.of(1, 2, 3, 4), topologicalOrder(dag));
+
+        try {
+            dag.addEdges(List.of(Triple.of(4, 1, e41)));
+            fail("Cycle not rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertFalse(dag.containsEdge(e41));
+        assertEquals(Set.of(e12, e23, e34), dag.edgeSet());
+        assertEquals(List.of(1, 2, 3, 4), topologicalOrder(dag));
+
+        dag.removeEdges(List.of(e23));
+        dag.addEdges(List.of(Triple.of(4, 1, e41)));
+        List<Integer> order = topologicalOrder(dag);
+        for (DefaultEdge e : dag.edgeSet()) {
+            assertTrue(order.indexOf(dag.getEdgeSource(e)) < order.indexOf(dag.getEdgeTarget(e)));
+        }
+    }
+
+    private static <V, E> List<V> topologicalOrder(DirectedAcyclicGraph<V, E> dag)
+    {
+        List<V> order = new ArrayList<>();
+        dag.forEach(order::add);
+        return order;
+    }
+
+    @Test
+    public void testListenableBatchRejectsCycle()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedAcyclicGraph<>(DefaultEdge.class));
+        List<DefaultEdge> added = new ArrayList<>();
+        g.addGraphListener(new GraphListener<>()
+        {
+            @Override
+            public void edgeAdded(GraphEdgeChangeEvent<Integer, DefaultEdge> e)
+            {
+                added.add(e.getEdge());
+            }
+
+            @Override
+            public void edgeRemoved(GraphEdgeChangeEvent<Integer, DefaultEdge> e)
+            {
+            }
+
+            @Override
+            public void vertexAdded(GraphVertexChangeEvent<Integer> e)
+            {
+            }
+
+            @Override
+            public void vertexRemoved(GraphVertexChangeEvent<Integer> e)
+            {
+            }
+        });
+        g.addVertices(List.of(1, 2, 3));
+
+        DefaultEdge e12 = new DefaultEdge();
+        DefaultEdge e23 = new DefaultEdge();
+        DefaultEdge e31 = new DefaultEdge();
+        try {
+            g.addEdges(List.of(Triple.of(1, 2, e12), Triple.of(2, 3, e23), Triple.of(3, 1, e31)));
+            fail("Cycle not rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(Set.of(e12, e23), g.edgeSet());
+        assertEquals(List.of(e12, e23), added);
+    }
+
     /**
      * more rigorous test of topological iteration order, by assuring that each visited vertex
      * adheres to the definition of topological order, that is that it doesn't have a path leading
@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FrozenGraph}
+ *
+ * @author JGraphT Contributors
+ */
+public class FrozenGraphTest
+{
+
+    @Test
+    public void testSameAsOriginal()
+    {
+        Random rng = new Random(17);
+        List<Graph<String, DefaultEdge>> graphs = List
+            .of(
+                new DirectedPseudograph<>(DefaultEdge.class),
+                new Pseudograph<>(DefaultEdge.class),
+                new DirectedWeightedPseudograph<>(DefaultEdge.class),
+                new WeightedPseudograph<>(DefaultEdge.class));
+
+        for (Graph<String, DefaultEdge> g : graphs) {
+            randomGraph(rng, g, 60, 250, true);
+            FrozenGraph<String, DefaultEdge> frozen = Graphs.freeze(g);
+
+            assertEquals(g.getType().isDirected(), frozen.getType().isDirected());
+            assertEquals(g.vertexSet(), frozen.vertexSet());
+            assertEquals(g.edgeSet(), frozen.edgeSet());
+            assertEquals(new ArrayList<>(g.vertexSet()), new ArrayList<>(frozen.vertexSet()));
+            assertEquals(new ArrayList<>(g.edgeSet()), new ArrayList<>(frozen.edgeSet()));
+            assertFalse(frozen.containsVertex("missing"));
+            assertFalse(frozen.containsEdge(new DefaultEdge()));
+
+            for (String v : g.vertexSet()) {
+                assertEquals(g.degreeOf(v), frozen.degreeOf(v));
+                assertEquals(g.inDegreeOf(v), frozen.inDegreeOf(v));
+                assertEquals(g.outDegreeOf(v), frozen.outDegreeOf(v));
+                assertEquals(g.edgesOf(v), frozen.edgesOf(v));
+                assertEquals(g.incomingEdgesOf(v), frozen.incomingEdgesOf(v));
+                assertEquals(g.outgoingEdgesOf(v), frozen.outgoingEdgesOf(v));
+                assertEquals(g.edgesOf(v).size(), frozen.edgesOf(v).size());
+                for (String u : g.vertexSet()) {
+                    assertEquals(g.getAllEdges(v, u), frozen.getAllEdges(v, u));
+                    assertEquals(g.getEdge(v, u) == null, frozen.getEdge(v, u) == null);
+                    assertEquals(g.containsEdge(v, u), frozen.containsEdge(v, u));
+                }
+            }
+            for (DefaultEdge e : g.edgeSet()) {
+                assertEquals(g.getEdgeSource(e), frozen.getEdgeSource(e));
+                assertEquals(g.getEdgeTarget(e), frozen.getEdgeTarget(e));
+                assertEquals(g.getEdgeWeight(e), frozen.getEdgeWeight(e), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testIndices()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 2.0);
+        Graphs.addEdgeWithVertices(g, "b", "c", 3.0);
+        Graphs.addEdgeWithVertices(g, "c", "c", 4.0);
+        FrozenGraph<String, DefaultWeightedEdge> frozen = Graphs.freeze(g);
+
+        assertSame(frozen, Graphs.freeze(frozen));
+        VertexToIntegerMapping<String> mapping = frozen.getVertexToIntegerMapping();
+        assertSame(mapping, Graphs.getVertexToIntegerMapping(frozen));
+        assertEquals(List.of("a", "b", "c"), mapping.getIndexList());
+
+        IntGraph intGraph = frozen.getIntGraph();
+        List<DefaultWeightedEdge> edges = frozen.getEdgeToIntegerMapping().getIndexList();
+        assertEquals(3, intGraph.vertexSet().size());
+        assertEquals(3, intGraph.edgeSet().size());
+        for (int e = 0; e < edges.size(); e++) {
+            assertEquals(
+                mapping.getVertexMap().get(g.getEdgeSource(edges.get(e))).intValue(),
+                intGraph.edgeSource(e));
+            assertEquals(
+                mapping.getVertexMap().get(g.getEdgeTarget(edges.get(e))).intValue(),
+                intGraph.edgeTarget(e));
+            assertEquals(g.getEdgeWeight(edges.get(e)), intGraph.edgeWeight(e), 0.0);
+        }
+        assertEquals(2, intGraph.inDegree(2));
+        assertEquals(Set.of(1, 2), intGraph.incomingEdgesOf(2));
+    }
+
+    @Test
+    public void testAlgorithms()
+    {
+        Random rng = new Random(33);
+        Graph<String, DefaultEdge> directed = new DirectedPseudograph<>(DefaultEdge.class);
+        randomGraph(rng, directed, 200, 150, false);
+        Graph<String, DefaultEdge> undirected = new Pseudograph<>(DefaultEdge.class);
+        randomGraph(rng, undirected, 200, 150, false);
+
+        for (Graph<String, DefaultEdge> g : List.of(directed, undirected)) {
+            FrozenGraph<String, DefaultEdge> frozen = Graphs.freeze(g);
+
+            Map<String, Double> expected = new PageRank<>(g).getScores();
+            Map<String, Double> actual = new PageRank<>(frozen).getScores();
+            assertEquals(expected.keySet(), actual.keySet());
+            for (String v : expected.keySet()) {
+                assertEquals(expected.get(v), actual.get(v), 1e-9);
+            }
+
+            assertEquals(
+                new HashSet<>(new ConnectivityInspector<>(g).connectedSets()),
+                new HashSet<>(new ConnectivityInspector<>(frozen).connectedSets()));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b");
+        Graphs.freeze(g).addVertex("c");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingEdge()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b");
+        Graphs.freeze(g).getEdgeSource(new DefaultEdge());
+    }
+
+    private static void randomGraph(
+        Random rng, Graph<String, DefaultEdge> g, int n, int m, boolean selfLoops)
+    {
+        for (int i = 0; i < n; i++) {
+            g.addVertex("v" + i);
+        }
+        for (int i = 0; i < m; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            if (!selfLoops && s == t) {
+                t = (t + 1) % n;
+            }
+            DefaultEdge e = g.addEdge("v" + s, "v" + t);
+            if (g.getType().isWeighted()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+        }
+    }
+
+}
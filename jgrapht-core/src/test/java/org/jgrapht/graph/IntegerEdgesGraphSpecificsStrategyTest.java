@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntegerEdgesGraphSpecificsStrategy}
+ *
+ * @author JGraphT Contributors
+ */
+public class IntegerEdgesGraphSpecificsStrategyTest
+{
+
+    @Test
+    public void testSameAsDefault()
+    {
+        Random rng = new Random(23);
+        for (GraphType type : List
+            .of(
+                DefaultGraphType.directedPseudograph().asWeighted(),
+                DefaultGraphType.pseudograph().asWeighted(), DefaultGraphType.simple(),
+                DefaultGraphType.directedSimple()))
+        {
+            Graph<Integer, Integer> expected = GraphTypeBuilder
+                .<Integer, Integer> forGraphType(type)
+                .edgeSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+            Graph<Integer, Integer> actual =
+                new IntegerEdgesGraph<>(SupplierUtil.createIntegerSupplier(), type);
+
+            for (int i = 0; i < 50; i++) {
+                expected.addVertex(i);
+                actual.addVertex(i);
+            }
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 150; i++) {
+                    int s = rng.nextInt(50);
+                    int t = rng.nextInt(50);
+                    if (s == t && !type.isAllowingSelfLoops()) {
+                        continue;
+                    }
+                    Integer e = expected.addEdge(s, t);
+                    assertEquals(e, actual.addEdge(s, t));
+                    if (e != null && type.isWeighted()) {
+                        double w = rng.nextDouble();
+                        expected.setEdgeWeight(e, w);
+                        actual.setEdgeWeight(e, w);
+                    }
+                }
+                List<Integer> edges = new ArrayList<>(expected.edgeSet());
+                for (int i = 0; i < 20; i++) {
+                    Integer e = edges.get(rng.nextInt(edges.size()));
+                    assertEquals(expected.removeEdge(e), actual.removeEdge(e));
+                }
+                int v = rng.nextInt(50);
+                assertEquals(expected.removeVertex(v), actual.removeVertex(v));
+                assertEquals(expected.addVertex(v), actual.addVertex(v));
+            }
+
+            assertEquals(new ArrayList<>(expected.edgeSet()), new ArrayList<>(actual.edgeSet()));
+            assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+            assertFalse(actual.containsEdge(-1));
+            assertFalse(actual.containsEdge(100000));
+            for (Integer e : expected.edgeSet()) {
+                assertTrue(actual.containsEdge(e));
+                assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+                assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+                assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(e), 0.0);
+            }
+            for (Integer v : expected.vertexSet()) {
+                assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+                assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+            }
+
+            if (type.isWeighted()) {
+                ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> e =
+                    new DijkstraShortestPath<>(expected).getPaths(0);
+                ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> a =
+                    new DijkstraShortestPath<>(actual).getPaths(0);
+                for (Integer v : expected.vertexSet()) {
+                    assertEquals(e.getWeight(v), a.getWeight(v), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUserProvidedEdges()
+    {
+        Graph<String, Integer> g = new IntegerEdgesGraph<>(null, DefaultGraphType.pseudograph());
+        g.addVertex("a");
+        g.addVertex("b");
+        assertTrue(g.addEdge("a", "b", 1000));
+        assertFalse(g.addEdge("b", "a", 1000));
+        assertTrue(g.addEdge("b", "b", 3));
+        assertEquals(List.of(3, 1000), new ArrayList<>(g.edgeSet()));
+        assertEquals("a", g.getEdgeSource(1000));
+        assertEquals(3, g.degreeOf("b"));
+        g.removeVertex("a");
+        assertEquals(Set.of(3), g.edgeSet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeEdge()
+    {
+        Graph<String, Integer> g = new IntegerEdgesGraph<>(null, DefaultGraphType.pseudograph());
+        g.addVertex("a");
+        g.addEdge("a", "a", -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLargeEdge()
+    {
+        Graph<String, Integer> g = new IntegerEdgesGraph<>(null, DefaultGraphType.pseudograph());
+        g.addVertex("a");
+        g.addEdge("a", "a", Integer.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingEdge()
+    {
+        Graph<String, Integer> g =
+            new IntegerEdgesGraph<>(null, DefaultGraphType.pseudograph().asWeighted());
+        g.getEdgeWeight(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweighted()
+    {
+        Graph<String, Integer> g = new IntegerEdgesGraph<>(null, DefaultGraphType.pseudograph());
+        g.addVertex("a");
+        g.addEdge("a", "a", 0);
+        g.setEdgeWeight(0, 2.0);
+    }
+
+    private static class IntegerEdgesGraph<V>
+        extends
+        AbstractBaseGraph<V, Integer>
+    {
+        private static final long serialVersionUID = 1L;
+
+        IntegerEdgesGraph(Supplier<Integer> edgeSupplier, GraphType type)
+        {
+            super(null, edgeSupplier, type, new IntegerEdgesGraphSpecificsStrategy<>());
+        }
+    }
+
+}
@@ -18,12 +18,16 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.event.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -271,6 +275,158 @@ public class ListenableGraphTest
 
     // ~ Inner Classes ----------------------------------------------------------
 
+    /**
+     * Tests bulk operations with batch and per element listeners.
+     */
+    @Test
+    public void testBulkOperations()
+    {
+        Graph<String, DefaultWeightedEdge> base =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        base.addVertex("x");
+        for (Graph<String, DefaultWeightedEdge> delegate : List
+            .of(base, new GraphDelegator<>(base)))
+        {
+            DefaultListenableGraph<String, DefaultWeightedEdge> g =
+                new DefaultListenableGraph<>(delegate);
+            List<GraphChangeEvent> events = new ArrayList<>();
+            List<GraphBatchChangeEvent<String, DefaultWeightedEdge>> batches = new ArrayList<>();
+            Set<DefaultWeightedEdge> removedEdges = new HashSet<>();
+            g.addGraphListener(new GraphListener<String, DefaultWeightedEdge>()
+            {
+                @Override
+                public void edgeAdded(GraphEdgeChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    events.add(e);
+                }
+
+                @Override
+                public void edgeRemoved(GraphEdgeChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    events.add(e);
+                }
+
+                @Override
+                public void vertexAdded(GraphVertexChangeEvent<String> e)
+                {
+                    events.add(e);
+                }
+
+                @Override
+                public void vertexRemoved(GraphVertexChangeEvent<String> e)
+                {
+                    events.add(e);
+                }
+            });
+            g.addGraphListener(new GraphBatchListener<String, DefaultWeightedEdge>()
+            {
+                @Override
+                public void verticesAdded(GraphBatchChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    batches.add(e);
+                }
+
+                @Override
+                public void edgesAdded(GraphBatchChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    batches.add(e);
+                }
+
+                @Override
+                public void edgesRemoved(GraphBatchChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    batches.add(e);
+                }
+
+                @Override
+                public void edgeAdded(GraphEdgeChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    throw new AssertionError();
+                }
+
+                @Override
+                public void edgeRemoved(GraphEdgeChangeEvent<String, DefaultWeightedEdge> e)
+                {
+                    removedEdges.add(e.getEdge());
+                }
+
+                @Override
+                public void vertexAdded(GraphVertexChangeEvent<String> e)
+                {
+                    throw new AssertionError();
+                }
+
+                @Override
+                public void vertexRemoved(GraphVertexChangeEvent<String> e)
+                {
+                }
+            });
+
+            assertTrue(g.addVertices(List.of("a", "b", "a", "c")));
+            assertFalse(g.addVertices(List.of("a")));
+            assertEquals(3, events.size());
+            assertEquals(1, batches.size());
+            assertEquals(GraphBatchChangeEvent.VERTICES_ADDED, batches.get(0).getType());
+            assertEquals(List.of("a", "b", "c"), batches.get(0).getVertices());
+
+            DefaultWeightedEdge ab = new DefaultWeightedEdge();
+            DefaultWeightedEdge ab2 = new DefaultWeightedEdge();
+            DefaultWeightedEdge bc = new DefaultWeightedEdge();
+            DefaultWeightedEdge ca = new DefaultWeightedEdge();
+            assertTrue(
+                g.addEdges(
+                    List
+                        .of(
+                            Triple.of("a", "b", ab), Triple.of("a", "b", ab2),
+                            Triple.of("b", "c", bc), Triple.of("c", "a", ca))));
+            assertEquals(6, events.size());
+            assertEquals(2, batches.size());
+            GraphBatchChangeEvent<String, DefaultWeightedEdge> added = batches.get(1);
+            assertEquals(GraphBatchChangeEvent.EDGES_ADDED, added.getType());
+            assertEquals(List.of(ab, bc, ca), added.getEdges());
+            assertEquals("b", added.getEdgeSource(1));
+            assertEquals("c", added.getEdgeTarget(1));
+            assertEquals(Graph.DEFAULT_EDGE_WEIGHT, added.getEdgeWeight(2), 0.0);
+            assertFalse(g.containsEdge(ab2));
+
+            g.setEdgeWeight(bc, 5.0);
+            assertTrue(g.removeEdges(List.of(bc, ab2, bc)));
+            assertEquals(7, events.size());
+            GraphBatchChangeEvent<String, DefaultWeightedEdge> removed = batches.get(2);
+            assertEquals(GraphBatchChangeEvent.EDGES_REMOVED, removed.getType());
+            assertEquals(List.of(bc), removed.getEdges());
+            assertEquals(5.0, removed.getEdgeWeight(0), 0.0);
+
+            // vertex removal removes its edges one at a time
+            assertTrue(g.removeVertex("a"));
+            assertEquals(3, batches.size());
+            assertEquals(Set.of(ab, ca), removedEdges);
+            assertEquals(10, events.size());
+            assertEquals(Set.of("b", "c", "x"), g.vertexSet());
+            assertTrue(g.edgeSet().isEmpty());
+            g.removeVertex("b");
+            g.removeVertex("c");
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBulkAddEdgesValidatesFirst()
+    {
+        DefaultListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.addVertices(List.of("a", "b"));
+        try {
+            g
+                .addEdges(
+                    List
+                        .of(
+                            Triple.of("a", "b", new DefaultEdge()),
+                            Triple.of("a", "a", new DefaultEdge())));
+        } finally {
+            assertTrue(g.edgeSet().isEmpty());
+        }
+    }
+
     /**
      * A listener on the tested graph.
      *
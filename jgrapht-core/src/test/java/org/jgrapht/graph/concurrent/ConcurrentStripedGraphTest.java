@@ -0,0 +1,253 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentStripedGraph}
+ *
+ * @author JGraphT Contributors
+ */
+public class ConcurrentStripedGraphTest
+{
+    private static final int THREADS = 8;
+
+    @Test
+    public void testSameAsSequential()
+    {
+        Random rng = new Random(7);
+        List<GraphType> types = List
+            .of(
+                DefaultGraphType.directedPseudograph().asWeighted(),
+                DefaultGraphType.pseudograph().asWeighted(), DefaultGraphType.simple(),
+                DefaultGraphType.directedSimple());
+
+        for (GraphType type : types) {
+            Graph<Integer, DefaultEdge> expected = GraphTypeBuilder
+                .<Integer, DefaultEdge> forGraphType(type).edgeClass(DefaultEdge.class)
+                .buildGraph();
+            Graph<Integer, DefaultEdge> actual =
+                new ConcurrentStripedGraph<>(null, DefaultEdge::new, type, 4);
+            assertEquals(4, ((ConcurrentStripedGraph<Integer, DefaultEdge>) actual).getStripes());
+
+            for (int i = 0; i < 40; i++) {
+                expected.addVertex(i);
+                actual.addVertex(i);
+            }
+            for (int i = 0; i < 200; i++) {
+                int s = rng.nextInt(40);
+                int t = rng.nextInt(40);
+                if (s == t && !type.isAllowingSelfLoops()) {
+                    continue;
+                }
+                DefaultEdge e = new DefaultEdge();
+                assertEquals(expected.addEdge(s, t, e), actual.addEdge(s, t, e));
+                if (type.isWeighted() && expected.containsEdge(e)) {
+                    double w = rng.nextDouble();
+                    expected.setEdgeWeight(e, w);
+                    actual.setEdgeWeight(e, w);
+                }
+            }
+            for (int i = 0; i < 10; i++) {
+                int v = rng.nextInt(40);
+                assertEquals(expected.removeVertex(v), actual.removeVertex(v));
+                List<DefaultEdge> edges = new ArrayList<>(expected.edgeSet());
+                DefaultEdge e = edges.get(rng.nextInt(edges.size()));
+                assertEquals(expected.removeEdge(e), actual.removeEdge(e));
+                assertFalse(actual.removeEdge(e));
+            }
+
+            assertEquals(expected.vertexSet(), actual.vertexSet());
+            assertEquals(expected.edgeSet(), actual.edgeSet());
+            for (Integer v : expected.vertexSet()) {
+                assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+                assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+                assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+                assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+                assertEquals(expected.edgesOf(v).size(), actual.edgesOf(v).size());
+                assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+                assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+                for (Integer u : expected.vertexSet()) {
+                    assertEquals(expected.getAllEdges(v, u), actual.getAllEdges(v, u));
+                }
+            }
+            for (DefaultEdge e : expected.edgeSet()) {
+                assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+                assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+                assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(e), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentInserts()
+        throws Exception
+    {
+        ConcurrentStripedGraph<Integer, DefaultEdge> g = new ConcurrentStripedGraph<>(
+            SupplierUtil.createIntegerSupplier(), DefaultEdge::new,
+            DefaultGraphType.directedPseudograph());
+        int perThread = 500;
+        for (int i = 0; i < THREADS * perThread; i++) {
+            g.addVertex(i);
+        }
+
+        runConcurrently(id -> {
+            Random rng = new Random(id);
+            int base = id * perThread;
+            for (int i = 0; i < 5 * perThread; i++) {
+                g.addEdge(base + rng.nextInt(perThread), base + rng.nextInt(perThread));
+                // weakly consistent iteration while others modify the graph
+                if (i % 100 == 0) {
+                    g.edgeSet().stream().count();
+                }
+            }
+        });
+
+        assertEquals(THREADS * 5 * perThread, g.edgeSet().size());
+        int degrees = 0;
+        for (Integer v : g.vertexSet()) {
+            degrees += g.outDegreeOf(v);
+            for (DefaultEdge e : g.outgoingEdgesOf(v)) {
+                assertEquals(v, g.getEdgeSource(e));
+                assertTrue(g.incomingEdgesOf(g.getEdgeTarget(e)).contains(e));
+            }
+        }
+        assertEquals(g.edgeSet().size(), degrees);
+    }
+
+    @Test
+    public void testConcurrentSimpleGraph()
+        throws Exception
+    {
+        ConcurrentStripedGraph<Integer, DefaultEdge> g =
+            new ConcurrentStripedGraph<>(null, DefaultEdge::new, DefaultGraphType.simple(), 2);
+        int n = 30;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        AtomicInteger added = new AtomicInteger();
+        runConcurrently(id -> {
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    if (s != t && g.addEdge(s, t) != null) {
+                        added.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertEquals(n * (n - 1) / 2, added.get());
+        assertEquals(n * (n - 1) / 2, g.edgeSet().size());
+        for (int v = 0; v < n; v++) {
+            assertEquals(n - 1, g.degreeOf(v));
+        }
+    }
+
+    @Test
+    public void testConcurrentRemovals()
+        throws Exception
+    {
+        ConcurrentStripedGraph<Integer, DefaultEdge> g =
+            new ConcurrentStripedGraph<>(null, DefaultEdge::new, DefaultGraphType.pseudograph());
+        int n = 400;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        Random rng = new Random(3);
+        for (int i = 0; i < 4 * n; i++) {
+            g.addEdge(rng.nextInt(n), rng.nextInt(n));
+        }
+
+        runConcurrently(id -> {
+            for (int v = id; v < n; v += 2 * THREADS) {
+                g.removeVertex(v);
+            }
+            for (DefaultEdge e : g.edgeSet()) {
+                if (e.hashCode() % THREADS == id) {
+                    g.removeEdge(e);
+                }
+            }
+        });
+
+        Set<DefaultEdge> touching = new HashSet<>();
+        for (Integer v : g.vertexSet()) {
+            assertTrue(v % (2 * THREADS) >= THREADS);
+            touching.addAll(g.edgesOf(v));
+        }
+        assertEquals(g.edgeSet(), touching);
+        for (DefaultEdge e : g.edgeSet()) {
+            assertTrue(g.containsVertex(g.getEdgeSource(e)));
+            assertTrue(g.containsVertex(g.getEdgeTarget(e)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoopsNotAllowed()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new ConcurrentStripedGraph<>(null, DefaultEdge::new, DefaultGraphType.simple());
+        g.addVertex(1);
+        g.addEdge(1, 1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweighted()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new ConcurrentStripedGraph<>(null, DefaultEdge::new, DefaultGraphType.simple());
+        g.addVertex(1);
+        g.addVertex(2);
+        g.setEdgeWeight(g.addEdge(1, 2), 2.0);
+    }
+
+    private static void runConcurrently(IntConsumerTask task)
+        throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int id = i;
+                futures.add(executor.submit(() -> task.run(id)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface IntConsumerTask
+    {
+        void run(int id);
+    }
+
+}
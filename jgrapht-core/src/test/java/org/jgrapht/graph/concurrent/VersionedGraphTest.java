@@ -0,0 +1,270 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link VersionedGraph}
+ *
+ * @author JGraphT Contributors
+ */
+public class VersionedGraphTest
+{
+
+    @Test
+    public void testSnapshotIsolation()
+    {
+        Random rng = new Random(19);
+        for (GraphType type : List
+            .of(
+                DefaultGraphType.directedPseudograph().asWeighted(),
+                DefaultGraphType.pseudograph().asWeighted(), DefaultGraphType.simple()))
+        {
+            Graph<Integer, DefaultEdge> reference = GraphTypeBuilder
+                .<Integer, DefaultEdge> forGraphType(type).edgeClass(DefaultEdge.class)
+                .buildGraph();
+            VersionedGraph<Integer, DefaultEdge> g =
+                new VersionedGraph<>(null, DefaultEdge::new, type);
+
+            List<Graph<Integer, DefaultEdge>> copies = new ArrayList<>();
+            List<VersionedGraph.Snapshot<Integer, DefaultEdge>> snapshots = new ArrayList<>();
+            for (int round = 0; round < 6; round++) {
+                randomUpdates(rng, reference, g, 30, 60);
+                assertSameGraph(reference, g);
+
+                Graph<Integer, DefaultEdge> copy = GraphTypeBuilder
+                    .<Integer, DefaultEdge> forGraphType(type).edgeClass(DefaultEdge.class)
+                    .buildGraph();
+                Graphs.addGraph(copy, reference);
+                if (type.isWeighted()) {
+                    for (DefaultEdge e : reference.edgeSet()) {
+                        copy.setEdgeWeight(e, reference.getEdgeWeight(e));
+                    }
+                }
+                copies.add(copy);
+                snapshots.add(g.snapshot());
+            }
+            assertEquals(6, g.getOpenSnapshots());
+
+            for (int i = 0; i < snapshots.size(); i++) {
+                VersionedGraph.Snapshot<Integer, DefaultEdge> snapshot = snapshots.get(i);
+                assertSameGraph(copies.get(i), snapshot);
+                if (i > 0) {
+                    assertTrue(snapshot.getVersion() > snapshots.get(i - 1).getVersion());
+                }
+                snapshot.close();
+                snapshot.close();
+            }
+            assertEquals(0, g.getOpenSnapshots());
+
+            // versions are discarded without affecting the latest graph
+            randomUpdates(rng, reference, g, 30, 60);
+            assertSameGraph(reference, g);
+        }
+    }
+
+    @Test
+    public void testRemovalsDiscardedAfterSnapshotsClosed()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, DefaultEdge::new, DefaultGraphType.directedPseudograph());
+        Random rng = new Random(7);
+        int n = 20;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        List<DefaultEdge> edges = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            edges.add(g.addEdge(rng.nextInt(n), rng.nextInt(n)));
+        }
+        assertEquals(n + 100, g.getStoredKeyCount());
+
+        VersionedGraph.Snapshot<Integer, DefaultEdge> first = g.snapshot();
+        for (DefaultEdge e : edges.subList(0, 40)) {
+            g.removeEdge(e);
+        }
+        VersionedGraph.Snapshot<Integer, DefaultEdge> second = g.snapshot();
+        for (DefaultEdge e : edges.subList(40, 60)) {
+            g.removeEdge(e);
+        }
+        g.removeVertex(0);
+        assertEquals(n + 100, g.getStoredKeyCount());
+        assertEquals(100, first.edgeSet().size());
+        assertEquals(60, second.edgeSet().size());
+
+        // the first snapshot still observes all removals
+        second.close();
+        assertEquals(n + 100, g.getStoredKeyCount());
+        assertEquals(100, first.edgeSet().size());
+
+        first.close();
+        assertEquals(g.vertexSet().size() + g.edgeSet().size(), g.getStoredKeyCount());
+        assertTrue(g.getStoredKeyCount() < n + 40);
+    }
+
+    @Test
+    public void testConcurrentReaders()
+        throws Exception
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, DefaultEdge::new, DefaultGraphType.directedPseudograph());
+        int n = 200;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                Random rng = new Random(5);
+                List<DefaultEdge> edges = new ArrayList<>();
+                for (int i = 0; i < 20000; i++) {
+                    if (edges.isEmpty() || rng.nextInt(3) != 0) {
+                        edges.add(g.addEdge(rng.nextInt(n), rng.nextInt(n)));
+                    } else {
+                        g.removeEdge(edges.remove(rng.nextInt(edges.size())));
+                    }
+                }
+                done.set(true);
+            });
+
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    int checked = 0;
+                    while (!done.get() || checked == 0) {
+                        try (VersionedGraph.Snapshot<Integer, DefaultEdge> s = g.snapshot()) {
+                            int edges = s.edgeSet().size();
+                            int outDegrees = 0;
+                            int inDegrees = 0;
+                            int iterated = 0;
+                            for (Integer v : s.vertexSet()) {
+                                outDegrees += s.outDegreeOf(v);
+                                inDegrees += s.inDegreeOf(v);
+                                for (DefaultEdge e : s.outgoingEdgesOf(v)) {
+                                    assertEquals(v, s.getEdgeSource(e));
+                                }
+                                iterated++;
+                            }
+                            assertEquals(n, iterated);
+                            assertEquals(edges, outDegrees);
+                            assertEquals(edges, inDegrees);
+                            assertEquals(edges, new ArrayList<>(s.edgeSet()).size());
+                            assertEquals(n, new PageRank<>(s).getScores().size());
+                        }
+                        checked++;
+                    }
+                    return checked;
+                }));
+            }
+
+            writer.get();
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get() > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, g.getOpenSnapshots());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotUnmodifiable()
+    {
+        VersionedGraph<Integer, DefaultEdge> g =
+            new VersionedGraph<>(null, DefaultEdge::new, DefaultGraphType.simple());
+        g.addVertex(1);
+        try (VersionedGraph.Snapshot<Integer, DefaultEdge> s = g.snapshot()) {
+            s.addVertex(2);
+        }
+    }
+
+    private static void randomUpdates(
+        Random rng, Graph<Integer, DefaultEdge> reference, Graph<Integer, DefaultEdge> g, int n,
+        int m)
+    {
+        for (int i = 0; i < n; i++) {
+            assertEquals(reference.addVertex(i), g.addVertex(i));
+        }
+        for (int i = 0; i < m; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            if (s == t && !reference.getType().isAllowingSelfLoops()) {
+                continue;
+            }
+            DefaultEdge e = new DefaultEdge();
+            assertEquals(reference.addEdge(s, t, e), g.addEdge(s, t, e));
+        }
+        List<DefaultEdge> edges = new ArrayList<>(reference.edgeSet());
+        for (int i = 0; i < m / 10 && !edges.isEmpty(); i++) {
+            DefaultEdge e = edges.remove(rng.nextInt(edges.size()));
+            assertEquals(reference.removeEdge(e), g.removeEdge(e));
+        }
+        if (reference.getType().isWeighted()) {
+            for (DefaultEdge e : edges) {
+                if (rng.nextBoolean()) {
+                    double w = rng.nextDouble();
+                    reference.setEdgeWeight(e, w);
+                    g.setEdgeWeight(e, w);
+                }
+            }
+        }
+        int v = rng.nextInt(n);
+        assertEquals(reference.removeVertex(v), g.removeVertex(v));
+    }
+
+    private static void assertSameGraph(
+        Graph<Integer, DefaultEdge> expected, Graph<Integer, DefaultEdge> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        assertEquals(expected.vertexSet().size(), new HashSet<>(actual.vertexSet()).size());
+        assertEquals(expected.edgeSet().size(), new HashSet<>(actual.edgeSet()).size());
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+            assertEquals(expected.edgesOf(v).size(), actual.edgesOf(v).size());
+            assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+            assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+            for (Integer u : expected.vertexSet()) {
+                assertEquals(expected.getAllEdges(v, u), actual.getAllEdges(v, u));
+                assertEquals(expected.containsEdge(v, u), actual.containsEdge(v, u));
+            }
+        }
+        for (DefaultEdge e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(e), 0.0);
+        }
+    }
+
+}
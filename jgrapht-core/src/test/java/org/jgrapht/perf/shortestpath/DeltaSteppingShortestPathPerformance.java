@@ -28,7 +28,8 @@ import org.openjdk.jmh.annotations.*;
 import java.util.concurrent.*;
 
 /**
- * A benchmark comparing {@link DeltaSteppingShortestPath} to
+ * A benchmark comparing {@link DeltaSteppingShortestPath} and
+ * {@link ForkJoinDeltaSteppingShortestPath} to
  * {@link org.jgrapht.alg.shortestpath.DijkstraShortestPath} and
  * {@link org.jgrapht.alg.shortestpath.BellmanFordShortestPath}. The benchmark test the algorithms
  * on random, dense and sparse graphs.
@@ -50,6 +51,14 @@ public class DeltaSteppingShortestPathPerformance
         return new DeltaSteppingShortestPath<>(data.graph, 1.0 / data.edgeDegree, data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingGnm(GnmState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.edgeDegree, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testDijkstraGnm(
         GnmState data)
@@ -72,6 +81,14 @@ public class DeltaSteppingShortestPathPerformance
             data.graph, 1.0 / (1 + (data.p * data.numOfVertices)), data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingGnp(GnpState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / (1 + (data.p * data.numOfVertices)), data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testDijkstraGnp(
         GnpState data)
@@ -93,6 +110,14 @@ public class DeltaSteppingShortestPathPerformance
         return new DeltaSteppingShortestPath<>(data.graph, 1.0 / data.m0, data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingBarabasiAlbert(BarabasiAlbertState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.m0, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer,
         DefaultWeightedEdge> testDijkstraBarabasiAlbert(BarabasiAlbertState data)
@@ -114,6 +139,14 @@ public class DeltaSteppingShortestPathPerformance
         return new DeltaSteppingShortestPath<>(data.graph, 1.0 / data.k, data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingWattsStogatz(WattsStogatzState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.k, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer,
         DefaultWeightedEdge> testDijkstraWattsStogatz(WattsStogatzState data)
@@ -135,6 +168,14 @@ public class DeltaSteppingShortestPathPerformance
         return new DeltaSteppingShortestPath<>(data.graph, 1.0 / data.numOfVertices, data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingComplete(CompleteGraphState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.numOfVertices, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer,
         DefaultWeightedEdge> testDijkstraComplete(CompleteGraphState data)
@@ -154,15 +195,18 @@ public class DeltaSteppingShortestPathPerformance
     {
         DefaultUndirectedWeightedGraph<Integer, DefaultWeightedEdge> graph;
         public ThreadPoolExecutor executor;
+        public ForkJoinPool forkJoinPool;
 
         @Setup
         public void createExecutor(){
             executor = ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+            forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
         }
 
         @TearDown
         public void shutdownExecutor() throws InterruptedException {
             ConcurrencyUtil.shutdownExecutionService(executor);
+            forkJoinPool.shutdown();
         }
 
         public abstract void generateGraph();
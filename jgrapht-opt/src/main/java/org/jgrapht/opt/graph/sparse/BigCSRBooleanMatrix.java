@@ -0,0 +1,206 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import it.unimi.dsi.fastutil.longs.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.function.LongConsumer;
+
+/**
+ * A boolean matrix in compressed sparse rows format whose number of columns and non-zero entries
+ * may exceed $2^{31}$.
+ * 
+ * <p>
+ * Row offsets are stored as longs and the column indices in a fastutil big array, that is an array
+ * of array segments, so that the total number of entries is only bounded by the available memory.
+ * 
+ * @author JGraphT Contributors
+ */
+class BigCSRBooleanMatrix
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 6312075508402768861L;
+
+    private long columns;
+    private long[] rowOffsets;
+    private long[][] columnIndices;
+
+    /**
+     * Create a new matrix. Entry $i$ of the matrix is at row {@code rowOf.applyAsInt(i)} and at
+     * column {@code columnOf.applyAsLong(i)}.
+     * 
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param nonZeros the number of non-zero entries
+     * @param rowOf the row of each entry
+     * @param columnOf the column of each entry
+     */
+    public BigCSRBooleanMatrix(
+        int rows, long columns, long nonZeros, LongToIntFunction rowOf, LongUnaryOperator columnOf)
+    {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Rows must be positive");
+        }
+        if (columns < 1) {
+            throw new IllegalArgumentException("Columns must be positive");
+        }
+        if (nonZeros < 0) {
+            throw new IllegalArgumentException("Non-zero entries cannot be negative");
+        }
+
+        this.columns = columns;
+        this.rowOffsets = new long[rows + 1];
+        this.columnIndices = LongBigArrays.newBigArray(nonZeros);
+
+        // count non-zero per row
+        for (long i = 0; i < nonZeros; i++) {
+            int row = assertRow(rowOf.applyAsInt(i));
+            assertColumn(columnOf.applyAsLong(i));
+            rowOffsets[row + 1]++;
+        }
+
+        // prefix sum
+        for (int row = 0; row < rows; row++) {
+            rowOffsets[row + 1] += rowOffsets[row];
+        }
+
+        // stable placement of entries
+        long[] positions = Arrays.copyOf(rowOffsets, rows);
+        for (long i = 0; i < nonZeros; i++) {
+            LongBigArrays
+                .set(columnIndices, positions[rowOf.applyAsInt(i)]++, columnOf.applyAsLong(i));
+        }
+
+        for (int row = 0; row < rows; row++) {
+            sortRow(row);
+        }
+    }
+
+    public long columns()
+    {
+        return columns;
+    }
+
+    public int rows()
+    {
+        return rowOffsets.length - 1;
+    }
+
+    public long nonZeros(int row)
+    {
+        assert row >= 0 && row < rowOffsets.length;
+
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    public long nonZeroAt(int row, long i)
+    {
+        assert row >= 0 && row < rowOffsets.length && i >= 0 && i < nonZeros(row);
+
+        return LongBigArrays.get(columnIndices, rowOffsets[row] + i);
+    }
+
+    public void forEachNonZero(int row, LongConsumer action)
+    {
+        assert row >= 0 && row < rowOffsets.length;
+
+        long to = rowOffsets[row + 1];
+        for (long i = rowOffsets[row]; i < to; i++) {
+            action.accept(LongBigArrays.get(columnIndices, i));
+        }
+    }
+
+    public Iterator<Long> nonZerosPositionIterator(int row)
+    {
+        assert row >= 0 && row < rowOffsets.length;
+
+        return new NonZerosIterator(row);
+    }
+
+    public Set<Long> nonZerosSet(int row)
+    {
+        assert row >= 0 && row < rowOffsets.length;
+
+        Set<Long> nonZeros = new LinkedHashSet<>();
+        new NonZerosIterator(row).forEachRemaining(nonZeros::add);
+        return nonZeros;
+    }
+
+    private int assertRow(int row)
+    {
+        if (row < 0 || row >= rowOffsets.length - 1) {
+            throw new IllegalArgumentException("Entry at invalid row: " + row);
+        }
+        return row;
+    }
+
+    private long assertColumn(long column)
+    {
+        if (column < 0 || column >= columns) {
+            throw new IllegalArgumentException("Entry at invalid column: " + column);
+        }
+        return column;
+    }
+
+    private void sortRow(int row)
+    {
+        long from = rowOffsets[row];
+        long to = rowOffsets[row + 1];
+        for (long i = from + 1; i < to; i++) {
+            if (LongBigArrays.get(columnIndices, i - 1) > LongBigArrays.get(columnIndices, i)) {
+                LongBigArrays.quickSort(columnIndices, from, to);
+                return;
+            }
+        }
+    }
+
+    private class NonZerosIterator
+        implements
+        Iterator<Long>
+    {
+        private long curPos;
+        private long toPos;
+
+        public NonZerosIterator(int row)
+        {
+            this.curPos = rowOffsets[row];
+            this.toPos = rowOffsets[row + 1];
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return (curPos < toPos);
+        }
+
+        @Override
+        public Long next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return LongBigArrays.get(columnIndices, curPos++);
+        }
+
+    }
+
+}
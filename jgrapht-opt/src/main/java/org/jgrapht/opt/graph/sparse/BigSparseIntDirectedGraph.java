@@ -0,0 +1,360 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import it.unimi.dsi.fastutil.ints.*;
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Sparse directed graph whose number of edges may exceed $2^{31}$.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. The edges are
+ * numbered from $0$ to $m-1$ using longs, where $m$ is the total number of edges.
+ * 
+ * <p>
+ * The representation is the same as in {@link SparseIntDirectedGraph}: edge sources and targets
+ * plus two boolean incidence matrices in Compressed Sparse Rows (CSR) format. However, the row
+ * offsets are longs and all per edge arrays are fastutil big arrays, that is arrays of array
+ * segments, so that the size of the graph is bounded only by the available memory. The graph is
+ * unmodifiable.
+ * 
+ * <p>
+ * Since {@link Set#size()} is an integer, the size of {@link #edgeSet()} saturates at
+ * {@link Integer#MAX_VALUE}. Use {@link #edgeCount()} in order to get the exact number of edges.
+ * 
+ * @author JGraphT Contributors
+ */
+public class BigSparseIntDirectedGraph
+    extends
+    AbstractGraph<Integer, Long>
+{
+    protected static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    /**
+     * Source vertex of edge
+     */
+    protected int[][] source;
+
+    /**
+     * Target vertex of edge
+     */
+    protected int[][] target;
+
+    /**
+     * Incidence matrix with outgoing edges
+     */
+    protected BigCSRBooleanMatrix outIncidenceMatrix;
+
+    /**
+     * Incidence matrix with incoming edges
+     */
+    protected BigCSRBooleanMatrix inIncidenceMatrix;
+
+    /**
+     * Create a new graph from an edge list.
+     * 
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     */
+    public BigSparseIntDirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(numVertices, edges.size(), e -> edges.get((int) e).getFirst(), e -> edges.get((int) e)
+            .getSecond());
+    }
+
+    /**
+     * Create a new graph from an edge list given as two functions. Edge $i$ of the graph is
+     * directed from vertex {@code sources.applyAsInt(i)} to vertex {@code targets.applyAsInt(i)}.
+     * Each function is called exactly once per edge, in increasing edge order, which allows
+     * streaming the edge list from another storage.
+     * 
+     * @param numVertices the number of vertices
+     * @param numEdges the number of edges
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     */
+    public BigSparseIntDirectedGraph(
+        int numVertices, long numEdges, LongToIntFunction sources, LongToIntFunction targets)
+    {
+        this.source = IntBigArrays.newBigArray(numEdges);
+        this.target = IntBigArrays.newBigArray(numEdges);
+        for (long e = 0; e < numEdges; e++) {
+            IntBigArrays.set(source, e, sources.applyAsInt(e));
+            IntBigArrays.set(target, e, targets.applyAsInt(e));
+        }
+
+        final int[][] s = source;
+        final int[][] t = target;
+        outIncidenceMatrix = new BigCSRBooleanMatrix(
+            numVertices, numEdges, numEdges, e -> IntBigArrays.get(s, e), e -> e);
+        inIncidenceMatrix = new BigCSRBooleanMatrix(
+            numVertices, numEdges, numEdges, e -> IntBigArrays.get(t, e), e -> e);
+    }
+
+    /**
+     * Get the number of edges of the graph.
+     * 
+     * @return the number of edges
+     */
+    public long edgeCount()
+    {
+        return outIncidenceMatrix.columns();
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Long> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Long addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Long e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Long e)
+    {
+        return e >= 0 && e < outIncidenceMatrix.columns();
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v >= 0 && v < outIncidenceMatrix.rows();
+    }
+
+    @Override
+    public Set<Long> edgeSet()
+    {
+        return new CompleteLongSet(outIncidenceMatrix.columns());
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return Math
+            .toIntExact(
+                outIncidenceMatrix.nonZeros(vertex) + inIncidenceMatrix.nonZeros(vertex));
+    }
+
+    @Override
+    public Set<Long> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new UnmodifiableUnionSet<>(
+            outIncidenceMatrix.nonZerosSet(vertex), inIncidenceMatrix.nonZerosSet(vertex));
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return Math.toIntExact(inIncidenceMatrix.nonZeros(vertex));
+    }
+
+    @Override
+    public Set<Long> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inIncidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return Math.toIntExact(outIncidenceMatrix.nonZeros(vertex));
+    }
+
+    @Override
+    public Set<Long> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public Long removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Long e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new CompleteIntegerSet(outIncidenceMatrix.rows());
+    }
+
+    @Override
+    public Integer getEdgeSource(Long e)
+    {
+        assertEdgeExist(e);
+        return IntBigArrays.get(source, e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Long e)
+    {
+        assertEdgeExist(e);
+        return IntBigArrays.get(target, e);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    public double getEdgeWeight(Long e)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(Long e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Long getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+
+        Iterator<Long> it = outIncidenceMatrix.nonZerosPositionIterator(sourceVertex);
+        while (it.hasNext()) {
+            long eId = it.next();
+            if (IntBigArrays.get(target, eId) == targetVertex) {
+                return eId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Set<Long> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+
+        Set<Long> result = new LinkedHashSet<>();
+        Iterator<Long> it = outIncidenceMatrix.nonZerosPositionIterator(sourceVertex);
+        while (it.hasNext()) {
+            long eId = it.next();
+            if (IntBigArrays.get(target, eId) == targetVertex) {
+                result.add(eId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ensures that the specified vertex exists in this graph, or else throws exception.
+     *
+     * @param v vertex
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified vertex does not exist in this graph.
+     */
+    protected boolean assertVertexExist(Integer v)
+    {
+        if (containsVertex(v)) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Long e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+}
@@ -17,10 +17,11 @@
  */
 package org.jgrapht.opt.graph.sparse;
 
-import org.jgrapht.alg.util.*;
-
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 /**
  * A sparse boolean matrix in Compressed Sparse Row (CSR) format.
@@ -36,32 +37,34 @@ class CSRBooleanMatrix
 {
     private static final long serialVersionUID = -8639339411487665967L;
 
-    private static final Comparator<Pair<Integer, Integer>> INTEGER_PAIR_LEX_COMPARATOR =
-        (o1, o2) -> {
-            if (o1.getFirst() < o2.getFirst()) {
-                return -1;
-            } else if (o1.getFirst() > o2.getFirst()) {
-                return 1;
-            } else if (o1.getSecond() < o2.getSecond()) {
-                return -1;
-            } else if (o1.getSecond() > o2.getSecond()) {
-                return 1;
-            }
-            return 0;
-        };
-
     private int columns;
     private int[] rowOffsets;
     private int[] columnIndices;
 
     /**
-     * Create a new CSR boolean matrix
+     * Create a new CSR boolean matrix.
+     * 
+     * <p>
+     * The entries are given by index: the $i$-th non-zero entry of the matrix is at row
+     * {@code rowOf.applyAsInt(i)} and column {@code columnOf.applyAsInt(i)}. The matrix is built
+     * using a counting sort on the rows, thus in $O(r + z)$ time where $r$ is the number of rows and
+     * $z$ the number of non-zero entries. Entries of the same row are kept in increasing column
+     * order; if they are provided in that order no further sorting is performed.
+     * 
+     * <p>
+     * When parallel construction is requested, counting and placement of the entries as well as
+     * the sorting of the rows is performed using the common fork-join pool.
      * 
      * @param rows the number of rows
      * @param columns the number of columns
-     * @param entries the position of the entries of the matrix
+     * @param nonZeros the number of non-zero entries
+     * @param rowOf function returning the row of the $i$-th entry
+     * @param columnOf function returning the column of the $i$-th entry
+     * @param parallel whether to build the matrix in parallel
      */
-    public CSRBooleanMatrix(int rows, int columns, List<Pair<Integer, Integer>> entries)
+    public CSRBooleanMatrix(
+        int rows, int columns, int nonZeros, IntUnaryOperator rowOf, IntUnaryOperator columnOf,
+        boolean parallel)
     {
         if (rows < 1) {
             throw new IllegalArgumentException("Rows must be positive");
@@ -69,35 +72,63 @@ class CSRBooleanMatrix
         if (columns < 1) {
             throw new IllegalArgumentException("Columns must be positive");
         }
-        if (entries == null) {
-            throw new IllegalArgumentException("Entries cannot be null");
+        if (nonZeros < 0) {
+            throw new IllegalArgumentException("Non-zero entries cannot be negative");
         }
 
         this.columns = columns;
         this.rowOffsets = new int[rows + 1];
-        this.columnIndices = new int[entries.size()];
+        this.columnIndices = new int[nonZeros];
 
-        Iterator<Pair<Integer, Integer>> it =
-            entries.stream().sorted(INTEGER_PAIR_LEX_COMPARATOR).iterator();
+        if (parallel) {
+            // count non-zero per row
+            AtomicIntegerArray counts = new AtomicIntegerArray(rows);
+            IntStream.range(0, nonZeros).parallel().forEach(i -> {
+                int row = assertRow(rowOf.applyAsInt(i));
+                assertColumn(columnOf.applyAsInt(i));
+                counts.incrementAndGet(row);
+            });
+            for (int row = 0; row < rows; row++) {
+                rowOffsets[row + 1] = counts.get(row);
+            }
 
-        int cIndex = 0;
-        while (it.hasNext()) {
-            Pair<Integer, Integer> e = it.next();
+            // prefix sum
+            Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
 
-            // add column index
-            int column = e.getSecond();
-            if (column < 0 || column >= columns) {
-                throw new IllegalArgumentException("Entry at invalid column: " + column);
+            // place entries, reusing the counts as insertion positions
+            for (int row = 0; row < rows; row++) {
+                counts.set(row, rowOffsets[row]);
             }
-            columnIndices[cIndex++] = column;
+            IntStream.range(0, nonZeros).parallel().forEach(i -> {
+                int pos = counts.getAndIncrement(rowOf.applyAsInt(i));
+                columnIndices[pos] = columnOf.applyAsInt(i);
+            });
 
+            // placement order is arbitrary, restore column order
+            IntStream.range(0, rows).parallel().forEach(this::sortRow);
+        } else {
             // count non-zero per row
-            int row = e.getFirst();
-            rowOffsets[row + 1]++;
-        }
+            for (int i = 0; i < nonZeros; i++) {
+                int row = assertRow(rowOf.applyAsInt(i));
+                assertColumn(columnOf.applyAsInt(i));
+                rowOffsets[row + 1]++;
+            }
+
+            // prefix sum
+            for (int row = 0; row < rows; row++) {
+                rowOffsets[row + 1] += rowOffsets[row];
+            }
+
+            // stable placement of entries
+            int[] positions = Arrays.copyOf(rowOffsets, rows);
+            for (int i = 0; i < nonZeros; i++) {
+                columnIndices[positions[rowOf.applyAsInt(i)]++] = columnOf.applyAsInt(i);
+            }
 
-        // prefix sum
-        Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
+            for (int row = 0; row < rows; row++) {
+                sortRow(row);
+            }
+        }
     }
 
     /**
@@ -133,6 +164,40 @@ class CSRBooleanMatrix
         return rowOffsets[row + 1] - rowOffsets[row];
     }
 
+    /**
+     * Get the column of the $i$-th non-zero entry of a row.
+     * 
+     * @param row the row
+     * @param i the index of the entry in the row
+     * @return the column of the entry
+     */
+    public int nonZeroAt(int row, int i)
+    {
+        assert row >= 0 && row < rowOffsets.length && i >= 0 && i < nonZeros(row);
+
+        return columnIndices[rowOffsets[row] + i];
+    }
+
+    /**
+     * Perform an action for the column of each non-zero entry of a row, in increasing column order.
+     * Like {@link #nonZerosSet(int)}, duplicate entries are reported once.
+     * 
+     * @param row the row
+     * @param action the action to perform
+     */
+    public void forEachNonZero(int row, IntConsumer action)
+    {
+        assert row >= 0 && row < rowOffsets.length;
+
+        int to = rowOffsets[row + 1];
+        for (int i = rowOffsets[row]; i < to; i++) {
+            int column = columnIndices[i];
+            if (i + 1 == to || columnIndices[i + 1] != column) {
+                action.accept(column);
+            }
+        }
+    }
+
     /**
      * Get an iterator over the non-zero entries of a row.
      * 
@@ -161,6 +226,34 @@ class CSRBooleanMatrix
         return nonZeros;
     }
 
+    private int assertRow(int row)
+    {
+        if (row < 0 || row >= rowOffsets.length - 1) {
+            throw new IllegalArgumentException("Entry at invalid row: " + row);
+        }
+        return row;
+    }
+
+    private int assertColumn(int column)
+    {
+        if (column < 0 || column >= columns) {
+            throw new IllegalArgumentException("Entry at invalid column: " + column);
+        }
+        return column;
+    }
+
+    private void sortRow(int row)
+    {
+        int from = rowOffsets[row];
+        int to = rowOffsets[row + 1];
+        for (int i = from + 1; i < to; i++) {
+            if (columnIndices[i - 1] > columnIndices[i]) {
+                Arrays.sort(columnIndices, from, to);
+                return;
+            }
+        }
+    }
+
     private class NonZerosIterator
         implements
         Iterator<Integer>
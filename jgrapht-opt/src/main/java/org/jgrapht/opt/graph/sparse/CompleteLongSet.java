@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * The set of longs $0,1,\dots,n-1$. Since $n$ may exceed $2^{31}-1$, {@link #size()} saturates at
+ * {@link Integer#MAX_VALUE} and the exact number of elements is returned by {@link #longSize()}.
+ * 
+ * @author JGraphT Contributors
+ */
+class CompleteLongSet
+    extends
+    AbstractSet<Long>
+{
+    private long n;
+
+    public CompleteLongSet(long n)
+    {
+        this.n = n;
+    }
+
+    @Override
+    public Iterator<Long> iterator()
+    {
+        return LongStream.range(0, n).iterator();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (o instanceof Long) {
+            Long x = (Long) o;
+            return x >= 0 && x < n;
+        }
+        return false;
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the number of elements of the set.
+     * 
+     * @return the number of elements
+     */
+    public long longSize()
+    {
+        return n;
+    }
+
+}
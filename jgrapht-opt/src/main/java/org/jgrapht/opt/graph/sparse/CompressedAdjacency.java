@@ -0,0 +1,362 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Compressed adjacency lists.
+ *
+ * <p>
+ * Each row is a sorted list of non-negative integers, possibly with duplicates. Rows are split into
+ * blocks of {@link #BLOCK_SIZE} entries. The first entry of each block is stored as is and the
+ * remaining entries as the difference (gap) from their predecessor, all encoded using a variable
+ * length encoding of seven bits per byte. The start of each block is recorded which allows random
+ * access to an entry after decoding at most one block, and binary search over the blocks of a row.
+ *
+ * <p>
+ * Entries are addressed globally, in row order, by their position. This is a helper class for
+ * graph representation.
+ *
+ * @author JGraphT Contributors
+ */
+class CompressedAdjacency
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 2316052487207493573L;
+
+    /**
+     * Number of entries per block.
+     */
+    static final int BLOCK_SIZE = 32;
+
+    private int[] rowOffsets;
+    private int[] rowBlocks;
+    private int[] blockOffsets;
+    private byte[] data;
+
+    /**
+     * Create compressed adjacency lists from a sparse matrix, where the rows of the adjacency are
+     * the rows of the matrix and the entries the columns of the non-zero entries.
+     *
+     * @param matrix the matrix
+     */
+    public CompressedAdjacency(CSRBooleanMatrix matrix)
+    {
+        final int rows = matrix.rows();
+
+        // first pass, compute the layout
+        rowOffsets = new int[rows + 1];
+        rowBlocks = new int[rows + 1];
+        long dataSize = 0;
+        for (int row = 0; row < rows; row++) {
+            int degree = matrix.nonZeros(row);
+            rowOffsets[row + 1] = rowOffsets[row] + degree;
+            rowBlocks[row + 1] = rowBlocks[row] + (degree + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            int prev = 0;
+            for (int i = 0; i < degree; i++) {
+                int value = matrix.nonZeroAt(row, i);
+                dataSize += encodedLength(i % BLOCK_SIZE == 0 ? value : value - prev);
+                prev = value;
+            }
+        }
+        if (dataSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Adjacency too large");
+        }
+
+        // second pass, encode
+        blockOffsets = new int[rowBlocks[rows] + 1];
+        data = new byte[(int) dataSize];
+        int pos = 0;
+        int block = 0;
+        for (int row = 0; row < rows; row++) {
+            int degree = matrix.nonZeros(row);
+            int prev = 0;
+            for (int i = 0; i < degree; i++) {
+                int value = matrix.nonZeroAt(row, i);
+                if (i % BLOCK_SIZE == 0) {
+                    blockOffsets[block++] = pos;
+                    pos = encode(value, pos);
+                } else {
+                    pos = encode(value - prev, pos);
+                }
+                prev = value;
+            }
+        }
+        blockOffsets[block] = pos;
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int rows()
+    {
+        return rowOffsets.length - 1;
+    }
+
+    /**
+     * Get the total number of entries.
+     *
+     * @return the total number of entries
+     */
+    public int entries()
+    {
+        return rowOffsets[rowOffsets.length - 1];
+    }
+
+    /**
+     * Get the number of entries of a row.
+     *
+     * @param row the row
+     * @return the number of entries of the row
+     */
+    public int degree(int row)
+    {
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    /**
+     * Get the global position of the first entry of a row.
+     *
+     * @param row the row
+     * @return the global position of the first entry of the row
+     */
+    public int rowOffset(int row)
+    {
+        return rowOffsets[row];
+    }
+
+    /**
+     * Find the row containing an entry given by its global position. This operation costs
+     * $O(\log n)$ where $n$ is the number of rows.
+     *
+     * @param position the global position of the entry
+     * @return the row containing the entry
+     */
+    public int rowOf(int position)
+    {
+        assert position >= 0 && position < entries();
+
+        // find the last row whose offset is at most position
+        int low = 0;
+        int high = rowOffsets.length - 1;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (rowOffsets[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the $i$-th entry of a row. This operation decodes at most one block.
+     *
+     * @param row the row
+     * @param i the index of the entry in the row
+     * @return the entry
+     */
+    public int get(int row, int i)
+    {
+        assert i >= 0 && i < degree(row);
+
+        int[] cursor = { blockOffsets[rowBlocks[row] + i / BLOCK_SIZE] };
+        int value = decode(cursor);
+        for (int j = i % BLOCK_SIZE; j > 0; j--) {
+            value += decode(cursor);
+        }
+        return value;
+    }
+
+    /**
+     * Find the index of the first occurrence of a value in a row. The search performs a binary
+     * search over the blocks of the row and decodes at most two blocks.
+     *
+     * @param row the row
+     * @param value the value
+     * @return the index of the first occurrence of the value in the row, or -1 if not present
+     */
+    public int indexOf(int row, int value)
+    {
+        final int degree = degree(row);
+        if (degree == 0) {
+            return -1;
+        }
+        final int firstBlock = rowBlocks[row];
+        final int numBlocks = rowBlocks[row + 1] - firstBlock;
+
+        // find the last block whose first value is smaller than the value
+        int low = -1;
+        int high = numBlocks;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (firstValue(firstBlock + mid) < value) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        int block = Math.max(low, 0);
+
+        // scan forward
+        int i = block * BLOCK_SIZE;
+        int[] cursor = { blockOffsets[firstBlock + block] };
+        int current = 0;
+        for (; i < degree; i++) {
+            int delta = decode(cursor);
+            current = i % BLOCK_SIZE == 0 ? delta : current + delta;
+            if (current >= value) {
+                return current == value ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get an iterator over the entries of a row.
+     *
+     * @param row the row
+     * @return an iterator over the entries of a row
+     */
+    public PrimitiveIterator.OfInt iterator(int row)
+    {
+        return new RowIterator(row);
+    }
+
+    /**
+     * Perform an action for each entry of a row, in increasing order. The action receives the
+     * global position and the value of each entry.
+     *
+     * @param row the row
+     * @param action the action to perform
+     */
+    public void forEach(int row, IntGraph.EdgeNeighborConsumer action)
+    {
+        final int degree = degree(row);
+        if (degree == 0) {
+            return;
+        }
+        int pos = blockOffsets[rowBlocks[row]];
+        int position = rowOffsets[row];
+        int current = 0;
+        for (int i = 0; i < degree; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current = i % BLOCK_SIZE == 0 ? delta : current + delta;
+            action.accept(position++, current);
+        }
+    }
+
+    private int firstValue(int block)
+    {
+        int[] cursor = { blockOffsets[block] };
+        return decode(cursor);
+    }
+
+    private int encode(int value, int pos)
+    {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            data[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * Decode a value starting from the position given by the cursor, and advance the cursor.
+     */
+    private int decode(int[] cursor)
+    {
+        int pos = cursor[0];
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        cursor[0] = pos;
+        return value;
+    }
+
+    private static int encodedLength(int value)
+    {
+        assert value >= 0;
+        int length = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    private class RowIterator
+        implements
+        PrimitiveIterator.OfInt
+    {
+        private final int[] cursor;
+        private final int degree;
+        private int i;
+        private int current;
+
+        public RowIterator(int row)
+        {
+            this.degree = degree(row);
+            this.cursor = new int[] { degree > 0 ? blockOffsets[rowBlocks[row]] : 0 };
+            this.i = 0;
+            this.current = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < degree;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int delta = decode(cursor);
+            current = i % BLOCK_SIZE == 0 ? delta : current + delta;
+            i++;
+            return current;
+        }
+
+    }
+
+}
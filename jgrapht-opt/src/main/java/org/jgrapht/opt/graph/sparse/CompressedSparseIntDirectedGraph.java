@@ -0,0 +1,505 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A compressed sparse directed graph.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. Similarly,
+ * edges are numbered from $0$ to $m-1$ where $m$ is the total number of edges. Contrary to
+ * {@link SparseIntDirectedGraph}, edges are numbered in lexicographic order of their (source,
+ * target) pair and not in the order they are given during construction.
+ *
+ * <p>
+ * The graph stores the sorted lists of successors and predecessors of each vertex, compressed using
+ * gap and variable length encoding. For graphs with locality, such as web graphs or social
+ * networks, most gaps fit in one or two bytes instead of the four bytes of a plain integer, which
+ * reduces the memory footprint several times compared to {@link SparseIntDirectedGraph}. The lists
+ * are split into blocks with skip pointers, thus {@link #getEdge(Integer, Integer)} and
+ * {@link #containsEdge(Integer, Integer)} perform a binary search over the blocks of the source
+ * vertex. Looking up the source of an edge costs $O(\log n)$ and its target requires decoding at
+ * most one block. This is a classic format for write-once read-many use cases. Thus, the graph is
+ * unmodifiable.
+ *
+ * @author JGraphT Contributors
+ */
+public class CompressedSparseIntDirectedGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
+{
+    protected static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    /**
+     * Targets of the outgoing edges of each vertex
+     */
+    protected CompressedAdjacency outAdjacency;
+
+    /**
+     * Sources of the incoming edges of each vertex
+     */
+    protected CompressedAdjacency inAdjacency;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     */
+    public CompressedSparseIntDirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(
+            numVertices, edges.stream().mapToInt(Pair::getFirst).toArray(),
+            edges.stream().mapToInt(Pair::getSecond).toArray());
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays. The $i$-th edge is directed from
+     * vertex {@code sources[i]} to vertex {@code targets[i]}.
+     *
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     */
+    public CompressedSparseIntDirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        this(numVertices, sources, targets, sources.length, false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays.
+     *
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param numEdges the number of edges, only this prefix of the arrays is used
+     * @param parallel whether to sort the edges in parallel
+     */
+    CompressedSparseIntDirectedGraph(
+        int numVertices, int[] sources, int[] targets, int numEdges, boolean parallel)
+    {
+        if (sources.length != targets.length || sources.length < numEdges) {
+            throw new IllegalArgumentException("Sources and targets must have the same length");
+        }
+        final int m = numEdges;
+        outAdjacency = new CompressedAdjacency(
+            new CSRBooleanMatrix(
+                numVertices, numVertices, m, e -> sources[e], e -> targets[e], parallel));
+        inAdjacency = new CompressedAdjacency(
+            new CSRBooleanMatrix(
+                numVertices, numVertices, m, e -> targets[e], e -> sources[e], parallel));
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e >= 0 && e < outAdjacency.entries();
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v >= 0 && v < outAdjacency.rows();
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new CompleteIntegerSet(outAdjacency.entries());
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outAdjacency.degree(vertex) + inAdjacency.degree(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new UnmodifiableUnionSet<>(outgoingEdges(vertex), incomingEdges(vertex));
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inAdjacency.degree(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return incomingEdges(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outAdjacency.degree(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outgoingEdges(vertex);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new CompleteIntegerSet(outAdjacency.rows());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return outAdjacency.rowOf(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        int source = outAdjacency.rowOf(e);
+        return outAdjacency.get(source, e - outAdjacency.rowOffset(source));
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int index = outAdjacency.indexOf(sourceVertex, targetVertex);
+        if (index < 0) {
+            return null;
+        }
+        return outAdjacency.rowOffset(sourceVertex) + index;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log d + k)$ where $d$ is the out-degree of the source vertex and $k$
+     * the number of edges returned.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        return parallelEdges(outAdjacency, sourceVertex, targetVertex);
+    }
+
+    @Override
+    public int outDegree(int vertex)
+    {
+        return outAdjacency.degree(vertex);
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        return inAdjacency.degree(vertex);
+    }
+
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        int from = outAdjacency.rowOffset(vertex);
+        int to = from + outAdjacency.degree(vertex);
+        for (int e = from; e < to; e++) {
+            action.accept(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log d)$ per distinct predecessor where $d$ is the out-degree of the
+     * predecessor.
+     */
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        forEachIncomingEdge(outAdjacency, inAdjacency, vertex, false, (e, u) -> action.accept(e));
+    }
+
+    @Override
+    public void forEachOutNeighbor(int vertex, IntConsumer action)
+    {
+        outAdjacency.forEach(vertex, (p, u) -> action.accept(u));
+    }
+
+    @Override
+    public void forEachInNeighbor(int vertex, IntConsumer action)
+    {
+        inAdjacency.forEach(vertex, (p, u) -> action.accept(u));
+    }
+
+    @Override
+    public void forEachOutEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        outAdjacency.forEach(vertex, action);
+    }
+
+    @Override
+    public void forEachInEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        forEachIncomingEdge(outAdjacency, inAdjacency, vertex, false, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public int edgeSource(int edge)
+    {
+        return outAdjacency.rowOf(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public int edgeTarget(int edge)
+    {
+        int source = outAdjacency.rowOf(edge);
+        return outAdjacency.get(source, edge - outAdjacency.rowOffset(source));
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * Ensures that the specified vertex exists in this graph, or else throws exception.
+     *
+     * @param v vertex
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified vertex does not exist in this graph.
+     */
+    protected boolean assertVertexExist(Integer v)
+    {
+        if (v >= 0 && v < outAdjacency.rows()) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (e >= 0 && e < outAdjacency.entries()) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    private Set<Integer> outgoingEdges(int vertex)
+    {
+        Set<Integer> result = new LinkedHashSet<>();
+        int from = outAdjacency.rowOffset(vertex);
+        int to = from + outAdjacency.degree(vertex);
+        for (int e = from; e < to; e++) {
+            result.add(e);
+        }
+        return result;
+    }
+
+    private Set<Integer> incomingEdges(int vertex)
+    {
+        return incomingEdges(outAdjacency, inAdjacency, vertex);
+    }
+
+    /**
+     * Compute the identifiers of the incoming edges of a vertex. The predecessors of the vertex are
+     * sorted and parallel edges are consecutive both in the predecessors of the vertex and in the
+     * successors of each predecessor. Thus a single lookup per distinct predecessor suffices.
+     */
+    static Set<Integer> incomingEdges(
+        CompressedAdjacency outAdjacency, CompressedAdjacency inAdjacency, int vertex)
+    {
+        Set<Integer> result = new LinkedHashSet<>();
+        forEachIncomingEdge(outAdjacency, inAdjacency, vertex, false, (e, u) -> result.add(e));
+        return result;
+    }
+
+    /**
+     * Perform an action for each incoming edge of a vertex and its source, optionally skipping
+     * self-loops.
+     */
+    static void forEachIncomingEdge(
+        CompressedAdjacency outAdjacency, CompressedAdjacency inAdjacency, int vertex,
+        boolean skipSelfLoops, EdgeNeighborConsumer action)
+    {
+        PrimitiveIterator.OfInt it = inAdjacency.iterator(vertex);
+        int prev = -1;
+        int next = 0;
+        while (it.hasNext()) {
+            int u = it.nextInt();
+            if (skipSelfLoops && u == vertex) {
+                continue;
+            }
+            if (u != prev) {
+                next = outAdjacency.rowOffset(u) + outAdjacency.indexOf(u, vertex);
+                prev = u;
+            }
+            action.accept(next++, u);
+        }
+    }
+
+    /**
+     * Compute the identifiers of all edges from a source to a target vertex.
+     */
+    static Set<Integer> parallelEdges(CompressedAdjacency outAdjacency, int source, int target)
+    {
+        Set<Integer> result = new LinkedHashSet<>();
+        int index = outAdjacency.indexOf(source, target);
+        if (index >= 0) {
+            int offset = outAdjacency.rowOffset(source);
+            int degree = outAdjacency.degree(source);
+            while (index < degree && outAdjacency.get(source, index) == target) {
+                result.add(offset + index++);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,450 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A compressed sparse undirected graph.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. Similarly,
+ * edges are numbered from $0$ to $m-1$ where $m$ is the total number of edges. Each edge is
+ * normalized so that its source is its smaller endpoint and its target its larger endpoint. Edges
+ * are numbered in lexicographic order of their normalized (source, target) pair and not in the
+ * order they are given during construction.
+ *
+ * <p>
+ * For each vertex the graph stores the sorted list of larger and the sorted list of smaller
+ * neighbors, compressed using gap and variable length encoding. See
+ * {@link CompressedSparseIntDirectedGraph} for details about the representation. This is a
+ * classic format for write-once read-many use cases. Thus, the graph is unmodifiable.
+ *
+ * @author JGraphT Contributors
+ */
+public class CompressedSparseIntUndirectedGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
+{
+    protected static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    /**
+     * Larger endpoint of the edges of each vertex
+     */
+    protected CompressedAdjacency upAdjacency;
+
+    /**
+     * Smaller endpoint of the edges of each vertex
+     */
+    protected CompressedAdjacency downAdjacency;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     */
+    public CompressedSparseIntUndirectedGraph(
+        int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(
+            numVertices, edges.stream().mapToInt(Pair::getFirst).toArray(),
+            edges.stream().mapToInt(Pair::getSecond).toArray());
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays. The $i$-th edge connects vertex
+     * {@code sources[i]} with vertex {@code targets[i]}.
+     *
+     * @param numVertices the number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     */
+    public CompressedSparseIntUndirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        this(numVertices, sources, targets, sources.length, false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays.
+     *
+     * @param numVertices the number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @param numEdges the number of edges, only this prefix of the arrays is used
+     * @param parallel whether to sort the edges in parallel
+     */
+    CompressedSparseIntUndirectedGraph(
+        int numVertices, int[] sources, int[] targets, int numEdges, boolean parallel)
+    {
+        if (sources.length != targets.length || sources.length < numEdges) {
+            throw new IllegalArgumentException("Sources and targets must have the same length");
+        }
+        final int m = numEdges;
+        upAdjacency = new CompressedAdjacency(
+            new CSRBooleanMatrix(
+                numVertices, numVertices, m, e -> Math.min(sources[e], targets[e]),
+                e -> Math.max(sources[e], targets[e]), parallel));
+        downAdjacency = new CompressedAdjacency(
+            new CSRBooleanMatrix(
+                numVertices, numVertices, m, e -> Math.max(sources[e], targets[e]),
+                e -> Math.min(sources[e], targets[e]), parallel));
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e >= 0 && e < upAdjacency.entries();
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v >= 0 && v < upAdjacency.rows();
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new CompleteIntegerSet(upAdjacency.entries());
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return upAdjacency.degree(vertex) + downAdjacency.degree(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        Set<Integer> result =
+            CompressedSparseIntDirectedGraph.incomingEdges(upAdjacency, downAdjacency, vertex);
+        int from = upAdjacency.rowOffset(vertex);
+        int to = from + upAdjacency.degree(vertex);
+        for (int e = from; e < to; e++) {
+            result.add(e);
+        }
+        return result;
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new CompleteIntegerSet(upAdjacency.rows());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return upAdjacency.rowOf(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        int source = upAdjacency.rowOf(e);
+        return upAdjacency.get(source, e - upAdjacency.rowOffset(source));
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .undirected().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log d)$ where $d$ is the degree of the smaller endpoint.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int u = Math.min(sourceVertex, targetVertex);
+        int v = Math.max(sourceVertex, targetVertex);
+        int index = upAdjacency.indexOf(u, v);
+        if (index < 0) {
+            return null;
+        }
+        return upAdjacency.rowOffset(u) + index;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log d + k)$ where $d$ is the degree of the smaller endpoint and $k$
+     * the number of edges returned.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        return CompressedSparseIntDirectedGraph
+            .parallelEdges(
+                upAdjacency, Math.min(sourceVertex, targetVertex),
+                Math.max(sourceVertex, targetVertex));
+    }
+
+    @Override
+    public int outDegree(int vertex)
+    {
+        return upAdjacency.degree(vertex) + downAdjacency.degree(vertex);
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        return outDegree(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Self-loops are stored both as larger and as smaller neighbors and are reported once.
+     */
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        int from = upAdjacency.rowOffset(vertex);
+        int to = from + upAdjacency.degree(vertex);
+        for (int e = from; e < to; e++) {
+            action.accept(e);
+        }
+        CompressedSparseIntDirectedGraph
+            .forEachIncomingEdge(
+                upAdjacency, downAdjacency, vertex, true, (e, u) -> action.accept(e));
+    }
+
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        forEachOutEdge(vertex, action);
+    }
+
+    @Override
+    public void forEachOutNeighbor(int vertex, IntConsumer action)
+    {
+        upAdjacency.forEach(vertex, (p, u) -> action.accept(u));
+        downAdjacency.forEach(vertex, (p, u) -> {
+            if (u != vertex) {
+                action.accept(u);
+            }
+        });
+    }
+
+    @Override
+    public void forEachInNeighbor(int vertex, IntConsumer action)
+    {
+        forEachOutNeighbor(vertex, action);
+    }
+
+    @Override
+    public void forEachOutEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        upAdjacency.forEach(vertex, action);
+        CompressedSparseIntDirectedGraph
+            .forEachIncomingEdge(upAdjacency, downAdjacency, vertex, true, action);
+    }
+
+    @Override
+    public void forEachInEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        forEachOutEdgeAndNeighbor(vertex, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public int edgeSource(int edge)
+    {
+        return upAdjacency.rowOf(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(\log n)$.
+     */
+    @Override
+    public int edgeTarget(int edge)
+    {
+        int source = upAdjacency.rowOf(edge);
+        return upAdjacency.get(source, edge - upAdjacency.rowOffset(source));
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * Ensures that the specified vertex exists in this graph, or else throws exception.
+     *
+     * @param v vertex
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified vertex does not exist in this graph.
+     */
+    protected boolean assertVertexExist(Integer v)
+    {
+        if (v >= 0 && v < upAdjacency.rows()) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (e >= 0 && e < upAdjacency.entries()) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+}
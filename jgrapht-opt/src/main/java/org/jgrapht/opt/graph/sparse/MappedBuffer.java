@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * A read-only memory mapped region of a file, addressable using 64-bit positions.
+ *
+ * <p>
+ * A single {@link MappedByteBuffer} is limited to $2^{31}-1$ bytes. This is a helper class which
+ * maps a region of arbitrary length as a sequence of chunks. The chunk size is a multiple of eight
+ * and thus any primitive value aligned to its size relative to the start of the region never
+ * crosses chunk boundaries.
+ *
+ * @author JGraphT Contributors
+ */
+class MappedBuffer
+{
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final long length;
+    private final ByteBuffer[] chunks;
+
+    /**
+     * Map a region of a file.
+     *
+     * @param channel the file channel
+     * @param position the position in the file where the region starts
+     * @param length the length of the region in bytes
+     * @throws IOException in case of an I/O error
+     */
+    public MappedBuffer(FileChannel channel, long position, long length)
+        throws IOException
+    {
+        this.length = length;
+        int numChunks = (int) ((length + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new ByteBuffer[numChunks];
+        for (int i = 0; i < numChunks; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            long size = Math.min(length - start, 1L << CHUNK_SHIFT);
+            chunks[i] = channel
+                .map(FileChannel.MapMode.READ_ONLY, position + start, size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Get the length of the region in bytes.
+     *
+     * @return the length of the region in bytes
+     */
+    public long length()
+    {
+        return length;
+    }
+
+    /**
+     * Get the byte at a position.
+     *
+     * @param pos the position in bytes
+     * @return the byte
+     */
+    public byte getByte(long pos)
+    {
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].get((int) (pos & CHUNK_MASK));
+    }
+
+    /**
+     * Get the $i$-th integer of the region.
+     *
+     * @param index the index
+     * @return the integer
+     */
+    public int getInt(long index)
+    {
+        long pos = index << 2;
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].getInt((int) (pos & CHUNK_MASK));
+    }
+
+    /**
+     * Get the $i$-th long of the region.
+     *
+     * @param index the index
+     * @return the long
+     */
+    public long getLong(long index)
+    {
+        long pos = index << 3;
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].getLong((int) (pos & CHUNK_MASK));
+    }
+
+    /**
+     * Get the $i$-th double of the region.
+     *
+     * @param index the index
+     * @return the double
+     */
+    public double getDouble(long index)
+    {
+        long pos = index << 3;
+        return chunks[(int) (pos >>> CHUNK_SHIFT)].getDouble((int) (pos & CHUNK_MASK));
+    }
+
+}
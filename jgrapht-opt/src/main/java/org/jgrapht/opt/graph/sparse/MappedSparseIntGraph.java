@@ -0,0 +1,507 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sparse graph backed by a memory mapped file.
+ *
+ * <p>
+ * The graph is read from a file written by {@link SparseIntGraphFile}, which contains the graph in
+ * compressed sparse rows format. Assuming the graph has $n$ vertices, the vertices are numbered
+ * from $0$ to $n-1$. Similarly, edges are numbered from $0$ to $m-1$ where $m$ is the total number
+ * of edges. Whether the graph is directed or undirected, weighted or unweighted is determined by the
+ * file.
+ *
+ * <p>
+ * The file is mapped in memory using {@link FileChannel#map(FileChannel.MapMode, long, long)} and
+ * all queries read directly from the mapped buffers. Thus opening the graph takes constant time
+ * regardless of its size and the graph data live outside the Java heap. Since the mapping is
+ * read-only, several processes opening the same file share the same pages of the operating system
+ * page cache. The graph is unmodifiable, including its edge weights.
+ *
+ * <p>
+ * If the file contains a vertex label table, the labels can be retrieved using
+ * {@link #getVertexLabel(int)}.
+ *
+ * @author JGraphT Contributors
+ */
+public class MappedSparseIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final SparseIntGraphFile.Layout layout;
+    private final MappedBuffer buffer;
+
+    /**
+     * Open a graph from a file.
+     *
+     * @param path the file
+     * @throws IOException in case of an I/O error or if the file is not a valid graph file
+     */
+    public MappedSparseIntGraph(Path path)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer
+                .allocate(SparseIntGraphFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Invalid graph file: truncated header");
+                }
+            }
+            header.flip();
+            if (header.getInt() != SparseIntGraphFile.MAGIC) {
+                throw new IOException("Invalid graph file: wrong magic number");
+            }
+            int version = header.getInt();
+            if (version != SparseIntGraphFile.VERSION) {
+                throw new IOException("Unsupported graph file version: " + version);
+            }
+            int flags = header.getInt();
+            int n = header.getInt();
+            int m = header.getInt();
+            if (n < 0 || m < 0) {
+                throw new IOException("Invalid graph file: negative size");
+            }
+
+            this.layout = SparseIntGraphFile.Layout.fromFlags(flags, n, m);
+            long size = channel.size();
+            if (size < layout.labelBytesPos) {
+                throw new IOException("Invalid graph file: truncated");
+            }
+            this.buffer = new MappedBuffer(channel, 0, size);
+            if (layout.labels && size < layout.labelBytesPos
+                + buffer.getLong(layout.labelOffsetsPos / Long.BYTES + n))
+            {
+                throw new IOException("Invalid graph file: truncated labels");
+            }
+        }
+    }
+
+    /**
+     * Whether the file contains a vertex label table.
+     *
+     * @return true if the file contains vertex labels, false otherwise
+     */
+    public boolean hasVertexLabels()
+    {
+        return layout.labels;
+    }
+
+    /**
+     * Get the label of a vertex.
+     *
+     * @param v the vertex
+     * @return the label of the vertex
+     * @throws IllegalArgumentException if the vertex does not exist
+     * @throws UnsupportedOperationException if the file has no vertex labels
+     */
+    public String getVertexLabel(int v)
+    {
+        assertVertexExist(v);
+        if (!layout.labels) {
+            throw new UnsupportedOperationException("graph has no vertex labels");
+        }
+        long from = buffer.getLong(layout.labelOffsetsPos / Long.BYTES + v);
+        long to = buffer.getLong(layout.labelOffsetsPos / Long.BYTES + v + 1);
+        byte[] bytes = new byte[Math.toIntExact(to - from)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.getByte(layout.labelBytesPos + from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e >= 0 && e < layout.m;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v >= 0 && v < layout.n;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new CompleteIntegerSet(layout.m);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (layout.directed) {
+            return outDegree(vertex) + inDegree(vertex);
+        }
+        return outDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (layout.directed) {
+            return new UnmodifiableUnionSet<>(outEdges(vertex), inEdges(vertex));
+        }
+        return outEdges(vertex);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return layout.directed ? inEdges(vertex) : outEdges(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outEdges(vertex);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new CompleteIntegerSet(layout.n);
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target(e);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+        if (layout.directed) {
+            builder = builder.directed();
+        } else {
+            builder = builder.undirected();
+        }
+        return builder
+            .weighted(layout.weighted).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        if (!layout.weighted) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        assertEdgeExist(e);
+        return buffer.getDouble(layout.weightsPos / Double.BYTES + e);
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        long from = outOffset(sourceVertex);
+        long to = outOffset(sourceVertex + 1);
+        for (long i = from; i < to; i++) {
+            int eId = buffer.getInt(layout.outEdgesPos / Integer.BYTES + i);
+            if (connects(eId, sourceVertex, targetVertex)) {
+                return eId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new LinkedHashSet<>();
+        long from = outOffset(sourceVertex);
+        long to = outOffset(sourceVertex + 1);
+        for (long i = from; i < to; i++) {
+            int eId = buffer.getInt(layout.outEdgesPos / Integer.BYTES + i);
+            if (connects(eId, sourceVertex, targetVertex)) {
+                result.add(eId);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int outDegree(int vertex)
+    {
+        return (int) (outOffset(vertex + 1) - outOffset(vertex));
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        if (!layout.directed) {
+            return outDegree(vertex);
+        }
+        return (int) (inOffset(vertex + 1) - inOffset(vertex));
+    }
+
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        forEachEdge(layout.outEdgesPos, outOffset(vertex), outOffset(vertex + 1), action);
+    }
+
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        if (!layout.directed) {
+            forEachOutEdge(vertex, action);
+        } else {
+            forEachEdge(layout.inEdgesPos, inOffset(vertex), inOffset(vertex + 1), action);
+        }
+    }
+
+    @Override
+    public int edgeSource(int edge)
+    {
+        return source(edge);
+    }
+
+    @Override
+    public int edgeTarget(int edge)
+    {
+        return target(edge);
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        if (!layout.weighted) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return buffer.getDouble(layout.weightsPos / Double.BYTES + edge);
+    }
+
+    /**
+     * Ensures that the specified vertex exists in this graph, or else throws exception.
+     *
+     * @param v vertex
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified vertex does not exist in this graph.
+     */
+    protected boolean assertVertexExist(Integer v)
+    {
+        if (v >= 0 && v < layout.n) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (e >= 0 && e < layout.m) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    private int source(int e)
+    {
+        return buffer.getInt(layout.sourcesPos / Integer.BYTES + e);
+    }
+
+    private int target(int e)
+    {
+        return buffer.getInt(layout.targetsPos / Integer.BYTES + e);
+    }
+
+    private boolean connects(int e, int u, int v)
+    {
+        int s = source(e);
+        int t = target(e);
+        return s == u && t == v || !layout.directed && s == v && t == u;
+    }
+
+    private long outOffset(int v)
+    {
+        return buffer.getLong(layout.outOffsetsPos / Long.BYTES + v);
+    }
+
+    private long inOffset(int v)
+    {
+        return buffer.getLong(layout.inOffsetsPos / Long.BYTES + v);
+    }
+
+
+    private Set<Integer> outEdges(int v)
+    {
+        return edges(layout.outEdgesPos, outOffset(v), outOffset(v + 1));
+    }
+
+    private Set<Integer> inEdges(int v)
+    {
+        return edges(layout.inEdgesPos, inOffset(v), inOffset(v + 1));
+    }
+
+    /*
+     * The entries of a row are sorted by edge, thus the two entries of a self-loop in an
+     * undirected graph are consecutive and are reported once.
+     */
+    private void forEachEdge(long entriesPos, long from, long to, IntConsumer action)
+    {
+        int prev = -1;
+        for (long i = from; i < to; i++) {
+            int e = buffer.getInt(entriesPos / Integer.BYTES + i);
+            if (e != prev) {
+                action.accept(e);
+                prev = e;
+            }
+        }
+    }
+
+    private Set<Integer> edges(long entriesPos, long from, long to)
+    {
+        Set<Integer> result = new LinkedHashSet<>();
+        for (long i = from; i < to; i++) {
+            result.add(buffer.getInt(entriesPos / Integer.BYTES + i));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,880 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import it.unimi.dsi.fastutil.ints.*;
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Sparse directed graph which supports updates.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices and $m$ edges, the vertices are numbered from $0$ to $n-1$
+ * and the edges from $0$ to $m-1$, as required by {@link IntGraph}. A new edge receives number $m$.
+ * Removing an edge invalidates the number of the last edge: the edge numbered $m-1$ takes over the
+ * number of the removed edge, unless the removed edge was the last one. All other edges keep their
+ * numbers.
+ * 
+ * <p>
+ * The graph keeps a read-only base in Compressed Sparse Rows (CSR) format, as
+ * {@link SparseIntDirectedGraph} does, and a small delta on top of it. Added edges are kept in hash
+ * maps from vertices to edge lists, while removed edges of the base are marked with tombstones.
+ * Reads merge the base and the delta, and skip tombstones only at vertices which actually have
+ * removed edges. Thus, as long as the delta is small, read performance stays close to that of the
+ * immutable sparse graphs while memory consumption stays far below that of
+ * {@link DefaultDirectedGraph}.
+ * 
+ * <p>
+ * Once the number of changes since the last compaction exceeds a fraction of the edges of the
+ * base, a compaction is started in the background using the executor given at construction time.
+ * The compaction builds a new base from a snapshot of the graph and is installed by the next
+ * operation on the graph after it finishes, so the graph itself is never accessed concurrently.
+ * Changes performed while the compaction runs are preserved, and the space of removed edges is
+ * reclaimed. A compaction can also be requested explicitly with {@link #compact()}. If a
+ * background compaction fails, the graph keeps using its previous base.
+ * 
+ * <p>
+ * Vertices can be added but not removed. The graph is not thread-safe.
+ * 
+ * @author JGraphT Contributors
+ */
+public class MutableSparseIntDirectedGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
+{
+    /**
+     * Default fraction of changes, relative to the edges of the base, which triggers a compaction
+     */
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.1;
+
+    private static final int MIN_COMPACTION_CHANGES = 1024;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final boolean weighted;
+    private final double compactionThreshold;
+    private final Executor executor;
+
+    private int vertices;
+    private int edges;
+    private double[] weight;
+    private int[] edgeSlot;
+
+    /*
+     * Edges are stored in slots. Slots are never reused until the next compaction, which keeps the
+     * base and its tombstones valid while edges are renumbered.
+     */
+    private int slots;
+    private int[] source;
+    private int[] target;
+    private int[] slotEdge;
+    private BitSet removed;
+
+    private Base base;
+    private Int2ObjectOpenHashMap<IntArrayList> outDelta;
+    private Int2ObjectOpenHashMap<IntArrayList> inDelta;
+    private Int2IntOpenHashMap outTombstones;
+    private Int2IntOpenHashMap inTombstones;
+    private int changes;
+
+    private CompletableFuture<Compaction> compaction;
+    private IntArrayList removedWhileCompacting;
+
+    /**
+     * Create a new unweighted graph from an edge list. Compactions run in the common fork-join
+     * pool.
+     * 
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     */
+    public MutableSparseIntDirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(numVertices, edges, false, DEFAULT_COMPACTION_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new graph from an edge list.
+     * 
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     * @param weighted whether the graph is weighted
+     * @param compactionThreshold the fraction of changes, relative to the number of edges of the
+     *        base, which triggers a compaction in the background
+     * @param executor the executor to run compactions
+     * @throws IllegalArgumentException if the compaction threshold is not positive
+     */
+    public MutableSparseIntDirectedGraph(
+        int numVertices, List<Pair<Integer, Integer>> edges, boolean weighted,
+        double compactionThreshold, Executor executor)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices cannot be negative");
+        }
+        if (!(compactionThreshold > 0d)) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.weighted = weighted;
+        this.compactionThreshold = compactionThreshold;
+        this.executor = Objects.requireNonNull(executor);
+
+        int m = edges.size();
+        int capacity = Math.max(DEFAULT_CAPACITY, m);
+        this.vertices = numVertices;
+        this.source = new int[capacity];
+        this.target = new int[capacity];
+        this.slotEdge = new int[capacity];
+        this.edgeSlot = new int[capacity];
+        this.weight = weighted ? new double[capacity] : null;
+        this.removed = new BitSet();
+        for (Pair<Integer, Integer> e : edges) {
+            int s = e.getFirst();
+            int t = e.getSecond();
+            if (s < 0 || s >= numVertices || t < 0 || t >= numVertices) {
+                throw new IllegalArgumentException("Edge with invalid vertex: " + e);
+            }
+            int id = this.edges++;
+            source[id] = s;
+            target[id] = t;
+            slotEdge[id] = id;
+            edgeSlot[id] = id;
+            if (weighted) {
+                weight[id] = Graph.DEFAULT_EDGE_WEIGHT;
+            }
+        }
+        this.slots = m;
+
+        this.base = Base.build(numVertices, m, source, target);
+        this.outDelta = new Int2ObjectOpenHashMap<>();
+        this.inDelta = new Int2ObjectOpenHashMap<>();
+        this.outTombstones = new Int2IntOpenHashMap();
+        this.inTombstones = new Int2IntOpenHashMap();
+    }
+
+    /**
+     * Compact the graph, that is merge all changes into a new read-only base. If a background
+     * compaction is running, this method waits for it and then compacts the changes which happened
+     * meanwhile.
+     * 
+     * @throws CompletionException if the compaction fails, in which case the graph keeps its
+     *         previous base
+     * @throws RejectedExecutionException if the executor rejects the compaction
+     */
+    public void compact()
+    {
+        if (compaction != null) {
+            installCompaction();
+        }
+        if (changes > 0 || slots > base.edges) {
+            startCompaction();
+            installCompaction();
+        }
+    }
+
+    /**
+     * Whether a background compaction is running or waits to be installed.
+     * 
+     * @return whether a compaction is pending
+     */
+    public boolean isCompacting()
+    {
+        return compaction != null;
+    }
+
+    /**
+     * Get the number of changes, added or removed edges, which are not part of the read-only base.
+     * 
+     * @return the number of changes since the last compaction
+     */
+    public int getPendingChanges()
+    {
+        checkCompaction();
+        return changes;
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        checkCompaction();
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (slots == source.length) {
+            int capacity = grow(source.length);
+            source = Arrays.copyOf(source, capacity);
+            target = Arrays.copyOf(target, capacity);
+            slotEdge = Arrays.copyOf(slotEdge, capacity);
+        }
+        if (edges == edgeSlot.length) {
+            int capacity = grow(edgeSlot.length);
+            edgeSlot = Arrays.copyOf(edgeSlot, capacity);
+            if (weighted) {
+                weight = Arrays.copyOf(weight, capacity);
+            }
+        }
+        int slot = slots++;
+        int e = edges++;
+        source[slot] = sourceVertex;
+        target[slot] = targetVertex;
+        slotEdge[slot] = e;
+        edgeSlot[e] = slot;
+        if (weighted) {
+            weight[e] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        outDelta.computeIfAbsent((int) sourceVertex, v -> new IntArrayList()).add(slot);
+        inDelta.computeIfAbsent((int) targetVertex, v -> new IntArrayList()).add(slot);
+        changed();
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Since edges are numbered in the order they are created, the only edge which can be added is
+     * the one returned by {@link #addEdge(Integer, Integer)}.
+     * 
+     * @throws IllegalArgumentException if the edge is not the next edge number
+     */
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        if (e < edges) {
+            return false;
+        }
+        if (e != edges) {
+            throw new IllegalArgumentException("Edge must be the next edge number: " + edges);
+        }
+        addEdge(sourceVertex, targetVertex);
+        return true;
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        checkCompaction();
+        return vertices++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the vertex is not the next vertex number
+     */
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        if (v < vertices) {
+            return false;
+        }
+        if (v != vertices) {
+            throw new IllegalArgumentException("Vertex must be the next vertex number: " + vertices);
+        }
+        addVertex();
+        return true;
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e >= 0 && e < edges;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v >= 0 && v < vertices;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new CompleteIntegerSet(edges);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        return inDegreeOf(vertex) + outDegreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        Set<Integer> result = outgoingEdgesOf(vertex);
+        result.addAll(incomingEdgesOf(vertex));
+        return result;
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        Set<Integer> result = new LinkedHashSet<>();
+        forEachInEdge(vertex, result::add);
+        return result;
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        Set<Integer> result = new LinkedHashSet<>();
+        forEachOutEdge(vertex, result::add);
+        return result;
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        Integer e = getEdge(sourceVertex, targetVertex);
+        if (e != null) {
+            removeEdge(e);
+        }
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Assuming the graph has $m$ edges before the removal, the edge numbered $m-1$ is renumbered to
+     * the number of the removed edge, so that the edges remain numbered from $0$ to $m-2$.
+     */
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        checkCompaction();
+        if (!containsEdge(e)) {
+            return false;
+        }
+        int slot = edgeSlot[e];
+        removed.set(slot);
+        int s = source[slot];
+        int t = target[slot];
+        if (slot < base.edges) {
+            outTombstones.addTo(s, 1);
+            inTombstones.addTo(t, 1);
+        } else {
+            removeFromDelta(outDelta, s, slot);
+            removeFromDelta(inDelta, t, slot);
+        }
+        if (removedWhileCompacting != null) {
+            removedWhileCompacting.add(slot);
+        }
+
+        int last = --edges;
+        if (e != last) {
+            int lastSlot = edgeSlot[last];
+            edgeSlot[e] = lastSlot;
+            slotEdge[lastSlot] = e;
+            if (weighted) {
+                weight[e] = weight[last];
+            }
+        }
+        changed();
+        return true;
+    }
+
+    /**
+     * Unsupported operation since vertices are numbered consecutively.
+     * 
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException("vertex removal is not supported");
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new CompleteIntegerSet(vertices);
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source[edgeSlot[e]];
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target[edgeSlot[e]];
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(weighted).modifiable(true).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        if (!weighted) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        assertEdgeExist(e);
+        return weight[e];
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException("graph is unweighted");
+        }
+        assertEdgeExist(e);
+        this.weight[e] = weight;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        Set<Integer> all = getAllEdges(sourceVertex, targetVertex);
+        if (all == null || all.isEmpty()) {
+            return null;
+        }
+        return all.iterator().next();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int t = targetVertex;
+        Set<Integer> result = new LinkedHashSet<>();
+        forEachOutEdge(sourceVertex, e -> {
+            if (edgeTarget(e) == t) {
+                result.add(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public int outDegree(int vertex)
+    {
+        checkCompaction();
+        IntArrayList delta = outDelta.get(vertex);
+        return base.outDegree(vertex) - outTombstones.get(vertex)
+            + (delta == null ? 0 : delta.size());
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        checkCompaction();
+        IntArrayList delta = inDelta.get(vertex);
+        return base.inDegree(vertex) - inTombstones.get(vertex)
+            + (delta == null ? 0 : delta.size());
+    }
+
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        checkCompaction();
+        forEach(
+            base.outOffsets, base.outEdges, outTombstones.get(vertex) > 0, outDelta.get(vertex),
+            vertex, action);
+    }
+
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        checkCompaction();
+        forEach(
+            base.inOffsets, base.inEdges, inTombstones.get(vertex) > 0, inDelta.get(vertex), vertex,
+            action);
+    }
+
+    @Override
+    public int edgeSource(int edge)
+    {
+        return source[edgeSlot[edge]];
+    }
+
+    @Override
+    public int edgeTarget(int edge)
+    {
+        return target[edgeSlot[edge]];
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return weighted ? weight[edge] : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * Ensures that the specified vertex exists in this graph, or else throws exception.
+     *
+     * @param v vertex
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified vertex does not exist in this graph.
+     */
+    protected boolean assertVertexExist(Integer v)
+    {
+        if (containsVertex(v)) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    private void forEach(
+        int[] offsets, int[] baseEdges, boolean tombstones, IntArrayList delta, int vertex,
+        IntConsumer action)
+    {
+        if (vertex < offsets.length - 1) {
+            int to = offsets[vertex + 1];
+            if (tombstones) {
+                for (int i = offsets[vertex]; i < to; i++) {
+                    int slot = baseEdges[i];
+                    if (!removed.get(slot)) {
+                        action.accept(slotEdge[slot]);
+                    }
+                }
+            } else {
+                for (int i = offsets[vertex]; i < to; i++) {
+                    action.accept(slotEdge[baseEdges[i]]);
+                }
+            }
+        }
+        if (delta != null) {
+            for (int i = 0, size = delta.size(); i < size; i++) {
+                action.accept(slotEdge[delta.getInt(i)]);
+            }
+        }
+    }
+
+    private static void removeFromDelta(
+        Int2ObjectOpenHashMap<IntArrayList> delta, int v, int slot)
+    {
+        IntArrayList list = delta.get(v);
+        list.rem(slot);
+        if (list.isEmpty()) {
+            delta.remove(v);
+        }
+    }
+
+    private static int grow(int capacity)
+    {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum number of edges reached: " + MAX_CAPACITY);
+        }
+        return (int) Math.min(MAX_CAPACITY, (long) capacity + (capacity >> 1));
+    }
+
+    private void changed()
+    {
+        changes++;
+        if (compaction == null
+            && changes > Math.max(MIN_COMPACTION_CHANGES, compactionThreshold * base.edges))
+        {
+            try {
+                startCompaction();
+            } catch (RejectedExecutionException e) {
+                // keep the current base, the next change tries again
+            }
+        }
+    }
+
+    private void checkCompaction()
+    {
+        if (compaction != null && compaction.isDone()) {
+            try {
+                installCompaction();
+            } catch (CompletionException | CancellationException e) {
+                // keep the current base, the next change tries again
+            }
+        }
+    }
+
+    private void startCompaction()
+    {
+        // slots below the limit never change, only the removals need a snapshot
+        final int n = vertices;
+        final int limit = slots;
+        final int[] s = source;
+        final int[] t = target;
+        final BitSet r = (BitSet) removed.clone();
+        compaction =
+            CompletableFuture.supplyAsync(() -> Compaction.run(n, limit, s, t, r), executor);
+        removedWhileCompacting = new IntArrayList();
+    }
+
+    private void installCompaction()
+    {
+        IntArrayList removedMeanwhile = removedWhileCompacting;
+        Compaction c;
+        try {
+            c = compaction.join();
+        } finally {
+            // on failure the current base stays valid since it reflects all changes
+            compaction = null;
+            removedWhileCompacting = null;
+        }
+
+        // slots of the snapshot are renumbered densely, later slots are shifted down
+        int limit = c.remap.length;
+        int live = c.base.edges;
+        int shift = limit - live;
+        int pending = slots - limit;
+        long size = (long) live + pending;
+        int capacity =
+            (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        int[] newSource = Arrays.copyOf(c.source, capacity);
+        int[] newTarget = Arrays.copyOf(c.target, capacity);
+        int[] newSlotEdge = new int[capacity];
+        System.arraycopy(source, limit, newSource, live, pending);
+        System.arraycopy(target, limit, newTarget, live, pending);
+        for (int slot = 0; slot < limit; slot++) {
+            int newSlot = c.remap[slot];
+            if (newSlot >= 0) {
+                newSlotEdge[newSlot] = slotEdge[slot];
+            }
+        }
+        System.arraycopy(slotEdge, limit, newSlotEdge, live, pending);
+        for (int e = 0; e < edges; e++) {
+            int slot = edgeSlot[e];
+            edgeSlot[e] = slot < limit ? c.remap[slot] : slot - shift;
+        }
+        BitSet newRemoved = new BitSet();
+        for (int slot = removed.nextSetBit(limit); slot >= 0; slot = removed.nextSetBit(slot + 1)) {
+            newRemoved.set(slot - shift);
+        }
+
+        // edges removed during the compaction are part of the new base
+        outTombstones.clear();
+        inTombstones.clear();
+        changes = 0;
+        for (int i = 0; i < removedMeanwhile.size(); i++) {
+            int slot = removedMeanwhile.getInt(i);
+            if (slot < limit) {
+                int newSlot = c.remap[slot];
+                newRemoved.set(newSlot);
+                outTombstones.addTo(newSource[newSlot], 1);
+                inTombstones.addTo(newTarget[newSlot], 1);
+                changes++;
+            }
+        }
+
+        // edges added before the compaction are part of the new base
+        changes += shiftDelta(outDelta, limit, shift);
+        shiftDelta(inDelta, limit, shift);
+
+        source = newSource;
+        target = newTarget;
+        slotEdge = newSlotEdge;
+        removed = newRemoved;
+        slots = (int) size;
+        base = c.base;
+    }
+
+    private static int shiftDelta(Int2ObjectOpenHashMap<IntArrayList> delta, int limit, int shift)
+    {
+        int remaining = 0;
+        Iterator<IntArrayList> it = delta.values().iterator();
+        while (it.hasNext()) {
+            IntArrayList list = it.next();
+            // lists are sorted since slots are appended in increasing order
+            int prefix = 0;
+            while (prefix < list.size() && list.getInt(prefix) < limit) {
+                prefix++;
+            }
+            list.removeElements(0, prefix);
+            if (list.isEmpty()) {
+                it.remove();
+            } else {
+                for (int i = 0; i < list.size(); i++) {
+                    list.set(i, list.getInt(i) - shift);
+                }
+                remaining += list.size();
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * The result of a compaction. Contains the new base, the new slot of each slot of the snapshot
+     * or $-1$ if it was removed, and the endpoints of the new slots.
+     */
+    private static class Compaction
+    {
+        final Base base;
+        final int[] remap;
+        final int[] source;
+        final int[] target;
+
+        Compaction(Base base, int[] remap, int[] source, int[] target)
+        {
+            this.base = base;
+            this.remap = remap;
+            this.source = source;
+            this.target = target;
+        }
+
+        static Compaction run(int n, int limit, int[] source, int[] target, BitSet removed)
+        {
+            int[] remap = new int[limit];
+            int m = 0;
+            for (int slot = 0; slot < limit; slot++) {
+                remap[slot] = removed.get(slot) ? -1 : m++;
+            }
+            int[] newSource = new int[m];
+            int[] newTarget = new int[m];
+            for (int slot = 0; slot < limit; slot++) {
+                int newSlot = remap[slot];
+                if (newSlot >= 0) {
+                    newSource[newSlot] = source[slot];
+                    newTarget[newSlot] = target[slot];
+                }
+            }
+            return new Compaction(
+                Base.build(n, m, newSource, newTarget), remap, newSource, newTarget);
+        }
+    }
+
+    /**
+     * The read-only part of the graph. Contains the slots smaller than {@code edges}, all of which
+     * were live when it was built, in CSR format for both directions.
+     */
+    private static class Base
+    {
+        final int edges;
+        final int[] outOffsets;
+        final int[] outEdges;
+        final int[] inOffsets;
+        final int[] inEdges;
+
+        Base(int edges, int[] outOffsets, int[] outEdges, int[] inOffsets, int[] inEdges)
+        {
+            this.edges = edges;
+            this.outOffsets = outOffsets;
+            this.outEdges = outEdges;
+            this.inOffsets = inOffsets;
+            this.inEdges = inEdges;
+        }
+
+        static Base build(int n, int m, int[] source, int[] target)
+        {
+            int[] outOffsets = new int[n + 1];
+            int[] inOffsets = new int[n + 1];
+            for (int slot = 0; slot < m; slot++) {
+                outOffsets[source[slot] + 1]++;
+                inOffsets[target[slot] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                outOffsets[v + 1] += outOffsets[v];
+                inOffsets[v + 1] += inOffsets[v];
+            }
+
+            // placement in increasing slot order keeps each row sorted
+            int[] outEdges = new int[m];
+            int[] inEdges = new int[m];
+            int[] outPos = Arrays.copyOf(outOffsets, n);
+            int[] inPos = Arrays.copyOf(inOffsets, n);
+            for (int slot = 0; slot < m; slot++) {
+                outEdges[outPos[source[slot]]++] = slot;
+                inEdges[inPos[target[slot]]++] = slot;
+            }
+            return new Base(m, outOffsets, outEdges, inOffsets, inEdges);
+        }
+
+        int outDegree(int v)
+        {
+            return v < outOffsets.length - 1 ? outOffsets[v + 1] - outOffsets[v] : 0;
+        }
+
+        int inDegree(int v)
+        {
+            return v < inOffsets.length - 1 ? inOffsets[v + 1] - inOffsets[v] : 0;
+        }
+    }
+
+}
@@ -57,6 +57,8 @@ import java.util.function.*;
 public class SparseIntDirectedGraph
     extends
     AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
 {
     protected static final String UNMODIFIABLE = "this graph is unmodifiable";
 
@@ -88,23 +90,47 @@ public class SparseIntDirectedGraph
      */
     public SparseIntDirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
     {
-        final int m = edges.size();
-        source = new int[m];
-        target = new int[m];
-
-        List<Pair<Integer, Integer>> outgoing = new ArrayList<>(m);
-        List<Pair<Integer, Integer>> incoming = new ArrayList<>(m);
-        int eIndex = 0;
-        for (Pair<Integer, Integer> e : edges) {
-            source[eIndex] = e.getFirst();
-            target[eIndex] = e.getSecond();
-            outgoing.add(Pair.of(e.getFirst(), eIndex));
-            incoming.add(Pair.of(e.getSecond(), eIndex));
-            eIndex++;
-        }
+        this(
+            numVertices, edges.stream().mapToInt(Pair::getFirst).toArray(),
+            edges.stream().mapToInt(Pair::getSecond).toArray(), false);
+    }
 
-        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, outgoing);
-        inIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, incoming);
+    /**
+     * Create a new graph from an edge list given as two arrays. Edge $i$ of the graph is directed
+     * from vertex {@code sources[i]} to vertex {@code targets[i]}. The arrays are copied.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @see SparseIntGraphBuilder
+     */
+    public SparseIntDirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        this(numVertices, sources.clone(), targets.clone(), false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays. The arrays are not copied and are
+     * owned by the graph afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param parallel whether to build the incidence matrices in parallel
+     */
+    SparseIntDirectedGraph(int numVertices, int[] sources, int[] targets, boolean parallel)
+    {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Sources and targets must have the same length");
+        }
+        final int m = sources.length;
+        this.source = sources;
+        this.target = targets;
+
+        outIncidenceMatrix =
+            new CSRBooleanMatrix(numVertices, m, m, e -> sources[e], e -> e, parallel);
+        inIncidenceMatrix =
+            new CSRBooleanMatrix(numVertices, m, m, e -> targets[e], e -> e, parallel);
     }
 
     @Override
@@ -315,6 +341,82 @@ public class SparseIntDirectedGraph
         return result;
     }
 
+    @Override
+    public int outDegree(int vertex)
+    {
+        return outIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        return inIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        outIncidenceMatrix.forEachNonZero(vertex, action);
+    }
+
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        inIncidenceMatrix.forEachNonZero(vertex, action);
+    }
+
+    @Override
+    public void forEachOutNeighbor(int vertex, IntConsumer action)
+    {
+        for (int i = 0, d = outIncidenceMatrix.nonZeros(vertex); i < d; i++) {
+            action.accept(target[outIncidenceMatrix.nonZeroAt(vertex, i)]);
+        }
+    }
+
+    @Override
+    public void forEachInNeighbor(int vertex, IntConsumer action)
+    {
+        for (int i = 0, d = inIncidenceMatrix.nonZeros(vertex); i < d; i++) {
+            action.accept(source[inIncidenceMatrix.nonZeroAt(vertex, i)]);
+        }
+    }
+
+    @Override
+    public void forEachOutEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        for (int i = 0, d = outIncidenceMatrix.nonZeros(vertex); i < d; i++) {
+            int e = outIncidenceMatrix.nonZeroAt(vertex, i);
+            action.accept(e, target[e]);
+        }
+    }
+
+    @Override
+    public void forEachInEdgeAndNeighbor(int vertex, EdgeNeighborConsumer action)
+    {
+        for (int i = 0, d = inIncidenceMatrix.nonZeros(vertex); i < d; i++) {
+            int e = inIncidenceMatrix.nonZeroAt(vertex, i);
+            action.accept(e, source[e]);
+        }
+    }
+
+    @Override
+    public int edgeSource(int edge)
+    {
+        return source[edge];
+    }
+
+    @Override
+    public int edgeTarget(int edge)
+    {
+        return target[edge];
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
     /**
      * Ensures that the specified vertex exists in this graph, or else throws exception.
      *
@@ -22,7 +22,6 @@ import org.jgrapht.alg.util.*;
 
 import java.io.*;
 import java.util.*;
-import java.util.stream.*;
 
 /**
  * Sparse directed weighted graph.
@@ -82,10 +81,8 @@ public class SparseIntDirectedWeightedGraph
         int numVertices, List<Triple<Integer, Integer, Double>> edges)
     {
         super(
-            numVertices,
-            edges
-                .stream().map(e -> Pair.of(e.getFirst(), e.getSecond()))
-                .collect(Collectors.toList()));
+            numVertices, edges.stream().mapToInt(Triple::getFirst).toArray(),
+            edges.stream().mapToInt(Triple::getSecond).toArray(), false);
 
         this.weights = new double[edges.size()];
 
@@ -96,6 +93,43 @@ public class SparseIntDirectedWeightedGraph
         }
     }
 
+    /**
+     * Create a new graph from an edge list given as arrays. Edge $i$ of the graph is directed from
+     * vertex {@code sources[i]} to vertex {@code targets[i]} and has weight {@code weights[i]}. The
+     * arrays are copied.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param weights the weight of each edge
+     * @see SparseIntGraphBuilder
+     */
+    public SparseIntDirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights)
+    {
+        this(numVertices, sources.clone(), targets.clone(), weights.clone(), false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as arrays. The arrays are not copied and are
+     * owned by the graph afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param weights the weight of each edge
+     * @param parallel whether to build the incidence matrices in parallel
+     */
+    SparseIntDirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights, boolean parallel)
+    {
+        super(numVertices, sources, targets, parallel);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weights and edges must have the same length");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -116,4 +150,10 @@ public class SparseIntDirectedWeightedGraph
         weights[e] = weight;
     }
 
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return weights[edge];
+    }
+
 }
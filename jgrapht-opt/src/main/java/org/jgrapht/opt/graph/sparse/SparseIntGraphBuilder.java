@@ -0,0 +1,325 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * A builder for the sparse graphs which works directly with primitive values.
+ *
+ * <p>
+ * Edges are collected in growable primitive arrays, either one at a time using
+ * {@link #addEdge(int, int, double)} or in bulk using {@link #addEdges(int[], int[], double[])}.
+ * Edges are numbered in insertion order starting from zero. Afterwards any of the sparse graph
+ * representations can be constructed. The compressed sparse rows representation is built using a
+ * counting sort on the primitive arrays and thus no boxed objects are created, even for very large
+ * graphs. Optionally the construction can be performed in parallel.
+ *
+ * <p>
+ * The following example builds a directed weighted graph: <blockquote>
+ *
+ * <pre>
+ * SparseIntDirectedWeightedGraph g = new SparseIntGraphBuilder(3)
+ *     .addEdge(0, 1, 2.0).addEdge(1, 2, 3.0).parallel(true).buildDirectedWeighted();
+ * </pre>
+ *
+ * </blockquote>
+ *
+ * <p>
+ * Edges added without a weight get the default edge weight {@link Graph#DEFAULT_EDGE_WEIGHT}. The
+ * builder can be used to build more than one graph; graphs built never share their mutable state.
+ *
+ * @author JGraphT Contributors
+ */
+public class SparseIntGraphBuilder
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int numVertices;
+    private boolean parallel;
+
+    private int size;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+
+    /**
+     * Create a new builder.
+     *
+     * @param numVertices the number of vertices of the graph
+     */
+    public SparseIntGraphBuilder(int numVertices)
+    {
+        this(numVertices, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @param numVertices the number of vertices of the graph
+     * @param expectedEdges the expected number of edges, used to pre-size the internal arrays
+     */
+    public SparseIntGraphBuilder(int numVertices, int expectedEdges)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices cannot be negative");
+        }
+        if (expectedEdges < 0) {
+            throw new IllegalArgumentException("Expected number of edges cannot be negative");
+        }
+        this.numVertices = numVertices;
+        this.parallel = false;
+        this.size = 0;
+        this.sources = new int[expectedEdges];
+        this.targets = new int[expectedEdges];
+        this.weights = null;
+    }
+
+    /**
+     * Set whether the graphs should be constructed in parallel.
+     *
+     * @param parallel whether the graphs should be constructed in parallel
+     * @return the builder
+     */
+    public SparseIntGraphBuilder parallel(boolean parallel)
+    {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Add an edge with the default edge weight.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the builder
+     */
+    public SparseIntGraphBuilder addEdge(int source, int target)
+    {
+        return addEdge(source, target, Graph.DEFAULT_EDGE_WEIGHT);
+    }
+
+    /**
+     * Add an edge.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param weight the edge weight
+     * @return the builder
+     */
+    public SparseIntGraphBuilder addEdge(int source, int target, double weight)
+    {
+        assertVertexExist(source);
+        assertVertexExist(target);
+        ensureCapacity(size + 1);
+        sources[size] = source;
+        targets[size] = target;
+        if (weights != null) {
+            weights[size] = weight;
+        } else if (weight != Graph.DEFAULT_EDGE_WEIGHT) {
+            initializeWeights();
+            weights[size] = weight;
+        }
+        size++;
+        return this;
+    }
+
+    /**
+     * Add edges in bulk with the default edge weight. Edge $i$ is from vertex {@code sources[i]} to
+     * vertex {@code targets[i]}.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @return the builder
+     */
+    public SparseIntGraphBuilder addEdges(int[] sources, int[] targets)
+    {
+        return addEdges(sources, targets, null);
+    }
+
+    /**
+     * Add edges in bulk. Edge $i$ is from vertex {@code sources[i]} to vertex {@code targets[i]}
+     * and has weight {@code weights[i]}.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @param weights the edge weights, or null to use the default edge weight
+     * @return the builder
+     */
+    public SparseIntGraphBuilder addEdges(int[] sources, int[] targets, double[] weights)
+    {
+        final int count = sources.length;
+        if (targets.length != count) {
+            throw new IllegalArgumentException("Sources and targets must have the same length");
+        }
+        if (weights != null && weights.length != count) {
+            throw new IllegalArgumentException("Weights and edges must have the same length");
+        }
+        for (int i = 0; i < count; i++) {
+            assertVertexExist(sources[i]);
+            assertVertexExist(targets[i]);
+        }
+
+        ensureCapacity(size + count);
+        System.arraycopy(sources, 0, this.sources, size, count);
+        System.arraycopy(targets, 0, this.targets, size, count);
+        if (weights != null) {
+            if (this.weights == null) {
+                initializeWeights();
+            }
+            System.arraycopy(weights, 0, this.weights, size, count);
+        } else if (this.weights != null) {
+            Arrays.fill(this.weights, size, size + count, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        size += count;
+        return this;
+    }
+
+    /**
+     * Get the number of edges added so far.
+     *
+     * @return the number of edges added so far
+     */
+    public int edgeCount()
+    {
+        return size;
+    }
+
+    /**
+     * Build a sparse directed graph.
+     *
+     * @return the graph
+     */
+    public SparseIntDirectedGraph buildDirected()
+    {
+        return new SparseIntDirectedGraph(numVertices, trim(sources), trim(targets), parallel);
+    }
+
+    /**
+     * Build a sparse directed weighted graph.
+     *
+     * @return the graph
+     */
+    public SparseIntDirectedWeightedGraph buildDirectedWeighted()
+    {
+        return new SparseIntDirectedWeightedGraph(
+            numVertices, trim(sources), trim(targets), copyWeights(), parallel);
+    }
+
+    /**
+     * Build a sparse undirected graph.
+     *
+     * @return the graph
+     */
+    public SparseIntUndirectedGraph buildUndirected()
+    {
+        return new SparseIntUndirectedGraph(numVertices, trim(sources), trim(targets), parallel);
+    }
+
+    /**
+     * Build a sparse undirected weighted graph.
+     *
+     * @return the graph
+     */
+    public SparseIntUndirectedWeightedGraph buildUndirectedWeighted()
+    {
+        return new SparseIntUndirectedWeightedGraph(
+            numVertices, trim(sources), trim(targets), copyWeights(), parallel);
+    }
+
+    /**
+     * Build a compressed sparse directed graph. Note that the compressed graphs number the edges in
+     * sorted order and not in insertion order.
+     *
+     * @return the graph
+     */
+    public CompressedSparseIntDirectedGraph buildCompressedDirected()
+    {
+        return new CompressedSparseIntDirectedGraph(numVertices, sources, targets, size, parallel);
+    }
+
+    /**
+     * Build a compressed sparse undirected graph. Note that the compressed graphs number the edges
+     * in sorted order and not in insertion order.
+     *
+     * @return the graph
+     */
+    public CompressedSparseIntUndirectedGraph buildCompressedUndirected()
+    {
+        return new CompressedSparseIntUndirectedGraph(
+            numVertices, sources, targets, size, parallel);
+    }
+
+    private void assertVertexExist(int v)
+    {
+        if (v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalStateException("Too many edges");
+        }
+        if (capacity <= sources.length) {
+            return;
+        }
+        int newCapacity = (int) Math
+            .min(Integer.MAX_VALUE - 8, Math.max(capacity, sources.length + (sources.length >> 1)));
+        if (newCapacity < capacity) {
+            throw new IllegalStateException("Too many edges");
+        }
+        sources = Arrays.copyOf(sources, newCapacity);
+        targets = Arrays.copyOf(targets, newCapacity);
+        if (weights != null) {
+            weights = Arrays.copyOf(weights, newCapacity);
+        }
+    }
+
+    private void initializeWeights()
+    {
+        weights = new double[sources.length];
+        Arrays.fill(weights, 0, size, Graph.DEFAULT_EDGE_WEIGHT);
+    }
+
+    /*
+     * Vertex arrays are never modified in place below the current size, so when they are already
+     * of the exact size they can be shared with the graph. Any later addition reallocates them.
+     */
+    private int[] trim(int[] a)
+    {
+        return a.length == size ? a : Arrays.copyOf(a, size);
+    }
+
+    /*
+     * Weights are mutable in the weighted graphs and thus always copied.
+     */
+    private double[] copyWeights()
+    {
+        if (weights == null) {
+            double[] result = new double[size];
+            Arrays.fill(result, Graph.DEFAULT_EDGE_WEIGHT);
+            return result;
+        }
+        return Arrays.copyOf(weights, size);
+    }
+
+}
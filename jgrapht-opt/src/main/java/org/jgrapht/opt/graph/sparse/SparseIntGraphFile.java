@@ -0,0 +1,369 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.function.*;
+
+/**
+ * Writer of the binary file format read by {@link MappedSparseIntGraph}.
+ *
+ * <p>
+ * The format stores a graph with vertices $0$ to $n-1$ and edges $0$ to $m-1$ in compressed sparse
+ * rows. All values are little-endian and every section starts at a position which is a multiple of
+ * eight. The file consists of the following sections:
+ * <ul>
+ * <li>a header of 32 bytes with the magic number, the format version, the flags (directed, weighted,
+ * has vertex labels), the number of vertices $n$ and the number of edges $m$,</li>
+ * <li>the source vertex of each edge as {@code int[m]},</li>
+ * <li>the target vertex of each edge as {@code int[m]},</li>
+ * <li>the row offsets of the outgoing incidence matrix as {@code long[n+1]},</li>
+ * <li>the outgoing edges of each vertex as {@code int[]}; for undirected graphs this contains all
+ * incident edges, with self-loops appearing twice,</li>
+ * <li>for directed graphs only, the row offsets and the edges of the incoming incidence
+ * matrix,</li>
+ * <li>for weighted graphs only, the edge weights as {@code double[m]},</li>
+ * <li>optionally the vertex labels, as byte offsets {@code long[n+1]} followed by the UTF-8
+ * encoded labels.</li>
+ * </ul>
+ *
+ * <p>
+ * Within each row the edges are sorted in increasing order.
+ *
+ * @author JGraphT Contributors
+ */
+public final class SparseIntGraphFile
+{
+    static final int MAGIC = 0x5053474A; // "JGSP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 2;
+    static final int FLAG_LABELS = 4;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private SparseIntGraphFile()
+    {
+    }
+
+    /**
+     * Write a graph to a file.
+     *
+     * @param graph the graph, which must have vertices $0$ to $n-1$ and edges $0$ to $m-1$
+     * @param path the file to write
+     * @throws IOException in case of an I/O error
+     */
+    public static void write(Graph<Integer, Integer> graph, Path path)
+        throws IOException
+    {
+        write(graph, null, path);
+    }
+
+    /**
+     * Write a graph together with a vertex label table to a file.
+     *
+     * @param graph the graph, which must have vertices $0$ to $n-1$ and edges $0$ to $m-1$
+     * @param vertexLabels function returning the label of each vertex, or null for no labels
+     * @param path the file to write
+     * @throws IOException in case of an I/O error
+     */
+    public static void write(
+        Graph<Integer, Integer> graph, IntFunction<String> vertexLabels, Path path)
+        throws IOException
+    {
+        GraphType type = graph.getType();
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("Mixed graphs are not supported");
+        }
+        final boolean directed = type.isDirected();
+        final boolean weighted = type.isWeighted();
+        final int n = assertRange(graph.vertexSet().size(), graph::containsVertex, "vertices");
+        final int m = assertRange(graph.edgeSet().size(), graph::containsEdge, "edges");
+
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = graph.getEdgeSource(e);
+            targets[e] = graph.getEdgeTarget(e);
+        }
+
+        Layout layout = new Layout(directed, weighted, vertexLabels != null, n, m);
+        try (FileChannel channel = FileChannel
+            .open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            Output out = new Output(channel);
+
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(layout.flags());
+            out.putInt(n);
+            out.putInt(m);
+            out.align(HEADER_SIZE);
+
+            out.align(layout.sourcesPos);
+            for (int e = 0; e < m; e++) {
+                out.putInt(sources[e]);
+            }
+            out.align(layout.targetsPos);
+            for (int e = 0; e < m; e++) {
+                out.putInt(targets[e]);
+            }
+
+            if (directed) {
+                out.align(layout.outOffsetsPos);
+                writeIncidence(out, layout.outEdgesPos, n, m, sources, null);
+                out.align(layout.inOffsetsPos);
+                writeIncidence(out, layout.inEdgesPos, n, m, targets, null);
+            } else {
+                out.align(layout.outOffsetsPos);
+                writeIncidence(out, layout.outEdgesPos, n, m, sources, targets);
+            }
+
+            out.align(layout.weightsPos);
+            if (weighted) {
+                for (int e = 0; e < m; e++) {
+                    out.putDouble(graph.getEdgeWeight(e));
+                }
+            }
+
+            out.align(layout.labelOffsetsPos);
+            if (vertexLabels != null) {
+                byte[][] labels = new byte[n][];
+                long offset = 0;
+                out.putLong(offset);
+                for (int v = 0; v < n; v++) {
+                    String label = vertexLabels.apply(v);
+                    labels[v] =
+                        label == null ? new byte[0] : label.getBytes(StandardCharsets.UTF_8);
+                    offset += labels[v].length;
+                    out.putLong(offset);
+                }
+                for (int v = 0; v < n; v++) {
+                    out.putBytes(labels[v]);
+                }
+            }
+
+            out.flush();
+        }
+    }
+
+    /**
+     * Write the row offsets and the entries of an incidence matrix using a counting sort on the
+     * rows. If the second endpoints are provided, each edge appears in the row of both endpoints.
+     */
+    private static void writeIncidence(
+        Output out, long entriesPos, int n, int m, int[] first, int[] second)
+        throws IOException
+    {
+        long[] offsets = new long[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[first[e] + 1]++;
+            if (second != null) {
+                offsets[second[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        for (int v = 0; v <= n; v++) {
+            out.putLong(offsets[v]);
+        }
+
+        long entries = offsets[n];
+        if (entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph too large");
+        }
+        int[] edges = new int[(int) entries];
+        for (int e = 0; e < m; e++) {
+            edges[(int) offsets[first[e]]++] = e;
+            if (second != null) {
+                edges[(int) offsets[second[e]]++] = e;
+            }
+        }
+
+        out.align(entriesPos);
+        for (int e : edges) {
+            out.putInt(e);
+        }
+    }
+
+    private static int assertRange(int size, IntPredicate contains, String what)
+    {
+        for (int i = 0; i < size; i++) {
+            if (!contains.test(i)) {
+                throw new IllegalArgumentException(
+                    "Graph " + what + " must be numbered from 0 to " + (size - 1));
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The positions of the sections of the file.
+     */
+    static class Layout
+    {
+        final boolean directed;
+        final boolean weighted;
+        final boolean labels;
+        final int n;
+        final int m;
+
+        final long sourcesPos;
+        final long targetsPos;
+        final long outOffsetsPos;
+        final long outEdgesPos;
+        final long inOffsetsPos;
+        final long inEdgesPos;
+        final long weightsPos;
+        final long labelOffsetsPos;
+        final long labelBytesPos;
+
+        Layout(boolean directed, boolean weighted, boolean labels, int n, int m)
+        {
+            this.directed = directed;
+            this.weighted = weighted;
+            this.labels = labels;
+            this.n = n;
+            this.m = m;
+
+            long outEntries = directed ? m : 2L * m;
+            long inEntries = directed ? m : 0L;
+
+            sourcesPos = HEADER_SIZE;
+            targetsPos = align(sourcesPos + 4L * m);
+            outOffsetsPos = align(targetsPos + 4L * m);
+            outEdgesPos = outOffsetsPos + 8L * (n + 1);
+            inOffsetsPos = align(outEdgesPos + 4L * outEntries);
+            inEdgesPos = directed ? inOffsetsPos + 8L * (n + 1) : inOffsetsPos;
+            weightsPos = align(inEdgesPos + 4L * inEntries);
+            labelOffsetsPos = weightsPos + (weighted ? 8L * m : 0L);
+            labelBytesPos = labelOffsetsPos + (labels ? 8L * (n + 1) : 0L);
+        }
+
+        static Layout fromFlags(int flags, int n, int m)
+        {
+            return new Layout(
+                (flags & FLAG_DIRECTED) != 0, (flags & FLAG_WEIGHTED) != 0,
+                (flags & FLAG_LABELS) != 0, n, m);
+        }
+
+        int flags()
+        {
+            return (directed ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0)
+                | (labels ? FLAG_LABELS : 0);
+        }
+
+        private static long align(long pos)
+        {
+            return (pos + 7) & ~7L;
+        }
+    }
+
+    /**
+     * Buffered sequential writer to a file channel.
+     */
+    private static class Output
+    {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        Output(FileChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            this.position = 0;
+        }
+
+        void putInt(int value)
+            throws IOException
+        {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        void putLong(long value)
+            throws IOException
+        {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            position += Long.BYTES;
+        }
+
+        void putDouble(double value)
+            throws IOException
+        {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+            position += Double.BYTES;
+        }
+
+        void putBytes(byte[] bytes)
+            throws IOException
+        {
+            for (byte b : bytes) {
+                ensureRemaining(1);
+                buffer.put(b);
+            }
+            position += bytes.length;
+        }
+
+        void align(long target)
+            throws IOException
+        {
+            assert target >= position;
+            while (position < target) {
+                ensureRemaining(1);
+                buffer.put((byte) 0);
+                position++;
+            }
+        }
+
+        void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes)
+            throws IOException
+        {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+}
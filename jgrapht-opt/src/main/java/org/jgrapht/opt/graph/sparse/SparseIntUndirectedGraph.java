@@ -58,6 +58,8 @@ import java.util.function.*;
 public class SparseIntUndirectedGraph
     extends
     AbstractGraph<Integer, Integer>
+    implements
+    IntGraph
 {
     protected static final String UNMODIFIABLE = "this graph is unmodifiable";
 
@@ -72,20 +74,45 @@ public class SparseIntUndirectedGraph
      */
     public SparseIntUndirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
     {
-        final int m = edges.size();
-        List<Pair<Integer, Integer>> nonZeros = new ArrayList<>(m);
-        List<Pair<Integer, Integer>> nonZerosTranspose = new ArrayList<>(m);
-
-        int eIndex = 0;
-        for (Pair<Integer, Integer> e : edges) {
-            nonZeros.add(Pair.of(e.getFirst(), eIndex));
-            nonZerosTranspose.add(Pair.of(eIndex, e.getFirst()));
-            nonZeros.add(Pair.of(e.getSecond(), eIndex));
-            nonZerosTranspose.add(Pair.of(eIndex, e.getSecond()));
-            eIndex++;
+        this(
+            numVertices, edges.stream().mapToInt(Pair::getFirst).toArray(),
+            edges.stream().mapToInt(Pair::getSecond).toArray(), false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays. Edge $i$ of the graph connects
+     * vertex {@code sources[i]} with vertex {@code targets[i]}.
+     * 
+     * @param numVertices number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @see SparseIntGraphBuilder
+     */
+    public SparseIntUndirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        this(numVertices, sources, targets, false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays.
+     * 
+     * @param numVertices number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @param parallel whether to build the incidence matrices in parallel
+     */
+    SparseIntUndirectedGraph(int numVertices, int[] sources, int[] targets, boolean parallel)
+    {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Sources and targets must have the same length");
         }
-        incidenceMatrix = new CSRBooleanMatrix(numVertices, m, nonZeros);
-        incidenceMatrixT = new CSRBooleanMatrix(edges.size(), numVertices, nonZerosTranspose);
+        final int m = sources.length;
+
+        // entry 2e is the first and entry 2e+1 the second endpoint of edge e
+        IntUnaryOperator endpoint = i -> (i & 1) == 0 ? sources[i >> 1] : targets[i >> 1];
+        IntUnaryOperator edge = i -> i >> 1;
+        incidenceMatrix = new CSRBooleanMatrix(numVertices, m, 2 * m, endpoint, edge, parallel);
+        incidenceMatrixT = new CSRBooleanMatrix(m, numVertices, 2 * m, edge, endpoint, parallel);
     }
 
     @Override
@@ -303,6 +330,48 @@ public class SparseIntUndirectedGraph
         return result;
     }
 
+    @Override
+    public int outDegree(int vertex)
+    {
+        return incidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public int inDegree(int vertex)
+    {
+        return incidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public void forEachOutEdge(int vertex, IntConsumer action)
+    {
+        incidenceMatrix.forEachNonZero(vertex, action);
+    }
+
+    @Override
+    public void forEachInEdge(int vertex, IntConsumer action)
+    {
+        incidenceMatrix.forEachNonZero(vertex, action);
+    }
+
+    @Override
+    public int edgeSource(int edge)
+    {
+        return incidenceMatrixT.nonZeroAt(edge, 0);
+    }
+
+    @Override
+    public int edgeTarget(int edge)
+    {
+        return incidenceMatrixT.nonZeroAt(edge, 1);
+    }
+
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
     /**
      * Ensures that the specified vertex exists in this graph, or else throws exception.
      *
@@ -22,7 +22,6 @@ import org.jgrapht.alg.util.*;
 
 import java.io.*;
 import java.util.*;
-import java.util.stream.*;
 
 /**
  * Sparse undirected weighted graph.
@@ -81,10 +80,8 @@ public class SparseIntUndirectedWeightedGraph
         int numVertices, List<Triple<Integer, Integer, Double>> edges)
     {
         super(
-            numVertices,
-            edges
-                .stream().map(e -> Pair.of(e.getFirst(), e.getSecond()))
-                .collect(Collectors.toList()));
+            numVertices, edges.stream().mapToInt(Triple::getFirst).toArray(),
+            edges.stream().mapToInt(Triple::getSecond).toArray(), false);
 
         this.weights = new double[edges.size()];
 
@@ -95,6 +92,43 @@ public class SparseIntUndirectedWeightedGraph
         }
     }
 
+    /**
+     * Create a new graph from an edge list given as arrays. Edge $i$ of the graph connects vertex
+     * {@code sources[i]} with vertex {@code targets[i]} and has weight {@code weights[i]}. The
+     * weights array is copied.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @param weights the weight of each edge
+     * @see SparseIntGraphBuilder
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights)
+    {
+        this(numVertices, sources, targets, weights.clone(), false);
+    }
+
+    /**
+     * Create a new graph from an edge list given as arrays. The arrays are not copied and are
+     * owned by the graph afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @param weights the weight of each edge
+     * @param parallel whether to build the incidence matrices in parallel
+     */
+    SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights, boolean parallel)
+    {
+        super(numVertices, sources, targets, parallel);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weights and edges must have the same length");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -115,4 +149,10 @@ public class SparseIntUndirectedWeightedGraph
         weights[e] = weight;
     }
 
+    @Override
+    public double edgeWeight(int edge)
+    {
+        return weights[edge];
+    }
+
 }
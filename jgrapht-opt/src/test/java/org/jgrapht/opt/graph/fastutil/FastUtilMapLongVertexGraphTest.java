@@ -0,0 +1,86 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.fastutil;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FastutilMapLongVertexGraph}.
+ * 
+ * @author JGraphT Contributors
+ */
+public class FastUtilMapLongVertexGraphTest
+{
+
+    @Test
+    public void testSameAsDefault()
+    {
+        Random rng = new Random(41);
+        for (boolean fastLookups : new boolean[] { true, false }) {
+            for (GraphType type : List
+                .of(DefaultGraphType.directedPseudograph(), DefaultGraphType.pseudograph()))
+            {
+                Graph<Long, Long> expected = type.isDirected()
+                    ? new DirectedPseudograph<>(null, SupplierUtil.createLongSupplier(), false)
+                    : new Pseudograph<>(null, SupplierUtil.createLongSupplier(), false);
+                Graph<Long, Long> actual = new FastutilMapLongVertexGraph<>(
+                    null, SupplierUtil.createLongSupplier(), type, fastLookups);
+
+                // 64-bit hashes as vertices
+                List<Long> vertices = new ArrayList<>();
+                for (int i = 0; i < 30; i++) {
+                    long v = rng.nextLong();
+                    vertices.add(v);
+                    assertEquals(expected.addVertex(v), actual.addVertex(v));
+                }
+                for (int i = 0; i < 100; i++) {
+                    long s = vertices.get(rng.nextInt(vertices.size()));
+                    long t = vertices.get(rng.nextInt(vertices.size()));
+                    assertEquals(expected.addEdge(s, t), actual.addEdge(s, t));
+                }
+                Long big = 5L * Integer.MAX_VALUE;
+                assertTrue(expected.addEdge(vertices.get(0), vertices.get(1), big));
+                assertTrue(actual.addEdge(vertices.get(0), vertices.get(1), big));
+                assertTrue(actual.removeVertex(vertices.get(2)));
+                expected.removeVertex(vertices.get(2));
+
+                assertEquals(expected.vertexSet(), actual.vertexSet());
+                assertEquals(expected.edgeSet(), actual.edgeSet());
+                for (Long v : expected.vertexSet()) {
+                    assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+                    assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+                }
+                for (Long e : expected.edgeSet()) {
+                    assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+                    assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+                }
+                assertEquals(
+                    expected.getEdge(vertices.get(0), vertices.get(1)) != null,
+                    actual.getEdge(vertices.get(0), vertices.get(1)) != null);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BigSparseIntDirectedGraph}
+ * 
+ * @author JGraphT Contributors
+ */
+public class BigSparseIntDirectedGraphTest
+{
+
+    @Test
+    public void testSameAsSparse()
+    {
+        Random rng = new Random(31);
+        int n = 50;
+        List<Pair<Integer, Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            edges.add(Pair.of(rng.nextInt(n), rng.nextInt(n)));
+        }
+
+        Graph<Integer, Integer> expected = new SparseIntDirectedGraph(n, edges);
+        BigSparseIntDirectedGraph actual = new BigSparseIntDirectedGraph(n, edges);
+
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(300L, actual.edgeCount());
+        assertEquals(300, actual.edgeSet().size());
+        assertTrue(actual.containsEdge(299L));
+        assertFalse(actual.containsEdge(300L));
+        assertEquals(expected.getType().toString(), actual.getType().toString());
+
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            assertEquals(toLongs(expected.outgoingEdgesOf(v)), actual.outgoingEdgesOf(v));
+            assertEquals(toLongs(expected.incomingEdgesOf(v)), actual.incomingEdgesOf(v));
+            assertEquals(toLongs(expected.edgesOf(v)), actual.edgesOf(v));
+            for (int u = 0; u < n; u += 7) {
+                assertEquals(toLongs(expected.getAllEdges(v, u)), actual.getAllEdges(v, u));
+                Integer e = expected.getEdge(v, u);
+                assertEquals(e == null ? null : Long.valueOf(e), actual.getEdge(v, u));
+            }
+        }
+        for (int e = 0; e < 300; e++) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource((long) e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget((long) e));
+        }
+    }
+
+    @Test
+    public void testUnsortedColumns()
+    {
+        // entries given in decreasing column order must be sorted per row
+        BigCSRBooleanMatrix m = new BigCSRBooleanMatrix(2, 10L, 10L, i -> (int) (i % 2), i -> 9 - i);
+        assertEquals(5L, m.nonZeros(0));
+        List<Long> row = new ArrayList<>();
+        m.nonZerosPositionIterator(0).forEachRemaining(row::add);
+        assertEquals(List.of(1L, 3L, 5L, 7L, 9L), row);
+        assertEquals(0L, m.nonZeroAt(1, 0));
+    }
+
+    @Test
+    public void testCompleteLongSet()
+    {
+        long n = 3L * Integer.MAX_VALUE;
+        CompleteLongSet set = new CompleteLongSet(n);
+        assertEquals(Integer.MAX_VALUE, set.size());
+        assertEquals(n, set.longSize());
+        assertTrue(set.contains(n - 1));
+        assertFalse(set.contains(n));
+        assertFalse(set.contains(1));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        new BigSparseIntDirectedGraph(2, List.of(Pair.of(0, 1))).addVertex(2);
+    }
+
+    private static Set<Long> toLongs(Set<Integer> edges)
+    {
+        return edges.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+}
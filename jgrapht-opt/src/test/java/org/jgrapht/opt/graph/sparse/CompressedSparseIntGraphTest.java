@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CompressedSparseIntDirectedGraph} and
+ * {@link CompressedSparseIntUndirectedGraph}.
+ *
+ * @author JGraphT Contributors
+ */
+public class CompressedSparseIntGraphTest
+{
+
+    @Test
+    public void testDirectedSmall()
+    {
+        List<Pair<Integer, Integer>> edges = List
+            .of(
+                Pair.of(2, 4), Pair.of(0, 1), Pair.of(1, 4), Pair.of(2, 4), Pair.of(3, 3),
+                Pair.of(1, 0), Pair.of(2, 4));
+        Graph<Integer, Integer> g = new CompressedSparseIntDirectedGraph(5, edges);
+
+        assertEquals(7, g.edgeSet().size());
+        // edges are numbered in sorted order
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(Integer.valueOf(1), g.getEdge(1, 0));
+        assertEquals(Integer.valueOf(2), g.getEdge(1, 4));
+        assertEquals(Set.of(3, 4, 5), g.getAllEdges(2, 4));
+        assertEquals(Integer.valueOf(6), g.getEdge(3, 3));
+        assertNull(g.getEdge(4, 2));
+        assertTrue(g.containsEdge(2, 4));
+        assertFalse(g.containsEdge(4, 1));
+
+        assertEquals(Set.of(2, 3, 4, 5), g.incomingEdgesOf(4));
+        assertEquals(Set.of(6), g.incomingEdgesOf(3));
+        assertEquals(Set.of(6), g.outgoingEdgesOf(3));
+        assertEquals(2, g.degreeOf(3));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(5));
+        assertEquals(Integer.valueOf(4), g.getEdgeTarget(5));
+    }
+
+    @Test
+    public void testUndirectedSmall()
+    {
+        List<Pair<Integer, Integer>> edges =
+            List.of(Pair.of(4, 2), Pair.of(0, 1), Pair.of(2, 2), Pair.of(2, 4));
+        Graph<Integer, Integer> g = new CompressedSparseIntUndirectedGraph(5, edges);
+
+        assertEquals(Integer.valueOf(0), g.getEdge(1, 0));
+        assertEquals(Integer.valueOf(1), g.getEdge(2, 2));
+        assertEquals(Set.of(2, 3), g.getAllEdges(4, 2));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(3));
+        assertEquals(Integer.valueOf(4), g.getEdgeTarget(3));
+        assertEquals(Set.of(1, 2, 3), g.edgesOf(2));
+        assertEquals(4, g.degreeOf(2));
+        assertEquals(Set.of(2, 3), g.edgesOf(4));
+        assertTrue(g.getType().isUndirected());
+    }
+
+    @Test
+    public void testDirectedRandom()
+    {
+        Random rng = new Random(17);
+        for (int n : new int[] { 1, 10, 300, 5000 }) {
+            int[][] edges = randomEdges(rng, n, 8 * n);
+            assertSameStructure(
+                reference(new DirectedPseudograph<>(null, null, false), n, edges),
+                new CompressedSparseIntDirectedGraph(n, edges[0], edges[1]));
+            assertSameStructure(
+                reference(new DirectedPseudograph<>(null, null, false), n, edges),
+                new SparseIntGraphBuilder(n)
+                    .addEdges(edges[0], edges[1]).parallel(true).buildCompressedDirected());
+        }
+    }
+
+    @Test
+    public void testUndirectedRandom()
+    {
+        Random rng = new Random(33);
+        for (int n : new int[] { 1, 10, 300, 5000 }) {
+            int[][] edges = randomEdges(rng, n, 8 * n);
+            assertSameStructure(
+                reference(new Pseudograph<>(null, null, false), n, edges),
+                new CompressedSparseIntUndirectedGraph(n, edges[0], edges[1]));
+        }
+    }
+
+    /**
+     * Random edges with a mix of close and far away endpoints, including a few high degree
+     * vertices, in order to exercise multiple blocks and multi-byte gaps.
+     */
+    private static int[][] randomEdges(Random rng, int n, int m)
+    {
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        for (int i = 0; i < m; i++) {
+            int s = rng.nextInt(10) == 0 ? rng.nextInt(Math.min(n, 3)) : rng.nextInt(n);
+            int t = rng.nextBoolean() ? Math.min(n - 1, s + rng.nextInt(5)) : rng.nextInt(n);
+            sources[i] = s;
+            targets[i] = t;
+        }
+        return new int[][] { sources, targets };
+    }
+
+    private static Graph<Integer, Integer> reference(
+        Graph<Integer, Integer> g, int n, int[][] edges)
+    {
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+        for (int i = 0; i < edges[0].length; i++) {
+            g.addEdge(edges[0][i], edges[1][i], i);
+        }
+        return g;
+    }
+
+    private static void assertSameStructure(
+        Graph<Integer, Integer> expected, Graph<Integer, Integer> actual)
+    {
+        assertEquals(expected.vertexSet().size(), actual.vertexSet().size());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(
+                endpoints(expected, expected.outgoingEdgesOf(v)),
+                endpoints(actual, actual.outgoingEdgesOf(v)));
+            assertEquals(
+                endpoints(expected, expected.incomingEdgesOf(v)),
+                endpoints(actual, actual.incomingEdgesOf(v)));
+            assertEquals(expected.edgesOf(v).size(), actual.edgesOf(v).size());
+        }
+        for (Integer e : expected.edgeSet()) {
+            int s = expected.getEdgeSource(e);
+            int t = expected.getEdgeTarget(e);
+            Integer found = actual.getEdge(s, t);
+            assertNotNull(found);
+            assertEquals(endpoints(expected, Set.of(e)), endpoints(actual, Set.of(found)));
+            assertEquals(expected.getAllEdges(s, t).size(), actual.getAllEdges(s, t).size());
+        }
+        Random rng = new Random(7);
+        int n = expected.vertexSet().size();
+        for (int i = 0; i < 1000; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            assertEquals(expected.containsEdge(s, t), actual.containsEdge(s, t));
+        }
+    }
+
+    private static List<List<Integer>> endpoints(Graph<Integer, Integer> g, Set<Integer> edges)
+    {
+        boolean undirected = g.getType().isUndirected();
+        return edges.stream().map(e -> {
+            int s = g.getEdgeSource(e);
+            int t = g.getEdgeTarget(e);
+            return undirected && s > t ? List.of(t, s) : List.of(s, t);
+        })
+            .sorted(
+                Comparator
+                    .<List<Integer>> comparingInt(l -> l.get(0)).thenComparingInt(l -> l.get(1)))
+            .collect(Collectors.toList());
+    }
+
+}
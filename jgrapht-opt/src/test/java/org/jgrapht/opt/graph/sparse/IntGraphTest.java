@@ -0,0 +1,297 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link IntGraph} implementations and the algorithms which detect them.
+ *
+ * @author JGraphT Contributors
+ */
+public class IntGraphTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPrimitiveAccess()
+        throws IOException
+    {
+        Random rng = new Random(5);
+        int n = 200;
+        int[][] edges = randomEdges(rng, n, 1000, true);
+        double[] weights = randomWeights(rng, 1000);
+
+        for (IntGraph g : graphs(n, edges, weights)) {
+            for (int v = 0; v < n; v++) {
+                assertEquals(g.outDegreeOf(v), g.outDegree(v));
+                assertEquals(g.inDegreeOf(v), g.inDegree(v));
+
+                List<Integer> out = new ArrayList<>();
+                List<Integer> outNeighbors = new ArrayList<>();
+                g.forEachOutEdge(v, out::add);
+                g.forEachOutNeighbor(v, outNeighbors::add);
+                assertEquals(g.outgoingEdgesOf(v), new HashSet<>(out));
+                assertEquals(g.outgoingEdgesOf(v).size(), out.size());
+                assertEquals(out.size(), outNeighbors.size());
+
+                List<Integer> in = new ArrayList<>();
+                List<Integer> inNeighbors = new ArrayList<>();
+                g.forEachInEdge(v, in::add);
+                g.forEachInNeighbor(v, inNeighbors::add);
+                assertEquals(g.incomingEdgesOf(v), new HashSet<>(in));
+                assertEquals(g.incomingEdgesOf(v).size(), in.size());
+                assertEquals(in.size(), inNeighbors.size());
+
+                final int vertex = v;
+                List<Integer> visited = new ArrayList<>();
+                g.forEachOutEdgeAndNeighbor(v, (e, u) -> {
+                    assertEquals(Graphs.getOppositeVertex(g, e, vertex).intValue(), u);
+                    visited.add(u);
+                });
+                assertEquals(sorted(outNeighbors), sorted(visited));
+                visited.clear();
+                g.forEachInEdgeAndNeighbor(v, (e, u) -> {
+                    assertEquals(Graphs.getOppositeVertex(g, e, vertex).intValue(), u);
+                    visited.add(u);
+                });
+                assertEquals(sorted(inNeighbors), sorted(visited));
+            }
+            for (int e = 0; e < g.edgeSet().size(); e++) {
+                assertEquals(g.getEdgeSource(e).intValue(), g.edgeSource(e));
+                assertEquals(g.getEdgeTarget(e).intValue(), g.edgeTarget(e));
+                assertEquals(g.getEdgeWeight(e), g.edgeWeight(e), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testShortestPaths()
+    {
+        Random rng = new Random(7);
+        int n = 300;
+        int[][] edges = randomEdges(rng, n, 900, true);
+        double[] weights = randomWeights(rng, 900);
+
+        List<Graph<Integer, Integer>> references = List
+            .of(
+                reference(new DirectedWeightedPseudograph<>(null, null), n, edges, weights),
+                reference(new WeightedPseudograph<>(null, null), n, edges, weights));
+        List<IntGraph> graphs = List
+            .of(
+                new SparseIntDirectedWeightedGraph(n, edges[0], edges[1], weights),
+                new SparseIntUndirectedWeightedGraph(n, edges[0], edges[1], weights));
+
+        for (int i = 0; i < graphs.size(); i++) {
+            Graph<Integer, Integer> expected = references.get(i);
+            IntGraph actual = graphs.get(i);
+            for (int source = 0; source < n; source += 37) {
+                assertSamePaths(
+                    new BFSShortestPath<>(expected).getPaths(source),
+                    new BFSShortestPath<>(actual).getPaths(source), n);
+                assertSamePaths(
+                    new DijkstraShortestPath<>(expected).getPaths(source),
+                    new DijkstraShortestPath<>(actual).getPaths(source), n);
+                assertSamePaths(
+                    new DijkstraShortestPath<>(expected, 0.3).getPaths(source),
+                    new DijkstraShortestPath<>(actual, 0.3).getPaths(source), n);
+                for (int sink = 0; sink < n; sink += 53) {
+                    GraphPath<Integer, Integer> p1 =
+                        new DijkstraShortestPath<>(expected).getPath(source, sink);
+                    GraphPath<Integer, Integer> p2 =
+                        new DijkstraShortestPath<>(actual).getPath(source, sink);
+                    if (p1 == null) {
+                        assertNull(p2);
+                    } else {
+                        assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                        assertEquals(Integer.valueOf(source), p2.getStartVertex());
+                        assertEquals(Integer.valueOf(sink), p2.getEndVertex());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDijkstraNegativeWeight()
+    {
+        IntGraph g = new SparseIntDirectedWeightedGraph(
+            3, new int[] { 0, 1 }, new int[] { 1, 2 }, new double[] { 1.0, -1.0 });
+        new DijkstraShortestPath<>(g).getPaths(0);
+    }
+
+    @Test
+    public void testPageRank()
+    {
+        Random rng = new Random(11);
+        int n = 200;
+        int[][] edges = randomEdges(rng, n, 800, false);
+        double[] weights = randomWeights(rng, 800);
+
+        assertSameScores(
+            new PageRank<>(reference(new DirectedPseudograph<>(null, null, false), n, edges, null))
+                .getScores(),
+            new PageRank<>(new SparseIntDirectedGraph(n, edges[0], edges[1])).getScores());
+        assertSameScores(
+            new PageRank<>(
+                reference(new DirectedWeightedPseudograph<>(null, null), n, edges, weights))
+                    .getScores(),
+            new PageRank<>(new SparseIntDirectedWeightedGraph(n, edges[0], edges[1], weights))
+                .getScores());
+        assertSameScores(
+            new PageRank<>(reference(new Pseudograph<>(null, null, false), n, edges, null))
+                .getScores(),
+            new PageRank<>(new CompressedSparseIntUndirectedGraph(n, edges[0], edges[1]))
+                .getScores());
+    }
+
+    @Test
+    public void testConnectedComponents()
+        throws IOException
+    {
+        Random rng = new Random(13);
+        int n = 500;
+        int[][] edges = randomEdges(rng, n, 350, true);
+        double[] weights = randomWeights(rng, 350);
+
+        Set<Set<Integer>> expected = new HashSet<>(
+            new ConnectivityInspector<>(
+                reference(new DirectedPseudograph<>(null, null, false), n, edges, null))
+                    .connectedSets());
+        for (IntGraph g : graphs(n, edges, weights)) {
+            ConnectivityInspector<Integer, Integer> ci = new ConnectivityInspector<>(g);
+            assertEquals(expected, new HashSet<>(ci.connectedSets()));
+            assertEquals(expected.size() == 1, ci.isConnected());
+            for (Set<Integer> component : expected) {
+                for (Integer v : component) {
+                    assertEquals(component, ci.connectedSetOf(v));
+                }
+            }
+        }
+    }
+
+    private List<IntGraph> graphs(int n, int[][] edges, double[] weights)
+        throws IOException
+    {
+        SparseIntDirectedWeightedGraph directed =
+            new SparseIntDirectedWeightedGraph(n, edges[0], edges[1], weights);
+        SparseIntUndirectedWeightedGraph undirected =
+            new SparseIntUndirectedWeightedGraph(n, edges[0], edges[1], weights);
+        Path directedPath = folder.newFile().toPath();
+        SparseIntGraphFile.write(directed, directedPath);
+        Path undirectedPath = folder.newFile().toPath();
+        SparseIntGraphFile.write(undirected, undirectedPath);
+
+        return List
+            .of(
+                directed, undirected, new SparseIntDirectedGraph(n, edges[0], edges[1]),
+                new SparseIntUndirectedGraph(n, edges[0], edges[1]),
+                new CompressedSparseIntDirectedGraph(n, edges[0], edges[1]),
+                new CompressedSparseIntUndirectedGraph(n, edges[0], edges[1]),
+                new MappedSparseIntGraph(directedPath), new MappedSparseIntGraph(undirectedPath));
+    }
+
+    private static void assertSamePaths(
+        SingleSourcePaths<Integer, Integer> expected, SingleSourcePaths<Integer, Integer> actual,
+        int n)
+    {
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-9);
+            GraphPath<Integer, Integer> p1 = expected.getPath(v);
+            GraphPath<Integer, Integer> p2 = actual.getPath(v);
+            if (p1 == null) {
+                assertNull(p2);
+            } else {
+                assertEquals(p1.getLength(), p2.getLength());
+                assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                assertEquals(p1.getEndVertex(), p2.getEndVertex());
+                assertEquals(p2.getLength() + 1, p2.getVertexList().size());
+            }
+        }
+    }
+
+    private static void assertSameScores(Map<Integer, Double> expected, Map<Integer, Double> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for (Integer v : expected.keySet()) {
+            assertEquals(expected.get(v), actual.get(v), 1e-9);
+        }
+    }
+
+    private static int[][] randomEdges(Random rng, int n, int m, boolean selfLoops)
+    {
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        for (int i = 0; i < m; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            if (!selfLoops && s == t) {
+                t = (t + 1) % n;
+            }
+            sources[i] = s;
+            targets[i] = t;
+        }
+        return new int[][] { sources, targets };
+    }
+
+    private static double[] randomWeights(Random rng, int m)
+    {
+        double[] weights = new double[m];
+        for (int i = 0; i < m; i++) {
+            weights[i] = rng.nextDouble();
+        }
+        return weights;
+    }
+
+    private static Graph<Integer, Integer> reference(
+        Graph<Integer, Integer> g, int n, int[][] edges, double[] weights)
+    {
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+        for (int i = 0; i < edges[0].length; i++) {
+            g.addEdge(edges[0][i], edges[1][i], i);
+            if (weights != null) {
+                g.setEdgeWeight(i, weights[i]);
+            }
+        }
+        return g;
+    }
+
+    private static List<Integer> sorted(List<Integer> list)
+    {
+        List<Integer> result = new ArrayList<>(list);
+        Collections.sort(result);
+        return result;
+    }
+
+}
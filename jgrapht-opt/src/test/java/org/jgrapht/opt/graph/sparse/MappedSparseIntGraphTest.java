@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MappedSparseIntGraph}.
+ *
+ * @author JGraphT Contributors
+ */
+public class MappedSparseIntGraphTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testUndirected()
+    {
+        SparseIntGraphTest
+            .testUndirected((vc, edges) -> reopen(new SparseIntUndirectedGraph(vc, edges)));
+        SparseIntGraphTest
+            .testUndirectedWithLoops(
+                (vc, edges) -> reopen(new SparseIntUndirectedGraph(vc, edges)));
+    }
+
+    @Test
+    public void testDirected()
+    {
+        SparseIntGraphTest
+            .testDirected((vc, edges) -> reopen(new SparseIntDirectedGraph(vc, edges)));
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        List<Triple<Integer, Integer, Double>> edges = Arrays
+            .asList(
+                Triple.of(0, 1, 2.5), Triple.of(1, 2, -1.0), Triple.of(2, 0, 3.0),
+                Triple.of(2, 2, 4.0));
+
+        for (Graph<Integer, Integer> g : List
+            .of(
+                new SparseIntDirectedWeightedGraph(3, edges),
+                new SparseIntUndirectedWeightedGraph(3, edges)))
+        {
+            Graph<Integer, Integer> mapped = reopen(g);
+            assertEquals(g.getType().isDirected(), mapped.getType().isDirected());
+            assertTrue(mapped.getType().isWeighted());
+            assertFalse(mapped.getType().isModifiable());
+            for (int e = 0; e < edges.size(); e++) {
+                assertEquals(g.getEdgeSource(e), mapped.getEdgeSource(e));
+                assertEquals(g.getEdgeTarget(e), mapped.getEdgeTarget(e));
+                assertEquals(g.getEdgeWeight(e), mapped.getEdgeWeight(e), 1e-16);
+            }
+            for (int v = 0; v < 3; v++) {
+                assertEquals(g.outgoingEdgesOf(v), mapped.outgoingEdgesOf(v));
+                assertEquals(g.incomingEdgesOf(v), mapped.incomingEdgesOf(v));
+                assertEquals(g.degreeOf(v), mapped.degreeOf(v));
+            }
+        }
+    }
+
+    @Test
+    public void testVertexLabels()
+        throws IOException
+    {
+        Graph<Integer, Integer> g =
+            new SparseIntDirectedGraph(3, List.of(Pair.of(0, 1), Pair.of(1, 2)));
+        Path path = folder.newFile().toPath();
+        SparseIntGraphFile.write(g, v -> v == 1 ? null : "vertex-é" + v, path);
+
+        MappedSparseIntGraph mapped = new MappedSparseIntGraph(path);
+        assertTrue(mapped.hasVertexLabels());
+        assertEquals("vertex-é0", mapped.getVertexLabel(0));
+        assertEquals("", mapped.getVertexLabel(1));
+        assertEquals("vertex-é2", mapped.getVertexLabel(2));
+        assertEquals(Integer.valueOf(1), mapped.getEdge(1, 2));
+        assertNull(mapped.getEdge(2, 1));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNoVertexLabels()
+    {
+        MappedSparseIntGraph mapped = reopen(
+            new SparseIntDirectedGraph(2, List.of(Pair.of(0, 1))));
+        assertFalse(mapped.hasVertexLabels());
+        mapped.getVertexLabel(0);
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFile()
+        throws IOException
+    {
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[64]);
+        new MappedSparseIntGraph(path);
+    }
+
+    private MappedSparseIntGraph reopen(Graph<Integer, Integer> graph)
+    {
+        try {
+            Path path = folder.newFile().toPath();
+            SparseIntGraphFile.write(graph, path);
+            return new MappedSparseIntGraph(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MutableSparseIntDirectedGraph}
+ * 
+ * @author JGraphT Contributors
+ */
+public class MutableSparseIntDirectedGraphTest
+{
+
+    @Test
+    public void testSameAsPseudograph()
+    {
+        Random rng = new Random(41);
+        int n = 40;
+        List<Pair<Integer, Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            edges.add(Pair.of(rng.nextInt(n), rng.nextInt(n)));
+        }
+
+        Graph<Integer, Integer> expected = new DirectedWeightedPseudograph<>(null, null);
+        for (int v = 0; v < n; v++) {
+            expected.addVertex(v);
+        }
+        for (int e = 0; e < edges.size(); e++) {
+            expected.addEdge(edges.get(e).getFirst(), edges.get(e).getSecond(), e);
+        }
+
+        // never compacts in the background
+        MutableSparseIntDirectedGraph actual = new MutableSparseIntDirectedGraph(
+            n, edges, true, Double.MAX_VALUE, ForkJoinPool.commonPool());
+
+        for (int round = 0; round < 5; round++) {
+            randomUpdates(rng, expected, actual, 100);
+            assertSameGraph(expected, actual);
+            actual.compact();
+            assertEquals(0, actual.getPendingChanges());
+            assertSameGraph(expected, actual);
+        }
+    }
+
+    @Test
+    public void testBackgroundCompaction()
+    {
+        Random rng = new Random(43);
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Graph<Integer, Integer> expected = new DirectedWeightedPseudograph<>(null, null);
+        MutableSparseIntDirectedGraph actual =
+            new MutableSparseIntDirectedGraph(0, List.of(), true, 0.1, tasks::add);
+        for (int v = 0; v < 60; v++) {
+            expected.addVertex(v);
+            assertEquals(Integer.valueOf(v), actual.addVertex());
+        }
+
+        int compactions = 0;
+        for (int round = 0; round < 10; round++) {
+            randomUpdates(rng, expected, actual, 800);
+            if (actual.isCompacting()) {
+                // updates while the compaction runs must survive
+                randomUpdates(rng, expected, actual, 200);
+                assertSameGraph(expected, actual);
+                tasks.remove().run();
+                compactions++;
+            }
+            assertSameGraph(expected, actual);
+        }
+        assertTrue(compactions > 0);
+        assertFalse(actual.isCompacting());
+    }
+
+    @Test
+    public void testVertices()
+    {
+        MutableSparseIntDirectedGraph g = new MutableSparseIntDirectedGraph(2, List.of());
+        assertFalse(g.addVertex(1));
+        assertTrue(g.addVertex(2));
+        assertEquals(Set.of(0, 1, 2), g.vertexSet());
+        assertEquals(Integer.valueOf(0), g.addEdge(2, 0));
+        assertFalse(g.addEdge(2, 1, 0));
+        assertTrue(g.addEdge(2, 1, 1));
+        assertEquals(2, g.outDegreeOf(2));
+        try {
+            g.addVertex(5);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addEdge(0, 1, 5);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testRemovalRenumbersLastEdge()
+    {
+        MutableSparseIntDirectedGraph g = new MutableSparseIntDirectedGraph(
+            3, List.of(Pair.of(0, 1), Pair.of(1, 2), Pair.of(2, 0)), true, 0.1,
+            ForkJoinPool.commonPool());
+        g.setEdgeWeight(2, 5d);
+        assertTrue(g.removeEdge(0));
+        assertEquals(Set.of(0, 1), g.edgeSet());
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(0));
+        assertEquals(Integer.valueOf(0), g.getEdgeTarget(0));
+        assertEquals(5d, g.getEdgeWeight(0), 0d);
+        assertEquals(Set.of(0), g.outgoingEdgesOf(2));
+        assertEquals(Set.of(0), g.incomingEdgesOf(0));
+        assertFalse(g.containsEdge(2));
+
+        g.compact();
+        assertEquals(Set.of(0, 1), g.edgeSet());
+        assertEquals(Set.of(0), g.outgoingEdgesOf(2));
+        assertEquals(Set.of(1), g.outgoingEdgesOf(1));
+        assertEquals(Integer.valueOf(2), g.addEdge(0, 2));
+        assertEquals(Set.of(0, 1, 2), g.edgeSet());
+    }
+
+    @Test
+    public void testChurn()
+    {
+        Random rng = new Random(47);
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        int n = 20;
+        Graph<Integer, Integer> expected = new DirectedWeightedPseudograph<>(null, null);
+        for (int v = 0; v < n; v++) {
+            expected.addVertex(v);
+        }
+        MutableSparseIntDirectedGraph actual =
+            new MutableSparseIntDirectedGraph(n, List.of(), true, 0.1, tasks::add);
+
+        // the same edge is added and removed over and over
+        for (int i = 0; i < 5000; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            Integer e = actual.addEdge(s, t);
+            assertEquals(Integer.valueOf(0), e);
+            assertTrue(actual.removeEdge(e));
+            if (!tasks.isEmpty() && rng.nextBoolean()) {
+                // changes during the compaction are preserved
+                actual.addEdge(t, s);
+                actual.removeEdge(0);
+                tasks.remove().run();
+            }
+        }
+        while (!tasks.isEmpty()) {
+            tasks.remove().run();
+        }
+        assertSameGraph(expected, actual);
+        assertFalse(actual.isCompacting());
+    }
+
+    @Test
+    public void testRejectedCompaction()
+    {
+        Executor rejecting = r -> {
+            throw new RejectedExecutionException();
+        };
+        int n = 10;
+        Graph<Integer, Integer> expected = new DirectedWeightedPseudograph<>(null, null);
+        for (int v = 0; v < n; v++) {
+            expected.addVertex(v);
+        }
+        MutableSparseIntDirectedGraph actual =
+            new MutableSparseIntDirectedGraph(n, List.of(), true, 0.1, rejecting);
+
+        // the graph keeps working on its base although no compaction can run
+        randomUpdates(new Random(53), expected, actual, 3000);
+        assertFalse(actual.isCompacting());
+        assertSameGraph(expected, actual);
+        try {
+            actual.compact();
+            fail();
+        } catch (RejectedExecutionException e) {
+        }
+        assertFalse(actual.isCompacting());
+        randomUpdates(new Random(59), expected, actual, 100);
+        assertSameGraph(expected, actual);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweighted()
+    {
+        MutableSparseIntDirectedGraph g =
+            new MutableSparseIntDirectedGraph(2, List.of(Pair.of(0, 1)));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(0), 0d);
+        g.setEdgeWeight(0, 2d);
+    }
+
+    private static void randomUpdates(
+        Random rng, Graph<Integer, Integer> expected, MutableSparseIntDirectedGraph actual,
+        int count)
+    {
+        int n = expected.vertexSet().size();
+        for (int i = 0; i < count; i++) {
+            int m = expected.edgeSet().size();
+            if (m == 0 || rng.nextInt(3) != 0) {
+                int s = rng.nextInt(n);
+                int t = rng.nextInt(n);
+                Integer e = actual.addEdge(s, t);
+                assertTrue(expected.addEdge(s, t, e));
+                double w = rng.nextDouble();
+                expected.setEdgeWeight(e, w);
+                actual.setEdgeWeight(e, w);
+            } else {
+                // the last edge takes over the number of the removed edge
+                Integer e = rng.nextInt(m);
+                Integer last = m - 1;
+                int s = expected.getEdgeSource(last);
+                int t = expected.getEdgeTarget(last);
+                double w = expected.getEdgeWeight(last);
+                assertTrue(expected.removeEdge(e));
+                if (!e.equals(last)) {
+                    assertTrue(expected.removeEdge(last));
+                    assertTrue(expected.addEdge(s, t, e));
+                    expected.setEdgeWeight(e, w);
+                }
+                assertTrue(actual.removeEdge(e));
+                assertFalse(actual.removeEdge(last));
+            }
+        }
+    }
+
+    private static void assertSameGraph(
+        Graph<Integer, Integer> expected, MutableSparseIntDirectedGraph actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        assertEquals(expected.edgeSet().size(), new ArrayList<>(actual.edgeSet()).size());
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+            assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+            assertEquals(new HashSet<>(expected.edgesOf(v)), actual.edgesOf(v));
+        }
+        for (int v = 0; v < expected.vertexSet().size(); v += 3) {
+            for (int u = 0; u < expected.vertexSet().size(); u += 2) {
+                assertEquals(
+                    new HashSet<>(expected.getAllEdges(v, u)),
+                    new HashSet<>(actual.getAllEdges(v, u)));
+            }
+        }
+        for (Integer e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(e), 0d);
+            assertEquals(expected.getEdgeWeight(e), actual.edgeWeight(e), 0d);
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntGraphBuilder} and the primitive array constructors.
+ *
+ * @author JGraphT Contributors
+ */
+public class SparseIntGraphBuilderTest
+{
+
+    @Test
+    public void testUndirected()
+    {
+        for (boolean parallel : new boolean[] { false, true }) {
+            SparseIntGraphTest
+                .testUndirected((vc, edges) -> builder(vc, edges, parallel).buildUndirected());
+            SparseIntGraphTest
+                .testUndirectedWithLoops(
+                    (vc, edges) -> builder(vc, edges, parallel).buildUndirected());
+        }
+        SparseIntGraphTest
+            .testUndirected(
+                (vc, edges) -> new SparseIntUndirectedGraph(vc, sources(edges), targets(edges)));
+    }
+
+    @Test
+    public void testUndirectedWeighted()
+    {
+        for (boolean parallel : new boolean[] { false, true }) {
+            SparseIntGraphTest
+                .testUndirectedWeighted(
+                    (vc, edges) -> weightedBuilder(vc, edges, parallel).buildUndirectedWeighted());
+        }
+        SparseIntGraphTest
+            .testUndirectedWeighted(
+                (vc, edges) -> new SparseIntUndirectedWeightedGraph(
+                    vc, firsts(edges), seconds(edges), weights(edges)));
+    }
+
+    @Test
+    public void testDirected()
+    {
+        for (boolean parallel : new boolean[] { false, true }) {
+            SparseIntGraphTest
+                .testDirected((vc, edges) -> builder(vc, edges, parallel).buildDirected());
+        }
+        SparseIntGraphTest
+            .testDirected(
+                (vc, edges) -> new SparseIntDirectedGraph(vc, sources(edges), targets(edges)));
+    }
+
+    @Test
+    public void testDirectedWeighted()
+    {
+        for (boolean parallel : new boolean[] { false, true }) {
+            SparseIntGraphTest
+                .testDirectedWeighted(
+                    (vc, edges) -> weightedBuilder(vc, edges, parallel).buildDirectedWeighted());
+        }
+        SparseIntGraphTest
+            .testDirectedWeighted(
+                (vc, edges) -> new SparseIntDirectedWeightedGraph(
+                    vc, firsts(edges), seconds(edges), weights(edges)));
+    }
+
+    @Test
+    public void testBulkAndSingleEdges()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(4, 1);
+        builder.addEdge(0, 1);
+        builder.addEdges(new int[] { 1, 2 }, new int[] { 2, 3 }, new double[] { 5.0, 6.0 });
+        builder.addEdges(new int[] { 3 }, new int[] { 0 });
+        builder.addEdge(0, 2, 7.0);
+        assertEquals(5, builder.edgeCount());
+
+        Graph<Integer, Integer> g = builder.buildDirectedWeighted();
+        assertEquals(5, g.edgeSet().size());
+        assertEquals(1.0, g.getEdgeWeight(0), 1e-9);
+        assertEquals(5.0, g.getEdgeWeight(1), 1e-9);
+        assertEquals(6.0, g.getEdgeWeight(2), 1e-9);
+        assertEquals(1.0, g.getEdgeWeight(3), 1e-9);
+        assertEquals(7.0, g.getEdgeWeight(4), 1e-9);
+        assertEquals(Set.of(0, 4), g.outgoingEdgesOf(0));
+        assertEquals(Set.of(3), g.incomingEdgesOf(0));
+        assertEquals(Integer.valueOf(3), g.getEdgeSource(3));
+        assertEquals(Integer.valueOf(0), g.getEdgeTarget(3));
+
+        // the builder remains usable and graphs do not share weights
+        g.setEdgeWeight(4, 100.0);
+        builder.addEdge(2, 0);
+        Graph<Integer, Integer> g2 = builder.buildDirectedWeighted();
+        assertEquals(6, g2.edgeSet().size());
+        assertEquals(7.0, g2.getEdgeWeight(4), 1e-9);
+        assertEquals(5, g.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidVertex()
+    {
+        new SparseIntGraphBuilder(2).addEdge(0, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidVertexInArrays()
+    {
+        new SparseIntDirectedGraph(2, new int[] { 0, 1 }, new int[] { 1, 3 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatchedArrays()
+    {
+        new SparseIntGraphBuilder(2).addEdges(new int[] { 0, 1 }, new int[] { 1 });
+    }
+
+    private static SparseIntGraphBuilder builder(
+        int numVertices, List<Pair<Integer, Integer>> edges, boolean parallel)
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(numVertices).parallel(parallel);
+        for (Pair<Integer, Integer> e : edges) {
+            builder.addEdge(e.getFirst(), e.getSecond());
+        }
+        return builder;
+    }
+
+    private static SparseIntGraphBuilder weightedBuilder(
+        int numVertices, List<Triple<Integer, Integer, Double>> edges, boolean parallel)
+    {
+        return new SparseIntGraphBuilder(numVertices)
+            .parallel(parallel).addEdges(firsts(edges), seconds(edges), weights(edges));
+    }
+
+    private static int[] sources(List<Pair<Integer, Integer>> edges)
+    {
+        return edges.stream().mapToInt(Pair::getFirst).toArray();
+    }
+
+    private static int[] targets(List<Pair<Integer, Integer>> edges)
+    {
+        return edges.stream().mapToInt(Pair::getSecond).toArray();
+    }
+
+    private static int[] firsts(List<Triple<Integer, Integer, Double>> edges)
+    {
+        return edges.stream().mapToInt(Triple::getFirst).toArray();
+    }
+
+    private static int[] seconds(List<Triple<Integer, Integer, Double>> edges)
+    {
+        return edges.stream().mapToInt(Triple::getSecond).toArray();
+    }
+
+    private static double[] weights(List<Triple<Integer, Integer, Double>> edges)
+    {
+        return edges.stream().mapToDouble(Triple::getThird).toArray();
+    }
+
+}